@@ -41,13 +41,17 @@ import io.seqera.tower.cli.commands.TeamsCmd;
 import io.seqera.tower.cli.commands.WorkspacesCmd;
 import io.seqera.tower.cli.commands.enums.OutputType;
 import io.seqera.tower.cli.commands.labels.LabelsCmd;
+import io.seqera.tower.cli.utils.WriterOutputStream;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Model.CommandSpec;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.Spec;
 
+import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 import static picocli.AutoComplete.GenerateCompletion;
 
@@ -97,11 +101,23 @@ public class Tower extends AbstractCmd {
     @Option(names = {"--insecure"}, description = "Explicitly allow to connect to a non-SSL secured Seqera Platform server (not recommended)")
     public boolean insecure;
 
+    @Option(names = {"--no-cache"}, description = "Do not read or store the responses about finished runs in the local cache (TOWER_NO_CACHE)", defaultValue = "${TOWER_NO_CACHE:-false}")
+    public boolean noCache;
+
+    @Option(names = {"--local-dir"}, description = "Folder of the data-link indexes, run histories and cached runs kept locally (TOWER_LOCAL_DIR) [default: '~/.tower']", defaultValue = "${TOWER_LOCAL_DIR}")
+    public Path localDir;
+
+    /** Byte stream under the standard output writer, when it is the one of the process */
+    private OutputStream rawOut;
+
     public Tower() {
     }
 
     public static void main(String[] args) {
-        System.exit(buildCommandLine().execute(args));
+        CommandLine cmd = buildCommandLine();
+        // The output is not redirected, file contents can be written to it without decoding them
+        ((Tower) cmd.getCommand()).rawOut = System.out;
+        System.exit(cmd.execute(args));
     }
 
     protected static CommandLine buildCommandLine() {
@@ -119,6 +135,13 @@ public class Tower extends AbstractCmd {
         return -1;
     }
 
+    /**
+     * Folder of the files kept locally between commands.
+     */
+    public Path getLocalDir() {
+        return localDir != null ? localDir : Paths.get(System.getProperty("user.home"), ".tower");
+    }
+
     public PrintWriter getErr() {
         return spec.commandLine().getErr();
     }
@@ -126,4 +149,19 @@ public class Tower extends AbstractCmd {
     public PrintWriter getOut() {
         return spec.commandLine().getOut();
     }
+
+    /**
+     * Standard output as a byte stream, for commands that write remote file contents as they are.
+     * When the output of the command line was redirected, e.g. by the tests, the bytes are
+     * decoded as UTF-8 into its writer.
+     */
+    public OutputStream getRawOut() {
+        PrintWriter out = getOut();
+        if (rawOut != null) {
+            // Do not reorder the text already written to the writer
+            out.flush();
+            return rawOut;
+        }
+        return new WriterOutputStream(out);
+    }
 }
@@ -54,6 +54,7 @@ import io.seqera.tower.cli.exceptions.ShowUsageException;
 import io.seqera.tower.cli.exceptions.TowerException;
 import io.seqera.tower.cli.exceptions.WorkspaceNotFoundException;
 import io.seqera.tower.cli.responses.Response;
+import io.seqera.tower.cli.utils.ApiHttpClient;
 import io.seqera.tower.model.ActionQueryAttribute;
 import io.seqera.tower.model.ComputeEnvComputeConfig;
 import io.seqera.tower.model.ComputeEnvQueryAttribute;
@@ -106,6 +107,7 @@ public abstract class AbstractApiCmd extends AbstractCmd {
     public static final List<DataStudioQueryAttribute> NO_STUDIO_ATTRIBUTES = Collections.EMPTY_LIST;
 
     private ApiClient apiClient;
+    private ApiHttpClient apiHttpClient;
 
     private ActionsApi actionsApi;
     private AvatarsApi avatarsApi;
@@ -179,8 +181,7 @@ public abstract class AbstractApiCmd extends AbstractCmd {
             );
 
             // Set HTTP Agent header
-            Properties props = getCliProperties();
-            client.setUserAgent(String.format("tw/%s (%s)", props.get("version"), props.get("platform")));
+            client.setUserAgent(userAgent());
 
             apiClient = client;
         }
@@ -188,6 +189,25 @@ public abstract class AbstractApiCmd extends AbstractCmd {
         return apiClient;
     }
 
+    /**
+     * Client of the API requests the SDK cannot send, with the same checks, base path and
+     * headers as the SDK client.
+     */
+    protected ApiHttpClient apiHttpClient() throws ApiException {
+        ApiClient client = apiClient();
+        if (apiHttpClient == null) {
+            // Logged like the SDK client requests with --verbose
+            Logger logger = app().verbose ? Logger.getLogger(LoggingFeature.DEFAULT_LOGGER_NAME) : null;
+            apiHttpClient = new ApiHttpClient(client.getBasePath(), app().token, userAgent(), logger);
+        }
+        return apiHttpClient;
+    }
+
+    private String userAgent() throws ApiException {
+        Properties props = getCliProperties();
+        return String.format("tw/%s (%s)", props.get("version"), props.get("platform"));
+    }
+
     protected ActionsApi actionsApi() throws ApiException {
         return actionsApi == null ? new ActionsApi(apiClient()) : actionsApi;
     }
@@ -348,6 +368,14 @@ public abstract class AbstractApiCmd extends AbstractCmd {
         };
     }
 
+    /**
+     * Whether a request failed because the server was overloaded or unavailable, so sending it
+     * again later may succeed.
+     */
+    protected static boolean isTransient(ApiException e) {
+        return e.getCode() == 429 || e.getCode() >= 500;
+    }
+
     protected Long orgId(Long workspaceId) throws ApiException {
         if (orgId == null) {
             if (workspaceId != null) {
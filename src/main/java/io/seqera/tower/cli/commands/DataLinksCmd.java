@@ -17,9 +17,15 @@
 package io.seqera.tower.cli.commands;
 
 import io.seqera.tower.cli.commands.data.links.AddCmd;
+import io.seqera.tower.cli.commands.data.links.CatCmd;
+import io.seqera.tower.cli.commands.data.links.CopyCmd;
 import io.seqera.tower.cli.commands.data.links.DeleteCmd;
 import io.seqera.tower.cli.commands.data.links.DownloadCmd;
+import io.seqera.tower.cli.commands.data.links.FindCmd;
+import io.seqera.tower.cli.commands.data.links.HeadCmd;
+import io.seqera.tower.cli.commands.data.links.IndexCmd;
 import io.seqera.tower.cli.commands.data.links.ListCmd;
+import io.seqera.tower.cli.commands.data.links.SyncCmd;
 import io.seqera.tower.cli.commands.data.links.UpdateCmd;
 import io.seqera.tower.cli.commands.data.links.BrowseCmd;
 import io.seqera.tower.cli.commands.data.links.UploadCmd;
@@ -35,7 +41,13 @@ import picocli.CommandLine;
                 UpdateCmd.class,
                 BrowseCmd.class,
                 DownloadCmd.class,
-                UploadCmd.class
+                UploadCmd.class,
+                SyncCmd.class,
+                CopyCmd.class,
+                CatCmd.class,
+                HeadCmd.class,
+                IndexCmd.class,
+                FindCmd.class
         }
 )
 public class DataLinksCmd extends AbstractRootCmd {
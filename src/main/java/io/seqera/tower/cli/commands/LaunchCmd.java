@@ -24,6 +24,8 @@ import io.seqera.tower.cli.commands.pipelines.versions.VersionRefOptions;
 import io.seqera.tower.cli.exceptions.InvalidResponseException;
 import io.seqera.tower.cli.responses.Response;
 import io.seqera.tower.cli.responses.runs.RunSubmited;
+import io.seqera.tower.cli.utils.DurationConverter;
+import io.seqera.tower.cli.utils.PollingSchedule;
 import io.seqera.tower.model.ComputeEnvResponseDto;
 import io.seqera.tower.model.LaunchDbDto;
 import io.seqera.tower.model.ListPipelinesResponse;
@@ -41,6 +43,7 @@ import picocli.CommandLine.Parameters;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 
@@ -90,6 +93,9 @@ public class LaunchCmd extends AbstractRootCmd {
     @Option(names = {"--wait"}, description = "Wait until workflow reaches specified status: ${COMPLETION-CANDIDATES}")
     public WorkflowStatus wait;
 
+    @Option(names = {"--wait-timeout"}, description = "Maximum time to wait for the status given with --wait, e.g. 30m or 2h (default: no limit).", converter = DurationConverter.class)
+    public Duration waitTimeout;
+
     @Option(names = {"-l", "--labels"}, split = ",", description = "Labels to assign to each pipeline run. Provide comma-separated label values (use key=value format for resource labels). Labels will be created if they don't exist", converter = Label.LabelConverter.class)
     List<Label> labels;
 
@@ -231,6 +237,8 @@ public class LaunchCmd extends AbstractRootCmd {
             return waitStatus(
                     app().getOut(),
                     showProgress,
+                    null,
+                    pollingSchedule(waitTimeout),
                     wait,
                     WorkflowStatus.values(),
                     () -> checkWorkflowStatus(submitted.workflowId, submitted.workspaceId),
@@ -242,6 +250,17 @@ public class LaunchCmd extends AbstractRootCmd {
         }
     }
 
+    /**
+     * A submitted run usually starts or fails within seconds, while a running one takes minutes
+     * or hours to finish.
+     */
+    static PollingSchedule pollingSchedule(Duration timeout) {
+        return new PollingSchedule()
+                .interval(WorkflowStatus.SUBMITTED, Duration.ofSeconds(1), Duration.ofSeconds(15))
+                .interval(WorkflowStatus.RUNNING, Duration.ofSeconds(5), Duration.ofSeconds(60))
+                .timeout(timeout);
+    }
+
     private WorkflowStatus checkWorkflowStatus(String workflowId, Long workspaceId) {
         try {
             return workflowsApi().describeWorkflow(workflowId, workspaceId, NO_WORKFLOW_ATTRIBUTES).getWorkflow().getStatus();
@@ -22,7 +22,14 @@ import io.seqera.tower.cli.commands.runs.LabelsCmd;
 import io.seqera.tower.cli.commands.runs.DumpCmd;
 import io.seqera.tower.cli.commands.runs.ListCmd;
 import io.seqera.tower.cli.commands.runs.RelaunchCmd;
+import io.seqera.tower.cli.commands.runs.StatsCmd;
+import io.seqera.tower.cli.commands.runs.SyncCmd;
+import io.seqera.tower.cli.commands.runs.TriageCmd;
 import io.seqera.tower.cli.commands.runs.ViewCmd;
+import io.seqera.tower.cli.commands.runs.WatchCmd;
+import io.seqera.tower.cli.commands.runs.logs.GrepCmd;
+import io.seqera.tower.cli.commands.runs.logs.LogsCmd;
+import io.seqera.tower.cli.commands.runs.metrics.RunMetricsCmd;
 import picocli.CommandLine;
 
 @CommandLine.Command(
@@ -35,7 +42,14 @@ import picocli.CommandLine;
                 CancelCmd.class,
                 LabelsCmd.class,
                 DeleteCmd.class,
-                DumpCmd.class
+                DumpCmd.class,
+                WatchCmd.class,
+                LogsCmd.class,
+                GrepCmd.class,
+                StatsCmd.class,
+                SyncCmd.class,
+                TriageCmd.class,
+                RunMetricsCmd.class
         }
 )
 public class RunsCmd extends AbstractRootCmd {
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links;
+
+import java.io.IOException;
+
+import io.seqera.tower.ApiException;
+import io.seqera.tower.cli.commands.global.WorkspaceOptionalOptions;
+import io.seqera.tower.cli.exceptions.TowerException;
+import picocli.CommandLine;
+
+import static io.seqera.tower.cli.utils.ResponseHelper.errorMessage;
+
+/**
+ * Base class of the commands that write the contents of a data link file to the standard
+ * output. The contents are written as they are received, so the usual command response is
+ * not printed and the output format option does not apply.
+ */
+public abstract class AbstractDataLinkStreamCmd extends AbstractDataLinksCmd {
+
+    @CommandLine.Mixin
+    public WorkspaceOptionalOptions workspace;
+
+    @CommandLine.Mixin
+    public DataLinkRefOptions dataLinkRefOptions;
+
+    @CommandLine.Option(names = {"-c", "--credentials"}, description = "Credentials identifier")
+    public String credentialsRef;
+
+    @CommandLine.Parameters(index = "0", description = "Path of the file within the data link")
+    public String path;
+
+    @Override
+    public Integer call() {
+        try {
+            Long wspId = workspaceId(workspace.workspace);
+            String credId = credentialsRef != null ? credentialsByRef(null, wspId, credentialsRef) : null;
+            String id = getDataLinkId(dataLinkRefOptions, wspId, credId);
+
+            DataLinkTransferService transferService = new DataLinkTransferService(dataLinksApi(), app());
+            transferService.streamFile(id, path, credId, wspId, app().getRawOut(), maxBytes(), maxLines());
+            return CommandLine.ExitCode.OK;
+        } catch (Exception e) {
+            errorMessage(app(), e);
+        }
+        return CommandLine.ExitCode.SOFTWARE;
+    }
+
+    /**
+     * Maximum number of bytes to write, negative for the whole file.
+     */
+    protected abstract long maxBytes() throws TowerException;
+
+    /**
+     * Maximum number of lines to write, negative for the whole file.
+     */
+    protected abstract long maxLines() throws TowerException;
+}
@@ -16,12 +16,23 @@
 
 package io.seqera.tower.cli.commands.data.links;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 import io.seqera.tower.ApiException;
 import io.seqera.tower.cli.commands.AbstractApiCmd;
+import io.seqera.tower.cli.commands.data.links.checksum.ChecksumAlgorithm;
+import io.seqera.tower.cli.commands.data.links.checksum.ChecksumManifest;
+import io.seqera.tower.cli.commands.data.links.index.DataLinkIndex;
+import io.seqera.tower.cli.commands.data.links.report.TransferReport;
+import io.seqera.tower.cli.responses.data.DataLinkFileTransferResult;
+import io.seqera.tower.cli.exceptions.TowerRuntimeException;
 import io.seqera.tower.model.DataLinkDto;
 
 public class AbstractDataLinksCmd extends AbstractApiCmd {
 
+    private DataLinkService dataLinkService;
+
     protected String getDataLinkId(DataLinkRefOptions dataLinkRefOptions, Long wspId) throws ApiException {
         return getDataLinkId(dataLinkRefOptions, wspId, null);
     }
@@ -35,7 +46,63 @@ public class AbstractDataLinksCmd extends AbstractApiCmd {
     }
 
     protected DataLinkDto getDataLink(DataLinkRefOptions dataLinkRefOptions, Long wspId, String credId) throws ApiException  {
-        DataLinkService dataLinkService = new DataLinkService(dataLinksApi(), app());
-        return dataLinkService.getDataLink(dataLinkRefOptions.dataLinkRef, wspId, credId);
+        return dataLinkService().getDataLink(dataLinkRefOptions.dataLinkRef, wspId, credId);
+    }
+
+    /**
+     * Data link service of this command, it keeps the data links already resolved so the
+     * same name or URI is only searched once.
+     */
+    protected DataLinkService dataLinkService() throws ApiException {
+        if (dataLinkService == null) {
+            dataLinkService = new DataLinkService(dataLinksApi(), app());
+        }
+        return dataLinkService;
+    }
+
+    protected ChecksumManifest openManifest(Path manifest, ChecksumAlgorithm checksumAlgorithm) throws IOException {
+        if (manifest == null) {
+            return null;
+        }
+        if (checksumAlgorithm == null) {
+            throw new TowerRuntimeException("Option '--manifest' requires '--checksum-algorithm'");
+        }
+        return new ChecksumManifest(manifest);
+    }
+
+    /**
+     * Run the transfers recording their statistics in the {@code --report} file, if any. The report
+     * is also written when the transfers fail, without hiding their error.
+     */
+    protected void withReport(DataLinkTransferService transferService, Path report, DataLinkFileTransferResult.FileTransferDirection direction, DataLinkTransferService.Transfer transfers) throws ApiException, IOException, InterruptedException {
+        if (report == null) {
+            transfers.run();
+            return;
+        }
+
+        TransferReport transferReport = new TransferReport(direction);
+        transferService.setReport(transferReport);
+        try {
+            transfers.run();
+        } catch (ApiException | IOException | InterruptedException | RuntimeException e) {
+            try {
+                transferReport.write(report);
+            } catch (IOException writeError) {
+                e.addSuppressed(writeError);
+            }
+            throw e;
+        }
+        transferReport.write(report);
+    }
+
+    /**
+     * Local index of a data link created by the 'data-links index' command.
+     */
+    protected DataLinkIndex loadIndex(Long wspId, String id) throws IOException {
+        DataLinkIndex index = DataLinkIndex.load(DataLinkIndex.path(app().getLocalDir(), wspId, id), id);
+        if (index == null) {
+            throw new TowerRuntimeException(String.format("No local index of data link '%s', run 'data-links index' first", id));
+        }
+        return index;
     }
 }
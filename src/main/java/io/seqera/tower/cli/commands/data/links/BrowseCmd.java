@@ -17,14 +17,19 @@
 package io.seqera.tower.cli.commands.data.links;
 
 import io.seqera.tower.ApiException;
+import io.seqera.tower.cli.commands.data.links.index.DataLinkIndex;
 import io.seqera.tower.cli.commands.global.WorkspaceOptionalOptions;
 import io.seqera.tower.cli.responses.Response;
 import io.seqera.tower.cli.responses.data.DataLinkContentList;
 import io.seqera.tower.model.DataLinkContentResponse;
 import io.seqera.tower.model.DataLinkDto;
+import io.seqera.tower.model.DataLinkItem;
+import io.seqera.tower.model.DataLinkItemType;
 import picocli.CommandLine;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @CommandLine.Command(
         name = "browse",
@@ -53,12 +58,19 @@ public class BrowseCmd extends AbstractDataLinksCmd {
     @CommandLine.Option(names = {"--page"}, description = "Page number to display")
     public Integer page;
 
+    @CommandLine.Option(names = {"--index"}, description = "Browse the local index created with 'data-links index' instead of listing the data link")
+    public boolean useIndex;
+
     @Override
     protected Response exec() throws ApiException, IOException {
         Long wspId = workspaceId(workspace.workspace);
         String credId = credentialsRef != null ? credentialsByRef(null, wspId, credentialsRef) : null;
         String id = getDataLinkId(dataLinkRefOptions, wspId, credId);
 
+        if (useIndex) {
+            return browseIndex(loadIndex(wspId, id));
+        }
+
         DataLinkDto dataLink = dataLinksApi().describeDataLink(id, wspId, credId).getDataLink();
         DataLinkContentResponse response;
 
@@ -71,4 +83,24 @@ public class BrowseCmd extends AbstractDataLinksCmd {
         return new DataLinkContentList(dataLink, path, response.getObjects(), response.getNextPageToken());
     }
 
+    private Response browseIndex(DataLinkIndex index) {
+        DataLinkDto dataLink = new DataLinkDto();
+        dataLink.setId(index.dataLinkId);
+        dataLink.setName(index.name);
+        dataLink.setResourceRef(index.resourceRef);
+
+        List<DataLinkItem> items = index.children(path == null ? "" : IndexCmd.toFolder(path)).stream()
+                .filter(entry -> startsWith == null || entry.getName().startsWith(startsWith))
+                .map(entry -> {
+                    DataLinkItem item = new DataLinkItem();
+                    item.setName(entry.getName());
+                    item.setType(entry.folder ? DataLinkItemType.FOLDER : DataLinkItemType.FILE);
+                    item.setSize(entry.folder ? null : entry.size);
+                    return item;
+                })
+                .collect(Collectors.toList());
+
+        return new DataLinkContentList(dataLink, path, items, null);
+    }
+
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links;
+
+import picocli.CommandLine;
+
+@CommandLine.Command(
+        name = "cat",
+        description = "Write the contents of a data link file to the standard output"
+)
+public class CatCmd extends AbstractDataLinkStreamCmd {
+
+    @Override
+    protected long maxBytes() {
+        return -1;
+    }
+
+    @Override
+    protected long maxLines() {
+        return -1;
+    }
+}
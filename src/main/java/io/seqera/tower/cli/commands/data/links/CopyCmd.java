@@ -0,0 +1,127 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.seqera.tower.ApiException;
+import io.seqera.tower.cli.commands.global.WorkspaceOptionalOptions;
+import io.seqera.tower.cli.exceptions.TowerException;
+import io.seqera.tower.cli.responses.Response;
+import io.seqera.tower.cli.responses.data.DataLinkFileTransferResult;
+import io.seqera.tower.model.DataLinkDto;
+import io.seqera.tower.model.DataLinkItemType;
+import picocli.CommandLine;
+
+@CommandLine.Command(
+        name = "copy",
+        description = "Copy files from a data link to another one, streaming the contents without using the local disk"
+)
+public class CopyCmd extends AbstractDataLinksCmd {
+
+    @CommandLine.Mixin
+    public WorkspaceOptionalOptions workspace;
+
+    @CommandLine.Mixin
+    public DataLinkRefOptions dataLinkRefOptions;
+
+    @CommandLine.Mixin
+    public TransferOptions transfer;
+
+    @CommandLine.Option(names = {"-c", "--credentials"}, description = "Credentials identifier of the source data link", required = true)
+    public String credentialsRef;
+
+    @CommandLine.ArgGroup(multiplicity = "1")
+    public TargetRef targetRef;
+
+    @CommandLine.Option(names = {"--target-credentials"}, description = "Credentials identifier of the target data link (default: source credentials)")
+    public String targetCredentialsRef;
+
+    @CommandLine.Option(names = {"-o", "--output-dir"}, description = "Destination directory in the target data link")
+    public String outputDir;
+
+    @CommandLine.Parameters(arity = "1..*", description = "Paths to files or directories to copy")
+    private List<String> paths;
+
+    public static class TargetRef {
+
+        @CommandLine.Option(names = {"--target-id"}, description = "Target data link identifier")
+        public String dataLinkId;
+        @CommandLine.Option(names = {"--target-name"}, description = "Target data link name")
+        public String dataLinkName;
+        @CommandLine.Option(names = {"--target-uri"}, description = "Target data link URI (e.g., az://container-name)")
+        public String dataLinkUri;
+
+        DataLinkRefOptions toDataLinkRefOptions() {
+            DataLinkRefOptions options = new DataLinkRefOptions();
+            options.dataLinkRef = new DataLinkRefOptions.DataLinkRef();
+            options.dataLinkRef.dataLinkId = dataLinkId;
+            options.dataLinkRef.dataLinkName = dataLinkName;
+            options.dataLinkRef.dataLinkUri = dataLinkUri;
+            return options;
+        }
+    }
+
+    @Override
+    protected Response exec() throws ApiException, IOException, InterruptedException {
+        Long wspId = workspaceId(workspace.workspace);
+        String credId = credentialsByRef(null, wspId, credentialsRef);
+        String targetCredId = targetCredentialsRef != null ? credentialsByRef(null, wspId, targetCredentialsRef) : credId;
+
+        String id = getDataLinkId(dataLinkRefOptions, wspId, credId);
+        DataLinkDto target = getDataLink(targetRef.toDataLinkRefOptions(), wspId, targetCredId);
+
+        DataLinkTransferService transferService = new DataLinkTransferService(dataLinksApi(), app());
+        transferService.setBandwidthLimiter(transfer.maxBandwidth);
+        DataLinkTreeWalker walker = new DataLinkTreeWalker(dataLinksApi());
+
+        // Files are copied while the prefixes are still being listed
+        List<DataLinkFileTransferResult.SimplePathInfo> pathInfo = new ArrayList<>();
+        withReport(transferService, transfer.report, DataLinkFileTransferResult.FileTransferDirection.COPY, () -> transferService.transferStream(sink -> {
+            for (String path : paths) {
+                // Same layout as uploads: a file is copied by name and a folder keeps its name as prefix,
+                // the contents of the data link root are copied at the root of the target
+                String root = path.replaceAll("/+$", "");
+                String name = root.substring(root.lastIndexOf('/') + 1);
+
+                AtomicInteger fileCount = new AtomicInteger();
+                boolean isFolder = walker.walk(id, path, wspId, credId, (itemPath, size) -> {
+                    String targetKey = name.isEmpty()
+                            ? itemPath.substring(root.length()).replaceAll("^/+", "")
+                            : name + itemPath.substring(root.length());
+                    sink.submit(() -> transferService.copyFile(id, itemPath, credId, targetKey, target.getId(), targetCredId, target.getProvider(), outputDir, wspId));
+                    fileCount.incrementAndGet();
+                });
+
+                if (isFolder) {
+                    pathInfo.add(new DataLinkFileTransferResult.SimplePathInfo(DataLinkItemType.FOLDER, path, fileCount.get()));
+                } else if (name.isEmpty()) {
+                    throw new TowerException(String.format("Path '%s' does not list any file to copy", path));
+                } else {
+                    // If the path does not list any entry, assume this is a filepath and not a prefix
+                    sink.submit(() -> transferService.copyFile(id, path, credId, name, target.getId(), targetCredId, target.getProvider(), outputDir, wspId));
+                    pathInfo.add(new DataLinkFileTransferResult.SimplePathInfo(DataLinkItemType.FILE, path, 1));
+                }
+            }
+        }, transfer.parallel));
+
+        return DataLinkFileTransferResult.copied(pathInfo);
+    }
+}
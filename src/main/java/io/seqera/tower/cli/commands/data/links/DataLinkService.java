@@ -16,68 +16,130 @@
 
 package io.seqera.tower.cli.commands.data.links;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import io.seqera.tower.ApiException;
+import io.seqera.tower.ApiResponse;
 import io.seqera.tower.api.DataLinksApi;
 import io.seqera.tower.cli.Tower;
 import io.seqera.tower.cli.commands.enums.OutputType;
 import io.seqera.tower.cli.exceptions.DataLinkNotFoundException;
 import io.seqera.tower.cli.exceptions.MultipleDataLinksFoundException;
 import io.seqera.tower.cli.exceptions.TowerRuntimeException;
+import io.seqera.tower.cli.utils.PollingSchedule;
 import io.seqera.tower.cli.utils.ResponseHelper;
 import io.seqera.tower.model.DataLinkDto;
+import io.seqera.tower.model.DataLinksListResponse;
 
 public class DataLinkService  {
 
+    /** Maximum number of concurrent searches when resolving several data link names or URIs */
+    static final int RESOLVE_PARALLEL = 8;
+
     protected final DataLinksApi api;
     protected final Tower app;
 
+    /** Maximum time to wait for the platform to fetch the data links, {@code null} without limit */
+    private Duration waitTimeout;
+
+    /** Search results already fetched by this process, by workspace, credentials and search */
+    private final Map<String, List<DataLinkDto>> searchCache = new ConcurrentHashMap<>();
+
+    /** Workspaces and credentials whose data links the platform finished fetching */
+    private final Set<String> fetched = ConcurrentHashMap.newKeySet();
+
     public DataLinkService(DataLinksApi api, Tower app) {
         this.api = api;
         this.app = app;
     }
 
-    public boolean checkIfResultIncomplete(Long wspId, String credId, boolean wait) {
-        DataLinksFetchStatus status = checkDataLinksFetchStatus(wspId, credId);
-        if (wait && status == DataLinksFetchStatus.FETCHING) {
-            boolean showProgress = app.output != OutputType.json;
-            if (showProgress) {
-                app.getOut().println(" Fetching data-links.");
-            }
-            waitForDoneStatus(wspId, credId, showProgress);
+    public void setWaitTimeout(Duration waitTimeout) {
+        this.waitTimeout = waitTimeout;
+    }
+
+    /**
+     * List the data links of a workspace. The platform answers {@code 202} while it is still
+     * fetching the data links of the cloud credentials and the page is incomplete. With
+     * {@code wait} the request is sent again once the platform is done.
+     */
+    public DataLinksFetch listDataLinks(Long wspId, String credId, String search, Integer max, Integer offset, String visibility, boolean wait) throws ApiException {
+        ApiResponse<DataLinksListResponse> response = api.listDataLinksWithHttpInfo(wspId, credId, search, max, offset, visibility);
+        if (wait && fetchStatus(response) == DataLinksFetchStatus.FETCHING) {
+            waitForDoneStatus(wspId, credId);
+            response = api.listDataLinksWithHttpInfo(wspId, credId, search, max, offset, visibility);
         }
 
-        return !wait && status == DataLinksFetchStatus.FETCHING;
+        return new DataLinksFetch(response.getData(), fetchStatus(response) == DataLinksFetchStatus.FETCHING);
     }
 
-    void waitForDoneStatus(Long wspId, String credId, boolean showProgress) {
+    /**
+     * Wait until the platform finishes fetching the data links. Concurrent lookups wait one
+     * after the other, so only the first one polls and shows its progress.
+     */
+    synchronized void waitForDoneStatus(Long wspId, String credId) throws ApiException {
+        String key = String.format("%s/%s", wspId, credId);
+        if (fetched.contains(key)) {
+            return;
+        }
+
+        boolean showProgress = app.output != OutputType.json;
+        if (showProgress) {
+            app.getOut().println(" Fetching data-links.");
+        }
+
+        // Fetching usually takes a few seconds, poll often but never longer than the wait timeout
+        PollingSchedule schedule = new PollingSchedule()
+                .interval(DataLinksFetchStatus.FETCHING, Duration.ofSeconds(1), Duration.ofSeconds(10))
+                .timeout(waitTimeout);
+
+        AtomicReference<ApiException> failure = new AtomicReference<>();
         try {
             ResponseHelper.waitStatus(
                     app.getOut(),
                     showProgress,
+                    null,
+                    schedule,
                     DataLinksFetchStatus.DONE,
                     DataLinksFetchStatus.values(),
-                    () -> checkDataLinksFetchStatus(wspId, credId),
+                    () -> {
+                        try {
+                            // The status is the same for any page, a single item page is enough
+                            DataLinksFetchStatus status = fetchStatus(api.listDataLinksWithHttpInfo(wspId, credId, null, 1, 0, null));
+                            failure.set(null);
+                            return status;
+                        } catch (ApiException e) {
+                            failure.set(e);
+                            return DataLinksFetchStatus.ERROR;
+                        }
+                    },
                     DataLinksFetchStatus.DONE, DataLinksFetchStatus.ERROR
             );
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException(e);
         }
-    }
 
-    DataLinksFetchStatus checkDataLinksFetchStatus(Long wspId, String credentialsId) {
-        int status;
-        try {
-            status = api.listDataLinksWithHttpInfo(wspId, credentialsId, null, 1, 0, null).getStatusCode();
-        } catch (ApiException e) {
-            return DataLinksFetchStatus.ERROR;
+        if (failure.get() != null) {
+            throw failure.get();
         }
-        switch (status) {
+        fetched.add(key);
+    }
+
+    static DataLinksFetchStatus fetchStatus(ApiResponse<?> response) {
+        switch (response.getStatusCode()) {
             case 200:
                 return DataLinksFetchStatus.DONE;
             case 202:
@@ -91,18 +153,26 @@ public class DataLinkService  {
         FETCHING, DONE, ERROR
     }
 
+    /**
+     * A page of data links and whether the platform was still fetching them.
+     */
+    public static class DataLinksFetch {
+
+        public final DataLinksListResponse response;
+        public final boolean incomplete;
+
+        DataLinksFetch(DataLinksListResponse response, boolean incomplete) {
+            this.response = response;
+            this.incomplete = incomplete;
+        }
+    }
+
     public DataLinkDto getDataLink(DataLinkRefOptions.DataLinkRef dataLinkRef, Long wspId, String credId) {
         // if DataLink IDs are supplied - use those directly
         if (dataLinkRef.dataLinkId != null) {
             return getDataLinkById(dataLinkRef.dataLinkId, wspId, credId);
         }
 
-        // Check and wait if DataLinks are still being fetched
-        boolean isResultIncomplete = checkIfResultIncomplete(wspId, credId, true);
-        if (isResultIncomplete) {
-            throw new TowerRuntimeException("Failed to fetch datalinks for datalink - please retry.");
-        }
-
         if (dataLinkRef.dataLinkName != null) {
             return getDataLinkByName(wspId, credId, dataLinkRef.dataLinkName);
         }
@@ -120,27 +190,71 @@ public class DataLinkService  {
             return dataLinkRef.getMountDataIds();
         }
 
-        // Check and wait if DataLinks are still being fetched
-        boolean isResultIncomplete = checkIfResultIncomplete(wspId, null, true);
-        if (isResultIncomplete) {
-            throw new TowerRuntimeException("Failed to fetch datalinks for mountData - please retry.");
+        // Names and URIs are mutually exclusive, each lookup waits while the platform is still fetching the data links
+        List<Callable<String>> lookups = new ArrayList<>();
+
+        if (dataLinkRef.getMountDataNames() != null) {
+            for (String name : dataLinkRef.getMountDataNames()) {
+                lookups.add(() -> getDataLinkByName(wspId, null, name).getId());
+            }
+        } else if (dataLinkRef.getMountDataUris() != null) {
+            for (String resourceRef : dataLinkRef.getMountDataUris()) {
+                lookups.add(() -> getDataLinkByResourceRef(wspId, null, resourceRef).getId());
+            }
         }
 
-        List<String> dataLinkIds = new ArrayList<>();
+        return resolveAll(lookups);
+    }
 
-        if (dataLinkRef.getMountDataNames() != null) {
-            dataLinkIds = dataLinkRef.getMountDataNames().stream()
-                    .map(name -> getDataLinkByName(wspId, null, name).getId())
-                    .collect(Collectors.toList());
+    /**
+     * Run the lookups concurrently, each one is a search request, and return their results in
+     * the same order. The first failure is rethrown once all of them finish.
+     */
+    private static List<String> resolveAll(List<Callable<String>> lookups) {
+        if (lookups.size() <= 1) {
+            List<String> result = new ArrayList<>();
+            for (Callable<String> lookup : lookups) {
+                result.add(call(lookup));
+            }
+            return result;
         }
 
-        if (dataLinkRef.getMountDataUris() != null) {
-            dataLinkIds = dataLinkRef.getMountDataUris().stream()
-                    .map(resourceRef -> getDataLinkByResourceRef(wspId, null, resourceRef).getId())
-                    .collect(Collectors.toList());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(RESOLVE_PARALLEL, lookups.size()));
+        try {
+            List<Future<String>> futures = executor.invokeAll(lookups);
+            List<String> result = new ArrayList<>();
+            RuntimeException failure = null;
+            for (Future<String> future : futures) {
+                try {
+                    result.add(future.get());
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof RuntimeException
+                                ? (RuntimeException) e.getCause()
+                                : new TowerRuntimeException("Encountered error while resolving data links", e.getCause());
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            executor.shutdownNow();
         }
+    }
 
-        return dataLinkIds;
+    private static String call(Callable<String> lookup) {
+        try {
+            return lookup.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new TowerRuntimeException("Encountered error while resolving data links", e);
+        }
     }
 
     private DataLinkDto getDataLinkByName(Long wspId, String credId, String name) {
@@ -177,11 +291,30 @@ public class DataLinkService  {
     }
 
     private List<DataLinkDto> getDataLinksBySearchCriteria(Long wspId, String search, String credId) {
+        // Concurrent lookups of the same search may both send it, the results are the same
+        String key = String.format("%s/%s/%s", wspId, credId, search);
+        List<DataLinkDto> cached = searchCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        DataLinksFetch fetch;
         try {
-            return api.listDataLinks(wspId, credId, search, null, null, null).getDataLinks();
+            fetch = listDataLinks(wspId, credId, search, null, null, null, true);
         } catch (ApiException e) {
             throw new TowerRuntimeException("Encountered error while retrieving data links for " + search, e);
         }
+
+        // A data link missing from an incomplete listing may still exist
+        if (fetch.incomplete) {
+            throw new TowerRuntimeException(String.format("Data links are still being fetched, unable to search for '%s' - please retry.", search));
+        }
+
+        List<DataLinkDto> dataLinks = fetch.response == null || fetch.response.getDataLinks() == null
+                ? List.of()
+                : fetch.response.getDataLinks();
+        searchCache.put(key, dataLinks);
+        return dataLinks;
     }
 
     private String getResourceRefKeywordParam(String resourceRef) {
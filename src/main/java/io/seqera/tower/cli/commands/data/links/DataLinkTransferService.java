@@ -0,0 +1,888 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import io.seqera.tower.ApiException;
+import io.seqera.tower.api.DataLinksApi;
+import io.seqera.tower.cli.Tower;
+import io.seqera.tower.cli.commands.data.links.checksum.ChecksumAlgorithm;
+import io.seqera.tower.cli.commands.data.links.checksum.ChecksumManifest;
+import io.seqera.tower.cli.commands.data.links.checksum.TransferChecksum;
+import io.seqera.tower.cli.commands.data.links.download.HeadOutputStream;
+import io.seqera.tower.cli.commands.data.links.download.PartialDownload;
+import io.seqera.tower.cli.commands.data.links.report.ObjectStats;
+import io.seqera.tower.cli.commands.data.links.report.TransferReport;
+import io.seqera.tower.cli.commands.data.links.upload.AwsUploader;
+import io.seqera.tower.cli.commands.data.links.upload.AzureUploader;
+import io.seqera.tower.cli.commands.data.links.upload.CloudProviderUploader;
+import io.seqera.tower.cli.commands.data.links.upload.FileUploadSource;
+import io.seqera.tower.cli.commands.data.links.upload.GoogleUploader;
+import io.seqera.tower.cli.commands.data.links.upload.PartSizePlanner;
+import io.seqera.tower.cli.commands.data.links.upload.StreamUploadSource;
+import io.seqera.tower.cli.commands.data.links.upload.UploadPlan;
+import io.seqera.tower.cli.commands.data.links.upload.UploadSource;
+import io.seqera.tower.cli.commands.enums.OutputType;
+import io.seqera.tower.cli.exceptions.TowerRuntimeException;
+import io.seqera.tower.cli.utils.FormatHelper;
+import io.seqera.tower.cli.utils.WriterOutputStream;
+import io.seqera.tower.cli.utils.progress.BandwidthLimiter;
+import io.seqera.tower.cli.utils.progress.ProgressReporter;
+import io.seqera.tower.cli.utils.progress.ProgressTracker;
+import io.seqera.tower.model.DataLinkDownloadUrlResponse;
+import io.seqera.tower.model.DataLinkMultiPartUploadRequest;
+import io.seqera.tower.model.DataLinkMultiPartUploadResponse;
+import io.seqera.tower.model.DataLinkProvider;
+import picocli.CommandLine;
+
+public class DataLinkTransferService {
+
+    /** Size of the byte ranges fetched concurrently when downloading large objects */
+    static final long DOWNLOAD_PART_SIZE = 64L * 1024 * 1024; // 64 MB
+
+    private static final int COPY_BUFFER_SIZE = 1024 * 1024; // 1 MB
+
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024; // 64 KB
+
+    /** Pending transfers queued per worker while streaming */
+    private static final int TRANSFER_QUEUE_FACTOR = 16;
+
+    protected final DataLinksApi api;
+    protected final Tower app;
+
+    private HttpClient httpClient;
+
+    /** Shared by all the uploads of a command, so part sizes adapt to the throughput measured so far */
+    private final PartSizePlanner partSizePlanner = new PartSizePlanner();
+
+    private ChecksumAlgorithm checksumAlgorithm;
+    private ChecksumManifest manifest;
+
+    private BandwidthLimiter bandwidthLimiter;
+
+    private ProgressReporter progressReporter;
+
+    private TransferReport report;
+
+    /** Runs the parts of the files downloaded by {@link #transferStream}, shared so the requests stay bounded */
+    private volatile ExecutorService partExecutor;
+
+    public DataLinkTransferService(DataLinksApi api, Tower app) {
+        this.api = api;
+        this.app = app;
+    }
+
+    /**
+     * Compute a checksum of every transferred file while transferring it, verify it against the
+     * one reported by the storage when available, and record it in the manifest if not null.
+     */
+    public void setChecksum(ChecksumAlgorithm checksumAlgorithm, ChecksumManifest manifest) {
+        this.checksumAlgorithm = checksumAlgorithm;
+        this.manifest = manifest;
+    }
+
+    /**
+     * Limit the bandwidth of all the transfers of this service together, no limit if null.
+     */
+    public void setBandwidthLimiter(BandwidthLimiter bandwidthLimiter) {
+        this.bandwidthLimiter = bandwidthLimiter;
+    }
+
+    /**
+     * Record the statistics of every transferred object and its parts in the report, if not null.
+     */
+    public void setReport(TransferReport report) {
+        this.report = report;
+    }
+
+    public boolean showProgress() {
+        return app.output != OutputType.json;
+    }
+
+    /**
+     * Reporter shared by all the transfers of a command, rendering their aggregate progress.
+     */
+    protected synchronized ProgressReporter progressReporter() {
+        if (progressReporter == null) {
+            progressReporter = new ProgressReporter(app.getOut(), showProgress(), CommandLine.Help.Ansi.AUTO.enabled());
+        }
+        return progressReporter;
+    }
+
+    /**
+     * Client shared by all the transfers of a command, so connections to the storage
+     * endpoints are pooled and reused across files and parts.
+     */
+    protected synchronized HttpClient httpClient() {
+        if (httpClient == null) {
+            httpClient = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .build();
+        }
+        return httpClient;
+    }
+
+    public void uploadFile(File file, String relativeKey, String id, String credId, Long wspId, DataLinkProvider provider, String outputDir) throws ApiException, IOException {
+        ObjectStats stats = startStats(relativeKey);
+        try {
+            uploadFile(file, relativeKey, id, credId, wspId, provider, outputDir, stats);
+        } catch (ApiException | IOException | RuntimeException e) {
+            finishStats(stats, null, e);
+            throw e;
+        }
+    }
+
+    private void uploadFile(File file, String relativeKey, String id, String credId, Long wspId, DataLinkProvider provider, String outputDir, ObjectStats stats) throws ApiException, IOException {
+        if (!file.exists()) {
+            throw new IOException("File not found: " + file.getPath());
+        }
+
+        String mimeType = Files.probeContentType(file.toPath()); // Detect MIME type
+        if (mimeType == null) {
+            mimeType = "application/octet-stream";
+        }
+
+        if (showProgress()) {
+            println("Uploading file: " + file.getPath());
+        }
+
+        TransferChecksum checksum = newChecksum();
+        upload(new FileUploadSource(file, checksum), relativeKey, mimeType, id, credId, wspId, provider, outputDir, stats);
+        recordChecksum(checksum, file.toPath());
+    }
+
+    /**
+     * Copy an object from a data link into another one, piping the body of the download
+     * straight into the multipart upload of the target without touching the local disk.
+     * Only the buffers of the HTTP transfers are held in memory.
+     */
+    public void copyFile(String sourceId, String sourcePath, String sourceCredId, String targetKey, String targetId, String targetCredId, DataLinkProvider targetProvider, String outputDir, Long wspId) throws ApiException, IOException, InterruptedException {
+        ObjectStats stats = startStats(targetKey);
+        try {
+            copyFile(sourceId, sourcePath, sourceCredId, targetKey, targetId, targetCredId, targetProvider, outputDir, wspId, stats);
+        } catch (ApiException | IOException | InterruptedException | RuntimeException e) {
+            finishStats(stats, null, e);
+            throw e;
+        }
+    }
+
+    private void copyFile(String sourceId, String sourcePath, String sourceCredId, String targetKey, String targetId, String targetCredId, DataLinkProvider targetProvider, String outputDir, Long wspId, ObjectStats stats) throws ApiException, IOException, InterruptedException {
+        DataLinkDownloadUrlResponse urlResponse = api.generateDownloadUrlDataLink(sourceId, sourcePath, sourceCredId, wspId, false, null);
+
+        if (showProgress()) {
+            println("Copying file: " + sourcePath);
+        }
+
+        TransferChecksum checksum = newChecksum();
+        HttpRequest request = checksumRequest(HttpRequest.newBuilder().uri(URI.create(urlResponse.getUrl())).GET(), checksum);
+        HttpResponse<InputStream> response = httpClient().send(request, HttpResponse.BodyHandlers.ofInputStream());
+
+        try (InputStream in = response.body()) {
+            if (response.statusCode() != 200) {
+                throw new IOException("Failed to download file " + sourcePath + ": HTTP " + response.statusCode());
+            }
+
+            // The upload URLs are generated for the exact size of the object
+            long contentLength = response.headers().firstValueAsLong("Content-Length")
+                    .orElseThrow(() -> new IOException("Failed to copy file " + sourcePath + ": unknown size"));
+
+            String mimeType = urlResponse.getResolvedMimeType() != null
+                    ? urlResponse.getResolvedMimeType()
+                    : response.headers().firstValue("Content-Type").orElse("application/octet-stream");
+
+            String expected = checksum != null ? remoteChecksum(response.headers(), checksum.getAlgorithm()) : null;
+
+            upload(new StreamUploadSource(in, contentLength, checksum), targetKey, mimeType, targetId, targetCredId, wspId, targetProvider, outputDir, stats);
+
+            verifyChecksum(checksum, expected, sourcePath);
+            recordChecksum(checksum, sourcePath);
+        }
+    }
+
+    private void upload(UploadSource source, String relativeKey, String mimeType, String id, String credId, Long wspId, DataLinkProvider provider, String outputDir, ObjectStats stats) throws ApiException {
+        long contentLength = source.length();
+
+        // Get upload URL
+        DataLinkMultiPartUploadRequest uploadRequest = new DataLinkMultiPartUploadRequest();
+        uploadRequest.setFileName(relativeKey);
+        uploadRequest.setContentLength(contentLength);
+        uploadRequest.setContentType(mimeType);
+
+        // Platform splits the file in parts of its default size unless the part numbers are requested
+        UploadPlan plan = partSizePlanner.plan(contentLength, provider);
+        if (provider != DataLinkProvider.GOOGLE && plan.partCount != UploadPlan.byDefault(contentLength).partCount) {
+            uploadRequest.setPartNumbers(plan.partNumbers());
+        }
+
+        DataLinkMultiPartUploadResponse urlResponse;
+        if (outputDir != null) {
+            urlResponse = api.generateDataLinkUploadUrlWithPath(id, outputDir, uploadRequest, credId, wspId, null);
+        } else {
+            urlResponse = api.generateDataLinkUploadUrl(id, uploadRequest, credId, wspId, null);
+        }
+
+        // Google resumable uploads have a single URL, other providers one per part
+        if (provider != DataLinkProvider.GOOGLE && urlResponse.getUploadUrls() != null) {
+            plan = plan.withPartCount(urlResponse.getUploadUrls().size());
+        }
+
+        if (showProgress() && plan.partCount > 1) {
+            println(String.format("  Upload plan: %d parts of %s", plan.partCount, FormatHelper.formatBits(plan.partSize)));
+        }
+
+        plan.setStats(stats);
+
+        ProgressTracker tracker = progressReporter().track(relativeKey, contentLength, 0, bandwidthLimiter);
+        try {
+            CloudProviderUploader uploader = createUploadStrategy(provider, id, credId, wspId, outputDir, relativeKey);
+            uploader.upload(source, plan, urlResponse, tracker);
+        } finally {
+            tracker.done();
+        }
+
+        TransferChecksum checksum = source.checksum();
+        finishStats(stats, checksum != null && checksum.getPosition() == contentLength ? checksum : null, null);
+    }
+
+    private CloudProviderUploader createUploadStrategy(DataLinkProvider provider, String id, String credId, Long wspId, String outputDir, String relativeKey) {
+        switch (provider) {
+            case AWS:
+                return new AwsUploader(id, credId, wspId, outputDir, relativeKey, api);
+            case GOOGLE:
+                return new GoogleUploader();
+            case AZURE:
+                return new AzureUploader();
+            case SEQERACOMPUTE:
+                // Seqera Compute uses S3-compatible uploads, same as AWS
+                return new AwsUploader(id, credId, wspId, outputDir, relativeKey, api);
+            default:
+                throw new TowerRuntimeException("Unsupported data-link provider: " + provider);
+        }
+    }
+
+    /**
+     * Download a data link object into the target path. The first part is requested with a
+     * range header: when the storage replies with a partial response the remaining parts of
+     * the object are fetched concurrently and written at their offsets in the target file.
+     * <p>
+     * Bytes are written to a {@code .part} file next to the target, tracking the ranges already
+     * stored, so a failed download resumes from the missing ranges when it is run again. The
+     * part file is moved to the target path only once it is complete.
+     */
+    public void downloadFile(String id, String path, String credId, Long wspId, Path targetPath, int parallel) throws ApiException, IOException, InterruptedException {
+        ObjectStats stats = startStats(path);
+        try {
+            downloadFile(id, path, credId, wspId, targetPath, parallel, stats);
+        } catch (ApiException | IOException | InterruptedException | RuntimeException e) {
+            finishStats(stats, null, e);
+            throw e;
+        }
+    }
+
+    private void downloadFile(String id, String path, String credId, Long wspId, Path targetPath, int parallel, ObjectStats stats) throws ApiException, IOException, InterruptedException {
+        DataLinkDownloadUrlResponse urlResponse = api.generateDownloadUrlDataLink(id, path, credId, wspId, false, null);
+        URI uri = URI.create(urlResponse.getUrl());
+
+        PartialDownload partial = PartialDownload.open(targetPath, id + ":" + path);
+
+        boolean showProgress = showProgress();
+        if (showProgress) {
+            println(partial.getCompletedBytes() > 0
+                    ? String.format("  Resuming file: %s (%d bytes already downloaded)", path, partial.getCompletedBytes())
+                    : "  Downloading file: " + path);
+        }
+
+        List<PartialDownload.Range> missing = partial.missing(DOWNLOAD_PART_SIZE);
+        if (missing.isEmpty()) {
+            // Every byte was stored by a previous attempt that stopped before moving the part file
+            TransferChecksum checksum = newChecksum();
+            if (checksum != null) {
+                checksum.catchUp(partial.getPartPath(), partial.size);
+            }
+            partial.finish();
+            recordChecksum(checksum, targetPath);
+            finishStats(stats, checksum, null);
+            return;
+        }
+
+        // Start with the first range missing, the beginning of the object on new downloads
+        PartialDownload.Range first = missing.get(0);
+        TransferChecksum checksum = newChecksum();
+        long firstNanos = System.nanoTime();
+        HttpResponse<InputStream> response = httpClient().send(checksumRequest(rangeRequestBuilder(uri, first.start, first.end), checksum), HttpResponse.BodyHandlers.ofInputStream());
+        int status = response.statusCode();
+
+        if (status == 416) {
+            response.body().close();
+            if (first.start > 0) {
+                // The object is smaller than on the previous attempt, start over
+                partial.discard();
+                if (stats != null) {
+                    stats.retry();
+                }
+                downloadFile(id, path, credId, wspId, targetPath, parallel, stats);
+                return;
+            }
+            // Range not satisfiable, the object is empty
+            partial.discard();
+            Files.write(targetPath, new byte[0]);
+            TransferChecksum empty = newChecksum();
+            recordChecksum(empty, targetPath);
+            finishStats(stats, empty, null);
+            return;
+        }
+
+        if (status != 200 && status != 206) {
+            response.body().close();
+            throw new IOException("Failed to download file: HTTP " + status);
+        }
+
+        if (status == 206 && totalSizeFromContentRange(response.headers()) < 0) {
+            // The remaining ranges cannot be computed without the total size, fetch the whole object
+            response.body().close();
+            firstNanos = System.nanoTime();
+            response = httpClient().send(checksumRequest(HttpRequest.newBuilder().uri(uri).GET(), checksum), HttpResponse.BodyHandlers.ofInputStream());
+            status = response.statusCode();
+            if (status != 200) {
+                response.body().close();
+                throw new IOException("Failed to download file: HTTP " + status);
+            }
+        }
+
+        String etag = response.headers().firstValue("ETag").orElse(null);
+
+        String expected = checksum != null ? remoteChecksum(response.headers(), checksum.getAlgorithm()) : null;
+
+        long totalSize = status == 206
+                ? totalSizeFromContentRange(response.headers())
+                : response.headers().firstValueAsLong("Content-Length").orElse(-1);
+
+        try (FileChannel channel = FileChannel.open(partial.getPartPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+
+            if (status == 200 || !partial.matches(etag, totalSize)) {
+                // New download, the remote object changed or the storage does not support ranges
+                partial.reset(etag, totalSize);
+                channel.truncate(0);
+            }
+
+            if (stats != null) {
+                stats.resumed(partial.getCompletedBytes());
+            }
+
+            ProgressTracker tracker = progressReporter().track(path, totalSize, partial.getCompletedBytes(), bandwidthLimiter);
+            try {
+                long firstStart = status == 206 ? first.start : 0;
+                TransferChecksum.Part firstPart = checksum != null ? checksum.part(firstStart) : null;
+                long written;
+                try (InputStream in = response.body()) {
+                    written = copy(in, channel, firstStart, tracker, firstPart);
+                }
+                if (stats != null) {
+                    stats.part(firstStart, written, System.nanoTime() - firstNanos);
+                }
+                if (status == 206 && written != Math.min(first.end, totalSize - 1) - first.start + 1) {
+                    throw new IOException(String.format("Failed to download bytes %d-%d: received %d bytes", first.start, first.end, written));
+                }
+                if (firstPart != null) {
+                    firstPart.complete();
+                }
+                channel.force(false);
+                if (written > 0) {
+                    partial.complete(firstStart, firstStart + written - 1);
+                }
+
+                if (status == 206) {
+                    List<Transfer> parts = new ArrayList<>();
+                    for (PartialDownload.Range range : partial.missing(DOWNLOAD_PART_SIZE)) {
+                        parts.add(() -> {
+                            downloadRange(uri, channel, range.start, range.end, tracker, checksum, stats);
+                            partial.complete(range.start, range.end);
+                        });
+                    }
+                    // CRC32C parts are hashed as they arrive and combined, with MD5 or SHA-256 the parts received after a gap are read back below
+                    transferAll(parts, parallel);
+                }
+            } finally {
+                tracker.done();
+            }
+        }
+
+        if (totalSize < 0) {
+            // Unknown size, trust the complete body was received
+            long size = Files.size(partial.getPartPath());
+            partial.reset(etag, size);
+            if (size > 0) {
+                partial.complete(0, size - 1);
+            }
+        }
+
+        if (checksum != null) {
+            // Bytes stored by a previous attempt, or received out of order with MD5 or SHA-256, were not hashed yet
+            checksum.catchUp(partial.getPartPath(), partial.size);
+            try {
+                verifyChecksum(checksum, expected, path);
+            } catch (IOException e) {
+                partial.discard();
+                throw e;
+            }
+        }
+
+        partial.finish();
+        recordChecksum(checksum, targetPath);
+        finishStats(stats, checksum, null);
+    }
+
+    /**
+     * Write the contents of a data link object to the given stream as they are received,
+     * without temporary files. When {@code maxBytes} is not negative only that many bytes are
+     * requested, and when {@code maxLines} is not negative the download stops after that many
+     * lines.
+     */
+    public void streamFile(String id, String path, String credId, Long wspId, OutputStream out, long maxBytes, long maxLines) throws ApiException, IOException, InterruptedException {
+        if (maxBytes == 0 || maxLines == 0) {
+            return;
+        }
+
+        DataLinkDownloadUrlResponse urlResponse = api.generateDownloadUrlDataLink(id, path, credId, wspId, false, null);
+        URI uri = URI.create(urlResponse.getUrl());
+
+        HttpRequest request = maxBytes > 0
+                ? rangeRequest(uri, 0, maxBytes - 1)
+                : HttpRequest.newBuilder().uri(uri).GET().build();
+        HttpResponse<InputStream> response = httpClient().send(request, HttpResponse.BodyHandlers.ofInputStream());
+        int status = response.statusCode();
+
+        if (status == 416) {
+            // Range not satisfiable, the object is empty
+            response.body().close();
+            return;
+        }
+
+        if (status != 200 && status != 206) {
+            response.body().close();
+            throw new IOException("Failed to download file: HTTP " + status);
+        }
+
+        // Closing the body before reaching the end aborts the rest of the transfer
+        HeadOutputStream head = new HeadOutputStream(out, maxBytes, maxLines);
+        try (InputStream in = response.body()) {
+            byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+            int read;
+            while (!head.isFull() && (read = in.read(buffer)) != -1) {
+                head.write(buffer, 0, read);
+                // Stop when the reader went away, e.g. piped into a command that exited
+                if (out instanceof PrintStream && ((PrintStream) out).checkError()
+                        || out instanceof WriterOutputStream && ((WriterOutputStream) out).checkError()) {
+                    break;
+                }
+            }
+        }
+        out.flush();
+    }
+
+    private void downloadRange(URI uri, FileChannel channel, long start, long end, ProgressTracker tracker, TransferChecksum checksum, ObjectStats stats) throws IOException, InterruptedException {
+        long startNanos = System.nanoTime();
+        HttpResponse<InputStream> response = httpClient().send(rangeRequest(uri, start, end), HttpResponse.BodyHandlers.ofInputStream());
+
+        if (response.statusCode() != 206) {
+            response.body().close();
+            throw new IOException(String.format("Failed to download bytes %d-%d: HTTP %d", start, end, response.statusCode()));
+        }
+
+        TransferChecksum.Part part = checksum != null ? checksum.part(start) : null;
+        try (InputStream in = response.body()) {
+            long written = copy(in, channel, start, tracker, part);
+            if (written != end - start + 1) {
+                throw new IOException(String.format("Failed to download bytes %d-%d: received %d bytes", start, end, written));
+            }
+            if (part != null) {
+                part.complete();
+            }
+            if (stats != null) {
+                stats.part(start, written, System.nanoTime() - startNanos);
+            }
+        }
+        channel.force(false);
+    }
+
+    private static HttpRequest rangeRequest(URI uri, long start, long end) {
+        return rangeRequestBuilder(uri, start, end).build();
+    }
+
+    private static HttpRequest.Builder rangeRequestBuilder(URI uri, long start, long end) {
+        return HttpRequest.newBuilder()
+                .uri(uri)
+                .header("Range", String.format("bytes=%d-%d", start, end))
+                .GET();
+    }
+
+    /**
+     * S3 only returns the additional checksums stored with an object when they are requested.
+     * MD5 is read from the ETag and other providers always return their hashes.
+     */
+    private static HttpRequest checksumRequest(HttpRequest.Builder builder, TransferChecksum checksum) {
+        if (checksum != null && checksum.getAlgorithm() != ChecksumAlgorithm.MD5) {
+            builder.header("x-amz-checksum-mode", "ENABLED");
+        }
+        return builder.build();
+    }
+
+    private static long totalSizeFromContentRange(HttpHeaders headers) {
+        // Content-Range: bytes <start>-<end>/<total>
+        String contentRange = headers.firstValue("Content-Range").orElse("");
+        int slash = contentRange.lastIndexOf('/');
+        if (slash < 0 || contentRange.endsWith("*")) {
+            return -1;
+        }
+        return Long.parseLong(contentRange.substring(slash + 1).trim());
+    }
+
+    /**
+     * Copy the stream into the channel starting at the given position, using positional
+     * writes so concurrent parts of the same file do not interfere with each other.
+     */
+    private static long copy(InputStream in, FileChannel channel, long position, ProgressTracker tracker, TransferChecksum.Part checksum) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long written = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            if (checksum != null) {
+                checksum.update(buffer, 0, read);
+            }
+            ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+            while (chunk.hasRemaining()) {
+                written += channel.write(chunk, position + written);
+            }
+            tracker.throttle(read);
+            tracker.update(read);
+        }
+        return written;
+    }
+
+    /**
+     * Resolve the MD5 checksum of a remote object from the metadata headers returned by the
+     * storage provider on a one byte ranged request. Returns {@code null} when the provider does
+     * not expose it, e.g. S3 objects uploaded in multiple parts.
+     */
+    public String remoteMd5(String id, String path, String credId, Long wspId) throws ApiException, IOException, InterruptedException {
+        DataLinkDownloadUrlResponse urlResponse = api.generateDownloadUrlDataLink(id, path, credId, wspId, false, null);
+
+        HttpResponse<Void> response = httpClient().send(rangeRequest(URI.create(urlResponse.getUrl()), 0, 0), HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 416) {
+            // Range not satisfiable, the object is empty
+            return null;
+        }
+        if (response.statusCode() != 200 && response.statusCode() != 206) {
+            throw new IOException("Failed to fetch checksum of " + path + ": HTTP " + response.statusCode());
+        }
+
+        return remoteChecksum(response.headers(), ChecksumAlgorithm.MD5);
+    }
+
+    /**
+     * Checksum of the whole object reported by the storage provider in the response headers,
+     * as an hex string, or {@code null} if the provider does not report it for this algorithm.
+     */
+    static String remoteChecksum(HttpHeaders headers, ChecksumAlgorithm algorithm) {
+        // Google Cloud Storage: x-goog-hash: crc32c=<base64>,md5=<base64>
+        String googleKey = algorithm.name().toLowerCase() + "=";
+        for (String hash : headers.allValues("x-goog-hash")) {
+            for (String value : hash.split(",")) {
+                if (value.trim().startsWith(googleKey)) {
+                    return toHex(Base64.getDecoder().decode(value.trim().substring(googleKey.length())));
+                }
+            }
+        }
+
+        // S3 returns the additional checksums stored with the object when requested with x-amz-checksum-mode,
+        // those of multipart uploads are checksums of the part checksums ('<base64>-<parts>')
+        Optional<String> amzChecksum = headers.firstValue("x-amz-checksum-" + algorithm.name().toLowerCase())
+                .filter(value -> !value.contains("-"));
+        if (amzChecksum.isPresent()) {
+            return toHex(Base64.getDecoder().decode(amzChecksum.get()));
+        }
+
+        if (algorithm != ChecksumAlgorithm.MD5) {
+            return null;
+        }
+
+        // Azure Blob Storage returns the MD5 of the whole blob on ranged reads using this header
+        Optional<String> blobMd5 = headers.firstValue("x-ms-blob-content-md5").or(() -> headers.firstValue("Content-MD5"));
+        if (blobMd5.isPresent()) {
+            return toHex(Base64.getDecoder().decode(blobMd5.get()));
+        }
+
+        // S3 ETag is the MD5 of the content unless it was uploaded in multiple parts ('<hash>-<parts>')
+        // or encrypted with KMS keys
+        Optional<String> etag = headers.firstValue("ETag");
+        boolean kmsEncrypted = headers.firstValue("x-amz-server-side-encryption").map(value -> value.startsWith("aws:kms")).orElse(false);
+        if (etag.isPresent() && !kmsEncrypted) {
+            String value = etag.get().replace("\"", "");
+            if (value.matches("[0-9a-fA-F]{32}")) {
+                return value.toLowerCase();
+            }
+        }
+
+        return null;
+    }
+
+    private TransferChecksum newChecksum() {
+        return checksumAlgorithm != null ? new TransferChecksum(checksumAlgorithm) : null;
+    }
+
+    private static void verifyChecksum(TransferChecksum checksum, String expected, String path) throws IOException {
+        if (checksum != null && expected != null && !expected.equals(checksum.toHex())) {
+            throw new IOException(String.format("Checksum mismatch for file '%s': %s %s expected but %s computed", path, checksum.getAlgorithm(), expected, checksum.toHex()));
+        }
+    }
+
+    private void recordChecksum(TransferChecksum checksum, Path file) throws IOException {
+        if (checksum != null && manifest != null) {
+            manifest.record(checksum.toHex(), file);
+        }
+    }
+
+    private void recordChecksum(TransferChecksum checksum, String dataLinkPath) throws IOException {
+        if (checksum != null && manifest != null) {
+            manifest.record(checksum.toHex(), dataLinkPath);
+        }
+    }
+
+    private ObjectStats startStats(String path) {
+        return report != null ? report.start(path) : null;
+    }
+
+    private static void finishStats(ObjectStats stats, TransferChecksum checksum, Throwable failure) {
+        if (stats == null) {
+            return;
+        }
+        if (checksum != null) {
+            stats.checksum(checksum.getAlgorithm().name(), checksum.toHex());
+        }
+        stats.finish(failure);
+    }
+
+    public static String md5(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[1024 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    private static String toHex(byte[] bytes) {
+        return TransferChecksum.toHex(bytes);
+    }
+
+    /**
+     * Run the given transfers using up to {@code parallel} concurrent threads. All the
+     * transfers are attempted, and the first failure (if any) is rethrown once they finish.
+     * <p>
+     * When called from a transfer of {@link #transferStream}, e.g. the parts of a file, they
+     * run on the executor shared by all the files so the number of requests stays bounded.
+     */
+    public void transferAll(List<Transfer> transfers, int parallel) throws ApiException, IOException, InterruptedException {
+        ExecutorService shared = this.partExecutor;
+        if (shared != null && transfers.size() > 1) {
+            awaitAll(shared, transfers);
+            return;
+        }
+
+        if (parallel <= 1 || transfers.size() <= 1) {
+            for (Transfer transfer : transfers) {
+                transfer.run();
+            }
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallel, transfers.size()));
+        try {
+            awaitAll(executor, transfers);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitAll(ExecutorService executor, List<Transfer> transfers) throws ApiException, IOException, InterruptedException {
+        List<Future<Void>> futures = new ArrayList<>();
+        for (Transfer transfer : transfers) {
+            futures.add(executor.submit(() -> {
+                transfer.run();
+                return null;
+            }));
+        }
+
+        Throwable failure = null;
+        try {
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            // Do not leave parts of this file running on the shared executor
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+        rethrow(failure);
+    }
+
+    /**
+     * Run the transfers submitted by {@code source} using {@code parallel} worker threads while
+     * the source is still producing them. Submissions block when the workers fall behind, so
+     * only a bounded number of pending transfers is held in memory.
+     */
+    public void transferStream(TransferSource source, int parallel) throws ApiException, IOException, InterruptedException {
+        int workers = Math.max(parallel, 1);
+        BlockingQueue<Transfer> queue = new ArrayBlockingQueue<>(workers * TRANSFER_QUEUE_FACTOR);
+        Transfer end = () -> {};
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        // The workers wait for the parts of their files, so these run on a second pool of the same size
+        partExecutor = Executors.newFixedThreadPool(workers);
+        List<Future<Throwable>> futures = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            futures.add(executor.submit(() -> {
+                Throwable failure = null;
+                for (Transfer transfer = queue.take(); transfer != end; transfer = queue.take()) {
+                    try {
+                        transfer.run();
+                    } catch (Exception e) {
+                        // Keep consuming so the source is never blocked, report the first failure
+                        if (failure == null) {
+                            failure = e;
+                        }
+                    }
+                }
+                return failure;
+            }));
+        }
+
+        Throwable failure = null;
+        try {
+            source.produce(queue::put);
+        } catch (ApiException | IOException | InterruptedException | RuntimeException e) {
+            failure = e;
+        } finally {
+            for (int i = 0; i < workers; i++) {
+                queue.put(end);
+            }
+        }
+
+        try {
+            for (Future<Throwable> future : futures) {
+                try {
+                    Throwable workerFailure = future.get();
+                    if (failure == null) {
+                        failure = workerFailure;
+                    }
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            partExecutor.shutdownNow();
+            partExecutor = null;
+        }
+        rethrow(failure);
+    }
+
+    private static void rethrow(Throwable failure) throws ApiException, IOException, InterruptedException {
+        if (failure == null) {
+            return;
+        }
+        if (failure instanceof ApiException) {
+            throw (ApiException) failure;
+        }
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        }
+        if (failure instanceof InterruptedException) {
+            throw (InterruptedException) failure;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        throw new TowerRuntimeException("Failed to transfer file: " + failure.getMessage(), failure);
+    }
+
+    private void println(String line) {
+        // Output is shared by concurrent transfers and the progress renderer
+        progressReporter().log(line);
+    }
+
+    @FunctionalInterface
+    public interface Transfer {
+        void run() throws ApiException, IOException, InterruptedException;
+    }
+
+    @FunctionalInterface
+    public interface TransferSource {
+        void produce(TransferSink sink) throws ApiException, IOException, InterruptedException;
+    }
+
+    @FunctionalInterface
+    public interface TransferSink {
+        void submit(Transfer transfer) throws InterruptedException;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import io.seqera.tower.ApiException;
+import io.seqera.tower.api.DataLinksApi;
+import io.seqera.tower.model.DataLinkContentResponse;
+import io.seqera.tower.model.DataLinkItem;
+import io.seqera.tower.model.DataLinkItemType;
+
+/**
+ * Walks the files under a data link prefix one page at a time, so callers can start
+ * working on the first entries while the rest of the prefix is still being listed and
+ * only a page of entries is held in memory.
+ */
+public class DataLinkTreeWalker {
+
+    static final int PAGE_SIZE = 1000;
+
+    private final DataLinksApi api;
+
+    public DataLinkTreeWalker(DataLinksApi api) {
+        this.api = api;
+    }
+
+    /**
+     * Visit every file under {@code path}, descending into sub-folders depth first.
+     *
+     * @return {@code false} if the path does not list any entry, e.g. it is a file and not a prefix
+     */
+    public boolean walk(String id, String path, Long wspId, String credId, FileVisitor visitor) throws ApiException, IOException, InterruptedException {
+        Deque<String> folders = new ArrayDeque<>();
+        folders.push(stripSlash(path));
+
+        boolean found = false;
+        while (!folders.isEmpty()) {
+            found |= list(id, folders.pop(), wspId, credId, new FolderVisitor() {
+                @Override
+                public void visitFile(String filePath, long size) throws ApiException, IOException, InterruptedException {
+                    visitor.visit(filePath, size);
+                }
+
+                @Override
+                public void visitFolder(String folderPath) {
+                    folders.push(folderPath);
+                }
+            });
+        }
+        return found;
+    }
+
+    /**
+     * Visit the direct children of a folder, requesting its pages one after the other. Folder
+     * paths are passed without the trailing slash.
+     *
+     * @return {@code false} if the folder does not list any entry
+     */
+    public boolean list(String id, String folder, Long wspId, String credId, FolderVisitor visitor) throws ApiException, IOException, InterruptedException {
+        String root = stripSlash(folder);
+
+        boolean found = false;
+        String nextPageToken = null;
+        do {
+            DataLinkContentResponse response = root.isEmpty()
+                    ? api.exploreDataLink(id, wspId, credId, null, nextPageToken, PAGE_SIZE)
+                    : api.exploreDataLinkWithPath(id, root, wspId, credId, null, nextPageToken, PAGE_SIZE);
+            if (response.getObjects() != null) {
+                for (DataLinkItem item : response.getObjects()) {
+                    found = true;
+                    String name = stripSlash(item.getName());
+                    String itemPath = root.isEmpty() ? name : root + "/" + name;
+                    if (item.getType() == DataLinkItemType.FOLDER) {
+                        visitor.visitFolder(itemPath);
+                    } else {
+                        visitor.visitFile(itemPath, item.getSize() == null ? 0L : item.getSize());
+                    }
+                }
+            }
+            nextPageToken = response.getNextPageToken();
+        } while (nextPageToken != null && !nextPageToken.isEmpty());
+        return found;
+    }
+
+    private static String stripSlash(String path) {
+        String result = path == null ? "" : path;
+        while (result.endsWith("/")) {
+            result = result.substring(0, result.length() - 1);
+        }
+        return result;
+    }
+
+    @FunctionalInterface
+    public interface FileVisitor {
+        void visit(String path, long size) throws ApiException, IOException, InterruptedException;
+    }
+
+    public interface FolderVisitor {
+        void visitFile(String path, long size) throws ApiException, IOException, InterruptedException;
+
+        void visitFolder(String path) throws ApiException, IOException, InterruptedException;
+    }
+}
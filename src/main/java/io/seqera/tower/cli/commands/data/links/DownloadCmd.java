@@ -17,31 +17,24 @@
 package io.seqera.tower.cli.commands.data.links;
 
 import io.seqera.tower.ApiException;
-import io.seqera.tower.cli.commands.enums.OutputType;
+import io.seqera.tower.cli.commands.data.links.checksum.ChecksumAlgorithm;
+import io.seqera.tower.cli.commands.data.links.checksum.ChecksumManifest;
+import io.seqera.tower.cli.commands.data.links.index.DataLinkIndex;
 import io.seqera.tower.cli.commands.global.WorkspaceOptionalOptions;
 import io.seqera.tower.cli.responses.Response;
 import io.seqera.tower.cli.responses.data.DataLinkFileTransferResult;
-import io.seqera.tower.cli.utils.progress.ProgressInputStream;
-import io.seqera.tower.cli.utils.progress.ProgressTracker;
-import io.seqera.tower.model.DataLinkContentTreeListResponse;
-import io.seqera.tower.model.DataLinkDownloadUrlResponse;
 import io.seqera.tower.model.DataLinkItemType;
-import io.seqera.tower.model.DataLinkSimpleItem;
 import picocli.CommandLine;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @CommandLine.Command(
         name = "download",
@@ -55,13 +48,25 @@ public class DownloadCmd extends AbstractDataLinksCmd {
     @CommandLine.Mixin
     public DataLinkRefOptions dataLinkRefOptions;
 
+    @CommandLine.Mixin
+    public TransferOptions transfer;
+
     @CommandLine.Option(names = {"-c", "--credentials"}, description = "Credentials identifier", required = true)
     public String credentialsRef;
 
     @CommandLine.Option(names = {"-o", "--output-dir"}, description = "Output directory for downloaded files")
     public String outputDir;
 
-    @CommandLine.Parameters(arity = "1..*", description = "Paths to files or directories to download")
+    @CommandLine.Option(names = {"--checksum-algorithm"}, description = "Compute a checksum of every file while transferring it, verified against the one reported by the storage when available (MD5, CRC32C or SHA256). With parallel parts only CRC32C is computed entirely while streaming, MD5 and SHA256 read the parts received out of order back from disk")
+    public ChecksumAlgorithm checksumAlgorithm;
+
+    @CommandLine.Option(names = {"--manifest"}, description = "Record the checksum of every transferred file in this file, using the md5sum/sha256sum format with paths relative to its folder (requires --checksum-algorithm)")
+    public Path manifest;
+
+    @CommandLine.Option(names = {"--index"}, description = "Match the paths with wildcards against the local index created with 'data-links index', instead of listing the data link")
+    public boolean useIndex;
+
+    @CommandLine.Parameters(arity = "1..*", description = "Paths to files or directories to download, or glob patterns matching files (e.g. 'results/**/*.bam')")
     private List<String> paths;
 
     @Override
@@ -71,82 +76,85 @@ public class DownloadCmd extends AbstractDataLinksCmd {
 
         String id = getDataLinkId(dataLinkRefOptions, wspId, credId);
 
-        List<DataLinkFileTransferResult.SimplePathInfo> pathInfo = new ArrayList<>();
-        for (String path : paths) {
-            DataLinkContentTreeListResponse browseTreeResponse = dataLinksApi().exploreDataLinkTree(id, wspId, credId, List.of(path));
-
-            if (browseTreeResponse.getItems().isEmpty()) {
-                // If the browse-tree response is empty, assume this is a filepath and not a prefix
+        DataLinkTransferService transferService = new DataLinkTransferService(dataLinksApi(), app());
+        transferService.setBandwidthLimiter(transfer.maxBandwidth);
+        DataLinkTreeWalker walker = new DataLinkTreeWalker(dataLinksApi());
 
-                String filename = Paths.get(path).getFileName().toString();
-                Path targetPath = outputDir == null
-                        ? Paths.get(filename)
-                        : Paths.get(outputDir, filename);
+        DataLinkIndex index = useIndex ? loadIndex(wspId, id) : null;
 
-                downloadFile(path, id, credId, wspId, targetPath);
-
-                pathInfo.add(new DataLinkFileTransferResult.SimplePathInfo(DataLinkItemType.FILE, path, 1));
-            }
-            else {
-                // Download each file for that prefix (skip folder entries which end with '/')
-                for (DataLinkSimpleItem item : browseTreeResponse.getItems()) {
-                    if (item.getPath().endsWith("/")) continue;
-
-                    Path targetPath = outputDir == null
-                            ? Paths.get(item.getPath())
-                            : Paths.get(outputDir, item.getPath());
-                    Files.createDirectories(targetPath.getParent());
-
-                    downloadFile(item.getPath(), id, credId, wspId, targetPath);
+        // Files are downloaded while the prefixes are still being listed
+        List<DataLinkFileTransferResult.SimplePathInfo> pathInfo = new ArrayList<>();
+        try (ChecksumManifest checksumManifest = openManifest(manifest, checksumAlgorithm)) {
+            transferService.setChecksum(checksumAlgorithm, checksumManifest);
+            withReport(transferService, transfer.report, DataLinkFileTransferResult.FileTransferDirection.DOWNLOAD, () -> transferService.transferStream(sink -> {
+                for (String path : paths) {
+                    AtomicInteger fileCount = new AtomicInteger();
+                    DataLinkTreeWalker.FileVisitor download = (itemPath, size) -> {
+                        Path targetPath = outputDir == null
+                                ? Paths.get(itemPath)
+                                : Paths.get(outputDir, itemPath);
+                        Files.createDirectories(targetPath.toAbsolutePath().getParent());
+
+                        sink.submit(() -> transferService.downloadFile(id, itemPath, credId, wspId, targetPath, transfer.parallel));
+                        fileCount.incrementAndGet();
+                    };
+
+                    if (hasWildcards(path)) {
+                        // Only the folder before the first wildcard is listed
+                        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + path);
+                        DataLinkTreeWalker.FileVisitor matching = (itemPath, size) -> {
+                            if (matcher.matches(Paths.get(itemPath))) {
+                                download.visit(itemPath, size);
+                            }
+                        };
+                        if (index != null) {
+                            for (DataLinkIndex.Entry entry : index.files(wildcardFolder(path))) {
+                                matching.visit(entry.path, entry.size);
+                            }
+                        } else {
+                            walker.walk(id, wildcardFolder(path), wspId, credId, matching);
+                        }
+                        pathInfo.add(new DataLinkFileTransferResult.SimplePathInfo(DataLinkItemType.FOLDER, path, fileCount.get()));
+                        continue;
+                    }
+
+                    boolean isFolder = walker.walk(id, path, wspId, credId, download);
+
+                    if (isFolder) {
+                        pathInfo.add(new DataLinkFileTransferResult.SimplePathInfo(DataLinkItemType.FOLDER, path, fileCount.get()));
+                    } else {
+                        // If the path does not list any entry, assume this is a filepath and not a prefix
+                        String filename = Paths.get(path).getFileName().toString();
+                        Path targetPath = outputDir == null
+                                ? Paths.get(filename)
+                                : Paths.get(outputDir, filename);
+
+                        sink.submit(() -> transferService.downloadFile(id, path, credId, wspId, targetPath, transfer.parallel));
+                        pathInfo.add(new DataLinkFileTransferResult.SimplePathInfo(DataLinkItemType.FILE, path, 1));
+                    }
                 }
-                long fileCount = browseTreeResponse.getItems().stream().filter(i -> !i.getPath().endsWith("/")).count();
-                pathInfo.add(new DataLinkFileTransferResult.SimplePathInfo(DataLinkItemType.FOLDER, path, (int) fileCount));
-            }
-
+            }, transfer.parallel));
         }
 
         return DataLinkFileTransferResult.donwloaded(pathInfo);
     }
 
-    private void downloadFile(String path, String id, String credId, Long wspId, Path targetPath) throws ApiException, IOException, InterruptedException {
-        DataLinkDownloadUrlResponse urlResponse = dataLinksApi().generateDownloadUrlDataLink(id, path, credId, wspId, false, null);
-
-        boolean showProgress = app().output != OutputType.json;
-
-        if (showProgress) {
-            app().getOut().println("  Downloading file: " + path);
-        }
-
-        HttpClient client = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(10))
-                .build();
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(urlResponse.getUrl()))
-                .timeout(Duration.ofSeconds(30))
-                .GET()
-                .build();
-
-        HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
-
-        if (response.statusCode() != 200) {
-            throw new IOException("Failed to download file: HTTP " + response.statusCode());
-        }
-
-        long contentLength = response.headers()
-                .firstValueAsLong("Content-Length")
-                .orElse(-1);
-
-        ProgressTracker tracker = new ProgressTracker(app().getOut(), showProgress, contentLength);
-        try (InputStream in = new ProgressInputStream(response.body(), tracker);
-             OutputStream output = Files.newOutputStream(targetPath)) {
+    static boolean hasWildcards(String path) {
+        return path.indexOf('*') >= 0 || path.indexOf('?') >= 0 || path.indexOf('[') >= 0 || path.indexOf('{') >= 0;
+    }
 
-            byte[] buffer = new byte[8192];
-            int bytesRead;
-            while ((bytesRead = in.read(buffer)) != -1) {
-                output.write(buffer, 0, bytesRead);
+    /**
+     * Folder before the first wildcard of a pattern, the data link root if there is none.
+     */
+    static String wildcardFolder(String pattern) {
+        int wildcard = pattern.length();
+        for (char c : new char[]{'*', '?', '[', '{'}) {
+            int index = pattern.indexOf(c);
+            if (index >= 0) {
+                wildcard = Math.min(wildcard, index);
             }
-
         }
+        int slash = pattern.lastIndexOf('/', wildcard);
+        return slash > 0 ? pattern.substring(0, slash) : "";
     }
 }
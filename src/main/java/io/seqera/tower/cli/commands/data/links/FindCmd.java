@@ -0,0 +1,64 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.seqera.tower.ApiException;
+import io.seqera.tower.cli.commands.data.links.index.DataLinkIndex;
+import io.seqera.tower.cli.commands.global.WorkspaceOptionalOptions;
+import io.seqera.tower.cli.responses.Response;
+import io.seqera.tower.cli.responses.data.DataLinkFindResult;
+import picocli.CommandLine;
+
+@CommandLine.Command(
+        name = "find",
+        description = "Find files of a data link by name in its local index"
+)
+public class FindCmd extends AbstractDataLinksCmd {
+
+    @CommandLine.Mixin
+    public WorkspaceOptionalOptions workspace;
+
+    @CommandLine.Mixin
+    public DataLinkRefOptions dataLinkRefOptions;
+
+    @CommandLine.Option(names = {"-c", "--credentials"}, description = "Credentials identifier")
+    public String credentialsRef;
+
+    @CommandLine.Option(names = {"-p", "--path"}, description = "Folder to search within the data link (default: data link root)")
+    public String path;
+
+    @CommandLine.Parameters(index = "0", description = "Glob pattern matching the file name (e.g. '*.bam'), or the whole path when it contains '/' (e.g. 'runs/**/*.vcf.gz')")
+    public String pattern;
+
+    @Override
+    protected Response exec() throws ApiException, IOException {
+        Long wspId = workspaceId(workspace.workspace);
+        String credId = credentialsRef != null ? credentialsByRef(null, wspId, credentialsRef) : null;
+        String id = getDataLinkId(dataLinkRefOptions, wspId, credId);
+
+        DataLinkIndex index = loadIndex(wspId, id);
+        List<DataLinkFindResult.FoundFile> files = index.find(path == null ? "" : IndexCmd.toFolder(path), pattern).stream()
+                .map(entry -> new DataLinkFindResult.FoundFile(entry.path, entry.size))
+                .collect(Collectors.toList());
+
+        return new DataLinkFindResult(index.resourceRef != null ? index.resourceRef : id, pattern, files);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links;
+
+import io.seqera.tower.cli.exceptions.TowerException;
+import picocli.CommandLine;
+
+@CommandLine.Command(
+        name = "head",
+        description = "Write the first lines or bytes of a data link file to the standard output"
+)
+public class HeadCmd extends AbstractDataLinkStreamCmd {
+
+    @CommandLine.ArgGroup(exclusive = true)
+    public Limit limit;
+
+    public static class Limit {
+
+        @CommandLine.Option(names = {"--lines"}, description = "Number of lines to write (default: 10)")
+        public Long lines;
+
+        @CommandLine.Option(names = {"--bytes"}, description = "Number of bytes to write, only this range of the file is requested")
+        public Long bytes;
+    }
+
+    @Override
+    protected long maxBytes() throws TowerException {
+        if (limit != null && limit.bytes != null && limit.bytes < 0) {
+            throw new TowerException("Number of bytes must be a positive value.");
+        }
+        return limit != null && limit.bytes != null ? limit.bytes : -1;
+    }
+
+    @Override
+    protected long maxLines() throws TowerException {
+        if (limit == null || (limit.lines == null && limit.bytes == null)) {
+            return 10;
+        }
+        if (limit.lines != null && limit.lines < 0) {
+            throw new TowerException("Number of lines must be a positive value.");
+        }
+        return limit.lines != null ? limit.lines : -1;
+    }
+}
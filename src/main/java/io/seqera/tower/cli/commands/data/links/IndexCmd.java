@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.seqera.tower.ApiException;
+import io.seqera.tower.cli.commands.data.links.index.DataLinkIndex;
+import io.seqera.tower.cli.commands.data.links.index.DataLinkIndexer;
+import io.seqera.tower.cli.commands.global.WorkspaceOptionalOptions;
+import io.seqera.tower.cli.responses.Response;
+import io.seqera.tower.cli.responses.data.DataLinkIndexResult;
+import io.seqera.tower.cli.utils.DurationConverter;
+import io.seqera.tower.model.DataLinkDto;
+import picocli.CommandLine;
+
+@CommandLine.Command(
+        name = "index",
+        description = "Index the files of a data link locally, to browse and find them without listing the data link again"
+)
+public class IndexCmd extends AbstractDataLinksCmd {
+
+    @CommandLine.Mixin
+    public WorkspaceOptionalOptions workspace;
+
+    @CommandLine.Mixin
+    public DataLinkRefOptions dataLinkRefOptions;
+
+    @CommandLine.Option(names = {"-c", "--credentials"}, description = "Credentials identifier")
+    public String credentialsRef;
+
+    @CommandLine.Option(names = {"--prefix"}, description = "Refresh only these folders and everything under them (default: the whole data link)")
+    public List<String> prefixes;
+
+    @CommandLine.Option(names = {"--max-age"}, description = "Refresh only the folders indexed longer ago than this (e.g. 30m, 6h or 2d), indexing their new sub-folders", converter = DurationConverter.class)
+    public Duration maxAge;
+
+    @CommandLine.Option(names = {"--parallel"}, description = "Maximum number of folders listed concurrently (default: 8)", defaultValue = "8")
+    public Integer parallel;
+
+    @Override
+    protected Response exec() throws ApiException, IOException, InterruptedException {
+        Long wspId = workspaceId(workspace.workspace);
+        String credId = credentialsRef != null ? credentialsByRef(null, wspId, credentialsRef) : null;
+
+        DataLinkDto dataLink = getDataLink(dataLinkRefOptions, wspId, credId);
+        String id = dataLink.getId();
+
+        Path indexPath = DataLinkIndex.path(app().getLocalDir(), wspId, id);
+        DataLinkIndex index = prefixes != null || maxAge != null ? DataLinkIndex.load(indexPath, id) : null;
+
+        List<String> folders;
+        boolean recursive = true;
+        if (index == null) {
+            index = new DataLinkIndex(id);
+            folders = List.of("");
+        } else if (prefixes != null) {
+            folders = prefixes.stream().map(IndexCmd::toFolder).collect(Collectors.toList());
+        } else {
+            folders = index.staleFolders(System.currentTimeMillis() - maxAge.toMillis());
+            recursive = false;
+        }
+        index.name = dataLink.getName();
+        index.resourceRef = dataLink.getResourceRef();
+
+        DataLinkIndexer indexer = new DataLinkIndexer(new DataLinkTreeWalker(dataLinksApi()), parallel);
+        int listed = indexer.index(index, id, wspId, credId, folders, recursive);
+        index.save(indexPath);
+
+        return new DataLinkIndexResult(dataLink.getResourceRef(), indexPath.toString(), listed, index.getFolderCount(), index.getFileCount(), index.getTotalSize());
+    }
+
+    static String toFolder(String path) {
+        String folder = path;
+        while (folder.endsWith("/")) {
+            folder = folder.substring(0, folder.length() - 1);
+        }
+        while (folder.startsWith("/")) {
+            folder = folder.substring(1);
+        }
+        return folder;
+    }
+}
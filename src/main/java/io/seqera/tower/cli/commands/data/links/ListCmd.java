@@ -21,6 +21,7 @@ import io.seqera.tower.cli.commands.global.PaginationOptions;
 import io.seqera.tower.cli.commands.global.WorkspaceOptionalOptions;
 import io.seqera.tower.cli.responses.Response;
 import io.seqera.tower.cli.responses.data.DataLinksList;
+import io.seqera.tower.cli.utils.DurationConverter;
 import io.seqera.tower.cli.utils.PaginationInfo;
 import io.seqera.tower.cli.utils.data.DataLinkProvider;
 import io.seqera.tower.model.DataLinksListResponse;
@@ -28,6 +29,7 @@ import picocli.CommandLine;
 import picocli.CommandLine.Command;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 
 @Command(
@@ -48,6 +50,9 @@ public class ListCmd extends AbstractDataLinksCmd {
     @CommandLine.Option(names = {"--wait"}, description = "Wait for all data links to be fetched to cache")
     public boolean wait;
 
+    @CommandLine.Option(names = {"--wait-timeout"}, description = "Maximum time to wait with --wait, e.g. 90s or 5m (default: no limit).", converter = DurationConverter.class)
+    public Duration waitTimeout;
+
     @CommandLine.Option(names = {"--visibility"}, description = "Filter by visibility: hidden, visible, or all")
     public Visibility visibilityOption;
 
@@ -66,12 +71,13 @@ public class ListCmd extends AbstractDataLinksCmd {
         String search = buildSearch(searchOption.startsWith, provider, searchOption.region, searchOption.uri);
         String visibility = visibilityOption == null ? null : visibilityOption.toString();
 
-        DataLinkService dataLinkService = new DataLinkService(dataLinksApi(), app());
-        boolean isResultIncomplete = dataLinkService.checkIfResultIncomplete(wspId, credId, wait);
+        // The fetch status of the data links comes with the listing, no need of another request
+        dataLinkService().setWaitTimeout(waitTimeout);
+        DataLinkService.DataLinksFetch fetch = dataLinkService().listDataLinks(wspId, credId, search, max, offset, visibility, wait);
 
-        DataLinksListResponse data = dataLinksApi().listDataLinks(wspId, credId, search, max, offset, visibility);
+        DataLinksListResponse data = fetch.response;
         return new DataLinksList(workspaceRef(wspId), data.getDataLinks(),
-                isResultIncomplete,
+                fetch.incomplete,
                 PaginationInfo.from(offset, max, data.getTotalSize()));
     }
 
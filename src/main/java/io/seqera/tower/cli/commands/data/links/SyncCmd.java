@@ -0,0 +1,213 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.seqera.tower.ApiException;
+import io.seqera.tower.cli.commands.global.WorkspaceOptionalOptions;
+import io.seqera.tower.cli.exceptions.TowerException;
+import io.seqera.tower.cli.exceptions.TowerRuntimeException;
+import io.seqera.tower.cli.responses.Response;
+import io.seqera.tower.cli.responses.data.DataLinkFileTransferResult;
+import io.seqera.tower.cli.responses.data.DataLinkSyncResult;
+import io.seqera.tower.model.DataLinkContentTreeListResponse;
+import io.seqera.tower.model.DataLinkDeleteItemRequest;
+import io.seqera.tower.model.DataLinkDeleteItemResponse;
+import io.seqera.tower.model.DataLinkDto;
+import io.seqera.tower.model.DataLinkSimpleItem;
+import picocli.CommandLine;
+
+@CommandLine.Command(
+        name = "sync",
+        description = "Synchronize a local directory to a data link, uploading only new or changed files"
+)
+public class SyncCmd extends AbstractDataLinksCmd {
+
+    @CommandLine.Mixin
+    public WorkspaceOptionalOptions workspace;
+
+    @CommandLine.Mixin
+    public DataLinkRefOptions dataLinkRefOptions;
+
+    @CommandLine.Mixin
+    public TransferOptions transfer;
+
+    @CommandLine.Option(names = {"-c", "--credentials"}, description = "Credentials identifier", required = true)
+    public String credentialsRef;
+
+    @CommandLine.Option(names = {"--delete"}, description = "Delete files under the remote prefix that do not exist in the local directory")
+    public boolean delete;
+
+    @CommandLine.Option(names = {"--dry-run"}, description = "Show the files that would be uploaded or deleted without transferring anything")
+    public boolean dryRun;
+
+    @CommandLine.Option(names = {"--checksum"}, description = "Compare MD5 checksums of files with the same size, instead of assuming they are unchanged")
+    public boolean checksum;
+
+    @CommandLine.Parameters(index = "0", description = "Local directory to synchronize")
+    public String localDir;
+
+    @CommandLine.Parameters(index = "1", arity = "0..1", description = "Destination prefix within the data link (default: data link root)")
+    public String remotePrefix;
+
+    @Override
+    protected Response exec() throws ApiException, IOException, InterruptedException {
+        Path root = Paths.get(localDir);
+        if (!Files.isDirectory(root)) {
+            throw new TowerException(String.format("Local path '%s' is not a directory", localDir));
+        }
+
+        Long wspId = workspaceId(workspace.workspace);
+        String credId = credentialsByRef(null, wspId, credentialsRef);
+
+        DataLinkDto dataLink = getDataLink(dataLinkRefOptions, wspId, credId);
+        String id = dataLink.getId();
+        String prefix = normalizePrefix(remotePrefix);
+
+        Map<String, Long> localFiles = listLocalFiles(root);
+        Map<String, Long> remoteFiles = listRemoteFiles(id, wspId, credId, prefix);
+
+        DataLinkTransferService transferService = new DataLinkTransferService(dataLinksApi(), app());
+        transferService.setBandwidthLimiter(transfer.maxBandwidth);
+
+        List<DataLinkSyncResult.SyncItem> items = new ArrayList<>();
+        int unchanged = 0;
+        for (Map.Entry<String, Long> local : localFiles.entrySet()) {
+            String relativePath = local.getKey();
+            long size = local.getValue();
+            Long remoteSize = remoteFiles.get(relativePath);
+
+            if (remoteSize == null) {
+                items.add(new DataLinkSyncResult.SyncItem(DataLinkSyncResult.SyncAction.UPLOAD, prefix + relativePath, size));
+            } else if (remoteSize != size || (checksum && !sameChecksum(transferService, root.resolve(relativePath), id, prefix + relativePath, credId, wspId))) {
+                items.add(new DataLinkSyncResult.SyncItem(DataLinkSyncResult.SyncAction.UPDATE, prefix + relativePath, size));
+            } else {
+                unchanged++;
+            }
+        }
+
+        if (delete) {
+            for (Map.Entry<String, Long> remote : remoteFiles.entrySet()) {
+                if (!localFiles.containsKey(remote.getKey())) {
+                    items.add(new DataLinkSyncResult.SyncItem(DataLinkSyncResult.SyncAction.DELETE, prefix + remote.getKey(), remote.getValue()));
+                }
+            }
+        }
+
+        if (!dryRun) {
+            String outputDir = prefix.isEmpty() ? null : prefix.substring(0, prefix.length() - 1);
+
+            List<DataLinkTransferService.Transfer> transfers = items.stream()
+                    .filter(item -> item.action != DataLinkSyncResult.SyncAction.DELETE)
+                    .map(item -> (DataLinkTransferService.Transfer) () -> {
+                        String relativePath = item.path.substring(prefix.length());
+                        File file = root.resolve(relativePath).toFile();
+                        transferService.uploadFile(file, relativePath, id, credId, wspId, dataLink.getProvider(), outputDir);
+                    })
+                    .collect(Collectors.toList());
+            withReport(transferService, transfer.report, DataLinkFileTransferResult.FileTransferDirection.UPLOAD, () -> transferService.transferAll(transfers, transfer.parallel));
+
+            List<String> toDelete = items.stream()
+                    .filter(item -> item.action == DataLinkSyncResult.SyncAction.DELETE)
+                    .map(item -> item.path)
+                    .collect(Collectors.toList());
+            deleteRemoteFiles(id, wspId, credId, toDelete);
+        }
+
+        return new DataLinkSyncResult(localDir, dataLink.getResourceRef() + "/" + prefix, items, unchanged, dryRun);
+    }
+
+    private boolean sameChecksum(DataLinkTransferService transferService, Path file, String id, String path, String credId, Long wspId) throws ApiException, IOException, InterruptedException {
+        String remoteMd5 = transferService.remoteMd5(id, path, credId, wspId);
+        if (remoteMd5 == null) {
+            // The provider does not expose a content hash for this object, fall back to the size comparison
+            return true;
+        }
+        return remoteMd5.equals(DataLinkTransferService.md5(file));
+    }
+
+    private void deleteRemoteFiles(String id, Long wspId, String credId, List<String> paths) throws ApiException {
+        if (paths.isEmpty()) {
+            return;
+        }
+
+        DataLinkDeleteItemRequest request = new DataLinkDeleteItemRequest();
+        request.setFiles(paths);
+
+        DataLinkDeleteItemResponse response = dataLinksApi().removeDataLinkItem(id, request, wspId, credId);
+        if (response != null && response.getDeletionFailures() != null && !response.getDeletionFailures().isEmpty()) {
+            String failed = response.getDeletionFailures().stream()
+                    .map(failure -> String.format("%s (%s)", failure.getDataLinkItem() == null ? "" : failure.getDataLinkItem().getName(), failure.getErrorMessage()))
+                    .collect(Collectors.joining(", "));
+            throw new TowerRuntimeException("Failed to delete remote files: " + failed);
+        }
+    }
+
+    public static String normalizePrefix(String prefix) {
+        if (prefix == null) {
+            return "";
+        }
+        String result = prefix.strip();
+        while (result.startsWith("/")) {
+            result = result.substring(1);
+        }
+        if (!result.isEmpty() && !result.endsWith("/")) {
+            result = result + "/";
+        }
+        return result;
+    }
+
+    private static Map<String, Long> listLocalFiles(Path root) throws IOException {
+        Map<String, Long> files = new TreeMap<>();
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+                String relativePath = root.relativize(path).toString().replace(File.separatorChar, '/');
+                files.put(relativePath, Files.size(path));
+            }
+        }
+        return files;
+    }
+
+    private Map<String, Long> listRemoteFiles(String id, Long wspId, String credId, String prefix) throws ApiException {
+        List<String> paths = prefix.isEmpty() ? List.of() : List.of(prefix);
+        DataLinkContentTreeListResponse response = dataLinksApi().exploreDataLinkTree(id, wspId, credId, paths);
+
+        Map<String, Long> files = new HashMap<>();
+        if (response.getItems() == null) {
+            return files;
+        }
+        for (DataLinkSimpleItem item : response.getItems()) {
+            String path = item.getPath();
+            // skip folder entries which end with '/'
+            if (path == null || path.endsWith("/") || !path.startsWith(prefix)) continue;
+            files.put(path.substring(prefix.length()), item.getSize() == null ? 0L : item.getSize());
+        }
+        return files;
+    }
+}
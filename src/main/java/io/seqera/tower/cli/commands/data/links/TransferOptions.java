@@ -0,0 +1,37 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links;
+
+import java.nio.file.Path;
+
+import io.seqera.tower.cli.utils.progress.BandwidthLimiter;
+import picocli.CommandLine;
+
+/**
+ * Options shared by the commands transferring data link files.
+ */
+public class TransferOptions {
+
+    @CommandLine.Option(names = {"--parallel"}, description = "Maximum number of files transferred concurrently. Large downloads are also split in parts fetched concurrently (default: 4)", defaultValue = "4")
+    public Integer parallel;
+
+    @CommandLine.Option(names = {"--max-bandwidth"}, description = "Maximum bandwidth of all the transfers together, in bytes per second with an optional K, M or G suffix (e.g. 200M). Time windows with their own limit can follow (e.g. 50M,20:00-06:00=500M)", converter = BandwidthLimiter.Converter.class)
+    public BandwidthLimiter maxBandwidth;
+
+    @CommandLine.Option(names = {"--report"}, description = "Write the statistics of every transferred file and its parts to this JSON file, with percentiles of part latency and throughput")
+    public Path report;
+}
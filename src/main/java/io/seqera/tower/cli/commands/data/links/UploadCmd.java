@@ -18,26 +18,20 @@ package io.seqera.tower.cli.commands.data.links;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
 import io.seqera.tower.ApiException;
-import io.seqera.tower.cli.commands.data.links.upload.CloudProviderUploader;
-import io.seqera.tower.cli.commands.enums.OutputType;
+import io.seqera.tower.cli.commands.data.links.checksum.ChecksumAlgorithm;
+import io.seqera.tower.cli.commands.data.links.checksum.ChecksumManifest;
 import io.seqera.tower.cli.commands.global.WorkspaceOptionalOptions;
 import io.seqera.tower.cli.exceptions.TowerRuntimeException;
 import io.seqera.tower.cli.responses.Response;
 import io.seqera.tower.cli.responses.data.DataLinkFileTransferResult;
-import io.seqera.tower.cli.utils.progress.ProgressTracker;
 import io.seqera.tower.model.DataLinkDto;
 import io.seqera.tower.model.DataLinkItemType;
-import io.seqera.tower.model.DataLinkMultiPartUploadRequest;
-import io.seqera.tower.model.DataLinkMultiPartUploadResponse;
 import io.seqera.tower.model.DataLinkProvider;
-import io.seqera.tower.cli.commands.data.links.upload.AwsUploader;
-import io.seqera.tower.cli.commands.data.links.upload.GoogleUploader;
-import io.seqera.tower.cli.commands.data.links.upload.AzureUploader;
 import picocli.CommandLine;
 
 @CommandLine.Command(
@@ -56,15 +50,26 @@ public class UploadCmd extends AbstractDataLinksCmd {
     @CommandLine.Mixin
     public DataLinkRefOptions dataLinkRefOptions;
 
+    @CommandLine.Mixin
+    public TransferOptions transfer;
+
     @CommandLine.Option(names = {"-c", "--credentials"}, description = "Credentials identifier", required = true)
     public String credentialsRef;
 
     @CommandLine.Option(names = {"-o", "--output-dir"}, description = "Destination directory in the data link")
     public String outputDir;
 
+    @CommandLine.Option(names = {"--checksum-algorithm"}, description = "Compute a checksum of every file while transferring it, sent to the storage to verify it when supported (MD5, CRC32C or SHA256)")
+    public ChecksumAlgorithm checksumAlgorithm;
+
+    @CommandLine.Option(names = {"--manifest"}, description = "Record the checksum of every transferred file in this file, using the md5sum/sha256sum format with paths relative to its folder (requires --checksum-algorithm)")
+    public Path manifest;
+
     @CommandLine.Parameters(arity = "1..*", description = "Paths to files or directories to upload")
     private List<String> paths;
 
+    private DataLinkTransferService transferService;
+
     @Override
     protected Response exec() throws ApiException, IOException, InterruptedException {
         checkFilesValidForUpload();
@@ -78,33 +83,42 @@ public class UploadCmd extends AbstractDataLinksCmd {
 
         List<DataLinkFileTransferResult.SimplePathInfo> pathInfo = new ArrayList<>();
 
-        for (String path : paths) {
-            File file = new File(path);
-            if (file.isDirectory()) {
-                String basePrefix = file.getName() + "/";
-                int fileCount = uploadDirectory(file, file, basePrefix, id, credId, wspId, provider);
-                pathInfo.add(new DataLinkFileTransferResult.SimplePathInfo(DataLinkItemType.FOLDER, path, fileCount));
-            } else {
-                uploadFile(file, file.getName(), id, credId, wspId, provider);
-                pathInfo.add(new DataLinkFileTransferResult.SimplePathInfo(DataLinkItemType.FILE, path, 1));
-            }
+        transferService = new DataLinkTransferService(dataLinksApi(), app());
+        transferService.setBandwidthLimiter(transfer.maxBandwidth);
+        try (ChecksumManifest checksumManifest = openManifest(manifest, checksumAlgorithm)) {
+            transferService.setChecksum(checksumAlgorithm, checksumManifest);
+
+            // Files are uploaded while the directories are still being walked
+            withReport(transferService, transfer.report, DataLinkFileTransferResult.FileTransferDirection.UPLOAD, () -> transferService.transferStream(sink -> {
+                for (String path : paths) {
+                    File file = new File(path);
+                    if (file.isDirectory()) {
+                        String basePrefix = file.getName() + "/";
+                        int fileCount = uploadDirectory(file, file, basePrefix, id, credId, wspId, provider, sink);
+                        pathInfo.add(new DataLinkFileTransferResult.SimplePathInfo(DataLinkItemType.FOLDER, path, fileCount));
+                    } else {
+                        sink.submit(() -> uploadFile(file, file.getName(), id, credId, wspId, provider));
+                        pathInfo.add(new DataLinkFileTransferResult.SimplePathInfo(DataLinkItemType.FILE, path, 1));
+                    }
+                }
+            }, transfer.parallel));
         }
 
         return DataLinkFileTransferResult.uploaded(pathInfo);
     }
 
-    private int uploadDirectory(File baseDir, File currentDir, String basePrefix, String id, String credId, Long wspId, DataLinkProvider provider) throws ApiException, IOException, InterruptedException {
+    private int uploadDirectory(File baseDir, File currentDir, String basePrefix, String id, String credId, Long wspId, DataLinkProvider provider, DataLinkTransferService.TransferSink sink) throws InterruptedException {
         File[] files = currentDir.listFiles();
         if (files == null) return 0;
 
         int totalFiles = 0;
         for (File file : files) {
             if (file.isDirectory()) {
-                totalFiles += uploadDirectory(baseDir, file, basePrefix, id, credId, wspId, provider);
+                totalFiles += uploadDirectory(baseDir, file, basePrefix, id, credId, wspId, provider, sink);
             } else {
                 String relativePath = baseDir.toPath().relativize(file.toPath()).toString();
                 String fullKey = basePrefix + relativePath;
-                uploadFile(file, fullKey, id, credId, wspId, provider);
+                sink.submit(() -> uploadFile(file, fullKey, id, credId, wspId, provider));
                 totalFiles++;
             }
         }
@@ -112,54 +126,7 @@ public class UploadCmd extends AbstractDataLinksCmd {
     }
 
     private void uploadFile(File file, String relativeKey, String id, String credId, Long wspId, DataLinkProvider provider) throws ApiException, IOException {
-        if (!file.exists()) {
-            throw new IOException("File not found: " + file.getPath());
-        }
-
-        String mimeType = Files.probeContentType(file.toPath()); // Detect MIME type
-        if (mimeType == null) {
-            mimeType = "application/octet-stream";
-        }
-        long contentLength = file.length();
-
-        boolean showProgress = app().output != OutputType.json;
-        if (showProgress) {
-            app().getOut().println("Uploading file: " + file.getPath());
-        }
-
-        // Get upload URL
-        DataLinkMultiPartUploadRequest uploadRequest = new DataLinkMultiPartUploadRequest();
-        uploadRequest.setFileName(relativeKey);
-        uploadRequest.setContentLength(contentLength);
-        uploadRequest.setContentType(mimeType);
-
-        DataLinkMultiPartUploadResponse urlResponse;
-        if (outputDir != null) {
-            urlResponse = dataLinksApi().generateDataLinkUploadUrlWithPath(id, outputDir, uploadRequest, credId, wspId, null);
-        } else {
-            urlResponse = dataLinksApi().generateDataLinkUploadUrl(id, uploadRequest, credId, wspId, null);
-        }
-
-        ProgressTracker tracker = new ProgressTracker(app().getOut(), showProgress, contentLength);
-
-        CloudProviderUploader uploader = createUploadStrategy(provider, id, credId, wspId, outputDir, relativeKey);
-        uploader.uploadFile(file, urlResponse, tracker);
-    }
-
-    private CloudProviderUploader createUploadStrategy(DataLinkProvider provider, String id, String credId, Long wspId, String outputDir, String relativeKey) throws ApiException {
-        switch (provider) {
-            case AWS:
-                return new AwsUploader(id, credId, wspId, outputDir, relativeKey, dataLinksApi());
-            case GOOGLE:
-                return new GoogleUploader();
-            case AZURE:
-                return new AzureUploader();
-            case SEQERACOMPUTE:
-                // Seqera Compute uses S3-compatible uploads, same as AWS
-                return new AwsUploader(id, credId, wspId, outputDir, relativeKey, dataLinksApi());
-            default:
-                throw new TowerRuntimeException("Unsupported data-link provider: " + provider);
-        }
+        transferService.uploadFile(file, relativeKey, id, credId, wspId, provider, outputDir);
     }
 
     private void checkFilesValidForUpload() {
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links.checksum;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Records the checksums of the transferred files using the format of {@code md5sum} and
+ * {@code sha256sum}, one {@code <checksum>  <path>} line per file, so it can be checked
+ * later with those tools.
+ * <p>
+ * Local files are recorded relative to the folder of the manifest, so it can be checked
+ * from there, and objects copied between data links with their path in the source one.
+ */
+public class ChecksumManifest implements Closeable {
+
+    private final BufferedWriter writer;
+    private final Path base;
+
+    public ChecksumManifest(Path path) throws IOException {
+        this.writer = Files.newBufferedWriter(path);
+        this.base = path.toAbsolutePath().normalize().getParent();
+    }
+
+    public void record(String checksum, Path file) throws IOException {
+        Path absolute = file.toAbsolutePath().normalize();
+        String path;
+        try {
+            path = base != null ? base.relativize(absolute).toString() : absolute.toString();
+        } catch (IllegalArgumentException e) {
+            // Another root, e.g. another drive
+            path = absolute.toString();
+        }
+        record(checksum, path.replace(File.separatorChar, '/'));
+    }
+
+    public synchronized void record(String checksum, String path) throws IOException {
+        writer.write(checksum);
+        writer.write("  ");
+        writer.write(path);
+        writer.newLine();
+        writer.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
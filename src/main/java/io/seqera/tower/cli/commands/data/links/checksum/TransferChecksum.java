@@ -0,0 +1,297 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links.checksum;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32C;
+
+/**
+ * Checksum of a transferred object computed while its bytes go through the transfer. Bytes
+ * are hashed in order: the ones received at an offset beyond the bytes hashed so far are
+ * skipped, and can be hashed later from the written file with {@link #catchUp(Path, long)}.
+ * <p>
+ * A CRC32C can be combined from the CRC32C of consecutive ranges, so the parts of a parallel
+ * download are hashed on their own as they arrive with {@link #part(long)} and combined once
+ * the bytes before them are hashed. MD5 and SHA-256 cannot be combined, the parts received
+ * out of order are read back from the written file instead.
+ */
+public class TransferChecksum {
+
+    /** CRC32C polynomial, reversed */
+    private static final long CRC32C_POLY = 0x82F63B78L;
+
+    private final ChecksumAlgorithm algorithm;
+    private final MessageDigest digest;
+    private final CRC32C crc;
+    private long position = 0;
+    private byte[] value;
+
+    /** CRC32C of the bytes before {@link #crcStart}, the running {@link #crc} hashes the ones after it */
+    private long crcValue = 0;
+    private long crcStart = 0;
+
+    /** Length and CRC32C of the parts hashed on their own, by offset, until the bytes before them are hashed */
+    private final TreeMap<Long, long[]> parts = new TreeMap<>();
+
+    public TransferChecksum(ChecksumAlgorithm algorithm) {
+        this.algorithm = algorithm;
+        this.crc = algorithm == ChecksumAlgorithm.CRC32C ? new CRC32C() : null;
+        this.digest = algorithm == ChecksumAlgorithm.CRC32C ? null : messageDigest(algorithm);
+    }
+
+    public ChecksumAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Number of bytes hashed so far.
+     */
+    public synchronized long getPosition() {
+        return position;
+    }
+
+    /**
+     * Hash the bytes of the object found at {@code offset}, ignoring the ones already hashed.
+     *
+     * @return {@code false} if there is a gap between the bytes hashed so far and the given ones
+     */
+    public synchronized boolean update(long offset, byte[] b, int off, int len) {
+        if (offset > position) {
+            return false;
+        }
+
+        int skip = (int) Math.min(len, position - offset);
+        if (skip < len) {
+            if (crc != null) {
+                crc.update(b, off + skip, len - skip);
+            } else {
+                digest.update(b, off + skip, len - skip);
+            }
+            position += len - skip;
+            merge();
+        }
+        return true;
+    }
+
+    /**
+     * Hasher of the bytes of the object received from {@code start}, e.g. a part of a parallel
+     * download. Its bytes are hashed on their own when the checksum can be combined, and in
+     * order like {@link #update} otherwise.
+     */
+    public Part part(long start) {
+        return new Part(start, crc != null && start > 0 ? new CRC32C() : null);
+    }
+
+    /**
+     * Hash the bytes of the written file that were not hashed while transferring them,
+     * e.g. the ones stored by a previous attempt of a resumed download.
+     */
+    public synchronized void catchUp(Path file, long size) throws IOException {
+        merge();
+        if (position >= size) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(1024 * 1024);
+            while (position < size) {
+                // Read only up to the next part already hashed
+                Long next = parts.ceilingKey(position);
+                long end = next == null ? size : Math.min(next, size);
+                buffer.clear().limit((int) Math.min(buffer.capacity(), end - position));
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    break;
+                }
+                update(position, buffer.array(), 0, read);
+            }
+        }
+    }
+
+    public synchronized byte[] value() {
+        if (value == null) {
+            value = crc != null
+                    ? ByteBuffer.allocate(4).putInt((int) crcValue()).array()
+                    : digest.digest();
+        }
+        return value;
+    }
+
+    public String toHex() {
+        return toHex(value());
+    }
+
+    public String toBase64() {
+        return Base64.getEncoder().encodeToString(value());
+    }
+
+    public static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * MD5 of a buffer encoded as expected by the {@code Content-MD5} header.
+     */
+    public static String contentMd5(byte[] data) {
+        return Base64.getEncoder().encodeToString(messageDigest(ChecksumAlgorithm.MD5).digest(data));
+    }
+
+    private synchronized void add(long start, long length, long partCrc) {
+        if (start + length > position) {
+            parts.put(start, new long[]{length, partCrc});
+            merge();
+        }
+    }
+
+    /**
+     * Combine the parts that start where the bytes hashed so far end.
+     */
+    private void merge() {
+        if (parts.isEmpty()) {
+            return;
+        }
+        // Parts overlapping the bytes already hashed cannot be combined, their bytes are hashed in order
+        parts.headMap(position).clear();
+
+        Map.Entry<Long, long[]> next;
+        while ((next = parts.firstEntry()) != null && next.getKey() == position) {
+            parts.remove(position);
+            crcValue = combine(crcValue(), next.getValue()[1], next.getValue()[0]);
+            position += next.getValue()[0];
+            crc.reset();
+            crcStart = position;
+        }
+    }
+
+    private long crcValue() {
+        return combine(crcValue, crc.getValue(), position - crcStart);
+    }
+
+    /**
+     * CRC32C of the concatenation of two byte ranges given their CRC32C, like zlib {@code crc32_combine}:
+     * the first CRC is shifted over as many zero bits as the second range length, using
+     * powers of the matrix of the CRC of a zero bit.
+     */
+    static long combine(long crc1, long crc2, long len2) {
+        if (len2 <= 0) {
+            return crc1;
+        }
+
+        long[] even = new long[32];
+        long[] odd = new long[32];
+
+        // Operator of one zero bit
+        odd[0] = CRC32C_POLY;
+        long row = 1;
+        for (int n = 1; n < 32; n++) {
+            odd[n] = row;
+            row <<= 1;
+        }
+        // Two zero bits, then four
+        square(even, odd);
+        square(odd, even);
+
+        // Apply the operator of len2 zero bytes, the first square gives the one of a byte
+        do {
+            square(even, odd);
+            if ((len2 & 1) != 0) {
+                crc1 = times(even, crc1);
+            }
+            len2 >>= 1;
+            if (len2 == 0) {
+                break;
+            }
+            square(odd, even);
+            if ((len2 & 1) != 0) {
+                crc1 = times(odd, crc1);
+            }
+            len2 >>= 1;
+        } while (len2 != 0);
+
+        return crc1 ^ crc2;
+    }
+
+    private static long times(long[] matrix, long vector) {
+        long sum = 0;
+        for (int i = 0; vector != 0; i++, vector >>>= 1) {
+            if ((vector & 1) != 0) {
+                sum ^= matrix[i];
+            }
+        }
+        return sum;
+    }
+
+    private static void square(long[] square, long[] matrix) {
+        for (int n = 0; n < 32; n++) {
+            square[n] = times(matrix, matrix[n]);
+        }
+    }
+
+    private static MessageDigest messageDigest(ChecksumAlgorithm algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm == ChecksumAlgorithm.SHA256 ? "SHA-256" : algorithm.name());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Bytes of the object received from an offset, see {@link #part(long)}.
+     */
+    public class Part {
+
+        private final long start;
+        private final CRC32C partCrc;
+        private long length;
+
+        private Part(long start, CRC32C partCrc) {
+            this.start = start;
+            this.partCrc = partCrc;
+        }
+
+        public void update(byte[] b, int off, int len) {
+            if (partCrc != null) {
+                partCrc.update(b, off, len);
+            } else {
+                TransferChecksum.this.update(start + length, b, off, len);
+            }
+            length += len;
+        }
+
+        /**
+         * All the bytes of the part were received, so its CRC32C can be combined.
+         */
+        public void complete() {
+            if (partCrc != null) {
+                add(start, length, partCrc.getValue());
+            }
+        }
+    }
+}
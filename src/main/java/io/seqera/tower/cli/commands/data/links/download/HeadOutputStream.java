@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links.download;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Forwards the written bytes until a number of bytes or lines has been written,
+ * discarding the rest. A negative limit means no limit.
+ */
+public class HeadOutputStream extends FilterOutputStream {
+
+    private long remainingBytes;
+    private long remainingLines;
+
+    public HeadOutputStream(OutputStream out, long maxBytes, long maxLines) {
+        super(out);
+        this.remainingBytes = maxBytes;
+        this.remainingLines = maxLines;
+    }
+
+    /**
+     * Whether the limit has been reached and further bytes will be discarded.
+     */
+    public boolean isFull() {
+        return remainingBytes == 0 || remainingLines == 0;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (isFull()) {
+            return;
+        }
+
+        int count = remainingBytes < 0 ? len : (int) Math.min(len, remainingBytes);
+        if (remainingLines >= 0) {
+            for (int i = 0; i < count; i++) {
+                if (b[off + i] == '\n' && --remainingLines == 0) {
+                    count = i + 1;
+                    break;
+                }
+            }
+        }
+
+        out.write(b, off, count);
+        if (remainingBytes > 0) {
+            remainingBytes -= count;
+        }
+    }
+}
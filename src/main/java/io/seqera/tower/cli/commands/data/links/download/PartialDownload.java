@@ -0,0 +1,228 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links.download;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import static io.seqera.tower.cli.utils.JsonHelper.parseJson;
+import static io.seqera.tower.cli.utils.JsonHelper.prettyJson;
+
+/**
+ * Tracks a download in progress. Bytes are written to a {@code <target>.part} file and the
+ * byte ranges already stored are recorded in a {@code <target>.part.json} sidecar, so a
+ * failed download can be resumed requesting only the missing ranges.
+ */
+public class PartialDownload {
+
+    public static final String PART_SUFFIX = ".part";
+    public static final String STATE_SUFFIX = ".part.json";
+
+    /** Identifies the remote object: data link id and path (download URLs are presigned and change every time) */
+    public String source;
+
+    /** ETag of the remote object when the download started */
+    public String etag;
+
+    /** Total size of the remote object, -1 if unknown */
+    public long size = -1;
+
+    /** Byte ranges already written to the part file, sorted and merged */
+    public List<Range> completed = new ArrayList<>();
+
+    @JsonIgnore
+    private Path target;
+
+    public PartialDownload() {
+    }
+
+    /**
+     * Load the state of a previous attempt to download {@code source} into {@code target},
+     * or start a new one if there is none or it belongs to another remote object.
+     */
+    public static PartialDownload open(Path target, String source) throws IOException {
+        Path statePath = statePath(target);
+        Path partPath = partPath(target);
+
+        PartialDownload state = null;
+        if (Files.exists(statePath) && Files.exists(partPath)) {
+            try {
+                state = parseJson(Files.readString(statePath), PartialDownload.class);
+            } catch (JsonProcessingException e) {
+                // Corrupted state, start over
+                state = null;
+            }
+        }
+
+        if (state == null || !Objects.equals(source, state.source)) {
+            state = new PartialDownload();
+            state.source = source;
+        }
+
+        state.target = target;
+        return state;
+    }
+
+    public static Path partPath(Path target) {
+        return target.resolveSibling(target.getFileName() + PART_SUFFIX);
+    }
+
+    public static Path statePath(Path target) {
+        return target.resolveSibling(target.getFileName() + STATE_SUFFIX);
+    }
+
+    @JsonIgnore
+    public Path getPartPath() {
+        return partPath(target);
+    }
+
+    /**
+     * Whether the stored ranges belong to the same version of the remote object.
+     */
+    public boolean matches(String etag, long size) {
+        return this.size == size && Objects.equals(this.etag, etag);
+    }
+
+    /**
+     * Forget the stored ranges, the remote object changed or it is a new download.
+     */
+    public synchronized void reset(String etag, long size) throws IOException {
+        this.etag = etag;
+        this.size = size;
+        this.completed = new ArrayList<>();
+        save();
+    }
+
+    /**
+     * Record the inclusive byte range {@code [start, end]} as stored in the part file.
+     */
+    public synchronized void complete(long start, long end) throws IOException {
+        completed.add(new Range(start, end));
+        completed.sort(Comparator.comparingLong(r -> r.start));
+
+        List<Range> merged = new ArrayList<>();
+        for (Range range : completed) {
+            Range last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && range.start <= last.end + 1) {
+                last.end = Math.max(last.end, range.end);
+            } else {
+                merged.add(new Range(range.start, range.end));
+            }
+        }
+        completed = merged;
+        save();
+    }
+
+    @JsonIgnore
+    public synchronized long getCompletedBytes() {
+        return completed.stream().mapToLong(r -> r.end - r.start + 1).sum();
+    }
+
+    @JsonIgnore
+    public synchronized boolean isComplete() {
+        return size >= 0 && getCompletedBytes() == size;
+    }
+
+    /**
+     * Ranges not stored yet, split in parts of at most {@code partSize} bytes. When the size of
+     * the object is still unknown it returns the first part of the object.
+     */
+    public synchronized List<Range> missing(long partSize) {
+        List<Range> result = new ArrayList<>();
+        if (size < 0) {
+            result.add(new Range(0, partSize - 1));
+            return result;
+        }
+
+        long next = 0;
+        for (Range range : completed) {
+            addParts(result, next, range.start - 1, partSize);
+            next = range.end + 1;
+        }
+        addParts(result, next, size - 1, partSize);
+        return result;
+    }
+
+    private static void addParts(List<Range> result, long start, long end, long partSize) {
+        for (long s = start; s <= end; s += partSize) {
+            result.add(new Range(s, Math.min(s + partSize - 1, end)));
+        }
+    }
+
+    /**
+     * Move the complete part file to the target path and remove the download state.
+     */
+    public void finish() throws IOException {
+        Path partPath = getPartPath();
+        if (!isComplete() || Files.size(partPath) != size) {
+            throw new IOException(String.format("Incomplete download of '%s': %d of %d bytes", source, Files.size(partPath), size));
+        }
+
+        try {
+            Files.move(partPath, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(partPath, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.deleteIfExists(statePath(target));
+    }
+
+    /**
+     * Remove the part file and the download state.
+     */
+    public void discard() throws IOException {
+        Files.deleteIfExists(getPartPath());
+        Files.deleteIfExists(statePath(target));
+        etag = null;
+        size = -1;
+        completed = new ArrayList<>();
+    }
+
+    private void save() throws IOException {
+        Path statePath = statePath(target);
+        Path tmpPath = statePath.resolveSibling(statePath.getFileName() + ".tmp");
+        Files.writeString(tmpPath, prettyJson(this));
+        try {
+            Files.move(tmpPath, statePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmpPath, statePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public static class Range {
+
+        public long start;
+        public long end;
+
+        public Range() {
+        }
+
+        public Range(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
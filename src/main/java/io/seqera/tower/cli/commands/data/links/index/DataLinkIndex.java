@@ -0,0 +1,258 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links.index;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Local copy of the tree of a data link: the size of every file and the time every folder was
+ * last listed, so folders can be browsed and searched without requests to Platform and only
+ * the stale ones are listed again on refresh.
+ * <p>
+ * It is stored as gzipped lines sorted by path: {@code D <listed millis> <folder>} for folders
+ * and {@code F <size> <path>} for files, after a few {@code @<key> <value>} header lines.
+ * Folder paths have no trailing slash and the root folder is the empty path.
+ */
+public class DataLinkIndex {
+
+    static final String HEADER = "#tw-data-link-index 1";
+
+    public final String dataLinkId;
+    public String name;
+    public String resourceRef;
+
+    private final NavigableMap<String, Long> files = new TreeMap<>();
+    private final NavigableMap<String, Long> folders = new TreeMap<>();
+
+    public DataLinkIndex(String dataLinkId) {
+        this.dataLinkId = dataLinkId;
+    }
+
+    /**
+     * Location of the index of a data link, under the folder of the local files.
+     */
+    public static Path path(Path localDir, Long wspId, String dataLinkId) {
+        return localDir.resolve("data-links").resolve(wspId == null ? "user" : wspId.toString()).resolve(dataLinkId + ".idx.gz");
+    }
+
+    /**
+     * Load an index, {@code null} if it does not exist.
+     */
+    public static DataLinkIndex load(Path path, String dataLinkId) throws IOException {
+        if (!Files.exists(path)) {
+            return null;
+        }
+
+        DataLinkIndex index = new DataLinkIndex(dataLinkId);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(path)), StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            if (!HEADER.equals(line)) {
+                throw new IOException("Invalid data link index: " + path);
+            }
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("@name ")) {
+                    index.name = line.substring(6);
+                } else if (line.startsWith("@resourceRef ")) {
+                    index.resourceRef = line.substring(13);
+                } else if (line.startsWith("D ") || line.startsWith("F ")) {
+                    int space = line.indexOf(' ', 2);
+                    long value = Long.parseLong(line.substring(2, space));
+                    String entry = line.substring(space + 1);
+                    (line.charAt(0) == 'D' ? index.folders : index.files).put(entry, value);
+                }
+            }
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            throw new IOException("Invalid data link index: " + path, e);
+        }
+        return index;
+    }
+
+    public synchronized void save(Path path) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Path tmpPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(tmpPath)), StandardCharsets.UTF_8))) {
+            writer.write(HEADER);
+            writer.newLine();
+            if (name != null) {
+                writer.write("@name " + name);
+                writer.newLine();
+            }
+            if (resourceRef != null) {
+                writer.write("@resourceRef " + resourceRef);
+                writer.newLine();
+            }
+            for (Map.Entry<String, Long> folder : folders.entrySet()) {
+                writer.write("D " + folder.getValue() + " " + folder.getKey());
+                writer.newLine();
+            }
+            for (Map.Entry<String, Long> file : files.entrySet()) {
+                writer.write("F " + file.getValue() + " " + file.getKey());
+                writer.newLine();
+            }
+        }
+        try {
+            Files.move(tmpPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmpPath, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public synchronized boolean hasFolder(String folder) {
+        return folders.containsKey(folder);
+    }
+
+    /**
+     * Replace the children of a folder with the ones just listed. Files no longer listed are
+     * removed, as well as the folders no longer listed with everything under them.
+     */
+    public synchronized void update(String folder, Map<String, Long> listedFiles, Collection<String> listedFolders, long listedMillis) {
+        for (String file : new ArrayList<>(childKeys(files, folder))) {
+            if (!listedFiles.containsKey(file)) {
+                files.remove(file);
+            }
+        }
+        for (String child : new ArrayList<>(childKeys(folders, folder))) {
+            if (!listedFolders.contains(child)) {
+                removeTree(child);
+            }
+        }
+        files.putAll(listedFiles);
+        folders.put(folder, listedMillis);
+    }
+
+    private void removeTree(String folder) {
+        folders.remove(folder);
+        String prefix = folder + "/";
+        folders.subMap(prefix, true, prefix + Character.MAX_VALUE, true).clear();
+        files.subMap(prefix, true, prefix + Character.MAX_VALUE, true).clear();
+    }
+
+    /**
+     * Folders listed before the given time.
+     */
+    public synchronized List<String> staleFolders(long listedBeforeMillis) {
+        List<String> result = new ArrayList<>();
+        folders.forEach((folder, listed) -> {
+            if (listed < listedBeforeMillis) {
+                result.add(folder);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Direct children of a folder, folders first.
+     */
+    public synchronized List<Entry> children(String folder) {
+        List<Entry> result = new ArrayList<>();
+        for (String child : childKeys(folders, folder)) {
+            result.add(new Entry(child, true, 0));
+        }
+        for (String child : childKeys(files, folder)) {
+            result.add(new Entry(child, false, files.get(child)));
+        }
+        return result;
+    }
+
+    /**
+     * Files under a folder, sorted by path.
+     */
+    public synchronized List<Entry> files(String folder) {
+        NavigableMap<String, Long> under = folder.isEmpty() ? files : files.subMap(folder + "/", true, folder + "/" + Character.MAX_VALUE, true);
+        List<Entry> result = new ArrayList<>();
+        under.forEach((path, size) -> result.add(new Entry(path, false, size)));
+        return result;
+    }
+
+    /**
+     * Files under a folder matching a glob pattern. Patterns without a slash match the file
+     * name, like {@code find -name}, and the others the whole path.
+     */
+    public List<Entry> find(String folder, String pattern) {
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+        boolean matchName = !pattern.contains("/");
+
+        List<Entry> result = new ArrayList<>();
+        for (Entry entry : files(folder)) {
+            Path path = Paths.get(entry.path);
+            if (matcher.matches(matchName ? path.getFileName() : path)) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    public synchronized int getFileCount() {
+        return files.size();
+    }
+
+    public synchronized int getFolderCount() {
+        return folders.size();
+    }
+
+    public synchronized long getTotalSize() {
+        return files.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static List<String> childKeys(NavigableMap<String, ?> map, String folder) {
+        String prefix = folder.isEmpty() ? "" : folder + "/";
+        List<String> result = new ArrayList<>();
+        for (String key : map.subMap(prefix, false, prefix + Character.MAX_VALUE, true).keySet()) {
+            if (!key.isEmpty() && key.indexOf('/', prefix.length()) < 0) {
+                result.add(key);
+            }
+        }
+        return result;
+    }
+
+    public static class Entry {
+
+        public final String path;
+        public final boolean folder;
+        public final long size;
+
+        public Entry(String path, boolean folder, long size) {
+            this.path = path;
+            this.folder = folder;
+            this.size = size;
+        }
+
+        public String getName() {
+            return path.substring(path.lastIndexOf('/') + 1);
+        }
+    }
+}
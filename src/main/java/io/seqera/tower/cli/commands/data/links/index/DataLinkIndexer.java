@@ -0,0 +1,149 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links.index;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.seqera.tower.ApiException;
+import io.seqera.tower.cli.commands.data.links.DataLinkTreeWalker;
+import io.seqera.tower.cli.exceptions.TowerRuntimeException;
+
+/**
+ * Lists the folders of a data link into its index, expanding sub-folders concurrently as soon
+ * as they are found instead of one level at a time.
+ */
+public class DataLinkIndexer {
+
+    private final DataLinkTreeWalker walker;
+    private final int parallel;
+
+    public DataLinkIndexer(DataLinkTreeWalker walker, int parallel) {
+        this.walker = walker;
+        this.parallel = parallel;
+    }
+
+    /**
+     * List the given folders and update the index. Sub-folders are listed too when they are
+     * not in the index yet, or always when {@code recursive} is set.
+     *
+     * @return number of folders listed
+     */
+    public int index(DataLinkIndex index, String id, Long wspId, String credId, Collection<String> folders, boolean recursive) throws ApiException, IOException, InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(parallel);
+        // Folders submitted and not listed yet, plus one held until the given folders are submitted
+        AtomicInteger pending = new AtomicInteger(1);
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicInteger listed = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Listing listing = new Listing() {
+            @Override
+            public void submit(String folder) {
+                pending.incrementAndGet();
+                executor.submit(() -> {
+                    try {
+                        if (failure.get() == null) {
+                            list(folder);
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        arrive();
+                    }
+                });
+            }
+
+            @Override
+            public void arrive() {
+                if (pending.decrementAndGet() == 0) {
+                    done.countDown();
+                }
+            }
+
+            private void list(String folder) throws ApiException, IOException, InterruptedException {
+                long listedMillis = System.currentTimeMillis();
+                Map<String, Long> files = new HashMap<>();
+                List<String> subFolders = new ArrayList<>();
+                walker.list(id, folder, wspId, credId, new DataLinkTreeWalker.FolderVisitor() {
+                    @Override
+                    public void visitFile(String path, long size) {
+                        files.put(path, size);
+                    }
+
+                    @Override
+                    public void visitFolder(String path) {
+                        subFolders.add(path);
+                    }
+                });
+
+                // Decide before the update, which adds nothing for sub-folders
+                List<String> expand = new ArrayList<>();
+                for (String subFolder : subFolders) {
+                    if (recursive || !index.hasFolder(subFolder)) {
+                        expand.add(subFolder);
+                    }
+                }
+
+                index.update(folder, files, subFolders, listedMillis);
+                listed.incrementAndGet();
+                expand.forEach(this::submit);
+            }
+        };
+
+        try {
+            folders.forEach(listing::submit);
+            listing.arrive();
+            done.await();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Throwable error = failure.get();
+        if (error instanceof ApiException) {
+            throw (ApiException) error;
+        }
+        if (error instanceof IOException) {
+            throw (IOException) error;
+        }
+        if (error instanceof InterruptedException) {
+            throw (InterruptedException) error;
+        }
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        }
+        if (error != null) {
+            throw new TowerRuntimeException("Failed to index data link: " + error.getMessage(), error);
+        }
+        return listed.get();
+    }
+
+    private interface Listing {
+        void submit(String folder);
+
+        void arrive();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links.report;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Transfer of a single object, recorded by the concurrent transfers of its parts.
+ */
+public class ObjectStats {
+
+    public String path;
+
+    /** Bytes transferred, without the ones stored by a previous attempt */
+    public long bytes;
+    public long resumedBytes;
+    public long durationMillis;
+    public double throughput;
+    public int partCount;
+    public int retries;
+    public String checksumAlgorithm;
+    public String checksum;
+    public String error;
+
+    public List<PartStats> parts = new ArrayList<>();
+
+    @JsonIgnore
+    private final long startNanos = System.nanoTime();
+
+    public ObjectStats(String path) {
+        this.path = path;
+    }
+
+    /**
+     * Record a part of {@code bytes} bytes at the given offset, transferred in {@code nanos}.
+     */
+    public synchronized void part(long offset, long bytes, long nanos) {
+        parts.add(new PartStats(offset, bytes, nanos));
+        this.bytes += bytes;
+    }
+
+    /**
+     * Record a request sent again, e.g. a chunk not fully received by the storage.
+     */
+    public synchronized void retry() {
+        retries++;
+    }
+
+    public synchronized void resumed(long bytes) {
+        this.resumedBytes = bytes;
+    }
+
+    public synchronized void checksum(String algorithm, String value) {
+        this.checksumAlgorithm = algorithm;
+        this.checksum = value;
+    }
+
+    /**
+     * Stop recording the transfer, with the error that made it fail if any.
+     */
+    public synchronized void finish(Throwable failure) {
+        durationMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        throughput = durationMillis > 0 ? bytes * 1000D / durationMillis : 0;
+        if (failure != null) {
+            error = failure.getMessage() != null ? failure.getMessage() : failure.getClass().getSimpleName();
+        }
+
+        // Parts finish in any order when transferred concurrently
+        parts.sort(Comparator.comparingLong(p -> p.offset));
+        for (int i = 0; i < parts.size(); i++) {
+            parts.get(i).number = i + 1;
+        }
+        partCount = parts.size();
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links.report;
+
+/**
+ * Transfer of a part of an object, a single HTTP request.
+ */
+public class PartStats {
+
+    public int number;
+    public long offset;
+    public long bytes;
+    public long latencyMillis;
+    public double throughput;
+
+    public PartStats(long offset, long bytes, long nanos) {
+        this.offset = offset;
+        this.bytes = bytes;
+        this.latencyMillis = nanos / 1_000_000;
+        this.throughput = nanos > 0 ? bytes * 1_000_000_000D / nanos : 0;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links.report;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Distribution of a measure, using the nearest-rank method.
+ */
+public class Percentiles {
+
+    public int count;
+    public double min;
+    public double p50;
+    public double p90;
+    public double p99;
+    public double max;
+    public double mean;
+
+    /**
+     * Distribution of the given values, {@code null} if there are none.
+     */
+    public static Percentiles of(List<Double> values) {
+        if (values.isEmpty()) {
+            return null;
+        }
+
+        List<Double> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+
+        Percentiles result = new Percentiles();
+        result.count = sorted.size();
+        result.min = sorted.get(0);
+        result.max = sorted.get(sorted.size() - 1);
+        result.p50 = rank(sorted, 50);
+        result.p90 = rank(sorted, 90);
+        result.p99 = rank(sorted, 99);
+        result.mean = sorted.stream().mapToDouble(Double::doubleValue).average().orElse(0);
+        return result;
+    }
+
+    static double rank(List<Double> sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100D * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+}
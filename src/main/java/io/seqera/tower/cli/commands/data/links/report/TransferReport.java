@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links.report;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.seqera.tower.cli.responses.data.DataLinkFileTransferResult.FileTransferDirection;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.seqera.tower.cli.utils.JsonHelper.prettyJson;
+
+/**
+ * Statistics of every object transferred by a command and their parts, written as JSON with
+ * {@code --report} to tune the concurrency and part sizes or spot slow storage regions.
+ * Throughputs are in bytes per second.
+ */
+public class TransferReport {
+
+    public FileTransferDirection direction;
+    public String startTime;
+    public long durationMillis;
+    public long totalBytes;
+    public double throughput;
+    public int objectCount;
+    public int failedCount;
+    public int retries;
+
+    public Percentiles objectThroughput;
+    public Percentiles partLatencyMillis;
+    public Percentiles partThroughput;
+
+    public List<ObjectStats> objects = new ArrayList<>();
+
+    @JsonIgnore
+    private final long startNanos = System.nanoTime();
+
+    public TransferReport(FileTransferDirection direction) {
+        this.direction = direction;
+        this.startTime = Instant.now().toString();
+    }
+
+    /**
+     * Start recording the transfer of an object.
+     */
+    public synchronized ObjectStats start(String path) {
+        ObjectStats stats = new ObjectStats(path);
+        objects.add(stats);
+        return stats;
+    }
+
+    /**
+     * Compute the aggregate statistics and write the report, including the objects still in
+     * progress when the command failed.
+     */
+    public synchronized void write(Path path) throws IOException {
+        summarize();
+        Files.writeString(path, prettyJson(this));
+    }
+
+    synchronized void summarize() {
+        durationMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        objectCount = objects.size();
+        totalBytes = objects.stream().mapToLong(o -> o.bytes).sum();
+        failedCount = (int) objects.stream().filter(o -> o.error != null).count();
+        retries = objects.stream().mapToInt(o -> o.retries).sum();
+        throughput = durationMillis > 0 ? totalBytes * 1000D / durationMillis : 0;
+
+        List<PartStats> parts = objects.stream().flatMap(o -> o.parts.stream()).collect(Collectors.toList());
+        objectThroughput = Percentiles.of(objects.stream().filter(o -> o.error == null).map(o -> o.throughput).collect(Collectors.toList()));
+        partLatencyMillis = Percentiles.of(parts.stream().map(p -> (double) p.latencyMillis).collect(Collectors.toList()));
+        partThroughput = Percentiles.of(parts.stream().map(p -> p.throughput).collect(Collectors.toList()));
+    }
+}
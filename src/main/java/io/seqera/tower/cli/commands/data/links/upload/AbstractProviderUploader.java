@@ -16,28 +16,36 @@
 
 package io.seqera.tower.cli.commands.data.links.upload;
 
-import java.io.File;
 import java.io.IOException;
-import java.io.RandomAccessFile;
-import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 
 public abstract class AbstractProviderUploader implements CloudProviderUploader {
 
     static final Integer MULTI_UPLOAD_PART_SIZE_IN_BYTES = 250 * 1024 * 1024; // 250 MB
 
-    protected byte[] getChunk(File file, int index) {
-        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
-            long start = (long) index * MULTI_UPLOAD_PART_SIZE_IN_BYTES;
-            long end = Math.min(start + MULTI_UPLOAD_PART_SIZE_IN_BYTES, file.length());
-            int length = (int) (end - start);
-
-            byte[] buffer = new byte[length];
-            raf.seek(start);
-            raf.readFully(buffer);
+    /**
+     * Send a part request, reporting its duration to the plan
+     */
+    protected HttpResponse<String> sendPart(HttpClient client, HttpRequest request, UploadPlan plan, long offset, long length) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        plan.record(offset, length, System.nanoTime() - start);
+        return response;
+    }
 
-            return buffer;
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
+    /**
+     * Request to upload a part, sending its MD5 when known so the storage verifies it
+     */
+    protected HttpRequest.Builder partRequest(String url, UploadPart part) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .PUT(part.body);
+        if (part.contentMd5 != null) {
+            builder.header("Content-MD5", part.contentMd5);
         }
+        return builder;
     }
-} 
\ No newline at end of file
+}
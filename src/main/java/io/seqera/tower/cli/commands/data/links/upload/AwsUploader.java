@@ -20,12 +20,10 @@ import io.seqera.tower.ApiException;
 import io.seqera.tower.api.DataLinksApi;
 import io.seqera.tower.cli.exceptions.TowerRuntimeException;
 import io.seqera.tower.cli.utils.progress.ProgressTracker;
-import io.seqera.tower.cli.utils.progress.ProgressTrackingBodyPublisher;
 import io.seqera.tower.model.DataLinkFinishMultiPartUploadRequest;
 import io.seqera.tower.model.DataLinkMultiPartUploadResponse;
 import io.seqera.tower.model.UploadEtag;
 
-import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
@@ -55,21 +53,20 @@ public class AwsUploader extends AbstractProviderUploader {
     }
 
     @Override
-    public void uploadFile(File file, DataLinkMultiPartUploadResponse urlResponse, ProgressTracker tracker) throws ApiException {
+    public void upload(UploadSource source, UploadPlan plan, DataLinkMultiPartUploadResponse urlResponse, ProgressTracker tracker) throws ApiException {
         int index = 0;
         boolean withError = false;
         List<UploadEtag> tags = new ArrayList<>();
 
         try (HttpClient client = HttpClient.newHttpClient()) {
             for (String url : urlResponse.getUploadUrls()) {
-                byte[] chunk = getChunk(file, index);
+                long offset = plan.partOffset(index);
+                long length = plan.partLength(index);
+                UploadPart chunk = source.part(offset, length, tracker);
 
-                HttpRequest request = HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .PUT(new ProgressTrackingBodyPublisher(chunk, tracker))
-                        .build();
+                HttpRequest request = partRequest(url, chunk).build();
 
-                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                HttpResponse<String> response = sendPart(client, request, plan, offset, length);
 
                 if (response.statusCode() != 200) {
                     withError = true;
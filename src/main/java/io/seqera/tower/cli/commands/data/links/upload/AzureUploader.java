@@ -16,12 +16,12 @@
 
 package io.seqera.tower.cli.commands.data.links.upload;
 
+import io.seqera.tower.cli.commands.data.links.checksum.ChecksumAlgorithm;
+import io.seqera.tower.cli.commands.data.links.checksum.TransferChecksum;
 import io.seqera.tower.cli.exceptions.TowerRuntimeException;
 import io.seqera.tower.cli.utils.progress.ProgressTracker;
-import io.seqera.tower.cli.utils.progress.ProgressTrackingBodyPublisher;
 import io.seqera.tower.model.DataLinkMultiPartUploadResponse;
 
-import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
@@ -33,7 +33,7 @@ import java.util.stream.Collectors;
 public class AzureUploader extends AbstractProviderUploader {
 
     @Override
-    public void uploadFile(File file, DataLinkMultiPartUploadResponse urlResponse, ProgressTracker tracker) {
+    public void upload(UploadSource source, UploadPlan plan, DataLinkMultiPartUploadResponse urlResponse, ProgressTracker tracker) {
         List<String> urls = urlResponse.getUploadUrls();
 
         HttpClient client = HttpClient.newHttpClient();
@@ -41,14 +41,13 @@ public class AzureUploader extends AbstractProviderUploader {
             // Upload chunks
             for (int i = 0; i < urls.size(); i++) {
                 String url = urls.get(i);
-                byte[] chunk = getChunk(file, i);
+                long offset = plan.partOffset(i);
+                long length = plan.partLength(i);
+                UploadPart chunk = source.part(offset, length, tracker);
 
-                HttpRequest request = HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .PUT(new ProgressTrackingBodyPublisher(chunk, tracker))
-                        .build();
+                HttpRequest request = partRequest(url, chunk).build();
 
-                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                HttpResponse<String> response = sendPart(client, request, plan, offset, length);
 
                 if (response.statusCode() != 201) {
                     // Abort the upload before throwing the exception
@@ -57,7 +56,7 @@ public class AzureUploader extends AbstractProviderUploader {
             }
 
             // Finalize the upload by sending list of block IDs
-            finalizeUpload(urls, client);
+            finalizeUpload(urls, client, source);
 
         } catch (Exception e) {
             abortUpload(urlResponse);
@@ -86,7 +85,7 @@ public class AzureUploader extends AbstractProviderUploader {
         }
     }
 
-    private void finalizeUpload(List<String> urls, HttpClient client) throws IOException, InterruptedException {
+    private void finalizeUpload(List<String> urls, HttpClient client, UploadSource source) throws IOException, InterruptedException {
         String finalizeUrl = getFinalizeUrl(urls.get(0));
         List<String> blockIds = urls.stream()
                 .map(this::extractBlockId)
@@ -94,12 +93,17 @@ public class AzureUploader extends AbstractProviderUploader {
 
         String blockList = buildBlockList(blockIds);
 
-        HttpRequest finalizeRequest = HttpRequest.newBuilder()
+        HttpRequest.Builder finalizeRequest = HttpRequest.newBuilder()
                 .uri(URI.create(finalizeUrl))
-                .PUT(HttpRequest.BodyPublishers.ofString(blockList))
-                .build();
+                .PUT(HttpRequest.BodyPublishers.ofString(blockList));
 
-        HttpResponse<String> response = client.send(finalizeRequest, HttpResponse.BodyHandlers.ofString());
+        // Store the MD5 of the whole blob, it is returned on downloads to verify them
+        TransferChecksum checksum = source.checksum();
+        if (checksum != null && checksum.getAlgorithm() == ChecksumAlgorithm.MD5 && checksum.getPosition() == source.length()) {
+            finalizeRequest.header("x-ms-blob-content-md5", checksum.toBase64());
+        }
+
+        HttpResponse<String> response = client.send(finalizeRequest.build(), HttpResponse.BodyHandlers.ofString());
 
         if (response.statusCode() != 201) {
             throw new IOException("Failed to finalize Azure upload: HTTP " + response.statusCode());
@@ -31,7 +31,20 @@ public interface CloudProviderUploader {
      * @param tracker Progress tracker for upload status
      * @throws ApiException If there's an error communicating with the API
      */
-    void uploadFile(File file, DataLinkMultiPartUploadResponse urlResponse, ProgressTracker tracker) throws ApiException;
+    default void uploadFile(File file, DataLinkMultiPartUploadResponse urlResponse, ProgressTracker tracker) throws ApiException {
+        upload(new FileUploadSource(file), UploadPlan.byDefault(file.length()), urlResponse, tracker);
+    }
+
+    /**
+     * Upload the contents of a source using the provider-specific strategy
+     *
+     * @param source The contents to upload
+     * @param plan The split of the contents in parts, one per upload URL
+     * @param urlResponse The upload URLs and metadata from Platform
+     * @param tracker Progress tracker for upload status
+     * @throws ApiException If there's an error communicating with the API
+     */
+    void upload(UploadSource source, UploadPlan plan, DataLinkMultiPartUploadResponse urlResponse, ProgressTracker tracker) throws ApiException;
 
     /**
      * Abort upload of a file using the provider-specific strategy
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links.upload;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import io.seqera.tower.cli.commands.data.links.checksum.ChecksumAlgorithm;
+import io.seqera.tower.cli.commands.data.links.checksum.TransferChecksum;
+import io.seqera.tower.cli.utils.progress.ProgressTracker;
+import io.seqera.tower.cli.utils.progress.ProgressTrackingBodyPublisher;
+
+/**
+ * Uploads a local file, each part is read in memory before sending it.
+ */
+public class FileUploadSource implements UploadSource {
+
+    private final File file;
+    private final TransferChecksum checksum;
+
+    public FileUploadSource(File file) {
+        this(file, null);
+    }
+
+    public FileUploadSource(File file, TransferChecksum checksum) {
+        this.file = file;
+        this.checksum = checksum;
+    }
+
+    @Override
+    public long length() {
+        return file.length();
+    }
+
+    @Override
+    public UploadPart part(long offset, long length, ProgressTracker tracker) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            byte[] buffer = new byte[(int) length];
+            raf.seek(offset);
+            raf.readFully(buffer);
+
+            String contentMd5 = null;
+            if (checksum != null) {
+                // The part is in memory, hash it in the same read
+                checksum.update(offset, buffer, 0, buffer.length);
+                // Let the storage verify the part too, only when MD5 checksums were requested
+                if (checksum.getAlgorithm() == ChecksumAlgorithm.MD5) {
+                    contentMd5 = TransferChecksum.contentMd5(buffer);
+                }
+            }
+
+            // Wait for the bandwidth of the whole part here, the body is sent by the threads of the HTTP client
+            tracker.throttle(length);
+            return new UploadPart(new ProgressTrackingBodyPublisher(buffer, tracker), contentMd5);
+        }
+    }
+
+    @Override
+    public TransferChecksum checksum() {
+        return checksum;
+    }
+}
@@ -17,12 +17,12 @@
 package io.seqera.tower.cli.commands.data.links.upload;
 
 import io.seqera.tower.ApiException;
+import io.seqera.tower.cli.commands.data.links.checksum.ChecksumAlgorithm;
+import io.seqera.tower.cli.commands.data.links.checksum.TransferChecksum;
 import io.seqera.tower.cli.exceptions.TowerRuntimeException;
 import io.seqera.tower.cli.utils.progress.ProgressTracker;
-import io.seqera.tower.cli.utils.progress.ProgressTrackingBodyPublisher;
 import io.seqera.tower.model.DataLinkMultiPartUploadResponse;
 
-import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
@@ -32,36 +32,52 @@ import java.net.http.HttpResponse;
 public class GoogleUploader extends AbstractProviderUploader {
 
     @Override
-    public void uploadFile(File file, DataLinkMultiPartUploadResponse urlResponse, ProgressTracker tracker) {
+    public void upload(UploadSource source, UploadPlan plan, DataLinkMultiPartUploadResponse urlResponse, ProgressTracker tracker) {
         String url = urlResponse.getUploadUrls().get(0);
-        long fileSize = file.length();
+        long fileSize = source.length();
         long nextByteToRead = 0;
 
         HttpClient client = HttpClient.newHttpClient();
         try {
             while (nextByteToRead < fileSize) {
-                int partNumber = (int)(nextByteToRead / MULTI_UPLOAD_PART_SIZE_IN_BYTES);
-                byte[] chunk = getChunk(file, partNumber);
-                long end = nextByteToRead + chunk.length;
+                long length = Math.min(plan.partSize, fileSize - nextByteToRead);
+                UploadPart chunk = source.part(nextByteToRead, length, tracker);
+                long end = nextByteToRead + length;
 
-                HttpRequest request = HttpRequest.newBuilder()
+                HttpRequest.Builder request = HttpRequest.newBuilder()
                         .uri(URI.create(url))
-                        .PUT(new ProgressTrackingBodyPublisher(chunk, tracker))
-                        .header("Content-Range", String.format("bytes %d-%d/%d", nextByteToRead, Math.max(0, end - 1), fileSize))
-                        .build();
+                        .PUT(chunk.body)
+                        .header("Content-Range", String.format("bytes %d-%d/%d", nextByteToRead, Math.max(0, end - 1), fileSize));
 
-                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                // The hash of the whole object sent with the last chunk is verified by the storage
+                TransferChecksum checksum = source.checksum();
+                if (end == fileSize && checksum != null && checksum.getPosition() == fileSize && checksum.getAlgorithm() != ChecksumAlgorithm.SHA256) {
+                    request.header("X-Goog-Hash", checksum.getAlgorithm().name().toLowerCase() + "=" + checksum.toBase64());
+                }
+
+                long start = System.nanoTime();
+                HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+                long nanos = System.nanoTime() - start;
 
                 if (response.statusCode() == 308) {
                     // Resume upload from the last byte received by the server
+                    long offset = nextByteToRead;
                     String range = response.headers().firstValue("range").orElse("");
                     if (!range.isEmpty()) {
                         long lastByte = Long.parseLong(range.substring(range.lastIndexOf('-') + 1));
                         nextByteToRead = lastByte + 1;
                     }
+                    // Only the bytes stored by the server are counted, the rest of the chunk is sent again
+                    if (nextByteToRead > offset) {
+                        plan.record(offset, nextByteToRead - offset, nanos);
+                    }
+                    if (nextByteToRead < end) {
+                        plan.retry();
+                    }
                 } else if (response.statusCode() != 200) {
                     throw new IOException("Failed to upload file: HTTP " + response.statusCode());
                 } else {
+                    plan.record(nextByteToRead, length, nanos);
                     break; // Upload completed successfully
                 }
             }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links.upload;
+
+import io.seqera.tower.model.DataLinkProvider;
+
+/**
+ * Chooses the part size of every uploaded file. Files are split in a number of parts that
+ * keeps retries cheap; once parts have been uploaded the size targets a fixed upload time per
+ * part at the measured throughput. Sizes are bounded by the provider limits on part count and
+ * aligned to 256 KB, as required by Google Cloud Storage chunks.
+ */
+public class PartSizePlanner {
+
+    static final long MIN_PART_SIZE = 8L * 1024 * 1024; // 8 MB
+    static final long MAX_PART_SIZE = AbstractProviderUploader.MULTI_UPLOAD_PART_SIZE_IN_BYTES;
+    static final long PART_SIZE_ALIGNMENT = 256L * 1024; // 256 KB
+
+    /** Number of parts of a file when there is no throughput measure yet */
+    static final int TARGET_PART_COUNT = 16;
+
+    /** Time to upload a part at the measured throughput */
+    static final long TARGET_PART_SECONDS = 30;
+
+    private long measuredBytes = 0;
+    private long measuredNanos = 0;
+
+    public UploadPlan plan(long contentLength, DataLinkProvider provider) {
+        long partSize;
+        double throughput = throughput();
+        if (throughput > 0) {
+            partSize = (long) (throughput * TARGET_PART_SECONDS);
+        } else {
+            partSize = contentLength / TARGET_PART_COUNT;
+        }
+
+        partSize = Math.max(MIN_PART_SIZE, Math.min(MAX_PART_SIZE, partSize));
+        partSize = Math.max(partSize, (contentLength + maxPartCount(provider) - 1) / maxPartCount(provider));
+        partSize = (partSize + PART_SIZE_ALIGNMENT - 1) / PART_SIZE_ALIGNMENT * PART_SIZE_ALIGNMENT;
+
+        return new UploadPlan(contentLength, partSize, this);
+    }
+
+    public synchronized void record(long bytes, long nanos) {
+        measuredBytes += bytes;
+        measuredNanos += nanos;
+    }
+
+    /**
+     * Measured throughput in bytes per second, zero if nothing was measured yet.
+     */
+    public synchronized double throughput() {
+        return measuredNanos > 0 ? measuredBytes * 1_000_000_000D / measuredNanos : 0;
+    }
+
+    static long maxPartCount(DataLinkProvider provider) {
+        switch (provider) {
+            case AWS:
+            case SEQERACOMPUTE:
+                return 10_000;
+            case AZURE:
+                return 50_000;
+            default:
+                // Resumable uploads are sent in sequential chunks of any count
+                return Long.MAX_VALUE;
+        }
+    }
+}
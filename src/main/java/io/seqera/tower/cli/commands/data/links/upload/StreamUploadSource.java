@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links.upload;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import io.seqera.tower.cli.commands.data.links.checksum.TransferChecksum;
+import io.seqera.tower.cli.utils.progress.ProgressTracker;
+import io.seqera.tower.cli.utils.progress.ProgressTrackingBodyPublisher;
+
+/**
+ * Uploads the contents of a stream, e.g. the body of a download, without buffering the parts
+ * in memory. Parts must be requested in order and each of them can only be sent once.
+ */
+public class StreamUploadSource implements UploadSource {
+
+    private final InputStream stream;
+    private final long length;
+    private final TransferChecksum checksum;
+    private long position = 0;
+
+    public StreamUploadSource(InputStream stream, long length) {
+        this(stream, length, null);
+    }
+
+    public StreamUploadSource(InputStream stream, long length, TransferChecksum checksum) {
+        this.stream = checksum == null ? stream : new ChecksumInputStream(stream, checksum);
+        this.length = length;
+        this.checksum = checksum;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public UploadPart part(long offset, long length, ProgressTracker tracker) throws IOException {
+        if (offset != position) {
+            throw new IOException(String.format("Cannot upload bytes from offset %d of a stream positioned at %d", offset, position));
+        }
+        position += length;
+        // Wait for the bandwidth of the whole part here, the body is sent by the threads of the HTTP client
+        tracker.throttle(length);
+        // The bytes are only known while they are sent, so there is no part MD5
+        return new UploadPart(new ProgressTrackingBodyPublisher(stream, length, tracker), null);
+    }
+
+    @Override
+    public TransferChecksum checksum() {
+        return checksum;
+    }
+
+    private static class ChecksumInputStream extends FilterInputStream {
+        private final TransferChecksum checksum;
+        private long position = 0;
+
+        ChecksumInputStream(InputStream in, TransferChecksum checksum) {
+            super(in);
+            this.checksum = checksum;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = in.read();
+            if (value != -1) {
+                checksum.update(position++, new byte[]{(byte) value}, 0, 1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = in.read(b, off, len);
+            if (read > 0) {
+                checksum.update(position, b, off, read);
+                position += read;
+            }
+            return read;
+        }
+    }
+}
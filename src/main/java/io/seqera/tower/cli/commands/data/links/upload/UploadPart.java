@@ -0,0 +1,33 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links.upload;
+
+import java.net.http.HttpRequest;
+
+/**
+ * Body of an upload part, with the MD5 of its contents when it is known before sending it.
+ */
+public class UploadPart {
+
+    public final HttpRequest.BodyPublisher body;
+    public final String contentMd5;
+
+    public UploadPart(HttpRequest.BodyPublisher body, String contentMd5) {
+        this.body = body;
+        this.contentMd5 = contentMd5;
+    }
+}
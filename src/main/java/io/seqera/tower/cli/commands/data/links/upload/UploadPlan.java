@@ -0,0 +1,106 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links.upload;
+
+import io.seqera.tower.cli.commands.data.links.report.ObjectStats;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Split of a file in upload parts: every part has the same size but the last one.
+ */
+public class UploadPlan {
+
+    public final long contentLength;
+    public final long partSize;
+    public final int partCount;
+
+    private final PartSizePlanner planner;
+
+    private ObjectStats stats;
+
+    public UploadPlan(long contentLength, long partSize, PartSizePlanner planner) {
+        this.contentLength = contentLength;
+        this.partSize = partSize;
+        this.partCount = partCount(contentLength, partSize);
+        this.planner = planner;
+    }
+
+    /**
+     * Split used by Platform when the number of parts is not requested.
+     */
+    public static UploadPlan byDefault(long contentLength) {
+        return new UploadPlan(contentLength, AbstractProviderUploader.MULTI_UPLOAD_PART_SIZE_IN_BYTES, null);
+    }
+
+    /**
+     * Split in the given number of parts, used when the upload URLs do not match the plan.
+     */
+    public UploadPlan withPartCount(int count) {
+        if (count == partCount || count <= 0) {
+            return this;
+        }
+        long size = (contentLength + count - 1) / count;
+        return new UploadPlan(contentLength, Math.max(size, 1), planner);
+    }
+
+    public static int partCount(long contentLength, long partSize) {
+        return (int) Math.max(1, (contentLength + partSize - 1) / partSize);
+    }
+
+    public long partOffset(int index) {
+        return index * partSize;
+    }
+
+    public long partLength(int index) {
+        return Math.max(0, Math.min(partSize, contentLength - partOffset(index)));
+    }
+
+    public List<Integer> partNumbers() {
+        return IntStream.rangeClosed(1, partCount).boxed().collect(Collectors.toList());
+    }
+
+    /**
+     * Record the parts uploaded in the transfer report, if any.
+     */
+    public void setStats(ObjectStats stats) {
+        this.stats = stats;
+    }
+
+    /**
+     * Report the time taken to upload a part, so the size of the following files adapts to it.
+     */
+    public void record(long offset, long bytes, long nanos) {
+        if (planner != null) {
+            planner.record(bytes, nanos);
+        }
+        if (stats != null) {
+            stats.part(offset, bytes, nanos);
+        }
+    }
+
+    /**
+     * Report a part sent again.
+     */
+    public void retry() {
+        if (stats != null) {
+            stats.retry();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.data.links.upload;
+
+import java.io.IOException;
+
+import io.seqera.tower.cli.commands.data.links.checksum.TransferChecksum;
+import io.seqera.tower.cli.utils.progress.ProgressTracker;
+
+/**
+ * Contents uploaded by a {@link CloudProviderUploader}, published part by part.
+ */
+public interface UploadSource {
+
+    /**
+     * Total number of bytes to upload
+     */
+    long length();
+
+    /**
+     * Request body with {@code length} bytes starting at {@code offset}
+     */
+    UploadPart part(long offset, long length, ProgressTracker tracker) throws IOException;
+
+    /**
+     * Checksum computed over the uploaded bytes as they are published, {@code null} if not requested
+     */
+    TransferChecksum checksum();
+}
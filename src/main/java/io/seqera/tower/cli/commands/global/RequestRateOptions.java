@@ -0,0 +1,47 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.seqera.tower.cli.commands.global;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import io.seqera.tower.cli.utils.RequestLimiter;
+import picocli.CommandLine;
+
+/**
+ * Options of the commands sending many API requests concurrently.
+ */
+public class RequestRateOptions {
+
+    @CommandLine.Option(names = {"--parallel"}, description = "Number of concurrent requests (default: 4).", defaultValue = "4")
+    public int parallel;
+
+    @CommandLine.Option(names = {"--rate"}, description = "Maximum number of requests per second (default: 10).", defaultValue = "10")
+    public int rate;
+
+    public ExecutorService executor() {
+        return Executors.newFixedThreadPool(Math.max(parallel, 1));
+    }
+
+    /**
+     * Limiter shared by all the threads sending the requests.
+     */
+    public RequestLimiter limiter() {
+        return new RequestLimiter(rate);
+    }
+}
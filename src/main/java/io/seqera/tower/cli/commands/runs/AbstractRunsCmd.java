@@ -18,23 +18,54 @@ package io.seqera.tower.cli.commands.runs;
 
 import io.seqera.tower.ApiException;
 import io.seqera.tower.cli.commands.AbstractApiCmd;
+import io.seqera.tower.cli.commands.runs.cache.RunCache;
+import io.seqera.tower.cli.commands.global.PaginationOptions;
 import io.seqera.tower.cli.exceptions.LaunchNotFoundException;
 import io.seqera.tower.cli.exceptions.RunNotFoundException;
+import io.seqera.tower.cli.exceptions.TowerRuntimeException;
 import io.seqera.tower.cli.exceptions.WorkflowProgressNotFoundException;
+import io.seqera.tower.cli.utils.RequestLimiter;
 import io.seqera.tower.model.DescribeLaunchResponse;
+import io.seqera.tower.model.DescribeTaskResponse;
 import io.seqera.tower.model.DescribeWorkflowLaunchResponse;
 import io.seqera.tower.model.DescribeWorkflowResponse;
 import io.seqera.tower.model.GetProgressResponse;
+import io.seqera.tower.model.GetWorkflowMetricsResponse;
 import io.seqera.tower.model.LaunchDbDto;
+import io.seqera.tower.model.ListTasksResponse;
+import io.seqera.tower.model.ListWorkflowsResponse;
+import io.seqera.tower.model.ListWorkflowsResponseListWorkflowsElement;
+import io.seqera.tower.model.Task;
 import io.seqera.tower.model.WorkflowLoad;
 import io.seqera.tower.model.WorkflowQueryAttribute;
+import io.seqera.tower.model.WorkflowStatus;
 import picocli.CommandLine.Command;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Command
 abstract public class AbstractRunsCmd extends AbstractApiCmd {
 
+    /** Whether the runs already described by this command are finished */
+    private final Map<String, Boolean> finished = new ConcurrentHashMap<>();
+
+    private RunCache runCache;
+
     public AbstractRunsCmd() {
     }
 
@@ -42,17 +73,33 @@ abstract public class AbstractRunsCmd extends AbstractApiCmd {
 
         List<WorkflowQueryAttribute> wfQueryAttrs = (extraQueryAttributes == null) ? NO_WORKFLOW_ATTRIBUTES : extraQueryAttributes;
 
-        DescribeWorkflowResponse workflowResponse = workflowsApi().describeWorkflow(id, workspaceId, wfQueryAttrs);
+        // Labels can still be edited once the run is finished
+        RunCache cache = wfQueryAttrs.contains(WorkflowQueryAttribute.labels) ? null : runCache();
+        String resource = wfQueryAttrs.stream().map(Object::toString).sorted().collect(Collectors.joining(",", "workflow:", ""));
+
+        DescribeWorkflowResponse workflowResponse = cache == null ? null : cache.get(workspaceId, id, resource, DescribeWorkflowResponse.class);
+        if (workflowResponse != null) {
+            finished.put(runKey(workspaceId, id), true);
+            return workflowResponse;
+        }
+
+        workflowResponse = workflowsApi().describeWorkflow(id, workspaceId, wfQueryAttrs);
 
         if (workflowResponse == null) {
             throw new RunNotFoundException(id, workspaceRef(workspaceId));
         }
 
+        runFinished(workspaceId, id, workflowResponse.getWorkflow().getStatus());
+        if (cache != null && finished.get(runKey(workspaceId, id))) {
+            cache.put(workspaceId, id, resource, workflowResponse);
+        }
+
         return workflowResponse;
     }
 
     protected DescribeWorkflowLaunchResponse workflowLaunchById(Long workspaceId, String workflowId) throws ApiException {
-        DescribeWorkflowLaunchResponse wfLaunchResponse = workflowsApi().describeWorkflowLaunch(workflowId, workspaceId);
+        DescribeWorkflowLaunchResponse wfLaunchResponse = cached(workspaceId, workflowId, "launch", DescribeWorkflowLaunchResponse.class,
+                () -> workflowsApi().describeWorkflowLaunch(workflowId, workspaceId));
 
         if (wfLaunchResponse == null) {
             throw new ApiException(String.format("Workflow '%s' launch not found at %d workspace", workflowId, workspaceId));
@@ -72,12 +119,212 @@ abstract public class AbstractRunsCmd extends AbstractApiCmd {
     }
 
     protected WorkflowLoad workflowLoadByWorkflowId(Long workspaceId, String id) throws ApiException {
-        GetProgressResponse getProgressResponse = workflowsApi().describeWorkflowProgress(id, workspaceId);
+        return workflowProgressById(workspaceId, id).getProgress().getWorkflowProgress();
+    }
+
+    protected GetProgressResponse workflowProgressById(Long workspaceId, String id) throws ApiException {
+        GetProgressResponse getProgressResponse = cached(workspaceId, id, "progress", GetProgressResponse.class,
+                () -> workflowsApi().describeWorkflowProgress(id, workspaceId));
 
         if (getProgressResponse == null) {
             throw new WorkflowProgressNotFoundException(id, workspaceRef(workspaceId));
         }
 
-        return getProgressResponse.getProgress().getWorkflowProgress();
+        return getProgressResponse;
+    }
+
+    protected GetWorkflowMetricsResponse workflowMetricsById(Long workspaceId, String id) throws ApiException {
+        return cached(workspaceId, id, "metrics", GetWorkflowMetricsResponse.class,
+                () -> workflowsApi().describeWorkflowMetrics(id, workspaceId));
+    }
+
+    protected ListTasksResponse workflowTasksPage(Long workspaceId, String id, int max, int offset, String search) throws ApiException {
+        return cached(workspaceId, id, String.format("tasks:%d:%d:%s", max, offset, search == null ? "" : search), ListTasksResponse.class,
+                () -> workflowsApi().listWorkflowTasks(id, workspaceId, max, offset, null, null, search));
+    }
+
+    /**
+     * Pass every task of a run to the consumer, requesting the tasks one page at a time so
+     * only a page of tasks is held in memory.
+     */
+    protected void forEachTask(Long workspaceId, String id, String search, Consumer<Task> consumer) throws ApiException {
+        int offset = 0;
+        List<DescribeTaskResponse> page;
+        do {
+            page = Objects.requireNonNull(workflowTasksPage(workspaceId, id, PaginationOptions.MAX, offset, search).getTasks());
+            page.forEach(it -> consumer.accept(it.getTask()));
+            offset += page.size();
+        } while (page.size() == PaginationOptions.MAX);
+    }
+
+    /**
+     * Run the action on every task of a run with up to {@code parallel} threads. Pages of tasks
+     * are only requested while fewer than two tasks per thread are waiting, so the tasks of a
+     * large run are never all held in memory. Once an action fails no more tasks are started,
+     * and its API or I/O error is rethrown.
+     */
+    protected void forEachTaskConcurrently(Long workspaceId, String id, String search, int parallel, TaskAction action) throws ApiException, IOException, InterruptedException {
+        int threads = Math.max(parallel, 1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Semaphore queued = new Semaphore(threads * 2);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        try {
+            forEachTask(workspaceId, id, search, task -> {
+                if (failure.get() != null) {
+                    return;
+                }
+                queued.acquireUninterruptibly();
+                executor.submit(() -> {
+                    try {
+                        if (failure.get() == null) {
+                            action.accept(task);
+                        }
+                    } catch (Exception e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        queued.release();
+                    }
+                });
+            });
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (failure.get() instanceof InterruptedException) {
+            throw (InterruptedException) failure.get();
+        }
+        if (failure.get() != null) {
+            rethrow(failure.get(), "Unable to read the tasks");
+        }
+    }
+
+    /**
+     * Request the first page of runs to know how many there are, then the rest of the pages
+     * concurrently, acquiring a token from the limiter for every request.
+     */
+    protected List<ListWorkflowsResponseListWorkflowsElement> listRuns(ExecutorService executor, RequestLimiter limiter, Long workspaceId, String search, List<WorkflowQueryAttribute> attributes) throws ApiException, InterruptedException, IOException {
+        limiter.acquire();
+        ListWorkflowsResponse first = workflowsApi().listWorkflows(attributes, workspaceId, PaginationOptions.MAX, 0, search, true);
+        List<ListWorkflowsResponseListWorkflowsElement> result = new ArrayList<>(workflows(first));
+
+        long total = first.getTotalSize() == null ? 0 : first.getTotalSize();
+        List<Callable<List<ListWorkflowsResponseListWorkflowsElement>>> pages = new ArrayList<>();
+        for (int offset = PaginationOptions.MAX; offset < total; offset += PaginationOptions.MAX) {
+            int pageOffset = offset;
+            pages.add(() -> {
+                limiter.acquire();
+                return workflows(workflowsApi().listWorkflows(attributes, workspaceId, PaginationOptions.MAX, pageOffset, search, false));
+            });
+        }
+        invokeAll(executor, pages).forEach(result::addAll);
+        return result;
+    }
+
+    private static List<ListWorkflowsResponseListWorkflowsElement> workflows(ListWorkflowsResponse response) {
+        return response.getWorkflows() == null ? List.of() : response.getWorkflows();
+    }
+
+    /**
+     * Run all the calls and return their results in order, rethrowing the API or I/O
+     * error of the first call that failed.
+     */
+    protected static <T> List<T> invokeAll(ExecutorService executor, List<Callable<T>> calls) throws ApiException, IOException, InterruptedException {
+        List<T> result = new ArrayList<>();
+        for (Future<T> future : executor.invokeAll(calls)) {
+            try {
+                result.add(future.get());
+            } catch (ExecutionException e) {
+                rethrow(e.getCause(), "Unable to request the pipeline runs");
+            }
+        }
+        return result;
+    }
+
+    private static void rethrow(Throwable cause, String message) throws ApiException, IOException {
+        if (cause instanceof ApiException) {
+            throw (ApiException) cause;
+        }
+        if (cause instanceof IOException) {
+            throw (IOException) cause;
+        }
+        throw new TowerRuntimeException(message + ": " + cause.getMessage());
+    }
+
+    /**
+     * Local cache of the finished runs, {@code null} if it is disabled with {@code --no-cache}.
+     */
+    protected synchronized RunCache runCache() {
+        if (runCache == null && !app().noCache) {
+            runCache = new RunCache(RunCache.dir(app().getLocalDir()), app().url, app().token, RunCache.DEFAULT_MAX_BYTES);
+        }
+        return runCache;
+    }
+
+    /**
+     * Record the status of a run already known by the caller, e.g. from a list of runs,
+     * so responses about it can be cached without describing it again.
+     */
+    protected void runFinished(Long workspaceId, String id, WorkflowStatus status) {
+        finished.put(runKey(workspaceId, id), status != null && RunCache.FINISHED.contains(status));
+        RunCache cache = runCache();
+        if (cache != null) {
+            cache.status(workspaceId, id, status);
+        }
+    }
+
+    /**
+     * Response about a run, read from the local cache if the run is finished and it was
+     * already requested. Otherwise it is requested and stored if the run is finished.
+     * <p>
+     * Whether the run is finished is known before sending the request, a response received
+     * while the run was still active could be stored as final otherwise.
+     */
+    protected <T> T cached(Long workspaceId, String id, String resource, Class<T> type, RunRequest<T> request) throws ApiException {
+        RunCache cache = runCache();
+        if (cache == null) {
+            return request.call();
+        }
+
+        T value = cache.get(workspaceId, id, resource, type);
+        if (value != null) {
+            return value;
+        }
+
+        boolean finished = isFinished(cache, workspaceId, id);
+        value = request.call();
+        if (value != null && finished) {
+            cache.put(workspaceId, id, resource, value);
+        }
+        return value;
+    }
+
+    private boolean isFinished(RunCache cache, Long workspaceId, String id) throws ApiException {
+        Boolean result = finished.get(runKey(workspaceId, id));
+        if (result == null) {
+            if (cache.isFinished(workspaceId, id)) {
+                result = true;
+                finished.put(runKey(workspaceId, id), true);
+            } else {
+                workflowById(workspaceId, id, NO_WORKFLOW_ATTRIBUTES);
+                result = finished.get(runKey(workspaceId, id));
+            }
+        }
+        return result;
+    }
+
+    private static String runKey(Long workspaceId, String id) {
+        return workspaceId + "/" + id;
+    }
+
+    @FunctionalInterface
+    protected interface RunRequest<T> {
+        T call() throws ApiException;
+    }
+
+    @FunctionalInterface
+    protected interface TaskAction {
+        void accept(Task task) throws ApiException, IOException, InterruptedException;
     }
 }
@@ -218,7 +218,7 @@ public class DumpCmd extends AbstractRunsCmd {
             throw new TowerException("Unknown workflow");
         }
 
-        List<WorkflowMetrics> metrics = workflowsApi().describeWorkflowMetrics(workflow.getId(), workspaceId).getMetrics();
+        List<WorkflowMetrics> metrics = workflowMetricsById(workspaceId, workflow.getId()).getMetrics();
 
         return JsonHelper.prettyJson(metrics);
     }
@@ -335,7 +335,7 @@ public class DumpCmd extends AbstractRunsCmd {
         while (added == max) {
 
             added = 0;
-            ListTasksResponse response = workflowsApi().listWorkflowTasks(workflowId, wspId, max, offset, null, null, null);
+            ListTasksResponse response = workflowTasksPage(wspId, workflowId, max, offset, null);
 
             if (response.getTasks() == null) {
                 throw new TowerException("No tasks found for workflow");
@@ -20,14 +20,18 @@ import io.seqera.tower.ApiException;
 import io.seqera.tower.cli.commands.global.PaginationOptions;
 import io.seqera.tower.cli.commands.global.ShowLabelsOption;
 import io.seqera.tower.cli.commands.global.WorkspaceOptionalOptions;
+import io.seqera.tower.cli.commands.runs.history.RunHistory;
+import io.seqera.tower.cli.exceptions.TowerException;
 import io.seqera.tower.cli.responses.Response;
 import io.seqera.tower.cli.responses.runs.RunList;
 import io.seqera.tower.cli.utils.PaginationInfo;
 import io.seqera.tower.model.ListWorkflowsResponse;
+import io.seqera.tower.model.ListWorkflowsResponseListWorkflowsElement;
 import io.seqera.tower.model.WorkflowQueryAttribute;
 import picocli.CommandLine;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 
@@ -49,13 +53,20 @@ public class ListCmd extends AbstractRunsCmd {
     @CommandLine.Mixin
     PaginationOptions paginationOptions;
 
+    @CommandLine.Option(names = {"--offline"}, description = "List the runs from the local history updated by 'runs sync', without connecting to the server. The filter supports the status, pipeline, user, runName, after and before keys.")
+    public boolean offline;
+
     @Override
     protected Response exec() throws ApiException, IOException {
-        Long wspId = workspaceId(workspace.workspace);
-
         Integer max = PaginationOptions.getMax(paginationOptions);
         Integer offset = PaginationOptions.getOffset(paginationOptions, max);
 
+        if (offline) {
+            return offline(max, offset);
+        }
+
+        Long wspId = workspaceId(workspace.workspace);
+
         List queryAttribute = Collections.emptyList();
         if(showLabelsOption.showLabels) {
              queryAttribute = List.of(WorkflowQueryAttribute.labels);
@@ -65,5 +76,15 @@ public class ListCmd extends AbstractRunsCmd {
         return new RunList(workspaceRef(wspId), response.getWorkflows(), baseWorkspaceUrl(wspId), showLabelsOption.showLabels, PaginationInfo.from(paginationOptions, response.getTotalSize()));
     }
 
+    private Response offline(Integer max, Integer offset) throws IOException, TowerException {
+        Path dir = RunHistory.dir(app().getLocalDir(), app().url);
+        RunHistory history = RunHistory.open(dir, RunHistory.findWorkspace(dir, workspace.workspace));
+        if (!history.exists()) {
+            throw new TowerException("No local history of the workspace, run 'tw runs sync' first");
+        }
 
+        List<ListWorkflowsResponseListWorkflowsElement> runs = history.query(filter);
+        List<ListWorkflowsResponseListWorkflowsElement> page = runs.subList(Math.min(offset, runs.size()), Math.min(offset + max, runs.size()));
+        return new RunList(history.getState().workspaceRef, page, history.getState().baseWorkspaceUrl, showLabelsOption.showLabels, PaginationInfo.from(paginationOptions, (long) runs.size()));
+    }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs;
+
+import io.seqera.tower.ApiException;
+import io.seqera.tower.cli.commands.global.RequestRateOptions;
+import io.seqera.tower.cli.commands.global.WorkspaceOptionalOptions;
+import io.seqera.tower.cli.commands.runs.stats.RunStatsTable;
+import io.seqera.tower.cli.commands.runs.stats.enums.RunStatsFormat;
+import io.seqera.tower.cli.commands.runs.stats.enums.RunStatsGroup;
+import io.seqera.tower.cli.commands.runs.watch.RunsWatcher;
+import io.seqera.tower.cli.exceptions.TowerRuntimeException;
+import io.seqera.tower.cli.responses.Response;
+import io.seqera.tower.cli.responses.runs.RunsStats;
+import io.seqera.tower.cli.utils.DurationConverter;
+import io.seqera.tower.cli.utils.RequestLimiter;
+import io.seqera.tower.model.ComputeEnvComputeConfig;
+import io.seqera.tower.model.DescribeWorkflowLaunchResponse;
+import io.seqera.tower.model.GetProgressResponse;
+import io.seqera.tower.model.ListWorkflowsResponseListWorkflowsElement;
+import io.seqera.tower.model.WorkflowLoad;
+import io.seqera.tower.model.WorkflowMaxDbDto;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+@CommandLine.Command(
+        name = "stats",
+        description = "Aggregate pipeline run statistics"
+)
+public class StatsCmd extends AbstractRunsCmd {
+
+    @CommandLine.Mixin
+    public WorkspaceOptionalOptions workspace;
+
+    @CommandLine.Option(names = {"-f", "--filter"}, description = "Filter pipeline runs using the server search syntax (see 'runs list --filter').")
+    public String filter;
+
+    @CommandLine.Option(names = {"--since"}, description = "Include the runs submitted in this period, e.g. 7d or 12h (default: 30d).", converter = DurationConverter.class, defaultValue = "30d")
+    public Duration since;
+
+    @CommandLine.Option(names = {"--group-by"}, split = ",", description = "Group the runs by: ${COMPLETION-CANDIDATES}. Comma-separated list (default: pipeline).", defaultValue = "pipeline")
+    public List<RunStatsGroup> groupBy;
+
+    @CommandLine.Option(names = {"--format"}, description = "Output format: ${COMPLETION-CANDIDATES} (default: table).", defaultValue = "table")
+    public RunStatsFormat format;
+
+    @CommandLine.Mixin
+    public RequestRateOptions requests;
+
+    @Override
+    protected Response exec() throws ApiException, IOException {
+        Long wspId = workspaceId(workspace.workspace);
+        OffsetDateTime from = OffsetDateTime.now(ZoneOffset.UTC).minus(since);
+
+        RequestLimiter limiter = requests.limiter();
+        ExecutorService executor = requests.executor();
+        RunStatsTable table = new RunStatsTable(groupBy.stream().map(Enum::name).collect(Collectors.toList()));
+        try {
+            List<WorkflowMaxDbDto> runs = listRuns(executor, limiter, wspId, buildSearch(filter, from.toLocalDate()), NO_WORKFLOW_ATTRIBUTES).stream()
+                    .map(ListWorkflowsResponseListWorkflowsElement::getWorkflow)
+                    .filter(it -> it.getSubmit() == null || !it.getSubmit().isBefore(from))
+                    .collect(Collectors.toList());
+
+            List<Callable<Void>> calls = new ArrayList<>();
+            for (WorkflowMaxDbDto run : runs) {
+                calls.add(() -> {
+                    addRun(table, limiter, wspId, run);
+                    return null;
+                });
+            }
+            invokeAll(executor, calls);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TowerRuntimeException("Interrupted while collecting the run statistics");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return new RunsStats(workspaceRef(wspId), from.toLocalDate().toString(), table.columns(), table.rows(), format);
+    }
+
+    static String buildSearch(String filter, LocalDate from) {
+        String after = "after:" + from;
+        return filter == null || filter.isBlank() ? after : filter.trim() + " " + after;
+    }
+
+    /**
+     * Add a run to the table, requesting its progress only when it has finished, for the CPU
+     * time and cost, and its launch only when grouping by compute environment. A request
+     * token is only taken when the response is not in the local run cache.
+     */
+    private void addRun(RunStatsTable table, RequestLimiter limiter, Long wspId, WorkflowMaxDbDto run) throws ApiException {
+        boolean finished = run.getStatus() != null && !RunsWatcher.ACTIVE.contains(run.getStatus());
+        runFinished(wspId, run.getId(), run.getStatus());
+
+        Long cpuTime = null;
+        Double cost = null;
+        if (finished) {
+            GetProgressResponse progress = cached(wspId, run.getId(), "progress", GetProgressResponse.class,
+                    limited(limiter, () -> workflowsApi().describeWorkflowProgress(run.getId(), wspId)));
+            WorkflowLoad load = progress == null || progress.getProgress() == null ? null : progress.getProgress().getWorkflowProgress();
+            if (load != null) {
+                cpuTime = load.getCpuTime();
+                cost = load.getCost() == null ? null : ((Number) load.getCost()).doubleValue();
+            }
+        }
+
+        String computeEnv = null;
+        if (groupBy.contains(RunStatsGroup.computeEnv)) {
+            DescribeWorkflowLaunchResponse launch = cached(wspId, run.getId(), "launch", DescribeWorkflowLaunchResponse.class,
+                    limited(limiter, () -> workflowsApi().describeWorkflowLaunch(run.getId(), wspId)));
+            ComputeEnvComputeConfig config = launch == null || launch.getLaunch() == null ? null : launch.getLaunch().getComputeEnv();
+            computeEnv = config == null ? null : config.getName();
+        }
+
+        List<String> keys = new ArrayList<>();
+        for (RunStatsGroup group : groupBy) {
+            keys.add(key(group, run, computeEnv));
+        }
+        table.add(keys, run.getStatus(), finished ? run.getDuration() : null, cpuTime, cost);
+    }
+
+    private static <T> RunRequest<T> limited(RequestLimiter limiter, RunRequest<T> request) {
+        return () -> {
+            try {
+                limiter.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TowerRuntimeException("Interrupted while collecting the run statistics");
+            }
+            return request.call();
+        };
+    }
+
+    private static String key(RunStatsGroup group, WorkflowMaxDbDto run, String computeEnv) {
+        String value;
+        switch (group) {
+            case pipeline:
+                value = run.getProjectName();
+                break;
+            case user:
+                value = run.getUserName();
+                break;
+            case computeEnv:
+                value = computeEnv;
+                break;
+            case status:
+                value = run.getStatus() == null ? null : run.getStatus().toString();
+                break;
+            default:
+                value = run.getSubmit() == null ? null : String.format("%d-W%02d",
+                        run.getSubmit().get(IsoFields.WEEK_BASED_YEAR), run.getSubmit().get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+                break;
+        }
+        return value == null ? "-" : value;
+    }
+}
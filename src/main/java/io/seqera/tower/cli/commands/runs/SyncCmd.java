@@ -0,0 +1,81 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs;
+
+import io.seqera.tower.ApiException;
+import io.seqera.tower.cli.commands.global.RequestRateOptions;
+import io.seqera.tower.cli.commands.global.WorkspaceOptionalOptions;
+import io.seqera.tower.cli.commands.runs.history.RunHistory;
+import io.seqera.tower.cli.exceptions.TowerRuntimeException;
+import io.seqera.tower.cli.responses.Response;
+import io.seqera.tower.cli.responses.runs.RunsSynced;
+import io.seqera.tower.cli.utils.RequestLimiter;
+import io.seqera.tower.model.ListWorkflowsResponseListWorkflowsElement;
+import io.seqera.tower.model.WorkflowQueryAttribute;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+@CommandLine.Command(
+        name = "sync",
+        description = "Update the local history of pipeline runs used by 'runs list --offline'"
+)
+public class SyncCmd extends AbstractRunsCmd {
+
+    @CommandLine.Mixin
+    public WorkspaceOptionalOptions workspace;
+
+    @CommandLine.Option(names = {"--full"}, description = "Request all the runs of the workspace again instead of only the ones submitted since the last sync that can have changed, dropping the runs deleted from the server.")
+    public boolean full;
+
+    @CommandLine.Mixin
+    public RequestRateOptions requests;
+
+    @Override
+    protected Response exec() throws ApiException, IOException {
+        Long wspId = workspaceId(workspace.workspace);
+        Path dir = RunHistory.dir(app().getLocalDir(), app().url);
+
+        try (FileChannel lock = RunHistory.lock(dir, wspId)) {
+            RunHistory history = RunHistory.open(dir, wspId);
+
+            String since = full || !history.exists() ? null : history.getState().since;
+            boolean fullSync = since == null;
+
+            RequestLimiter limiter = requests.limiter();
+            ExecutorService executor = requests.executor();
+            List<ListWorkflowsResponseListWorkflowsElement> runs;
+            try {
+                runs = listRuns(executor, limiter, wspId, fullSync ? null : "after:" + since, List.of(WorkflowQueryAttribute.labels));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TowerRuntimeException("Interrupted while requesting the pipeline runs");
+            } finally {
+                executor.shutdownNow();
+            }
+
+            String workspaceRef = workspaceRef(wspId);
+            int changed = history.update(runs, fullSync, workspaceRef, baseWorkspaceUrl(wspId));
+
+            return new RunsSynced(workspaceRef, since, runs.size(), changed, history.size(), history.getPath().toString());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs;
+
+import io.seqera.tower.ApiException;
+import io.seqera.tower.cli.commands.global.WorkspaceOptionalOptions;
+import io.seqera.tower.cli.commands.runs.download.DownloadCmd;
+import io.seqera.tower.cli.commands.runs.download.enums.RunDownloadFileType;
+import io.seqera.tower.cli.commands.runs.logs.LogTailer;
+import io.seqera.tower.cli.commands.runs.triage.ErrorSignature;
+import io.seqera.tower.cli.commands.runs.triage.FailureClusters;
+import io.seqera.tower.cli.exceptions.TowerException;
+import io.seqera.tower.cli.exceptions.TowerRuntimeException;
+import io.seqera.tower.cli.responses.Response;
+import io.seqera.tower.cli.responses.runs.RunsTriage;
+import io.seqera.tower.cli.utils.ApiHttpClient;
+import io.seqera.tower.model.Task;
+import io.seqera.tower.model.TaskStatus;
+import picocli.CommandLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@CommandLine.Command(
+        name = "triage",
+        description = "Group the failed tasks of a pipeline run by error"
+)
+public class TriageCmd extends AbstractRunsCmd {
+
+    @CommandLine.Option(names = {"-i", "--id"}, description = "Pipeline run identifier", required = true)
+    public String id;
+
+    @CommandLine.Mixin
+    public WorkspaceOptionalOptions workspace;
+
+    @CommandLine.Option(names = {"-f", "--filter"}, description = "Include only the tasks whose name starts with the specified string.")
+    public String filter;
+
+    @CommandLine.Option(names = {"--tail"}, description = "Size of the end of each task standard error that is read (default: 16KB).", defaultValue = "16KB")
+    public String tail;
+
+    @CommandLine.Option(names = {"--similarity"}, description = "Minimum similarity, between 0 and 1, of two error signatures with the same exit status to report them as the same failure (default: 0.7).", defaultValue = "0.7")
+    public double similarity;
+
+    @CommandLine.Option(names = {"--examples"}, description = "Number of example task identifiers for each failure (default: 3).", defaultValue = "3")
+    public int examples;
+
+    @CommandLine.Option(names = {"--parallel"}, description = "Number of error logs downloaded concurrently (default: 8).", defaultValue = "8")
+    public int parallel;
+
+    @Override
+    protected Response exec() throws ApiException, IOException {
+        long tailBytes = LogTailer.tailSize(tail);
+        if (similarity < 0 || similarity > 1) {
+            throw new TowerException("Option --similarity must be between 0 and 1");
+        }
+
+        Long wspId = workspaceId(workspace.workspace);
+        String fileName = DownloadCmd.fileName(RunDownloadFileType.stderr, id, 0L);
+        ApiHttpClient client = apiHttpClient();
+
+        FailureClusters clusters = new FailureClusters();
+        try {
+            // The tasks API search does not filter by status, so all the tasks are listed
+            forEachTaskConcurrently(wspId, id, filter, parallel, task -> {
+                if (task.getStatus() != TaskStatus.FAILED) {
+                    return;
+                }
+                ByteArrayOutputStream err = new ByteArrayOutputStream();
+                LogTailer.of(client, id, task.getTaskId(), fileName, wspId).fetchTail(err, tailBytes);
+                String output = err.toString(StandardCharsets.UTF_8);
+                clusters.add(task.getTaskId(), task.getProcess(), exit(task), ErrorSignature.of(output), ErrorSignature.example(output));
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TowerRuntimeException("Interrupted while reading the failed tasks");
+        }
+
+        return new RunsTriage(id, workspaceRef(wspId), clusters.getTasks(), clusters.modes(similarity, examples));
+    }
+
+    private static String exit(Task task) {
+        return task.getExit() == null ? "-" : task.getExit().toString();
+    }
+}
@@ -16,15 +16,22 @@
 
 package io.seqera.tower.cli.commands.runs;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import io.seqera.tower.ApiException;
+import io.seqera.tower.cli.commands.enums.OutputType;
 import io.seqera.tower.cli.commands.global.WorkspaceOptionalOptions;
 import io.seqera.tower.cli.commands.runs.download.DownloadCmd;
+import io.seqera.tower.cli.commands.runs.follow.ProgressDashboard;
 import io.seqera.tower.cli.commands.runs.metrics.MetricsCmd;
 import io.seqera.tower.cli.commands.runs.tasks.TaskCmd;
 import io.seqera.tower.cli.commands.runs.tasks.TasksCmd;
+import io.seqera.tower.cli.commands.runs.watch.RunsWatcher;
 import io.seqera.tower.cli.exceptions.RunNotFoundException;
+import io.seqera.tower.cli.exceptions.TowerRuntimeException;
 import io.seqera.tower.cli.responses.Response;
 import io.seqera.tower.cli.responses.runs.RunView;
+import io.seqera.tower.cli.utils.DurationConverter;
+import io.seqera.tower.cli.utils.PollingSchedule;
 import io.seqera.tower.model.ComputeEnvComputeConfig;
 import io.seqera.tower.model.DescribeWorkflowLaunchResponse;
 import io.seqera.tower.model.DescribeWorkflowResponse;
@@ -32,8 +39,10 @@ import io.seqera.tower.model.ProgressData;
 import io.seqera.tower.model.WorkflowLoad;
 import io.seqera.tower.model.WorkflowMaxDbDto;
 import io.seqera.tower.model.WorkflowQueryAttribute;
+import io.seqera.tower.model.WorkflowStatus;
 import picocli.CommandLine;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -41,6 +50,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import static io.seqera.tower.cli.utils.FormatHelper.formatDurationMillis;
 import static io.seqera.tower.cli.utils.FormatHelper.formatLabels;
 
 @CommandLine.Command(
@@ -64,8 +74,19 @@ public class ViewCmd extends AbstractRunsCmd {
     @CommandLine.Mixin
     public RunViewOptions opts;
 
+    @CommandLine.Option(names = {"--follow"}, description = "After the details, follow the progress of the run until it finishes, updating only the processes that change. With JSON output the changes are written to the standard error as newline delimited JSON.")
+    public boolean follow;
+
+    @CommandLine.Option(names = {"--follow-timeout"}, description = "Maximum time to follow the run, e.g. 30m or 6h (default: no limit).", converter = DurationConverter.class)
+    public Duration followTimeout;
+
+    /** The run status is also requested after this number of progress polls */
+    static final int STATUS_POLLS = 10;
+
+    private Long wspId;
+
     protected Response exec() throws ApiException {
-        Long wspId = workspaceId(workspace.workspace);
+        wspId = workspaceId(workspace.workspace);
 
         String workspaceRef = workspaceRef(wspId);
         DescribeWorkflowResponse workflowResponse = workflowsApi().describeWorkflow(id, wspId, List.of(WorkflowQueryAttribute.labels));
@@ -75,14 +96,15 @@ public class ViewCmd extends AbstractRunsCmd {
         }
 
         WorkflowMaxDbDto workflow = workflowResponse.getWorkflow();
+        runFinished(wspId, id, workflow.getStatus());
         WorkflowLoad workflowLoad = workflowLoadByWorkflowId(wspId, id);
 
-        DescribeWorkflowLaunchResponse wfLaunch = workflowsApi().describeWorkflowLaunch(workflow.getId(), wspId);
+        DescribeWorkflowLaunchResponse wfLaunch = workflowLaunchById(wspId, workflow.getId());
         ComputeEnvComputeConfig computeEnv = wfLaunch.getLaunch() != null ? wfLaunch.getLaunch().getComputeEnv() : null;
 
         ProgressData progress = null;
         if (opts.processes || opts.stats || opts.load || opts.utilization) {
-            progress = workflowsApi().describeWorkflowProgress(id, wspId).getProgress();
+            progress = workflowProgressById(wspId, id).getProgress();
         }
 
         Map<String, Object> general = new LinkedHashMap<>();
@@ -182,4 +204,72 @@ public class ViewCmd extends AbstractRunsCmd {
                 baseWorkspaceUrl(wspId)
         );
     }
+
+    @Override
+    protected Integer onBeforeExit(int exitCode, Response response) throws ApiException {
+        if (exitCode != 0 || !follow || response == null) {
+            return exitCode;
+        }
+
+        WorkflowStatus status = (WorkflowStatus) ((RunView) response).general.get("status");
+        try {
+            status = follow(status);
+        } catch (JsonProcessingException e) {
+            throw new TowerRuntimeException("Unable to write the run progress: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return exitCode;
+        }
+        return status == WorkflowStatus.SUCCEEDED ? CommandLine.ExitCode.OK : CommandLine.ExitCode.SOFTWARE;
+    }
+
+    /**
+     * Poll the run progress until the run finishes or the follow timeout expires. Only the
+     * progress is requested on most polls, the run status is requested when no task is waiting
+     * or running, when the progress did not change, as the run may have finished or been
+     * cancelled, and every few polls in any case.
+     */
+    private WorkflowStatus follow(WorkflowStatus status) throws ApiException, JsonProcessingException, InterruptedException {
+        // The JSON changes do not go after the JSON response in the standard output
+        ProgressDashboard dashboard = app().output == OutputType.json
+                ? new ProgressDashboard(app().getErr(), ProgressDashboard.Mode.JSON)
+                : new ProgressDashboard(app().getOut(), CommandLine.Help.Ansi.AUTO.enabled() ? ProgressDashboard.Mode.TERMINAL : ProgressDashboard.Mode.LOG);
+
+        // Back off while the progress does not change
+        PollingSchedule schedule = new PollingSchedule()
+                .interval(Duration.ofSeconds(2), Duration.ofSeconds(30))
+                .timeout(followTimeout);
+
+        List<ProgressDashboard.ProcessRow> previous = null;
+        int polls = 0;
+        while (RunsWatcher.ACTIVE.contains(status)) {
+            if (schedule.isExpired()) {
+                app().getErr().println(String.format("Stopped following run '%s' after %s, its status is %s", id, formatDurationMillis(followTimeout.toMillis()), status));
+                break;
+            }
+
+            ProgressData progress = workflowsApi().describeWorkflowProgress(id, wspId).getProgress();
+            polls++;
+
+            List<ProgressDashboard.ProcessRow> rows = new ArrayList<>();
+            if (progress != null && progress.getProcessesProgress() != null) {
+                progress.getProcessesProgress().forEach(it -> rows.add(new ProgressDashboard.ProcessRow(
+                        it.getProcess(), it.getPending(), it.getSubmitted(), it.getRunning(), it.getSucceeded(), it.getCached(), it.getFailed()
+                )));
+            }
+            boolean unchanged = rows.equals(previous);
+            previous = rows;
+            if (unchanged || polls % STATUS_POLLS == 0 || rows.stream().noneMatch(ProgressDashboard.ProcessRow::isActive)) {
+                status = workflowById(wspId, id, NO_WORKFLOW_ATTRIBUTES).getWorkflow().getStatus();
+            }
+
+            Long cpuTime = progress == null || progress.getWorkflowProgress() == null ? null : progress.getWorkflowProgress().getCpuTime();
+            dashboard.update(String.valueOf(status), cpuTime, rows);
+
+            if (RunsWatcher.ACTIVE.contains(status)) {
+                schedule.sleep(dashboard.getVersion());
+            }
+        }
+        return status;
+    }
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs;
+
+import io.seqera.tower.ApiException;
+import io.seqera.tower.cli.commands.global.WorkspaceOptionalOptions;
+import io.seqera.tower.cli.commands.runs.watch.RunsWatcher;
+import io.seqera.tower.cli.commands.runs.watch.WatchEvent;
+import io.seqera.tower.cli.exceptions.TowerRuntimeException;
+import io.seqera.tower.cli.responses.Response;
+import io.seqera.tower.cli.responses.runs.RunsWatched;
+import io.seqera.tower.cli.utils.DurationConverter;
+import io.seqera.tower.cli.utils.PollingSchedule;
+import io.seqera.tower.model.ListWorkflowsResponse;
+import io.seqera.tower.model.ListWorkflowsResponseListWorkflowsElement;
+import io.seqera.tower.model.WorkflowMaxDbDto;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.seqera.tower.cli.utils.JsonHelper.compactJson;
+import static io.seqera.tower.cli.utils.ResponseHelper.errorMessage;
+import static io.seqera.tower.cli.utils.ResponseHelper.outputFormat;
+
+@CommandLine.Command(
+        name = "watch",
+        description = "Watch pipeline runs until all of them finish, writing their status changes to the standard output as newline delimited JSON and the final status of the runs to the standard error"
+)
+public class WatchCmd extends AbstractRunsCmd {
+
+    static final int PAGE_SIZE = 100;
+
+    /** Consecutive polls failed with a transient error before giving up */
+    static final int MAX_RETRIES = 5;
+
+    private static final String RETRY = "retry";
+
+    @CommandLine.Mixin
+    public WorkspaceOptionalOptions workspace;
+
+    @CommandLine.Option(names = {"-i", "--id"}, split = ",", description = "Comma-separated pipeline run identifiers to watch. Without identifiers, the submitted or running runs matching the filter or label are watched, including the ones started while watching.")
+    public List<String> ids;
+
+    @CommandLine.Option(names = {"-f", "--filter"}, description = "Filter pipeline runs using the server search syntax (see 'runs list --filter').")
+    public String filter;
+
+    @CommandLine.Option(names = {"-l", "--label"}, description = "Watch the pipeline runs with this label.")
+    public String label;
+
+    @CommandLine.Option(names = {"--timeout"}, description = "Maximum time to watch, e.g. 30m or 6h (default: no limit).", converter = DurationConverter.class)
+    public Duration timeout;
+
+    @Override
+    protected Response exec() throws ApiException, IOException {
+        Long wspId = workspaceId(workspace.workspace);
+        List<String> runIds = ids == null ? List.of() : ids;
+        if (runIds.isEmpty() && filter == null && label == null) {
+            throw new TowerRuntimeException("Specify the runs to watch with '--id', '--filter' or '--label'");
+        }
+        if (!runIds.isEmpty() && (filter != null || label != null)) {
+            throw new TowerRuntimeException("Option '--id' cannot be combined with '--filter' or '--label'");
+        }
+
+        RunsWatcher watcher = new RunsWatcher(new RunSource(wspId), runIds, buildSearch(filter, label));
+
+        // Back off while nothing changes, and while the server fails
+        PollingSchedule schedule = new PollingSchedule()
+                .interval(Duration.ofSeconds(5), Duration.ofSeconds(60))
+                .interval(RETRY, Duration.ofSeconds(2), Duration.ofSeconds(30))
+                .timeout(timeout);
+
+        // Status changes are written to the standard output as newline delimited JSON while watching
+        PrintWriter out = app().getOut();
+        int failures = 0;
+        try {
+            while (true) {
+                List<WatchEvent> events;
+                try {
+                    events = watcher.poll();
+                    failures = 0;
+                } catch (ApiException e) {
+                    if (!isTransient(e) || ++failures > MAX_RETRIES || schedule.isExpired()) {
+                        throw e;
+                    }
+                    schedule.sleep(RETRY);
+                    continue;
+                }
+
+                for (WatchEvent event : events) {
+                    out.println(compactJson(event));
+                    out.flush();
+                }
+
+                if (watcher.isDone() || schedule.isExpired()) {
+                    break;
+                }
+                schedule.sleep(watcher.summary());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<RunsWatched.WatchedRun> runs = watcher.getRuns().stream()
+                .map(run -> new RunsWatched.WatchedRun(run.workflowId, run.runName, run.status))
+                .collect(Collectors.toList());
+        return new RunsWatched(workspaceRef(wspId), runs, !watcher.isDone(), baseWorkspaceUrl(wspId));
+    }
+
+    /**
+     * The standard output only carries the status changes, the final status of the runs is
+     * written to the standard error.
+     */
+    @Override
+    public Integer call() {
+        try {
+            Response response = exec();
+            return outputFormat(app().getErr(), response, app().output);
+        } catch (Exception e) {
+            errorMessage(app(), e);
+        }
+        return CommandLine.ExitCode.SOFTWARE;
+    }
+
+    static String buildSearch(String filter, String label) {
+        List<String> terms = new ArrayList<>();
+        if (filter != null && !filter.isBlank()) {
+            terms.add(filter.trim());
+        }
+        if (label != null && !label.isBlank()) {
+            terms.add("label:" + label.trim());
+        }
+        return terms.isEmpty() ? null : String.join(" ", terms);
+    }
+
+    private class RunSource implements RunsWatcher.RunSource {
+
+        private final Long wspId;
+
+        RunSource(Long wspId) {
+            this.wspId = wspId;
+        }
+
+        @Override
+        public List<RunsWatcher.RunState> list(String search) throws ApiException {
+            List<RunsWatcher.RunState> result = new ArrayList<>();
+            int offset = 0;
+            while (true) {
+                ListWorkflowsResponse response = workflowsApi().listWorkflows(NO_WORKFLOW_ATTRIBUTES, wspId, PAGE_SIZE, offset, search, false);
+                List<ListWorkflowsResponseListWorkflowsElement> page = response.getWorkflows() == null ? List.of() : response.getWorkflows();
+                for (ListWorkflowsResponseListWorkflowsElement element : page) {
+                    var workflow = element.getWorkflow();
+                    result.add(new RunsWatcher.RunState(workflow.getId(), workflow.getRunName(), workflow.getStatus()));
+                }
+                if (page.size() < PAGE_SIZE) {
+                    return result;
+                }
+                offset += PAGE_SIZE;
+            }
+        }
+
+        @Override
+        public RunsWatcher.RunState describe(String workflowId) throws ApiException {
+            try {
+                WorkflowMaxDbDto workflow = workflowById(wspId, workflowId, NO_WORKFLOW_ATTRIBUTES).getWorkflow();
+                return new RunsWatcher.RunState(workflow.getId(), workflow.getRunName(), workflow.getStatus());
+            } catch (ApiException e) {
+                if (e.getCode() == 403 || e.getCode() == 404) {
+                    return null;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.seqera.tower.model.WorkflowStatus;
+
+import static io.seqera.tower.cli.utils.JsonHelper.compactJson;
+import static io.seqera.tower.cli.utils.JsonHelper.parseJson;
+
+/**
+ * Local cache of the responses about finished pipeline runs, which do not change anymore.
+ * <p>
+ * Each response is stored as gzipped JSON in a file named after the SHA-256 of the server,
+ * access token, workspace, run and resource it belongs to, so an account is never served the
+ * responses requested by another one, e.g. after losing access to the run. The files are
+ * only readable by their owner. Reading an entry refreshes its modification time, and when
+ * the cache grows over its maximum size the least recently used entries are removed.
+ * Unreadable entries are treated as missing.
+ */
+public class RunCache {
+
+    public static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+
+    /** Statuses after which the run does not change */
+    public static final List<WorkflowStatus> FINISHED = List.of(WorkflowStatus.SUCCEEDED, WorkflowStatus.FAILED, WorkflowStatus.CANCELLED);
+
+    private static final String SUFFIX = ".json.gz";
+    private static final String STATUS = "status";
+
+    private static final Set<PosixFilePermission> OWNER_ONLY_DIR = PosixFilePermissions.fromString("rwx------");
+    private static final Set<PosixFilePermission> OWNER_ONLY_FILE = PosixFilePermissions.fromString("rw-------");
+
+    private final Path dir;
+    private final String server;
+    private final String account;
+    private final long maxBytes;
+
+    /** Total size of the entries, computed on the first write */
+    private long size = -1;
+
+    public RunCache(Path dir, String server, String token, long maxBytes) {
+        this.dir = dir;
+        this.server = server;
+        this.account = sha256(token == null ? "" : token);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Location of the cache under the folder of the local files, e.g. {@code ~/.tower}.
+     */
+    public static Path dir(Path localDir) {
+        return localDir.resolve("cache").resolve("runs");
+    }
+
+    /**
+     * Cached response, {@code null} if it is not cached.
+     */
+    public <T> T get(Long wspId, String workflowId, String resource, Class<T> type) {
+        Path path = path(wspId, workflowId, resource);
+        if (!Files.exists(path)) {
+            return null;
+        }
+
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(path))) {
+            T value = parseJson(new String(in.readAllBytes(), StandardCharsets.UTF_8), type);
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+            return value;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public void put(Long wspId, String workflowId, String resource, Object value) {
+        Path path = path(wspId, workflowId, resource);
+        Path tmpPath = null;
+        try {
+            if (isPosix()) {
+                Files.createDirectories(path.getParent(), PosixFilePermissions.asFileAttribute(OWNER_ONLY_DIR));
+                tmpPath = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp", PosixFilePermissions.asFileAttribute(OWNER_ONLY_FILE));
+            } else {
+                Files.createDirectories(path.getParent());
+                tmpPath = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            }
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmpPath))) {
+                out.write(compactJson(value).getBytes(StandardCharsets.UTF_8));
+            }
+            long written = Files.size(tmpPath);
+            try {
+                Files.move(tmpPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmpPath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            added(written);
+        } catch (JsonProcessingException e) {
+            // Not cacheable, it is requested again next time
+        } catch (IOException e) {
+            // The cache is an optimization, a failure to write it is not an error
+            try {
+                if (tmpPath != null) {
+                    Files.deleteIfExists(tmpPath);
+                }
+            } catch (IOException ignored) {
+                // Nothing else to do
+            }
+        }
+    }
+
+    /**
+     * Whether the run is known to be finished, responses about it can then be cached.
+     */
+    public boolean isFinished(Long wspId, String workflowId) {
+        return Files.exists(path(wspId, workflowId, STATUS));
+    }
+
+    /**
+     * Record the status of a run, if it is finished later responses about it are cached.
+     */
+    public void status(Long wspId, String workflowId, WorkflowStatus status) {
+        if (status != null && FINISHED.contains(status) && !isFinished(wspId, workflowId)) {
+            put(wspId, workflowId, STATUS, status.toString());
+        }
+    }
+
+    private synchronized void added(long bytes) throws IOException {
+        if (size < 0) {
+            size = entries().stream().mapToLong(Entry::getSize).sum();
+        } else {
+            size += bytes;
+        }
+        if (size <= maxBytes) {
+            return;
+        }
+
+        // Remove the least recently used entries
+        List<Entry> entries = entries();
+        entries.sort(Comparator.comparingLong(Entry::getLastUsed));
+        size = entries.stream().mapToLong(Entry::getSize).sum();
+        for (Entry entry : entries) {
+            if (size <= maxBytes) {
+                break;
+            }
+            Files.deleteIfExists(entry.path);
+            size -= entry.size;
+        }
+    }
+
+    private List<Entry> entries() throws IOException {
+        if (!Files.exists(dir)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            List<Entry> result = new ArrayList<>();
+            for (Path path : files.filter(it -> it.getFileName().toString().endsWith(SUFFIX)).collect(Collectors.toList())) {
+                try {
+                    result.add(new Entry(path, Files.size(path), Files.getLastModifiedTime(path).toMillis()));
+                } catch (IOException e) {
+                    // Removed meanwhile
+                }
+            }
+            return result;
+        }
+    }
+
+    Path path(Long wspId, String workflowId, String resource) {
+        String hash = sha256(String.join("\n", server, account, wspId == null ? "user" : wspId.toString(), workflowId, resource));
+        return dir.resolve(hash.substring(0, 2)).resolve(hash + SUFFIX);
+    }
+
+    private static String sha256(String value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isPosix() {
+        return FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+    }
+
+    private static class Entry {
+
+        private final Path path;
+        private final long size;
+        private final long lastUsed;
+
+        Entry(Path path, long size, long lastUsed) {
+            this.path = path;
+            this.size = size;
+            this.lastUsed = lastUsed;
+        }
+
+        long getSize() {
+            return size;
+        }
+
+        long getLastUsed() {
+            return lastUsed;
+        }
+    }
+}
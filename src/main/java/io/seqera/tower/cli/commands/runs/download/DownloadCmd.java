@@ -47,36 +47,36 @@ public class DownloadCmd extends AbstractRunsCmd {
     protected Response exec() throws ApiException, IOException {
         Long wspId = workspaceId(parentCommand.workspace.workspace);
 
-        String fileName;
-        File file;
+        String fileName = fileName(type, parentCommand.id, task);
+        File file = task == null
+                ? workflowsApi().downloadWorkflowLog(parentCommand.id, fileName, wspId)
+                : workflowsApi().downloadWorkflowTaskLog(parentCommand.id, task, fileName, wspId);
 
-        if (task == null) {
-            fileName = String.format("nf-%s.txt", parentCommand.id);
+        return new RunFileDownloaded(file, type);
+    }
 
+    /**
+     * Name of the file of the given type of a run, or of one of its tasks when {@code task} is not null.
+     */
+    public static String fileName(RunDownloadFileType type, String workflowId, Long task) throws TowerException {
+        if (task == null) {
             if (type == RunDownloadFileType.log) {
-                fileName = String.format("nf-%s.log", parentCommand.id);
+                return String.format("nf-%s.log", workflowId);
             } else if (type == RunDownloadFileType.timeline) {
-                fileName = String.format("timeline-%s.html", parentCommand.id);
+                return String.format("timeline-%s.html", workflowId);
             } else if (type == RunDownloadFileType.stderr) {
                 throw new TowerException("Error file is not available for pipeline's runs");
             }
-
-            file = workflowsApi().downloadWorkflowLog(parentCommand.id, fileName, wspId);
-
-        } else {
-            fileName = ".command.out";
-
-            if (type == RunDownloadFileType.log) {
-                fileName = ".command.log";
-            } else if (type == RunDownloadFileType.stderr) {
-                fileName = ".command.err";
-            } else if (type == RunDownloadFileType.timeline) {
-                throw new TowerException("Timeline file is not available for tasks");
-            }
-
-            file = workflowsApi().downloadWorkflowTaskLog(parentCommand.id, task, fileName, wspId);
+            return String.format("nf-%s.txt", workflowId);
         }
 
-        return new RunFileDownloaded(file, type);
+        if (type == RunDownloadFileType.log) {
+            return ".command.log";
+        } else if (type == RunDownloadFileType.stderr) {
+            return ".command.err";
+        } else if (type == RunDownloadFileType.timeline) {
+            throw new TowerException("Timeline file is not available for tasks");
+        }
+        return ".command.out";
     }
 }
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs.follow;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import static io.seqera.tower.cli.utils.FormatHelper.formatDurationMillis;
+import static io.seqera.tower.cli.utils.JsonHelper.compactJson;
+
+/**
+ * Live view of the progress of a run. It keeps the last progress received and only writes
+ * what changed: on a terminal it rewrites in place the lines that changed, otherwise it
+ * writes the changed lines (or, in JSON mode, the changed process rows as JSON lines).
+ */
+public class ProgressDashboard {
+
+    static final int NAME_WIDTH = 40;
+
+    public enum Mode {
+        TERMINAL, LOG, JSON
+    }
+
+    private final PrintWriter out;
+    private final Mode mode;
+
+    /** Last progress of each process, in the order they were first seen */
+    private final Map<String, ProcessRow> rows = new LinkedHashMap<>();
+    private String header;
+
+    /** Lines currently on screen, in terminal mode */
+    private final List<String> rendered = new ArrayList<>();
+
+    /** Incremented on every update that changes something */
+    private int version;
+
+    public ProgressDashboard(PrintWriter out, Mode mode) {
+        this.out = out;
+        this.mode = mode;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Apply a new progress sample and write the differences with the previous one.
+     *
+     * @return number of lines (or JSON rows) written
+     */
+    public int update(String status, Long cpuTimeMillis, List<ProcessRow> sample) throws JsonProcessingException {
+        List<ProcessRow> changed = new ArrayList<>();
+        for (ProcessRow row : sample) {
+            if (!row.equals(rows.get(row.process))) {
+                rows.put(row.process, row);
+                changed.add(row);
+            }
+        }
+
+        String newHeader = header(status, cpuTimeMillis);
+        boolean headerChanged = !newHeader.equals(header);
+        header = newHeader;
+
+        if (headerChanged || !changed.isEmpty()) {
+            version++;
+        }
+
+        switch (mode) {
+            case JSON:
+                for (ProcessRow row : changed) {
+                    out.println(compactJson(row));
+                }
+                out.flush();
+                return changed.size();
+            case LOG:
+                int count = 0;
+                if (headerChanged) {
+                    out.println(header);
+                    count++;
+                }
+                for (ProcessRow row : changed) {
+                    out.println(line(row));
+                    count++;
+                }
+                out.flush();
+                return count;
+            default:
+                return render();
+        }
+    }
+
+    /**
+     * Rewrite the lines that differ from the ones on screen. The cursor stays below the last
+     * line, it is moved up to each changed line and back.
+     */
+    private int render() {
+        List<String> lines = new ArrayList<>();
+        lines.add(header);
+        lines.add(String.format("    %-" + NAME_WIDTH + "s %11s %8s %9s %8s %7s %7s", "Process", "Completed", "Pending", "Submitted", "Running", "Cached", "Failed"));
+        rows.values().forEach(row -> lines.add(line(row)));
+
+        StringBuilder output = new StringBuilder();
+        int count = 0;
+        int onScreen = rendered.size();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (i < onScreen) {
+                if (!line.equals(rendered.get(i))) {
+                    int up = onScreen - i;
+                    output.append("\033[").append(up).append("A\r\033[2K").append(line)
+                            .append("\033[").append(up).append("B\r");
+                    rendered.set(i, line);
+                    count++;
+                }
+            } else {
+                output.append(line).append('\n');
+                rendered.add(line);
+                count++;
+            }
+        }
+
+        if (output.length() > 0) {
+            out.print(output);
+            out.flush();
+        }
+        return count;
+    }
+
+    private String header(String status, Long cpuTimeMillis) {
+        long completed = 0, total = 0, running = 0, failed = 0;
+        for (ProcessRow row : rows.values()) {
+            completed += row.getCompleted();
+            total += row.getTotal();
+            running += row.running;
+            failed += row.failed;
+        }
+        String cpuTime = formatDurationMillis(cpuTimeMillis);
+        return String.format("  %s: %d/%d tasks completed, %d running, %d failed, CPU time %s",
+                status, completed, total, running, failed, cpuTime.isEmpty() ? "0s" : cpuTime);
+    }
+
+    static String line(ProcessRow row) {
+        String name = row.process.length() > NAME_WIDTH
+                ? "..." + row.process.substring(row.process.length() - NAME_WIDTH + 3)
+                : row.process;
+        return String.format("    %-" + NAME_WIDTH + "s %11s %8d %9d %8d %7d %7d", name,
+                row.getCompleted() + "/" + row.getTotal(), row.pending, row.submitted, row.running, row.cached, row.failed);
+    }
+
+    /**
+     * Task counts of a process.
+     */
+    public static class ProcessRow {
+
+        public final String process;
+        public final long pending;
+        public final long submitted;
+        public final long running;
+        public final long succeeded;
+        public final long cached;
+        public final long failed;
+
+        public ProcessRow(String process, Number pending, Number submitted, Number running, Number succeeded, Number cached, Number failed) {
+            this.process = process;
+            this.pending = count(pending);
+            this.submitted = count(submitted);
+            this.running = count(running);
+            this.succeeded = count(succeeded);
+            this.cached = count(cached);
+            this.failed = count(failed);
+        }
+
+        public long getCompleted() {
+            return succeeded + cached;
+        }
+
+        public long getTotal() {
+            return pending + submitted + running + succeeded + cached + failed;
+        }
+
+        /**
+         * Whether the process has tasks waiting or running.
+         */
+        public boolean isActive() {
+            return pending + submitted + running > 0;
+        }
+
+        private static long count(Number value) {
+            return value == null ? 0 : value.longValue();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ProcessRow that = (ProcessRow) o;
+            return pending == that.pending && submitted == that.submitted && running == that.running
+                    && succeeded == that.succeeded && cached == that.cached && failed == that.failed
+                    && Objects.equals(process, that.process);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(process, pending, submitted, running, succeeded, cached, failed);
+        }
+    }
+}
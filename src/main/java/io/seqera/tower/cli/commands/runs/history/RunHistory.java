@@ -0,0 +1,485 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs.history;
+
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.io.OutputStreamWriter;
+import java.net.URI;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.seqera.tower.cli.commands.AbstractApiCmd;
+import io.seqera.tower.cli.commands.runs.watch.RunsWatcher;
+import io.seqera.tower.cli.exceptions.TowerException;
+import io.seqera.tower.model.ListWorkflowsResponseListWorkflowsElement;
+import io.seqera.tower.model.WorkflowMaxDbDto;
+import io.seqera.tower.model.WorkflowStatus;
+
+import static io.seqera.tower.cli.utils.JsonHelper.compactJson;
+import static io.seqera.tower.cli.utils.JsonHelper.parseJson;
+import static io.seqera.tower.cli.utils.JsonHelper.prettyJson;
+
+/**
+ * Local copy of the pipeline runs of a workspace, kept up to date by {@code runs sync}.
+ * <p>
+ * The runs are stored one JSON per line in {@code <workspace>.ndjson.gz}. Every sync appends
+ * the new and changed runs as a new gzip member, and the latest line of a run wins when the
+ * file is loaded; the file is rewritten once it holds more stale lines than runs. The
+ * {@code <workspace>.json} file keeps the date from which the next sync has to request runs.
+ * A sync holds a lock on {@code <workspace>.lock} while it updates them.
+ * Once loaded, the runs are sorted by submit date and indexed by status, pipeline and user.
+ */
+public class RunHistory {
+
+    static final String RUNS_SUFFIX = ".ndjson.gz";
+    static final String STATE_SUFFIX = ".json";
+    static final String LOCK_SUFFIX = ".lock";
+
+    private static final Comparator<WorkflowMaxDbDto> NEWEST_FIRST = Comparator
+            .comparing(WorkflowMaxDbDto::getSubmit, Comparator.nullsLast(Comparator.<OffsetDateTime>reverseOrder()))
+            .thenComparing(WorkflowMaxDbDto::getId, Comparator.nullsLast(Comparator.<String>naturalOrder()));
+
+    private final Path runsPath;
+    private final Path statePath;
+
+    private State state;
+
+    /** Runs sorted by submit date, newest first */
+    private List<ListWorkflowsResponseListWorkflowsElement> runs = new ArrayList<>();
+
+    private Map<WorkflowStatus, BitSet> byStatus = new HashMap<>();
+    private Map<String, BitSet> byPipeline = new HashMap<>();
+    private Map<String, BitSet> byUser = new HashMap<>();
+
+    private RunHistory(Path dir, String key) {
+        this.runsPath = dir.resolve(key + RUNS_SUFFIX);
+        this.statePath = dir.resolve(key + STATE_SUFFIX);
+    }
+
+    /**
+     * Folder of the histories of a server under the folder of the local files, e.g. {@code ~/.tower}.
+     */
+    public static Path dir(Path localDir, String server) {
+        URI uri = URI.create(server);
+        String name = uri.getAuthority() == null ? server : uri.getAuthority() + (uri.getPath() == null ? "" : uri.getPath());
+        return localDir.resolve("runs-history").resolve(name.replaceAll("[^A-Za-z0-9.-]", "_"));
+    }
+
+    /**
+     * Load the history of a workspace, empty if it was never synced.
+     */
+    public static RunHistory open(Path dir, Long wspId) throws IOException {
+        RunHistory history = new RunHistory(dir, key(wspId));
+        history.load();
+        return history;
+    }
+
+    /**
+     * Lock the history of a workspace for a sync, until the returned channel is closed. The
+     * files of the history are only written while holding the lock, so two syncs of the same
+     * workspace cannot interleave their appends or replace each other files.
+     */
+    public static FileChannel lock(Path dir, Long wspId) throws IOException, TowerException {
+        Files.createDirectories(dir);
+        FileChannel channel = FileChannel.open(dir.resolve(key(wspId) + LOCK_SUFFIX), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            FileLock lock;
+            try {
+                lock = channel.tryLock();
+            } catch (OverlappingFileLockException e) {
+                // Held by this process
+                lock = null;
+            }
+            if (lock == null) {
+                throw new TowerException("The local history of the workspace is being updated by another 'tw runs sync', try again once it finishes");
+            }
+        } catch (IOException | TowerException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return channel;
+    }
+
+    /**
+     * Find the workspace identifier of a reference without connecting to the server, looking
+     * at the references recorded by previous syncs.
+     *
+     * @return {@code null} for the user workspace
+     */
+    public static Long findWorkspace(Path dir, String workspace) throws IOException, TowerException {
+        if (workspace == null) {
+            return null;
+        }
+        if (!workspace.contains("/")) {
+            try {
+                return Long.valueOf(workspace);
+            } catch (NumberFormatException e) {
+                throw new TowerException(String.format("Invalid workspace reference '%s'", workspace));
+            }
+        }
+
+        String[] parts = workspace.split("/");
+        String ref = parts.length == 2 ? AbstractApiCmd.buildWorkspaceRef(parts[0].strip(), parts[1].strip()) : workspace;
+        if (Files.isDirectory(dir)) {
+            try (var files = Files.list(dir)) {
+                for (Path path : (Iterable<Path>) files::iterator) {
+                    String fileName = path.getFileName().toString();
+                    if (!fileName.endsWith(STATE_SUFFIX)) {
+                        continue;
+                    }
+                    State state = readState(path);
+                    if (state != null && ref.equals(state.workspaceRef)) {
+                        String key = fileName.substring(0, fileName.length() - STATE_SUFFIX.length());
+                        return "user".equals(key) ? null : Long.valueOf(key);
+                    }
+                }
+            }
+        }
+        throw new TowerException(String.format("No local history of workspace '%s', run 'tw runs sync' first", workspace));
+    }
+
+    private static String key(Long wspId) {
+        return wspId == null ? "user" : wspId.toString();
+    }
+
+    public boolean exists() {
+        return state != null;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public int size() {
+        return runs.size();
+    }
+
+    public Path getPath() {
+        return runsPath;
+    }
+
+    /**
+     * Store the runs requested from the server, appending only the new and changed ones. A
+     * full sync replaces the stored runs, dropping the ones deleted from the server.
+     *
+     * @return number of new or changed runs
+     */
+    public int update(Collection<ListWorkflowsResponseListWorkflowsElement> fetched, boolean full, String workspaceRef, String baseWorkspaceUrl) throws IOException {
+        Map<String, ListWorkflowsResponseListWorkflowsElement> current = new LinkedHashMap<>();
+        if (!full) {
+            runs.forEach(it -> current.put(it.getWorkflow().getId(), it));
+        }
+
+        List<ListWorkflowsResponseListWorkflowsElement> changed = new ArrayList<>();
+        for (ListWorkflowsResponseListWorkflowsElement run : fetched) {
+            if (run.getWorkflow() == null || run.getWorkflow().getId() == null) {
+                continue;
+            }
+            if (!Objects.equals(current.put(run.getWorkflow().getId(), run), run)) {
+                changed.add(run);
+            }
+        }
+
+        State next = state == null ? new State() : state;
+        Files.createDirectories(runsPath.getParent());
+        if (full || state == null || !changed.isEmpty()) {
+            if (full || state == null || next.records + changed.size() > 2L * current.size()) {
+                // Too many stale lines, rewrite the file with the latest version of each run
+                rewrite(current.values());
+                next.records = current.size();
+            } else {
+                try (Writer out = writer(Files.newOutputStream(runsPath, StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+                    write(out, changed);
+                }
+                next.records += changed.size();
+            }
+        }
+
+        index(current.values());
+
+        next.workspaceRef = workspaceRef;
+        next.baseWorkspaceUrl = baseWorkspaceUrl;
+        next.since = since();
+        next.lastSync = OffsetDateTime.now(ZoneOffset.UTC).toString();
+        state = next;
+        save();
+
+        return changed.size();
+    }
+
+    /**
+     * Runs matching a filter in the syntax of {@code runs list --filter}, newest first. Supports
+     * the {@code status}, {@code pipeline}, {@code user}, {@code runName}, {@code after} and
+     * {@code before} keys, and a bare value matches the run name substring.
+     */
+    public List<ListWorkflowsResponseListWorkflowsElement> query(String filter) throws TowerException {
+        BitSet result = new BitSet();
+        result.set(0, runs.size());
+
+        if (filter != null) {
+            for (String token : filter.trim().split("\\s+")) {
+                if (token.isEmpty()) {
+                    continue;
+                }
+                int sep = token.indexOf(':');
+                if (sep < 0) {
+                    result.and(scan(it -> it.getRunName(), token));
+                    continue;
+                }
+
+                String key = token.substring(0, sep);
+                String value = token.substring(sep + 1);
+                switch (key) {
+                    case "status":
+                        result.and(byStatus.getOrDefault(status(value), new BitSet()));
+                        break;
+                    case "pipeline":
+                    case "projectName":
+                        result.and(byPipeline.getOrDefault(value.toLowerCase(Locale.ROOT), new BitSet()));
+                        break;
+                    case "user":
+                    case "userName":
+                        result.and(byUser.getOrDefault(value.toLowerCase(Locale.ROOT), new BitSet()));
+                        break;
+                    case "runName":
+                        result.and(scan(it -> it.getRunName(), value));
+                        break;
+                    case "after":
+                        result.clear(firstBefore(date(key, value)), runs.size());
+                        break;
+                    case "before":
+                        result.clear(0, firstBefore(date(key, value)));
+                        result.clear(firstWithoutSubmit(), runs.size());
+                        break;
+                    default:
+                        throw new TowerException(String.format("Filter key '%s' is not available offline, use status, pipeline, user, runName, after or before", key));
+                }
+            }
+        }
+
+        List<ListWorkflowsResponseListWorkflowsElement> matches = new ArrayList<>(result.cardinality());
+        result.stream().forEach(i -> matches.add(runs.get(i)));
+        return matches;
+    }
+
+    private void load() throws IOException {
+        state = Files.exists(statePath) ? readState(statePath) : null;
+
+        Map<String, ListWorkflowsResponseListWorkflowsElement> latest = new LinkedHashMap<>();
+        if (state != null && Files.exists(runsPath)) {
+            // Concatenated gzip members are read as a single stream
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(runsPath)), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    ListWorkflowsResponseListWorkflowsElement run = parseJson(line, ListWorkflowsResponseListWorkflowsElement.class);
+                    if (run.getWorkflow() != null && run.getWorkflow().getId() != null) {
+                        latest.put(run.getWorkflow().getId(), run);
+                    }
+                }
+            } catch (EOFException e) {
+                // A sync is appending the last member, its runs are read once it is complete
+            }
+        }
+        index(latest.values());
+    }
+
+    private void index(Collection<ListWorkflowsResponseListWorkflowsElement> values) {
+        runs = new ArrayList<>(values);
+        runs.sort(Comparator.comparing(ListWorkflowsResponseListWorkflowsElement::getWorkflow, NEWEST_FIRST));
+
+        byStatus = new HashMap<>();
+        byPipeline = new HashMap<>();
+        byUser = new HashMap<>();
+        for (int i = 0; i < runs.size(); i++) {
+            WorkflowMaxDbDto run = runs.get(i).getWorkflow();
+            if (run.getStatus() != null) {
+                byStatus.computeIfAbsent(run.getStatus(), k -> new BitSet()).set(i);
+            }
+            if (run.getProjectName() != null) {
+                byPipeline.computeIfAbsent(run.getProjectName().toLowerCase(Locale.ROOT), k -> new BitSet()).set(i);
+            }
+            if (run.getUserName() != null) {
+                byUser.computeIfAbsent(run.getUserName().toLowerCase(Locale.ROOT), k -> new BitSet()).set(i);
+            }
+        }
+    }
+
+    /**
+     * Date from which the next sync requests runs: the submit date of the oldest run that can
+     * still change, or of the newest run if all of them have finished. One day earlier, as
+     * the server may compare dates in another time zone.
+     */
+    private String since() {
+        OffsetDateTime oldestActive = null;
+        for (ListWorkflowsResponseListWorkflowsElement it : runs) {
+            WorkflowMaxDbDto run = it.getWorkflow();
+            if (run.getSubmit() != null && run.getStatus() != null && RunsWatcher.ACTIVE.contains(run.getStatus())) {
+                oldestActive = run.getSubmit();
+            }
+        }
+
+        OffsetDateTime from = oldestActive != null ? oldestActive : runs.isEmpty() ? null : runs.get(0).getWorkflow().getSubmit();
+        return from == null ? null : from.withOffsetSameInstant(ZoneOffset.UTC).toLocalDate().minusDays(1).toString();
+    }
+
+    private BitSet scan(Function<WorkflowMaxDbDto, String> field, String value) {
+        String needle = value.toLowerCase(Locale.ROOT);
+        BitSet result = new BitSet();
+        for (int i = 0; i < runs.size(); i++) {
+            String text = field.apply(runs.get(i).getWorkflow());
+            if (text != null && text.toLowerCase(Locale.ROOT).contains(needle)) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Index of the first run submitted before the start of the day, runs are sorted newest first.
+     */
+    private int firstBefore(LocalDate date) {
+        OffsetDateTime start = date.atStartOfDay().atOffset(ZoneOffset.UTC);
+        int low = 0;
+        int high = firstWithoutSubmit();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (runs.get(mid).getWorkflow().getSubmit().isBefore(start)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private int firstWithoutSubmit() {
+        int index = runs.size();
+        while (index > 0 && runs.get(index - 1).getWorkflow().getSubmit() == null) {
+            index--;
+        }
+        return index;
+    }
+
+    private static WorkflowStatus status(String value) throws TowerException {
+        try {
+            return WorkflowStatus.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new TowerException(String.format("Unknown run status '%s'", value));
+        }
+    }
+
+    private static LocalDate date(String key, String value) throws TowerException {
+        try {
+            return LocalDate.parse(value);
+        } catch (RuntimeException e) {
+            throw new TowerException(String.format("Invalid date '%s' for filter key '%s', use the yyyy-mm-dd format", value, key));
+        }
+    }
+
+    private void rewrite(Collection<ListWorkflowsResponseListWorkflowsElement> values) throws IOException {
+        Path tmpPath = runsPath.resolveSibling(runsPath.getFileName() + ".tmp");
+        try (Writer out = writer(Files.newOutputStream(tmpPath))) {
+            write(out, values);
+        }
+        move(tmpPath, runsPath);
+    }
+
+    private void save() throws IOException {
+        Files.createDirectories(statePath.getParent());
+        Path tmpPath = statePath.resolveSibling(statePath.getFileName() + ".tmp");
+        Files.writeString(tmpPath, prettyJson(state));
+        move(tmpPath, statePath);
+    }
+
+    private static State readState(Path path) throws IOException {
+        try {
+            return parseJson(Files.readString(path), State.class);
+        } catch (JsonProcessingException e) {
+            // Corrupted state, the next sync starts over
+            return null;
+        }
+    }
+
+    private static Writer writer(OutputStream out) throws IOException {
+        return new OutputStreamWriter(new GZIPOutputStream(out), StandardCharsets.UTF_8);
+    }
+
+    private static void write(Writer out, Collection<ListWorkflowsResponseListWorkflowsElement> values) throws IOException {
+        for (ListWorkflowsResponseListWorkflowsElement run : values) {
+            out.write(compactJson(run));
+            out.write('\n');
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public static class State {
+
+        /** Workspace reference and URL, to list the runs offline */
+        public String workspaceRef;
+        public String baseWorkspaceUrl;
+
+        /** Date of the {@code after:} search of the next sync */
+        public String since;
+
+        public String lastSync;
+
+        /** Lines in the runs file, including the stale ones */
+        public long records;
+
+        public State() {
+        }
+    }
+}
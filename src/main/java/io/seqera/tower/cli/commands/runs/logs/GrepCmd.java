@@ -0,0 +1,164 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs.logs;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import io.seqera.tower.ApiException;
+import io.seqera.tower.cli.commands.global.WorkspaceOptionalOptions;
+import io.seqera.tower.cli.commands.runs.AbstractRunsCmd;
+import io.seqera.tower.cli.commands.runs.download.DownloadCmd;
+import io.seqera.tower.cli.commands.runs.download.enums.RunDownloadFileType;
+import io.seqera.tower.cli.exceptions.TowerException;
+import io.seqera.tower.cli.utils.ApiHttpClient;
+import io.seqera.tower.model.Task;
+import picocli.CommandLine;
+
+import static io.seqera.tower.cli.utils.ResponseHelper.errorMessage;
+
+/**
+ * Searches the log files of all the tasks of a run. Tasks are requested one page at a time and
+ * their logs are downloaded by a bounded number of threads, matching each line as it arrives,
+ * so the logs are never stored. The matching lines of a task are printed together, a bounded
+ * number at a time, prefixed by the task identifier, name and log file.
+ */
+@CommandLine.Command(
+        name = "grep",
+        description = "Search the log files of the tasks of a pipeline run. Exits with status 1 if no line matched and 2 if the logs could not be searched."
+)
+public class GrepCmd extends AbstractRunsCmd {
+
+    /** Exit status when no line matched, like grep */
+    static final int NO_MATCH = 1;
+
+    /** Exit status when the logs could not be searched, like grep */
+    static final int ERROR = 2;
+
+    /** Matching lines of a task kept to print them together */
+    static final int MAX_BUFFERED_LINES = 1000;
+
+    @CommandLine.Parameters(index = "0", paramLabel = "PATTERN", description = "Regular expression to search for in each line", arity = "1")
+    public String pattern;
+
+    @CommandLine.Option(names = {"-i", "--id"}, description = "Pipeline run identifier", required = true)
+    public String id;
+
+    @CommandLine.Mixin
+    public WorkspaceOptionalOptions workspace;
+
+    @CommandLine.Option(names = {"-f", "--filter"}, description = "Search only the tasks whose name starts with the specified string.")
+    public String filter;
+
+    @CommandLine.Option(names = {"--type"}, split = ",", description = "Task log files to search: 'stderr' (.command.err), 'stdout' (.command.out), 'log' (.command.log). Comma-separated list (default: stderr,stdout,log).", defaultValue = "stderr,stdout,log")
+    public List<RunDownloadFileType> type;
+
+    @CommandLine.Option(names = {"--ignore-case"}, description = "Ignore case distinctions in the pattern and the logs.")
+    public boolean ignoreCase;
+
+    @CommandLine.Option(names = {"--tail"}, description = "Search only the end of each log, up to this size, e.g. 1MB. Line numbers are not shown, as the start of the log is not read.")
+    public String tail;
+
+    @CommandLine.Option(names = {"--parallel"}, description = "Number of logs downloaded concurrently (default: 8).", defaultValue = "8")
+    public int parallel;
+
+    @Override
+    public Integer call() {
+        try {
+            Pattern regex = compile();
+            Long tailBytes = tail == null ? null : LogTailer.tailSize(tail);
+            List<String> fileNames = new ArrayList<>();
+            for (RunDownloadFileType fileType : type) {
+                if (fileType == RunDownloadFileType.timeline) {
+                    throw new TowerException("Timeline is not a log file");
+                }
+                fileNames.add(DownloadCmd.fileName(fileType, id, 0L));
+            }
+
+            Long wspId = workspaceId(workspace.workspace);
+            ApiHttpClient client = apiHttpClient();
+
+            AtomicLong matches = new AtomicLong();
+            forEachTaskConcurrently(wspId, id, filter, parallel,
+                    task -> matches.addAndGet(grep(client, wspId, task, fileNames, regex, tailBytes)));
+            return matches.get() > 0 ? CommandLine.ExitCode.OK : NO_MATCH;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            errorMessage(app(), e);
+        }
+        return ERROR;
+    }
+
+    /**
+     * Search the logs of a task and print its matching lines. They are printed together once
+     * the task logs are searched, or every {@link #MAX_BUFFERED_LINES} lines when there are more.
+     *
+     * @return number of matching lines
+     */
+    private long grep(ApiHttpClient client, Long wspId, Task task, List<String> fileNames, Pattern regex, Long tailBytes) throws ApiException, IOException, InterruptedException {
+        List<String> lines = new ArrayList<>();
+        long count = 0;
+        for (String fileName : fileNames) {
+            String prefix = String.format("%d %s %s", task.getTaskId(), task.getName(), fileName);
+            LineMatcher matcher = new LineMatcher(regex, (lineNumber, line) -> {
+                lines.add(tailBytes == null
+                        ? String.format("%s:%d: %s", prefix, lineNumber, line)
+                        : String.format("%s: %s", prefix, line));
+                if (lines.size() >= MAX_BUFFERED_LINES) {
+                    print(lines);
+                }
+            });
+
+            LogTailer tailer = LogTailer.of(client, id, task.getTaskId(), fileName, wspId);
+            if (tailBytes == null) {
+                tailer.fetch(matcher);
+            } else {
+                tailer.fetchTail(matcher, tailBytes);
+            }
+            matcher.close();
+            count += matcher.getMatches();
+        }
+        print(lines);
+        return count;
+    }
+
+    private void print(List<String> lines) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        PrintWriter out = app().getOut();
+        synchronized (out) {
+            lines.forEach(out::println);
+            out.flush();
+        }
+        lines.clear();
+    }
+
+    private Pattern compile() throws TowerException {
+        try {
+            return Pattern.compile(pattern, ignoreCase ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : 0);
+        } catch (PatternSyntaxException e) {
+            throw new TowerException(String.format("Invalid pattern '%s': %s", pattern, e.getDescription()));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.seqera.tower.cli.commands.runs.logs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import io.seqera.tower.cli.utils.JsonHelper;
+
+/**
+ * Writes the lines of a log as newline delimited JSON objects, e.g. {@code {"line":"..."}},
+ * for the {@code --output json} format. The last line is written on close even without
+ * a trailing newline.
+ */
+class JsonLinesOutputStream extends OutputStream {
+
+    private final PrintWriter writer;
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+    JsonLinesOutputStream(PrintWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (b == '\n') {
+            writeLine();
+        } else {
+            line.write(b);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        int end = off + len;
+        for (int i = off; i < end; i++) {
+            if (b[i] == '\n') {
+                line.write(b, off, i - off);
+                writeLine();
+                off = i + 1;
+            }
+        }
+        line.write(b, off, end - off);
+    }
+
+    @Override
+    public void flush() {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (line.size() > 0) {
+            writeLine();
+        }
+        writer.flush();
+    }
+
+    private void writeLine() throws IOException {
+        String text = line.toString(StandardCharsets.UTF_8);
+        if (text.endsWith("\r")) {
+            text = text.substring(0, text.length() - 1);
+        }
+        writer.println(JsonHelper.compactJson(Map.of("line", text)));
+        line.reset();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs.logs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+
+/**
+ * Splits the written bytes into lines and passes the lines matching a pattern to a consumer,
+ * so a log can be searched while it is being downloaded without holding it in memory. Lines
+ * longer than {@link #MAX_LINE} bytes are truncated.
+ */
+public class LineMatcher extends OutputStream {
+
+    static final int MAX_LINE = 64 * 1024;
+
+    private final Pattern pattern;
+    private final MatchConsumer consumer;
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+    private long lineNumber;
+    private long matches;
+
+    public LineMatcher(Pattern pattern, MatchConsumer consumer) {
+        this.pattern = pattern;
+        this.consumer = consumer;
+    }
+
+    public long getMatches() {
+        return matches;
+    }
+
+    @Override
+    public void write(int b) {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        int start = off;
+        for (int i = off; i < off + len; i++) {
+            if (b[i] == '\n') {
+                append(b, start, i - start);
+                endLine();
+                start = i + 1;
+            }
+        }
+        append(b, start, off + len - start);
+    }
+
+    /**
+     * Match the last line if the file does not end with a new line.
+     */
+    @Override
+    public void close() {
+        if (line.size() > 0) {
+            endLine();
+        }
+    }
+
+    private void append(byte[] b, int off, int len) {
+        int count = Math.min(len, MAX_LINE - line.size());
+        if (count > 0) {
+            line.write(b, off, count);
+        }
+    }
+
+    private void endLine() {
+        String text = line.toString(StandardCharsets.UTF_8);
+        line.reset();
+
+        lineNumber++;
+        if (text.endsWith("\r")) {
+            text = text.substring(0, text.length() - 1);
+        }
+        if (pattern.matcher(text).find()) {
+            matches++;
+            consumer.accept(lineNumber, text);
+        }
+    }
+
+    @FunctionalInterface
+    public interface MatchConsumer {
+        void accept(long lineNumber, String line);
+    }
+}
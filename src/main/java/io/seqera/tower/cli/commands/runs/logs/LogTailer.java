@@ -0,0 +1,185 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs.logs;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.seqera.tower.ApiException;
+import io.seqera.tower.cli.commands.runs.tasks.store.TaskFilter;
+import io.seqera.tower.cli.exceptions.TowerException;
+import io.seqera.tower.cli.utils.ApiHttpClient;
+
+/**
+ * Follows a run or task log file like {@code tail -f}. It remembers how many bytes have been
+ * written so far and requests only the bytes after them with an HTTP range request. If the
+ * server sends the whole file instead, the bytes already written are skipped.
+ */
+public class LogTailer {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ApiHttpClient client;
+    private final URI uri;
+
+    private long offset;
+
+    public LogTailer(ApiHttpClient client, URI uri) {
+        this.client = client;
+        this.uri = uri;
+    }
+
+    /**
+     * Tailer of a log file of a run, or of one of its tasks when {@code taskId} is not null.
+     */
+    public static LogTailer of(ApiHttpClient client, String workflowId, Long taskId, String fileName, Long workspaceId) {
+        String path = "/workflow/" + ApiHttpClient.encode(workflowId) + "/download" + (taskId != null ? "/" + taskId : "");
+        Map<String, Object> query = new LinkedHashMap<>();
+        query.put("fileName", fileName);
+        query.put("workspaceId", workspaceId);
+        return new LogTailer(client, client.uri(path, query));
+    }
+
+    /**
+     * Number of bytes of a {@code --tail} option, e.g. 16KB or 1MB.
+     */
+    public static long tailSize(String tail) throws TowerException {
+        try {
+            long bytes = (long) TaskFilter.parseSize(tail);
+            if (bytes <= 0) {
+                throw new NumberFormatException(tail);
+            }
+            return bytes;
+        } catch (NumberFormatException e) {
+            throw new TowerException(String.format("Invalid size '%s' for --tail, use a value like 16KB or 1MB", tail));
+        }
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Write the bytes appended to the log since the last call.
+     *
+     * @return number of bytes written, {@code 0} if there is nothing new or the log is not available yet
+     */
+    public long fetch(OutputStream out) throws ApiException, IOException, InterruptedException {
+        HttpResponse<InputStream> response = send(offset > 0 ? String.format("bytes=%d-", offset) : null);
+        try (InputStream body = response.body()) {
+            switch (response.statusCode()) {
+                case 206:
+                    return copy(body, out);
+                case 200:
+                    return copy(skipWritten(body), out);
+                case 404:
+                case 416:
+                    // Not created yet, or nothing after the offset
+                    return 0;
+                default:
+                    throw ApiHttpClient.error(response);
+            }
+        }
+    }
+
+    /**
+     * Write only the last bytes of the log, requesting them with a suffix range. If the server
+     * sends the whole file instead, the bytes before them are skipped when its length is known.
+     * When the tail starts in the middle of the file, its first line is incomplete and skipped.
+     *
+     * @return number of bytes written, {@code 0} if the log is empty or not available
+     */
+    public long fetchTail(OutputStream out, long bytes) throws ApiException, IOException, InterruptedException {
+        HttpResponse<InputStream> response = send(String.format("bytes=-%d", bytes));
+        try (InputStream body = new BufferedInputStream(response.body())) {
+            switch (response.statusCode()) {
+                case 206:
+                    // Content-Range: bytes <first>-<last>/<length>
+                    String range = response.headers().firstValue("Content-Range").orElse("");
+                    if (!range.matches("bytes 0-.*")) {
+                        skipLine(body);
+                    }
+                    return copy(body, out);
+                case 200:
+                    long length = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+                    if (length > bytes) {
+                        body.skipNBytes(length - bytes);
+                        skipLine(body);
+                    }
+                    return copy(body, out);
+                case 404:
+                case 416:
+                    return 0;
+                default:
+                    throw ApiHttpClient.error(response);
+            }
+        }
+    }
+
+    private static void skipLine(InputStream body) throws IOException {
+        int b;
+        do {
+            b = body.read();
+        } while (b >= 0 && b != '\n');
+    }
+
+    private HttpResponse<InputStream> send(String range) throws IOException, InterruptedException {
+        HttpRequest.Builder request = client.get(uri);
+        if (range != null) {
+            request.header("Range", range);
+        }
+        return client.send(request.build());
+    }
+
+    /**
+     * The server ignored the range and sends the whole file, skip the part already written.
+     * If the file is now shorter it has been replaced, and it is written again from the start.
+     */
+    private InputStream skipWritten(InputStream body) throws IOException {
+        long skipped = 0;
+        byte[] buffer = new byte[BUFFER_SIZE];
+        while (skipped < offset) {
+            int read = body.read(buffer, 0, (int) Math.min(buffer.length, offset - skipped));
+            if (read < 0) {
+                offset = 0;
+                return InputStream.nullInputStream();
+            }
+            skipped += read;
+        }
+        return body;
+    }
+
+    private long copy(InputStream body, OutputStream out) throws IOException {
+        long count = 0;
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = body.read(buffer)) >= 0) {
+            out.write(buffer, 0, read);
+            count += read;
+            offset += read;
+        }
+        out.flush();
+        return count;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs.logs;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
+import io.seqera.tower.ApiException;
+import io.seqera.tower.cli.commands.enums.OutputType;
+import io.seqera.tower.cli.commands.global.WorkspaceOptionalOptions;
+import io.seqera.tower.cli.commands.runs.AbstractRunsCmd;
+import io.seqera.tower.cli.commands.runs.download.DownloadCmd;
+import io.seqera.tower.cli.commands.runs.download.enums.RunDownloadFileType;
+import io.seqera.tower.cli.commands.runs.watch.RunsWatcher;
+import io.seqera.tower.cli.exceptions.TowerException;
+import io.seqera.tower.cli.utils.PollingSchedule;
+import io.seqera.tower.model.Task;
+import io.seqera.tower.model.TaskStatus;
+import picocli.CommandLine;
+
+import static io.seqera.tower.cli.utils.ResponseHelper.errorMessage;
+
+/**
+ * Writes the Nextflow log of a run, or a log file of one of its tasks, to the standard output.
+ * With {@code --follow} the new lines are written as they are appended, requesting only the
+ * bytes after the ones already written, until the run or the task finishes. With
+ * {@code --output json} every line is written as a JSON object instead.
+ */
+@CommandLine.Command(
+        name = "logs",
+        description = "Print the logs of a pipeline run or task"
+)
+public class LogsCmd extends AbstractRunsCmd {
+
+    /** Task statuses after which its log files are not written anymore */
+    public static final Set<TaskStatus> TASK_FINISHED = EnumSet.of(TaskStatus.COMPLETED, TaskStatus.FAILED, TaskStatus.ABORTED, TaskStatus.CACHED);
+
+    @CommandLine.Option(names = {"-i", "--id"}, description = "Pipeline run identifier", required = true)
+    public String id;
+
+    @CommandLine.Mixin
+    public WorkspaceOptionalOptions workspace;
+
+    @CommandLine.Option(names = {"-t"}, description = "Task numeric identifier. When specified, prints the task log files (.command.out, .command.err, .command.log) instead of the run ones.")
+    public Long task;
+
+    @CommandLine.Option(names = {"--type"}, description = "Type of log to print. Options: 'log' (Nextflow log, or .command.log for tasks), 'stdout' (standard output), 'stderr' (standard error, tasks only) (default: log).", defaultValue = "log")
+    public RunDownloadFileType type;
+
+    @CommandLine.Option(names = {"-f", "--follow"}, description = "Keep printing the new lines as they are written, until the run or task finishes.")
+    public boolean follow;
+
+    @Override
+    public Integer call() {
+        try {
+            if (type == RunDownloadFileType.timeline) {
+                throw new TowerException("Timeline is not a log file, use 'runs view download --type timeline' instead");
+            }
+
+            Long wspId = workspaceId(workspace.workspace);
+            String fileName = DownloadCmd.fileName(type, id, task);
+
+            LogTailer tailer = LogTailer.of(apiHttpClient(), id, task, fileName, wspId);
+
+            if (app().output == OutputType.json) {
+                try (OutputStream out = new JsonLinesOutputStream(app().getOut())) {
+                    print(tailer, out, wspId);
+                }
+            } else {
+                print(tailer, app().getRawOut(), wspId);
+            }
+            return CommandLine.ExitCode.OK;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            errorMessage(app(), e);
+        }
+        return CommandLine.ExitCode.SOFTWARE;
+    }
+
+    private void print(LogTailer tailer, OutputStream out, Long wspId) throws ApiException, IOException, InterruptedException {
+        tailer.fetch(out);
+        if (follow) {
+            follow(tailer, out, wspId);
+        }
+        out.flush();
+    }
+
+    /**
+     * Poll the log until the run or task finishes. The status is only requested when a poll
+     * does not return new bytes, and the log is read one last time once it has finished.
+     */
+    private void follow(LogTailer tailer, OutputStream out, Long wspId) throws ApiException, IOException, InterruptedException {
+        // Back off while nothing is written to the log
+        PollingSchedule schedule = new PollingSchedule()
+                .interval(Duration.ofSeconds(1), Duration.ofSeconds(10));
+
+        while (true) {
+            schedule.sleep(tailer.getOffset());
+            if (tailer.fetch(out) > 0) {
+                continue;
+            }
+            if (isFinished(wspId)) {
+                tailer.fetch(out);
+                return;
+            }
+        }
+    }
+
+    private boolean isFinished(Long wspId) throws ApiException {
+        if (!RunsWatcher.ACTIVE.contains(workflowById(wspId, id, NO_WORKFLOW_ATTRIBUTES).getWorkflow().getStatus())) {
+            return true;
+        }
+        if (task == null) {
+            return false;
+        }
+        Task info = workflowsApi().describeWorkflowTask(id, task, wspId).getTask();
+        return info != null && TASK_FINISHED.contains(info.getStatus());
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs.metrics;
+
+import io.seqera.tower.ApiException;
+import io.seqera.tower.cli.commands.global.WorkspaceOptionalOptions;
+import io.seqera.tower.cli.commands.runs.AbstractRunsCmd;
+import io.seqera.tower.cli.commands.runs.metrics.enums.MetricType;
+import io.seqera.tower.cli.exceptions.TowerRuntimeException;
+import io.seqera.tower.cli.responses.Response;
+import io.seqera.tower.cli.responses.runs.RunsMetricsDiff;
+import io.seqera.tower.model.WorkflowMetrics;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@CommandLine.Command(
+        name = "diff",
+        description = "Compare the per-process metrics of two pipeline runs"
+)
+public class DiffCmd extends AbstractRunsCmd {
+
+    @CommandLine.Parameters(index = "0", paramLabel = "BASELINE_ID", description = "Baseline pipeline run identifier", arity = "1")
+    public String baselineId;
+
+    @CommandLine.Parameters(index = "1", paramLabel = "CANDIDATE_ID", description = "Candidate pipeline run identifier, compared to the baseline", arity = "1")
+    public String candidateId;
+
+    @CommandLine.Mixin
+    public WorkspaceOptionalOptions workspace;
+
+    @CommandLine.Option(names = {"-f", "--filter"}, description = "Compare only the processes whose name contains this value.")
+    public String filter;
+
+    @CommandLine.Option(names = {"-t", "--type"}, split = ",", description = "Metric types to compare: ${COMPLETION-CANDIDATES}. Comma-separated list. Compares all types if absent.")
+    public List<MetricType> type;
+
+    @CommandLine.Option(names = {"--threshold"}, description = "Minimum change of a process median, in percent, to report it as a regression or improvement, or as changed for CPU and GPU usage (default: 10).", defaultValue = "10")
+    public double threshold;
+
+    @CommandLine.Option(names = {"--fail-on-regression"}, description = "Exit with an error status if any process regressed, e.g. to gate a release in CI.")
+    public boolean failOnRegression;
+
+    @Override
+    protected Response exec() throws ApiException, IOException {
+        Long wspId = workspaceId(workspace.workspace);
+        List<MetricType> types = type == null ? List.of(MetricType.values()) : type;
+
+        // Request both runs at the same time
+        List<List<WorkflowMetrics>> metrics;
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Callable<List<WorkflowMetrics>>> calls = List.of(
+                    () -> workflowMetricsById(wspId, baselineId).getMetrics(),
+                    () -> workflowMetricsById(wspId, candidateId).getMetrics()
+            );
+            metrics = invokeAll(executor, calls);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TowerRuntimeException("Interrupted while requesting the pipeline run metrics");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<WorkflowMetrics> baseline = metrics.get(0);
+        List<WorkflowMetrics> candidate = metrics.get(1);
+        return new RunsMetricsDiff(
+                workspaceRef(wspId),
+                baselineId,
+                candidateId,
+                threshold,
+                new MetricsDiff(threshold).compare(baseline, candidate, types, filter),
+                MetricsDiff.missing(baseline, candidate, filter),
+                MetricsDiff.missing(candidate, baseline, filter),
+                failOnRegression
+        );
+    }
+}
@@ -23,6 +23,7 @@ import io.seqera.tower.cli.commands.runs.ViewCmd;
 import io.seqera.tower.cli.commands.runs.metrics.enums.MetricColumn;
 import io.seqera.tower.cli.commands.runs.metrics.enums.MetricPreviewFormat;
 import io.seqera.tower.cli.commands.runs.metrics.enums.MetricType;
+import io.seqera.tower.cli.exceptions.TowerException;
 import io.seqera.tower.cli.responses.Response;
 import io.seqera.tower.cli.responses.runs.RunViewMetrics;
 import io.seqera.tower.model.ResourceData;
@@ -41,18 +42,28 @@ import java.util.Map;
 )
 public class MetricsCmd extends AbstractRunsCmd {
 
+    private static final List<MetricColumn> PERCENTILES = List.of(MetricColumn.p90, MetricColumn.p95, MetricColumn.p99);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     @CommandLine.Option(names = {"-f", "--filter"}, description = "Filter metrics by process name. Shows statistics only for processes matching the specified name.")
     public String filter = "";
 
     @CommandLine.Option(names = {"-t", "--type"}, split = ",", description = "Metric types to display: ${COMPLETION-CANDIDATES}. Comma-separated list. Displays all types if absent.")
     public List<MetricType> type;
 
-    @CommandLine.Option(names = {"-c", "--columns"}, split = ",", description = "Statistical columns to display: ${COMPLETION-CANDIDATES}. Shows quartile distribution of resource usage. Displays all columns if absent.")
+    @CommandLine.Option(names = {"-c", "--columns"}, split = ",", description = "Statistical columns to display: ${COMPLETION-CANDIDATES}. Shows quartile distribution of resource usage, percentiles p90, p95 and p99 require --from-tasks. Displays min, quartiles, max and mean if absent.")
     public List<MetricColumn> columns;
 
     @CommandLine.Option(names = {"-v", "--view"}, description = "Table view format. Options: condensed (compact), extended (detailed). Default: condensed.")
     public MetricPreviewFormat view = MetricPreviewFormat.condensed;
 
+    @CommandLine.Option(names = {"--from-tasks"}, description = "Compute the metrics from the run tasks instead of the server summary. Allows the p90, p95 and p99 columns and adds the queue wait and memory over-request ratio metrics. GPU metrics are not available.")
+    public boolean fromTasks;
+
+    @CommandLine.Option(names = {"--merge-runs"}, split = ",", description = "Additional pipeline run identifiers whose tasks are merged into the same per-process distributions. Requires --from-tasks. Comma-separated list.")
+    public List<String> mergeRuns;
+
     @CommandLine.ParentCommand
     public ViewCmd parentCommand;
 
@@ -63,7 +74,17 @@ public class MetricsCmd extends AbstractRunsCmd {
         type = type == null ? List.of(MetricType.cpu, MetricType.mem, MetricType.time, MetricType.io, MetricType.gpu) : type;
         columns = columns == null ? List.of(MetricColumn.min, MetricColumn.q1, MetricColumn.q2, MetricColumn.q3, MetricColumn.max, MetricColumn.mean) : columns;
 
-        List<WorkflowMetrics> metrics = workflowsApi().describeWorkflowMetrics(parentCommand.id, wspId).getMetrics();
+        if (fromTasks) {
+            return fromTasks(wspId);
+        }
+        if (mergeRuns != null) {
+            throw new TowerException("Option --merge-runs requires --from-tasks");
+        }
+        if (columns.stream().anyMatch(PERCENTILES::contains)) {
+            throw new TowerException("Columns p90, p95 and p99 are only available with --from-tasks");
+        }
+
+        List<WorkflowMetrics> metrics = workflowMetricsById(wspId, parentCommand.id).getMetrics();
 
         List<Map<String, Object>> metricsMem = new ArrayList<>();
         if (type.contains(MetricType.mem)) {
@@ -146,10 +167,35 @@ public class MetricsCmd extends AbstractRunsCmd {
         return new RunViewMetrics(columns, metricsMem, metricsCpu, metricsTime, metricsIo, metricsGpu, view);
     }
 
+    /**
+     * Build the metrics from per-process sketches of the tasks of the run, and of the merged
+     * runs, reading each run tasks in a single pass.
+     */
+    private Response fromTasks(Long wspId) throws ApiException {
+        TaskMetrics taskMetrics = new TaskMetrics();
+        forEachTask(wspId, parentCommand.id, null, taskMetrics::add);
+        if (mergeRuns != null) {
+            for (String runId : mergeRuns) {
+                TaskMetrics runMetrics = new TaskMetrics();
+                forEachTask(wspId, runId, null, runMetrics::add);
+                taskMetrics.merge(runMetrics);
+            }
+        }
+
+        return new RunViewMetrics(
+                columns,
+                type.contains(MetricType.mem) ? taskMetrics.section(MetricType.mem, columns, filter) : new ArrayList<>(),
+                type.contains(MetricType.cpu) ? taskMetrics.section(MetricType.cpu, columns, filter) : new ArrayList<>(),
+                type.contains(MetricType.time) ? taskMetrics.section(MetricType.time, columns, filter) : new ArrayList<>(),
+                type.contains(MetricType.io) ? taskMetrics.section(MetricType.io, columns, filter) : new ArrayList<>(),
+                new ArrayList<>(),
+                view
+        );
+    }
+
     private Map<String, Object> processColumns(ResourceData resourceData) {
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        Map<String, Object> objectMap = objectMapper.convertValue(resourceData, Map.class);
+        Map<String, Object> objectMap = MAPPER.convertValue(resourceData, Map.class);
 
         Map<String, Object> data = new HashMap<>();
 
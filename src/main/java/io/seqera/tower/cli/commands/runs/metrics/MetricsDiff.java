@@ -0,0 +1,159 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs.metrics;
+
+import io.seqera.tower.cli.commands.runs.metrics.enums.MetricChange;
+import io.seqera.tower.cli.commands.runs.metrics.enums.MetricType;
+import io.seqera.tower.cli.responses.runs.RunsMetricsDiff.ProcessDelta;
+import io.seqera.tower.model.ResourceData;
+import io.seqera.tower.model.WorkflowMetrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the per-process metrics of two runs. Processes are aligned by name and each raw
+ * metric is compared by its quartiles: the change of the median decides whether the process
+ * regressed or improved, and it is significant only when the candidate median falls outside
+ * the interquartile range of the baseline, so the usual spread between tasks is not flagged.
+ * Usage percentages have no better direction: a lower CPU usage may as well be a task waiting
+ * on I/O, so their significant changes are reported as changed, never as improvements.
+ */
+public class MetricsDiff {
+
+    private static final Map<MetricType, Map<String, Function<WorkflowMetrics, ResourceData>>> METRICS = new LinkedHashMap<>();
+    static {
+        METRICS.put(MetricType.time, Map.of("timeRaw", WorkflowMetrics::getTime));
+        METRICS.put(MetricType.cpu, Map.of("cpuRaw", WorkflowMetrics::getCpu));
+        Map<String, Function<WorkflowMetrics, ResourceData>> mem = new LinkedHashMap<>();
+        mem.put("memRaw", WorkflowMetrics::getMem);
+        mem.put("memVirtual", WorkflowMetrics::getVmem);
+        METRICS.put(MetricType.mem, mem);
+        Map<String, Function<WorkflowMetrics, ResourceData>> io = new LinkedHashMap<>();
+        io.put("reads", WorkflowMetrics::getReads);
+        io.put("writes", WorkflowMetrics::getWrites);
+        METRICS.put(MetricType.io, io);
+        Map<String, Function<WorkflowMetrics, ResourceData>> gpu = new LinkedHashMap<>();
+        gpu.put("gpuUsage", WorkflowMetrics::getGpuUsage);
+        gpu.put("gpuMemPeak", WorkflowMetrics::getGpuMemPeak);
+        METRICS.put(MetricType.gpu, gpu);
+    }
+
+    /** Metrics where neither a higher nor a lower median is better */
+    private static final Set<String> UNDIRECTED = Set.of("cpuRaw", "gpuUsage");
+
+    /** Minimum change of the median, in percent, to flag a regression or improvement */
+    private final double threshold;
+
+    public MetricsDiff(double threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Deltas of the processes of both runs whose name contains the filter.
+     */
+    public List<ProcessDelta> compare(List<WorkflowMetrics> baseline, List<WorkflowMetrics> candidate, List<MetricType> types, String filter) {
+        Map<String, WorkflowMetrics> candidateByProcess = byProcess(candidate, filter);
+
+        List<ProcessDelta> result = new ArrayList<>();
+        byProcess(baseline, filter).forEach((process, base) -> {
+            WorkflowMetrics cand = candidateByProcess.get(process);
+            if (cand == null) {
+                return;
+            }
+            METRICS.forEach((type, metrics) -> {
+                if (!types.contains(type)) {
+                    return;
+                }
+                metrics.forEach((metric, getter) -> {
+                    ResourceData baseData = getter.apply(base);
+                    ResourceData candData = getter.apply(cand);
+                    if (baseData != null && candData != null) {
+                        result.add(delta(process, metric, baseData, candData));
+                    }
+                });
+            });
+        });
+        return result;
+    }
+
+    /**
+     * Names of the processes in the first run but not in the second one.
+     */
+    public static List<String> missing(List<WorkflowMetrics> metrics, List<WorkflowMetrics> other, String filter) {
+        Map<String, WorkflowMetrics> otherByProcess = byProcess(other, filter);
+        return byProcess(metrics, filter).keySet().stream()
+                .filter(it -> !otherByProcess.containsKey(it))
+                .collect(Collectors.toList());
+    }
+
+    ProcessDelta delta(String process, String metric, ResourceData baseline, ResourceData candidate) {
+        Double baseQ1 = value(baseline.getQ1());
+        Double baseQ2 = value(baseline.getQ2());
+        Double baseQ3 = value(baseline.getQ3());
+        Double candQ2 = value(candidate.getQ2());
+
+        Double deltaQ2 = change(baseQ2, candQ2);
+        boolean significant = baseQ1 != null && baseQ3 != null && candQ2 != null && (candQ2 < baseQ1 || candQ2 > baseQ3);
+
+        MetricChange change = MetricChange.unchanged;
+        if (significant && deltaQ2 != null && Math.abs(deltaQ2) > threshold) {
+            if (UNDIRECTED.contains(metric)) {
+                change = MetricChange.changed;
+            } else {
+                change = deltaQ2 > 0 ? MetricChange.regression : MetricChange.improvement;
+            }
+        }
+
+        return new ProcessDelta(
+                process, metric,
+                baseQ1, baseQ2, baseQ3,
+                value(candidate.getQ1()), candQ2, value(candidate.getQ3()),
+                change(baseQ1, value(candidate.getQ1())), deltaQ2, change(baseQ3, value(candidate.getQ3())),
+                significant, change
+        );
+    }
+
+    /**
+     * Relative change in percent, {@code null} if the baseline is missing or zero.
+     */
+    static Double change(Double baseline, Double candidate) {
+        if (baseline == null || candidate == null || baseline == 0) {
+            return null;
+        }
+        return (candidate - baseline) / Math.abs(baseline) * 100;
+    }
+
+    private static Map<String, WorkflowMetrics> byProcess(List<WorkflowMetrics> metrics, String filter) {
+        Map<String, WorkflowMetrics> result = new LinkedHashMap<>();
+        if (metrics != null) {
+            metrics.stream()
+                    .filter(it -> it.getProcess() != null && (filter == null || it.getProcess().contains(filter)))
+                    .forEach(it -> result.put(it.getProcess(), it));
+        }
+        return result;
+    }
+
+    private static Double value(Number number) {
+        return number == null ? null : number.doubleValue();
+    }
+}
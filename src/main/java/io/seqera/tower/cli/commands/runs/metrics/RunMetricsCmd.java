@@ -0,0 +1,30 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs.metrics;
+
+import io.seqera.tower.cli.commands.AbstractRootCmd;
+import picocli.CommandLine;
+
+@CommandLine.Command(
+        name = "metrics",
+        description = "Compare pipeline run metrics",
+        subcommands = {
+                DiffCmd.class,
+        }
+)
+public class RunMetricsCmd extends AbstractRootCmd {
+}
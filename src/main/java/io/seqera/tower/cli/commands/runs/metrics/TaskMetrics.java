@@ -0,0 +1,152 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import io.seqera.tower.cli.commands.runs.metrics.enums.MetricColumn;
+import io.seqera.tower.cli.commands.runs.metrics.enums.MetricType;
+import io.seqera.tower.cli.utils.QuantileSketch;
+import io.seqera.tower.model.Task;
+import io.seqera.tower.model.TaskStatus;
+
+/**
+ * Per-process resource distributions computed from the tasks of one or more runs, in a
+ * single pass over the tasks and with one {@link QuantileSketch} per process and metric.
+ * Besides the metrics of the server side summary it includes the queue wait, from submission
+ * to start, and the memory over-request ratio, requested memory divided by peak RSS.
+ * <p>
+ * Only completed tasks are included, as the server side summary does.
+ */
+public class TaskMetrics {
+
+    static final Map<MetricType, List<String>> METRICS = new LinkedHashMap<>();
+
+    static {
+        METRICS.put(MetricType.mem, List.of("memRaw", "memVirtual", "memUsage", "memOverRequest"));
+        METRICS.put(MetricType.cpu, List.of("cpuRaw", "cpuUsage"));
+        METRICS.put(MetricType.time, List.of("timeRaw", "timeUsage", "queueWait"));
+        METRICS.put(MetricType.io, List.of("reads", "writes"));
+    }
+
+    private final Map<String, Map<String, QuantileSketch>> processes = new TreeMap<>();
+
+    public void add(Task task) {
+        if (task == null || task.getProcess() == null || task.getStatus() != TaskStatus.COMPLETED) {
+            return;
+        }
+
+        Double peakRss = number(task.getPeakRss());
+        Double memory = number(task.getMemory());
+        Double pcpu = number(task.getPcpu());
+        Double cpus = number(task.getCpus());
+        Double realtime = number(task.getRealtime());
+        Double time = number(task.getTime());
+
+        add(task.getProcess(), "memRaw", peakRss);
+        add(task.getProcess(), "memVirtual", number(task.getPeakVmem()));
+        add(task.getProcess(), "memUsage", ratio(peakRss, memory, 100));
+        add(task.getProcess(), "memOverRequest", ratio(memory, peakRss, 1));
+        add(task.getProcess(), "cpuRaw", pcpu);
+        add(task.getProcess(), "cpuUsage", ratio(pcpu, cpus, 1));
+        add(task.getProcess(), "timeRaw", realtime);
+        add(task.getProcess(), "timeUsage", ratio(realtime, time, 100));
+        add(task.getProcess(), "queueWait", task.getSubmit() != null && task.getStart() != null
+                ? (double) Duration.between(task.getSubmit(), task.getStart()).toMillis()
+                : null);
+        add(task.getProcess(), "reads", number(task.getRchar()));
+        add(task.getProcess(), "writes", number(task.getWchar()));
+    }
+
+    /**
+     * Add the distributions of another set of tasks, e.g. the ones of another run.
+     */
+    public void merge(TaskMetrics other) {
+        other.processes.forEach((process, metrics) -> metrics.forEach((metric, sketch) ->
+                sketch(process, metric).merge(sketch)
+        ));
+    }
+
+    /**
+     * Rows of one metrics section in the layout of the server side metrics, one map per
+     * process with the columns of each metric in the requested order.
+     */
+    public List<Map<String, Object>> section(MetricType type, List<MetricColumn> columns, String filter) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        processes.forEach((process, metrics) -> {
+            if (!process.contains(filter)) {
+                return;
+            }
+
+            Map<String, Object> data = new LinkedHashMap<>();
+            for (String metric : METRICS.getOrDefault(type, List.of())) {
+                QuantileSketch sketch = metrics.get(metric);
+                data.put(metric, sketch == null ? null : columns(sketch, columns));
+            }
+
+            Map<String, Object> row = new HashMap<>();
+            row.put(process, data);
+            result.add(row);
+        });
+        return result;
+    }
+
+    private static Map<String, Object> columns(QuantileSketch sketch, List<MetricColumn> columns) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        columns.forEach(col -> data.put(col.name(), value(sketch, col)));
+        return data;
+    }
+
+    private static Double value(QuantileSketch sketch, MetricColumn column) {
+        switch (column) {
+            case mean: return sketch.getMean();
+            case min: return sketch.getMin();
+            case max: return sketch.getMax();
+            case q1: return sketch.quantile(0.25);
+            case q2: return sketch.quantile(0.5);
+            case q3: return sketch.quantile(0.75);
+            case p90: return sketch.quantile(0.9);
+            case p95: return sketch.quantile(0.95);
+            case p99: return sketch.quantile(0.99);
+            default: throw new IllegalArgumentException("Unknown metric column: " + column);
+        }
+    }
+
+    private void add(String process, String metric, Double value) {
+        if (value != null && !value.isNaN() && !value.isInfinite()) {
+            sketch(process, metric).add(value);
+        }
+    }
+
+    private QuantileSketch sketch(String process, String metric) {
+        return processes.computeIfAbsent(process, it -> new HashMap<>()).computeIfAbsent(metric, it -> new QuantileSketch());
+    }
+
+    private static Double ratio(Double value, Double total, double scale) {
+        return value == null || total == null || total == 0 ? null : value / total * scale;
+    }
+
+    private static Double number(Object value) {
+        return value == null ? null : ((Number) value).doubleValue();
+    }
+}
@@ -17,5 +17,5 @@
 package io.seqera.tower.cli.commands.runs.metrics.enums;
 
 public enum MetricColumn {
-    mean, min, q1, q2, q3, max
+    mean, min, q1, q2, q3, max, p90, p95, p99
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs.stats;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import io.seqera.tower.cli.commands.runs.watch.RunsWatcher;
+import io.seqera.tower.cli.utils.QuantileSketch;
+import io.seqera.tower.model.WorkflowStatus;
+
+/**
+ * Aggregates runs into one row per group, keeping only counters, sums and a duration sketch
+ * per group, so thousands of runs can be rolled up without holding them. Runs can be added
+ * from several threads.
+ */
+public class RunStatsTable {
+
+    private final List<String> groupBy;
+    private final Map<List<String>, Group> groups = new TreeMap<>(RunStatsTable::compareKeys);
+
+    public RunStatsTable(List<String> groupBy) {
+        this.groupBy = groupBy;
+    }
+
+    /**
+     * Add a run. Duration, CPU time and cost are only known for finished runs, and can be
+     * {@code null} otherwise.
+     */
+    public synchronized void add(List<String> keys, WorkflowStatus status, Long durationMillis, Long cpuTimeMillis, Double cost) {
+        Group group = groups.computeIfAbsent(keys, it -> new Group());
+        group.runs++;
+        if (status == WorkflowStatus.SUCCEEDED) {
+            group.succeeded++;
+        } else if (status == WorkflowStatus.FAILED) {
+            group.failed++;
+        }
+        if (status != null && !RunsWatcher.ACTIVE.contains(status)) {
+            group.finished++;
+        }
+        if (durationMillis != null) {
+            group.durations.add(durationMillis);
+        }
+        if (cpuTimeMillis != null) {
+            group.cpuTimeMillis += cpuTimeMillis;
+        }
+        if (cost != null) {
+            group.cost += cost;
+        }
+    }
+
+    public List<String> columns() {
+        List<String> columns = new ArrayList<>(groupBy);
+        columns.addAll(List.of("runs", "succeeded", "failed", "failureRate", "cost", "cpuHours", "medianDuration"));
+        return columns;
+    }
+
+    /**
+     * One map per group, sorted by the group values, with the group values followed by the
+     * aggregated values. The failure rate is the percentage of finished runs that failed.
+     */
+    public synchronized List<Map<String, Object>> rows() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        groups.forEach((keys, group) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < groupBy.size(); i++) {
+                row.put(groupBy.get(i), keys.get(i));
+            }
+            row.put("runs", group.runs);
+            row.put("succeeded", group.succeeded);
+            row.put("failed", group.failed);
+            row.put("failureRate", group.finished == 0 ? null : group.failed * 100D / group.finished);
+            row.put("cost", group.cost);
+            row.put("cpuHours", group.cpuTimeMillis / 3_600_000D);
+            row.put("medianDuration", group.durations.getCount() == 0 ? null : (long) group.durations.quantile(0.5));
+            rows.add(row);
+        });
+        return rows;
+    }
+
+    private static int compareKeys(List<String> a, List<String> b) {
+        for (int i = 0; i < a.size(); i++) {
+            int result = a.get(i).compareTo(b.get(i));
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    private static class Group {
+
+        private long runs;
+        private long succeeded;
+        private long failed;
+        private long finished;
+        private long cpuTimeMillis;
+        private double cost;
+        private final QuantileSketch durations = new QuantileSketch();
+    }
+}
@@ -21,7 +21,12 @@ import io.seqera.tower.cli.commands.global.PaginationOptions;
 import io.seqera.tower.cli.commands.runs.AbstractRunsCmd;
 import io.seqera.tower.cli.commands.runs.ViewCmd;
 import io.seqera.tower.cli.commands.runs.tasks.enums.TaskColumn;
+import io.seqera.tower.cli.commands.runs.tasks.store.TaskFilter;
+import io.seqera.tower.cli.commands.runs.tasks.store.TaskQuery;
+import io.seqera.tower.cli.commands.runs.tasks.store.TaskStore;
+import io.seqera.tower.cli.exceptions.TowerException;
 import io.seqera.tower.cli.responses.Response;
+import io.seqera.tower.cli.responses.runs.tasks.TasksQueryView;
 import io.seqera.tower.cli.responses.runs.tasks.TasksView;
 import io.seqera.tower.cli.utils.PaginationInfo;
 import io.seqera.tower.model.DescribeTaskResponse;
@@ -48,6 +53,21 @@ public class TasksCmd extends AbstractRunsCmd {
     @CommandLine.Option(names = {"-f", "--filter"}, description = "Filter tasks by name prefix. Shows only tasks with names starting with the specified string.")
     public String startsWith;
 
+    @CommandLine.Option(names = {"--where"}, description = "Filter all the tasks of the run with an expression, e.g. 'status=FAILED && realtime>1h'. Fields are compared with = != > >= < <= or ~ (glob), combined with && || ! and parentheses. Durations accept values like 90s or 1h30m, sizes like 512MB and the submit time dates like 2024-05-01 or 2024-05-01T10:00:00Z.")
+    public String where;
+
+    @CommandLine.Option(names = {"--sort"}, split = ",", description = "Sort by the given fields, descending when prefixed with '-', e.g. '-peakRss,realtime'. Comma-separated list.")
+    public List<String> sort;
+
+    @CommandLine.Option(names = {"--limit"}, description = "Maximum number of tasks, or groups, to display after filtering and sorting.")
+    public Integer limit;
+
+    @CommandLine.Option(names = {"--group-by"}, split = ",", description = "Group the tasks by the given fields and display the number of tasks of each group. Comma-separated list.")
+    public List<String> groupBy;
+
+    @CommandLine.Option(names = {"--agg"}, split = ",", description = "Aggregations to display for each group, as function:field with function one of sum, mean, min or max, e.g. 'max:realtime,mean:peakRss'. Comma-separated list.")
+    public List<String> aggregations;
+
     @CommandLine.Mixin
     PaginationOptions paginationOptions;
 
@@ -62,6 +82,10 @@ public class TasksCmd extends AbstractRunsCmd {
                 .filter(it -> it.isFixed() || (columns != null && columns.contains(it)))
                 .collect(Collectors.toList());
 
+        if (isQuery()) {
+            return query(wspId, cols);
+        }
+
         Integer max = PaginationOptions.getMax(paginationOptions);
         Integer offset = PaginationOptions.getOffset(paginationOptions, max);
 
@@ -73,4 +97,33 @@ public class TasksCmd extends AbstractRunsCmd {
         }
         return new TasksView(parentCommand.id, cols, tasks, PaginationInfo.from(paginationOptions));
     }
+
+    private boolean isQuery() {
+        return where != null || sort != null || limit != null || groupBy != null || aggregations != null;
+    }
+
+    /**
+     * Load every task of the run into a columnar store and run the query over all of them.
+     */
+    private Response query(Long wspId, List<TaskColumn> cols) throws ApiException, TowerException {
+        if (paginationOptions.pageable != null || paginationOptions.sizeable != null) {
+            throw new TowerException("Pagination options cannot be used with --where, --sort, --limit, --group-by or --agg, use --limit instead");
+        }
+
+        List<TaskStore.Field> select = new ArrayList<>();
+        for (TaskColumn col : cols) {
+            select.add(TaskStore.field(col.name()));
+        }
+        TaskQuery query = new TaskQuery()
+                .sort(sort)
+                .limit(limit)
+                .groupBy(groupBy)
+                .aggregate(aggregations);
+
+        TaskStore store = new TaskStore();
+        forEachTask(wspId, parentCommand.id, startsWith, store::add);
+
+        query.where(TaskFilter.compile(where, store));
+        return new TasksQueryView(parentCommand.id, query.run(store, select));
+    }
 }
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs.tasks.store;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntPredicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.seqera.tower.cli.exceptions.TowerException;
+import io.seqera.tower.cli.utils.DurationConverter;
+import picocli.CommandLine;
+
+/**
+ * Compiles a filter expression into a predicate over the rows of a {@link TaskStore}.
+ * <p>
+ * An expression compares fields with values, e.g. {@code status=FAILED && realtime>1h}.
+ * Comparisons are {@code = != > >= < <=} and {@code ~} to match text with a glob pattern,
+ * they can be combined with {@code && || !} and parentheses. Durations accept values like
+ * {@code 90s} or {@code 1h30m}, sizes values like {@code 512MB} or {@code 2G}, timestamps
+ * values like {@code 2024-05-01} or {@code 2024-05-01T10:00:00Z}, and text is compared ignoring case. A missing value does not match any comparison.
+ * <p>
+ * Text comparisons are resolved once per distinct value of the field, so the predicate
+ * only looks up the code of each row.
+ */
+public class TaskFilter {
+
+    private static final Pattern SIZE = Pattern.compile("(?i)(\\d+(?:\\.\\d+)?)\\s*([KMGT]?)(?:I?B)?");
+
+    private final String text;
+    private final TaskStore store;
+    private int pos;
+
+    private TaskFilter(String text, TaskStore store) {
+        this.text = text;
+        this.store = store;
+    }
+
+    /**
+     * Compile the expression against the values in the store, all the tasks must have
+     * been added already.
+     */
+    public static IntPredicate compile(String expression, TaskStore store) throws TowerException {
+        if (expression == null || expression.isBlank()) {
+            return row -> true;
+        }
+
+        TaskFilter parser = new TaskFilter(expression, store);
+        IntPredicate result = parser.or();
+        parser.skipSpaces();
+        if (parser.pos < expression.length()) {
+            throw parser.error("Unexpected '" + expression.substring(parser.pos) + "'");
+        }
+        return result;
+    }
+
+    private IntPredicate or() throws TowerException {
+        IntPredicate result = and();
+        while (accept("||")) {
+            result = result.or(and());
+        }
+        return result;
+    }
+
+    private IntPredicate and() throws TowerException {
+        IntPredicate result = unary();
+        while (accept("&&")) {
+            result = result.and(unary());
+        }
+        return result;
+    }
+
+    private IntPredicate unary() throws TowerException {
+        if (accept("!")) {
+            return unary().negate();
+        }
+        if (accept("(")) {
+            IntPredicate result = or();
+            if (!accept(")")) {
+                throw error("Missing ')'");
+            }
+            return result;
+        }
+        return comparison();
+    }
+
+    private IntPredicate comparison() throws TowerException {
+        skipSpaces();
+        int start = pos;
+        while (pos < text.length() && (Character.isLetterOrDigit(text.charAt(pos)) || text.charAt(pos) == '_')) {
+            pos++;
+        }
+        if (start == pos) {
+            throw error("Expected a field name");
+        }
+        TaskStore.Field field = TaskStore.field(text.substring(start, pos));
+
+        String op = operator();
+        String value = value();
+        return field.isText() ? textComparison(field, op, value) : numberComparison(field, op, parseNumber(field, value));
+    }
+
+    private IntPredicate textComparison(TaskStore.Field field, String op, String value) throws TowerException {
+        BitSet matching = new BitSet();
+        List<String> dictionary = store.dictionary(field);
+        Pattern glob = op.equals("~") ? glob(value) : null;
+        for (int code = 0; code < dictionary.size(); code++) {
+            String entry = dictionary.get(code);
+            int compare = entry.compareToIgnoreCase(value);
+            boolean match;
+            switch (op) {
+                case "~": match = glob.matcher(entry).matches(); break;
+                case "=": match = compare == 0; break;
+                case "!=": match = compare != 0; break;
+                case ">": match = compare > 0; break;
+                case ">=": match = compare >= 0; break;
+                case "<": match = compare < 0; break;
+                default: match = compare <= 0; break;
+            }
+            matching.set(code, match);
+        }
+        return row -> {
+            int code = store.code(field, row);
+            return code >= 0 && matching.get(code);
+        };
+    }
+
+    private IntPredicate numberComparison(TaskStore.Field field, String op, double value) throws TowerException {
+        switch (op) {
+            case "=": return row -> store.number(field, row) == value;
+            case "!=": return row -> !Double.isNaN(store.number(field, row)) && store.number(field, row) != value;
+            case ">": return row -> store.number(field, row) > value;
+            case ">=": return row -> store.number(field, row) >= value;
+            case "<": return row -> store.number(field, row) < value;
+            case "<=": return row -> store.number(field, row) <= value;
+            default: throw error(String.format("Operator '~' is only valid for text fields, '%s' is numeric", field.getName()));
+        }
+    }
+
+    private double parseNumber(TaskStore.Field field, String value) throws TowerException {
+        try {
+            if (field.getKind() == TaskStore.Kind.DURATION && !value.matches("\\d+(\\.\\d+)?")) {
+                return DurationConverter.parse(value).toMillis();
+            }
+            if (field.getKind() == TaskStore.Kind.BYTES) {
+                return parseSize(value);
+            }
+            if (field.getKind() == TaskStore.Kind.TIMESTAMP) {
+                return parseTimestamp(value);
+            }
+            return Double.parseDouble(value);
+        } catch (NumberFormatException | DateTimeParseException | CommandLine.TypeConversionException e) {
+            throw error(String.format("Invalid value '%s' for field '%s'", value, field.getName()));
+        }
+    }
+
+    /**
+     * Size in bytes of a value like 512, 100KB or 1.5G, units are powers of 1024.
+     */
+    public static double parseSize(String value) {
+        Matcher matcher = SIZE.matcher(value.trim());
+        if (!matcher.matches()) {
+            throw new NumberFormatException(value);
+        }
+        int power = "KMGT".indexOf(matcher.group(2).toUpperCase(Locale.ROOT)) + 1;
+        return Double.parseDouble(matcher.group(1)) * Math.pow(1024, power);
+    }
+
+    /**
+     * Milliseconds since the epoch of a date like 2024-05-01, in UTC, or of a timestamp
+     * with offset like 2024-05-01T10:00:00Z.
+     */
+    public static double parseTimestamp(String value) {
+        String trimmed = value.trim();
+        if (trimmed.length() == 10) {
+            return LocalDate.parse(trimmed).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+        }
+        return OffsetDateTime.parse(trimmed).toInstant().toEpochMilli();
+    }
+
+    private static Pattern glob(String value) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : value.toCharArray()) {
+            if (c == '*') {
+                regex.append(".*");
+            } else if (c == '?') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    }
+
+    private String operator() throws TowerException {
+        skipSpaces();
+        for (String op : new String[]{"!=", ">=", "<=", "==", "=", ">", "<", "~"}) {
+            if (text.startsWith(op, pos)) {
+                pos += op.length();
+                return op.equals("==") ? "=" : op;
+            }
+        }
+        throw error("Expected a comparison operator");
+    }
+
+    private String value() throws TowerException {
+        skipSpaces();
+        if (pos < text.length() && (text.charAt(pos) == '\'' || text.charAt(pos) == '"')) {
+            char quote = text.charAt(pos);
+            int end = text.indexOf(quote, pos + 1);
+            if (end < 0) {
+                throw error("Missing closing quote");
+            }
+            String value = text.substring(pos + 1, end);
+            pos = end + 1;
+            return value;
+        }
+
+        int start = pos;
+        while (pos < text.length() && !Character.isWhitespace(text.charAt(pos)) && "()&|".indexOf(text.charAt(pos)) < 0) {
+            pos++;
+        }
+        if (start == pos) {
+            throw error("Expected a value");
+        }
+        return text.substring(start, pos);
+    }
+
+    private boolean accept(String token) {
+        skipSpaces();
+        if (text.startsWith(token, pos) && !(token.equals("!") && text.startsWith("!=", pos))) {
+            pos += token.length();
+            return true;
+        }
+        return false;
+    }
+
+    private void skipSpaces() {
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private TowerException error(String message) {
+        return new TowerException(String.format("Invalid filter expression '%s': %s at position %d", text, message, pos + 1));
+    }
+}
@@ -0,0 +1,383 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs.tasks.store;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+
+import io.seqera.tower.cli.exceptions.TowerException;
+
+/**
+ * Selects, sorts and aggregates the rows of a {@link TaskStore}.
+ * <p>
+ * Without grouping it returns the selected fields of the matching tasks. When sorting with a
+ * limit only the best {@code limit} rows are kept while scanning. With grouping it returns
+ * one row per distinct combination of the group fields, with the number of tasks and the
+ * requested aggregations, e.g. {@code max:realtime}, sorted by number of tasks unless a sort
+ * is given.
+ */
+public class TaskQuery {
+
+    public static final String COUNT = "count";
+
+    private IntPredicate where = row -> true;
+    private final List<String> sort = new ArrayList<>();
+    private int limit = -1;
+    private final List<TaskStore.Field> groupBy = new ArrayList<>();
+    private final List<Aggregation> aggregations = new ArrayList<>();
+
+    public TaskQuery where(IntPredicate where) {
+        this.where = where;
+        return this;
+    }
+
+    /**
+     * Sort by the given columns, descending when prefixed with {@code -}.
+     */
+    public TaskQuery sort(List<String> keys) {
+        if (keys != null) {
+            sort.addAll(keys);
+        }
+        return this;
+    }
+
+    public TaskQuery limit(Integer limit) {
+        this.limit = limit == null ? -1 : limit;
+        return this;
+    }
+
+    public TaskQuery groupBy(List<String> fields) throws TowerException {
+        if (fields != null) {
+            for (String name : fields) {
+                groupBy.add(TaskStore.field(name));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Aggregations computed for each group, as {@code function:field} with function one of
+     * {@code sum, mean, min, max}.
+     */
+    public TaskQuery aggregate(List<String> specs) throws TowerException {
+        if (specs != null) {
+            for (String spec : specs) {
+                if (!spec.equals(COUNT)) {
+                    aggregations.add(Aggregation.parse(spec));
+                }
+            }
+        }
+        return this;
+    }
+
+    public boolean isGrouped() {
+        return !groupBy.isEmpty();
+    }
+
+    public Result run(TaskStore store, List<TaskStore.Field> select) throws TowerException {
+        return isGrouped() ? group(store) : select(store, select);
+    }
+
+    private Result select(TaskStore store, List<TaskStore.Field> select) throws TowerException {
+        List<Column> columns = new ArrayList<>();
+        List<TaskStore.Field> fields = new ArrayList<>(select);
+        for (String key : sort) {
+            TaskStore.Field field = TaskStore.field(stripDirection(key));
+            if (!fields.contains(field)) {
+                fields.add(field);
+            }
+        }
+        fields.forEach(it -> columns.add(new Column(it.getName(), it.getKind(), it.isIntegral())));
+
+        Comparator<Integer> order = null;
+        for (String key : sort) {
+            Comparator<Integer> next = rowComparator(store, TaskStore.field(stripDirection(key)), isDescending(key));
+            order = order == null ? next : order.thenComparing(next);
+        }
+
+        int matched = 0;
+        List<Integer> rows = new ArrayList<>();
+        PriorityQueue<Integer> best = order != null && limit >= 0 ? new PriorityQueue<>(order.reversed()) : null;
+        for (int row = 0; row < store.size(); row++) {
+            if (!where.test(row)) {
+                continue;
+            }
+            matched++;
+            if (best != null) {
+                // Keep only the first 'limit' rows in sort order
+                best.add(row);
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            } else {
+                rows.add(row);
+            }
+        }
+        if (best != null) {
+            rows.addAll(best);
+        }
+        if (order != null) {
+            rows.sort(order);
+        }
+        if (limit >= 0 && rows.size() > limit) {
+            rows = rows.subList(0, limit);
+        }
+
+        List<List<Object>> values = new ArrayList<>();
+        for (int row : rows) {
+            List<Object> value = new ArrayList<>();
+            fields.forEach(it -> value.add(store.value(it, row)));
+            values.add(value);
+        }
+        return new Result(columns, values, store.size(), matched);
+    }
+
+    private Result group(TaskStore store) throws TowerException {
+        List<Column> columns = new ArrayList<>();
+        groupBy.forEach(it -> columns.add(new Column(it.getName(), it.getKind(), it.isIntegral())));
+        columns.add(new Column(COUNT, TaskStore.Kind.NUMBER, true));
+        aggregations.forEach(it -> columns.add(new Column(it.getName(), it.field.getKind(), it.function != AggregateFunction.mean && it.field.isIntegral())));
+
+        int matched = 0;
+        Map<GroupKey, Group> groups = new LinkedHashMap<>();
+        for (int row = 0; row < store.size(); row++) {
+            if (!where.test(row)) {
+                continue;
+            }
+            matched++;
+
+            double[] parts = new double[groupBy.size()];
+            for (int i = 0; i < parts.length; i++) {
+                TaskStore.Field field = groupBy.get(i);
+                parts[i] = field.isText() ? store.code(field, row) : store.number(field, row);
+            }
+            int first = row;
+            Group group = groups.computeIfAbsent(new GroupKey(parts), it -> new Group(first, aggregations.size()));
+            group.count++;
+            for (int i = 0; i < aggregations.size(); i++) {
+                group.add(i, store.number(aggregations.get(i).field, row));
+            }
+        }
+
+        List<List<Object>> values = new ArrayList<>();
+        for (Group group : groups.values()) {
+            List<Object> value = new ArrayList<>();
+            groupBy.forEach(it -> value.add(store.value(it, group.firstRow)));
+            value.add((long) group.count);
+            for (int i = 0; i < aggregations.size(); i++) {
+                value.add(group.result(i, aggregations.get(i), columns.get(groupBy.size() + 1 + i)));
+            }
+            values.add(value);
+        }
+
+        List<String> keys = sort.isEmpty() ? List.of("-" + COUNT) : sort;
+        Comparator<List<Object>> order = null;
+        for (String key : keys) {
+            int index = indexOf(columns, stripDirection(key));
+            Comparator<List<Object>> next = valueComparator(index, isDescending(key));
+            order = order == null ? next : order.thenComparing(next);
+        }
+        values.sort(order);
+        if (limit >= 0 && values.size() > limit) {
+            values = values.subList(0, limit);
+        }
+        return new Result(columns, values, store.size(), matched);
+    }
+
+    private static Comparator<Integer> rowComparator(TaskStore store, TaskStore.Field field, boolean descending) {
+        if (field.isText()) {
+            List<String> dictionary = store.dictionary(field);
+            return nullsLast(row -> {
+                int code = store.code(field, row);
+                return code < 0 ? null : dictionary.get(code);
+            }, String.CASE_INSENSITIVE_ORDER, descending);
+        }
+        return nullsLast(row -> {
+            double value = store.number(field, row);
+            return Double.isNaN(value) ? null : value;
+        }, Comparator.<Double>naturalOrder(), descending);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparator<List<Object>> valueComparator(int index, boolean descending) {
+        Comparator<Comparable<Object>> natural = Comparator.naturalOrder();
+        return nullsLast(row -> (Comparable<Object>) row.get(index), natural, descending);
+    }
+
+    /**
+     * Missing values go last whatever the direction.
+     */
+    private static <T, V> Comparator<T> nullsLast(Function<T, V> getter, Comparator<V> comparator, boolean descending) {
+        Comparator<V> values = descending ? comparator.reversed() : comparator;
+        return Comparator.comparing(getter, Comparator.nullsLast(values));
+    }
+
+    private static int indexOf(List<Column> columns, String name) throws TowerException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).name.equals(name)) {
+                return i;
+            }
+        }
+        throw new TowerException(String.format("Unknown sort column '%s', when grouping it must be one of the group fields, '%s' or an aggregation", name, COUNT));
+    }
+
+    private static boolean isDescending(String key) {
+        return key.startsWith("-");
+    }
+
+    private static String stripDirection(String key) {
+        return key.startsWith("-") || key.startsWith("+") ? key.substring(1) : key;
+    }
+
+    public enum AggregateFunction {
+        sum, mean, min, max
+    }
+
+    public static class Aggregation {
+
+        private final AggregateFunction function;
+        private final TaskStore.Field field;
+
+        Aggregation(AggregateFunction function, TaskStore.Field field) {
+            this.function = function;
+            this.field = field;
+        }
+
+        static Aggregation parse(String spec) throws TowerException {
+            String[] parts = spec.split(":", 2);
+            if (parts.length != 2) {
+                throw new TowerException(String.format("Invalid aggregation '%s', expected 'function:field' e.g. 'max:realtime'", spec));
+            }
+
+            AggregateFunction function;
+            try {
+                function = AggregateFunction.valueOf(parts[0].toLowerCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new TowerException(String.format("Unknown aggregation function '%s'. Available functions: %s", parts[0], Arrays.toString(AggregateFunction.values())));
+            }
+
+            TaskStore.Field field = TaskStore.field(parts[1]);
+            if (field.isText()) {
+                throw new TowerException(String.format("Cannot aggregate text field '%s'", field.getName()));
+            }
+            return new Aggregation(function, field);
+        }
+
+        public String getName() {
+            return function + ":" + field.getName();
+        }
+    }
+
+    public static class Column {
+
+        public final String name;
+        public final TaskStore.Kind kind;
+        public final boolean integral;
+
+        Column(String name, TaskStore.Kind kind, boolean integral) {
+            this.name = name;
+            this.kind = kind;
+            this.integral = integral;
+        }
+    }
+
+    public static class Result {
+
+        public final List<Column> columns;
+        public final List<List<Object>> rows;
+        public final int scanned;
+        public final int matched;
+
+        Result(List<Column> columns, List<List<Object>> rows, int scanned, int matched) {
+            this.columns = columns;
+            this.rows = rows;
+            this.scanned = scanned;
+            this.matched = matched;
+        }
+    }
+
+    private static class GroupKey {
+
+        private final double[] parts;
+
+        GroupKey(double[] parts) {
+            this.parts = parts;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof GroupKey && Arrays.equals(parts, ((GroupKey) o).parts);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(parts);
+        }
+    }
+
+    private static class Group {
+
+        private final int firstRow;
+        private int count;
+        private final long[] counts;
+        private final double[] sums;
+        private final double[] mins;
+        private final double[] maxs;
+
+        Group(int firstRow, int aggregations) {
+            this.firstRow = firstRow;
+            this.counts = new long[aggregations];
+            this.sums = new double[aggregations];
+            this.mins = new double[aggregations];
+            this.maxs = new double[aggregations];
+            Arrays.fill(mins, Double.POSITIVE_INFINITY);
+            Arrays.fill(maxs, Double.NEGATIVE_INFINITY);
+        }
+
+        void add(int index, double value) {
+            if (Double.isNaN(value)) {
+                return;
+            }
+            counts[index]++;
+            sums[index] += value;
+            mins[index] = Math.min(mins[index], value);
+            maxs[index] = Math.max(maxs[index], value);
+        }
+
+        Object result(int index, Aggregation aggregation, Column column) {
+            if (counts[index] == 0) {
+                return null;
+            }
+            double value;
+            switch (aggregation.function) {
+                case sum: value = sums[index]; break;
+                case mean: value = sums[index] / counts[index]; break;
+                case min: value = mins[index]; break;
+                default: value = maxs[index]; break;
+            }
+            return column.integral ? (Object) (long) value : (Object) value;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs.tasks.store;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import io.seqera.tower.cli.exceptions.TowerException;
+import io.seqera.tower.model.Task;
+
+/**
+ * Keeps a few fields of every task of a run in primitive arrays, one per field, so that
+ * hundreds of thousands of tasks can be filtered, sorted and aggregated without holding
+ * the task objects. Numeric fields are stored as doubles, with {@code NaN} for missing
+ * values, and text fields as codes of a per-field dictionary, with {@code -1} for missing
+ * values. Timestamps are stored as milliseconds since the epoch.
+ */
+public class TaskStore {
+
+    public enum Kind {
+        NUMBER, DURATION, BYTES, PERCENT, COST, TIMESTAMP, TEXT
+    }
+
+    private static final Map<String, Field> FIELDS = new LinkedHashMap<>();
+
+    static {
+        text("process", Task::getProcess);
+        text("tag", Task::getTag);
+        text("status", task -> task.getStatus() == null ? null : task.getStatus().toString());
+        text("hash", Task::getHash);
+        text("executor", Task::getExecutor);
+        text("machineType", Task::getMachineType);
+        text("container", Task::getContainer);
+        text("nativeId", Task::getNativeId);
+        number("taskId", Kind.NUMBER, Task::getTaskId);
+        number("exit", Kind.NUMBER, Task::getExit);
+        number("cpus", Kind.NUMBER, Task::getCpus);
+        number("memory", Kind.BYTES, Task::getMemory);
+        number("duration", Kind.DURATION, Task::getDuration);
+        number("realtime", Kind.DURATION, Task::getRealtime);
+        number("pcpu", Kind.PERCENT, Task::getPcpu);
+        number("pmem", Kind.PERCENT, Task::getPmem);
+        number("peakRss", Kind.BYTES, Task::getPeakRss);
+        number("peakVmem", Kind.BYTES, Task::getPeakVmem);
+        number("rchar", Kind.BYTES, Task::getRchar);
+        number("wchar", Kind.BYTES, Task::getWchar);
+        number("readBytes", Kind.BYTES, Task::getReadBytes);
+        number("writeBytes", Kind.BYTES, Task::getWriteBytes);
+        number("cost", Kind.COST, Task::getCost);
+        number("submit", Kind.TIMESTAMP, task -> task.getSubmit() == null ? null : task.getSubmit().toInstant().toEpochMilli());
+        number("volCtxt", Kind.NUMBER, Task::getVolCtxt);
+        number("invCtxt", Kind.NUMBER, Task::getInvCtxt);
+    }
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final double[][] numbers;
+    private final int[][] codes;
+    private final List<Dictionary> dictionaries;
+    private int size;
+
+    public TaskStore() {
+        int numeric = (int) FIELDS.values().stream().filter(it -> !it.isText()).count();
+        int text = FIELDS.size() - numeric;
+
+        numbers = new double[numeric][INITIAL_CAPACITY];
+        codes = new int[text][INITIAL_CAPACITY];
+        dictionaries = new ArrayList<>();
+        for (int i = 0; i < text; i++) {
+            dictionaries.add(new Dictionary());
+        }
+    }
+
+    public static List<Field> fields() {
+        return new ArrayList<>(FIELDS.values());
+    }
+
+    public static Field field(String name) throws TowerException {
+        Field field = FIELDS.get(name);
+        if (field == null) {
+            throw new TowerException(String.format("Unknown task field '%s'. Available fields: %s", name, String.join(", ", FIELDS.keySet())));
+        }
+        return field;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void add(Task task) {
+        if (size == codes[0].length) {
+            int capacity = size * 2;
+            for (int i = 0; i < numbers.length; i++) {
+                numbers[i] = Arrays.copyOf(numbers[i], capacity);
+            }
+            for (int i = 0; i < codes.length; i++) {
+                codes[i] = Arrays.copyOf(codes[i], capacity);
+            }
+        }
+
+        for (Field field : FIELDS.values()) {
+            Object value = field.getter.apply(task);
+            if (field.isText()) {
+                codes[field.column][size] = value == null ? -1 : dictionaries.get(field.column).code(value.toString());
+            } else {
+                numbers[field.column][size] = value == null ? Double.NaN : ((Number) value).doubleValue();
+            }
+        }
+        size++;
+    }
+
+    /**
+     * Value of a numeric field, {@code NaN} if missing.
+     */
+    public double number(Field field, int row) {
+        return numbers[field.column][row];
+    }
+
+    /**
+     * Dictionary code of a text field, {@code -1} if missing.
+     */
+    public int code(Field field, int row) {
+        return codes[field.column][row];
+    }
+
+    /**
+     * Distinct values of a text field, indexed by their code.
+     */
+    public List<String> dictionary(Field field) {
+        return dictionaries.get(field.column).values;
+    }
+
+    /**
+     * Value of a field as an object, {@code null} if missing.
+     */
+    public Object value(Field field, int row) {
+        if (field.isText()) {
+            int code = code(field, row);
+            return code < 0 ? null : dictionary(field).get(code);
+        }
+        return field.boxed(number(field, row));
+    }
+
+    private static void text(String name, Function<Task, Object> getter) {
+        int column = (int) FIELDS.values().stream().filter(Field::isText).count();
+        FIELDS.put(name, new Field(name, Kind.TEXT, column, getter));
+    }
+
+    private static void number(String name, Kind kind, Function<Task, Object> getter) {
+        int column = (int) FIELDS.values().stream().filter(it -> !it.isText()).count();
+        FIELDS.put(name, new Field(name, kind, column, getter));
+    }
+
+    public static class Field {
+
+        private final String name;
+        private final Kind kind;
+        private final int column;
+        private final Function<Task, Object> getter;
+
+        private Field(String name, Kind kind, int column, Function<Task, Object> getter) {
+            this.name = name;
+            this.kind = kind;
+            this.column = column;
+            this.getter = getter;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public boolean isText() {
+            return kind == Kind.TEXT;
+        }
+
+        /**
+         * Percentages and costs are fractional, the other numeric fields are whole numbers.
+         */
+        public boolean isIntegral() {
+            return kind == Kind.NUMBER || kind == Kind.DURATION || kind == Kind.BYTES || kind == Kind.TIMESTAMP;
+        }
+
+        Object boxed(double value) {
+            if (Double.isNaN(value)) {
+                return null;
+            }
+            return isIntegral() ? (Object) (long) value : (Object) value;
+        }
+    }
+
+    private static class Dictionary {
+
+        private final List<String> values = new ArrayList<>();
+        private final Map<String, Integer> codes = new HashMap<>();
+
+        int code(String value) {
+            return codes.computeIfAbsent(value, it -> {
+                values.add(it);
+                return values.size() - 1;
+            });
+        }
+    }
+}
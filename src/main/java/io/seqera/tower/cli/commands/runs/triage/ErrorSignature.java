@@ -0,0 +1,90 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs.triage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Reduces the end of a task error output to a signature shared by the tasks that failed the
+ * same way: the last lines are kept and the parts that change from task to task, like URLs,
+ * paths, identifiers, hashes and numbers, are replaced by placeholders.
+ */
+public class ErrorSignature {
+
+    static final int MAX_LINES = 10;
+    static final int MAX_EXAMPLE = 200;
+
+    private static final Pattern URL = Pattern.compile("\\b[a-z][a-z0-9+.-]*://\\S+", Pattern.CASE_INSENSITIVE);
+    private static final Pattern PATH = Pattern.compile("[\\w.@~+-]*(?:/[\\w.@~+-]+)+");
+    private static final Pattern UUID = Pattern.compile("\\b[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern HASH = Pattern.compile("\\b(?=[0-9a-f]*[0-9])(?=[0-9a-f]*[a-f])[0-9a-f]{6,}\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern NUMBER = Pattern.compile("\\d+(?:\\.\\d+)?");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private ErrorSignature() {
+    }
+
+    /**
+     * Signature of an error output, one normalized line per line of its end, empty if there is no output.
+     */
+    public static String of(String output) {
+        List<String> lines = new ArrayList<>();
+        for (String line : lastLines(output)) {
+            String normalized = normalize(line);
+            if (!normalized.isEmpty() && (lines.isEmpty() || !lines.get(lines.size() - 1).equals(normalized))) {
+                lines.add(normalized);
+            }
+        }
+        return String.join("\n", lines);
+    }
+
+    /**
+     * Last non-blank line of an error output as written, usually the error message.
+     */
+    public static String example(String output) {
+        List<String> lines = lastLines(output);
+        if (lines.isEmpty()) {
+            return "";
+        }
+        String line = lines.get(lines.size() - 1);
+        return line.length() > MAX_EXAMPLE ? line.substring(0, MAX_EXAMPLE) : line;
+    }
+
+    static String normalize(String line) {
+        String result = URL.matcher(line).replaceAll("<url>");
+        result = PATH.matcher(result).replaceAll("<path>");
+        result = UUID.matcher(result).replaceAll("<uuid>");
+        result = HASH.matcher(result).replaceAll("<hash>");
+        result = NUMBER.matcher(result).replaceAll("<n>");
+        return SPACES.matcher(result).replaceAll(" ").trim();
+    }
+
+    private static List<String> lastLines(String output) {
+        List<String> result = new ArrayList<>();
+        if (output == null) {
+            return result;
+        }
+        for (String line : output.split("\\r?\\n")) {
+            if (!line.isBlank()) {
+                result.add(line.strip());
+            }
+        }
+        return result.size() > MAX_LINES ? result.subList(result.size() - MAX_LINES, result.size()) : result;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs.triage;
+
+import io.seqera.tower.cli.responses.runs.RunsTriage.FailureMode;
+import io.seqera.tower.cli.utils.MinHash;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Groups failed tasks by exit status and error signature, then merges the groups of the same
+ * exit status whose signatures are near-duplicates. Signature similarity is estimated with
+ * MinHash over word shingles, and only the groups sharing a band of their MinHash signature
+ * are compared, so the number of comparisons stays close to linear.
+ */
+public class FailureClusters {
+
+    static final int SHINGLE_SIZE = 3;
+    static final int BANDS = 16;
+
+    private final Map<String, Group> groups = new LinkedHashMap<>();
+    private long tasks;
+
+    public synchronized void add(Long taskId, String process, String exit, String signature, String example) {
+        Group group = groups.computeIfAbsent(exit + "\u0000" + signature, k -> new Group(exit, signature, example));
+        group.taskIds.add(taskId);
+        if (process != null) {
+            group.processes.merge(process, 1, Integer::sum);
+        }
+        tasks++;
+    }
+
+    public synchronized long getTasks() {
+        return tasks;
+    }
+
+    /**
+     * Failure modes sorted by number of tasks, merging the groups whose signatures have at
+     * least the given estimated similarity.
+     */
+    public synchronized List<FailureMode> modes(double similarity, int examples) {
+        List<Group> values = new ArrayList<>(groups.values());
+        MinHash minHash = new MinHash();
+        List<long[]> signatures = values.stream()
+                .map(it -> minHash.signature(MinHash.shingles(it.signature, SHINGLE_SIZE)))
+                .collect(Collectors.toList());
+
+        // Candidate pairs share all the rows of a band
+        int[] parent = new int[values.size()];
+        Arrays.setAll(parent, i -> i);
+        int rows = minHash.size() / BANDS;
+        Map<String, List<Integer>> buckets = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            for (int band = 0; band < BANDS; band++) {
+                long[] key = Arrays.copyOfRange(signatures.get(i), band * rows, (band + 1) * rows);
+                buckets.computeIfAbsent(values.get(i).exit + "\u0000" + band + "\u0000" + Arrays.toString(key), k -> new ArrayList<>()).add(i);
+            }
+        }
+        for (List<Integer> bucket : buckets.values()) {
+            for (int a = 0; a < bucket.size(); a++) {
+                for (int b = a + 1; b < bucket.size(); b++) {
+                    int i = bucket.get(a);
+                    int j = bucket.get(b);
+                    if (find(parent, i) != find(parent, j) && MinHash.similarity(signatures.get(i), signatures.get(j)) >= similarity) {
+                        parent[find(parent, i)] = find(parent, j);
+                    }
+                }
+            }
+        }
+
+        Map<Integer, List<Group>> clusters = new LinkedHashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            clusters.computeIfAbsent(find(parent, i), k -> new ArrayList<>()).add(values.get(i));
+        }
+
+        return clusters.values().stream()
+                .map(cluster -> mode(cluster, examples))
+                .sorted(Comparator.comparingLong((FailureMode it) -> it.tasks).reversed().thenComparing(it -> it.signature))
+                .collect(Collectors.toList());
+    }
+
+    private static FailureMode mode(List<Group> cluster, int examples) {
+        // The largest group represents the cluster
+        Group main = cluster.stream().max(Comparator.comparingInt(it -> it.taskIds.size())).orElseThrow();
+
+        Map<String, Integer> processes = new HashMap<>();
+        List<Long> taskIds = new ArrayList<>();
+        for (Group group : cluster) {
+            group.processes.forEach((name, count) -> processes.merge(name, count, Integer::sum));
+            taskIds.addAll(group.taskIds);
+        }
+        taskIds.sort(Comparator.nullsLast(Comparator.naturalOrder()));
+
+        List<String> processNames = processes.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+
+        return new FailureMode(main.exit, taskIds.size(), cluster.size(), main.signature, main.example, processNames, new ArrayList<>(taskIds.subList(0, Math.min(examples, taskIds.size()))));
+    }
+
+    private static int find(int[] parent, int i) {
+        int root = i;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        while (parent[i] != root) {
+            int next = parent[i];
+            parent[i] = root;
+            i = next;
+        }
+        return root;
+    }
+
+    private static class Group {
+
+        private final String exit;
+        private final String signature;
+        private final String example;
+        private final List<Long> taskIds = new ArrayList<>();
+        private final Map<String, Integer> processes = new HashMap<>();
+
+        Group(String exit, String signature, String example) {
+            this.exit = exit;
+            this.signature = signature;
+            this.example = example;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs.watch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import io.seqera.tower.ApiException;
+import io.seqera.tower.model.WorkflowStatus;
+
+/**
+ * Follows the status of many pipeline runs. Every poll lists the active runs of the workspace
+ * with one status filtered search per active status, so the number of requests does not grow
+ * with the number of runs watched. Only the watched runs that leave the active statuses are
+ * described, once, to know how they ended.
+ */
+public class RunsWatcher {
+
+    /** Statuses of a run that has not finished yet */
+    public static final List<WorkflowStatus> ACTIVE = List.of(WorkflowStatus.SUBMITTED, WorkflowStatus.RUNNING);
+
+    private final RunSource source;
+    private final String search;
+
+    /** Watch the active runs matching the search, including the ones started while watching */
+    private final boolean discover;
+
+    private final Map<String, RunState> runs = new LinkedHashMap<>();
+    private boolean polled;
+
+    /**
+     * @param ids runs to watch, or empty to watch the active runs matching {@code search}
+     * @param search server search of the runs without ids, {@code null} to list all the runs of the workspace
+     */
+    public RunsWatcher(RunSource source, List<String> ids, String search) {
+        this.source = source;
+        this.search = search;
+        this.discover = ids.isEmpty();
+        for (String id : ids) {
+            runs.put(id, new RunState(id, null, null));
+        }
+    }
+
+    /**
+     * Request the status of the runs not finished yet and return the status changes, the first
+     * poll reports the status of every run, and later polls the runs matching the search that
+     * started since the previous one. Nothing changes if a request fails, so the poll can be
+     * sent again.
+     */
+    public List<WatchEvent> poll() throws ApiException {
+        Map<String, RunState> active = new LinkedHashMap<>();
+        for (WorkflowStatus status : ACTIVE) {
+            for (RunState run : source.list(withStatus(search, status))) {
+                active.put(run.workflowId, run);
+            }
+        }
+
+        List<RunState> watched = new ArrayList<>();
+        runs.values().stream().filter(run -> !polled || run.isActive()).forEach(watched::add);
+
+        List<RunState> added = new ArrayList<>();
+        if (discover) {
+            active.values().stream()
+                    .filter(run -> !runs.containsKey(run.workflowId))
+                    .forEach(run -> added.add(new RunState(run.workflowId, run.runName, null)));
+            watched.addAll(added);
+        }
+
+        // Describe only the runs that are no longer active, to know how they ended
+        Map<String, RunState> currents = new HashMap<>();
+        for (RunState run : watched) {
+            RunState current = active.get(run.workflowId);
+            currents.put(run.workflowId, current != null ? current : source.describe(run.workflowId));
+        }
+
+        added.forEach(run -> runs.put(run.workflowId, run));
+
+        List<WatchEvent> events = new ArrayList<>();
+        for (RunState run : watched) {
+            RunState current = currents.get(run.workflowId);
+            WorkflowStatus status = current == null ? null : current.status;
+            if (!polled || status != run.status) {
+                events.add(new WatchEvent(run.workflowId, current == null ? run.runName : current.runName, polled ? run.status : null, status));
+            }
+            if (current != null && current.runName != null) {
+                run.runName = current.runName;
+            }
+            run.status = status;
+            run.found = current != null;
+        }
+
+        polled = true;
+        return events;
+    }
+
+    /**
+     * Whether all the runs have finished, or could not be found.
+     */
+    public boolean isDone() {
+        return polled && runs.values().stream().noneMatch(RunState::isActive);
+    }
+
+    public Collection<RunState> getRuns() {
+        return runs.values();
+    }
+
+    /**
+     * Counts by status, it changes whenever any of the runs changes its status.
+     */
+    public String summary() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (RunState run : runs.values()) {
+            counts.merge(run.status == null ? WatchEvent.NOT_FOUND : run.status.toString(), 1, Integer::sum);
+        }
+        return counts.toString();
+    }
+
+    static String withStatus(String search, WorkflowStatus status) {
+        String filter = "status:" + status.toString().toLowerCase(Locale.ROOT);
+        return search == null || search.isBlank() ? filter : search + " " + filter;
+    }
+
+    /**
+     * Provides the runs of the workspace.
+     */
+    public interface RunSource {
+
+        /** All the runs matching the search */
+        List<RunState> list(String search) throws ApiException;
+
+        /** The run with this id, {@code null} if it does not exist */
+        RunState describe(String workflowId) throws ApiException;
+    }
+
+    public static class RunState {
+
+        public final String workflowId;
+        public String runName;
+        public WorkflowStatus status;
+        boolean found = true;
+
+        public RunState(String workflowId, String runName, WorkflowStatus status) {
+            this.workflowId = workflowId;
+            this.runName = runName;
+            this.status = status;
+        }
+
+        /**
+         * Whether the run has not finished, a run that is not known yet is considered active.
+         */
+        boolean isActive() {
+            return found && (status == null || ACTIVE.contains(status));
+        }
+    }
+}
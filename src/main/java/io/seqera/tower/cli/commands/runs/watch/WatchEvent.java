@@ -0,0 +1,44 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.commands.runs.watch;
+
+import java.time.Instant;
+
+import io.seqera.tower.model.WorkflowStatus;
+
+/**
+ * Status change of a watched run, written as one JSON line of the event stream. The first
+ * event of each run has no previous status.
+ */
+public class WatchEvent {
+
+    public static final String NOT_FOUND = "NOT_FOUND";
+
+    public final String time;
+    public final String workflowId;
+    public final String runName;
+    public final String previousStatus;
+    public final String status;
+
+    public WatchEvent(String workflowId, String runName, WorkflowStatus previousStatus, WorkflowStatus status) {
+        this.time = Instant.now().toString();
+        this.workflowId = workflowId;
+        this.runName = runName;
+        this.previousStatus = previousStatus == null ? null : previousStatus.toString();
+        this.status = status == null ? NOT_FOUND : status.toString();
+    }
+}
@@ -16,6 +16,7 @@
 
 package io.seqera.tower.cli.commands.studios;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -28,6 +29,7 @@ import io.seqera.tower.cli.commands.data.links.DataLinkService;
 import io.seqera.tower.cli.commands.labels.Label;
 import io.seqera.tower.cli.exceptions.MemberNotFoundException;
 import io.seqera.tower.cli.exceptions.StudioNotFoundException;
+import io.seqera.tower.cli.utils.PollingSchedule;
 import io.seqera.tower.model.DataStudioConfiguration;
 import io.seqera.tower.cli.commands.enums.OutputType;
 import io.seqera.tower.model.DataStudioDto;
@@ -131,13 +133,24 @@ public class AbstractStudiosCmd extends AbstractApiCmd {
     }
 
     protected Integer onBeforeExit(int exitCode, String sessionId, Long workspaceId, DataStudioStatus targetStatus) {
+        return onBeforeExit(exitCode, sessionId, workspaceId, targetStatus, null);
+    }
+
+    protected Integer onBeforeExit(int exitCode, String sessionId, Long workspaceId, DataStudioStatus targetStatus, Duration timeout) {
         boolean showProgress = app().output != OutputType.json;
 
+        // Starting and stopping take from seconds to a few minutes
+        PollingSchedule schedule = new PollingSchedule()
+                .interval(DataStudioStatus.starting, Duration.ofSeconds(2), Duration.ofSeconds(15))
+                .interval(DataStudioStatus.stopping, Duration.ofSeconds(2), Duration.ofSeconds(15))
+                .timeout(timeout);
+
         try {
             return waitStatus(
                     app().getOut(),
                     showProgress,
                     new ProgressStepMessageSupplier(sessionId, workspaceId),
+                    schedule,
                     targetStatus,
                     DataStudioStatus.values(),
                     () -> checkStudioStatus(sessionId, workspaceId),
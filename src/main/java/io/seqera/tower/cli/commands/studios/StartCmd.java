@@ -16,6 +16,7 @@
 
 package io.seqera.tower.cli.commands.studios;
 
+import java.time.Duration;
 import java.util.List;
 
 import io.seqera.tower.ApiException;
@@ -25,6 +26,7 @@ import io.seqera.tower.cli.commands.labels.LabelsOptionalOptions;
 import io.seqera.tower.cli.exceptions.StudioNotFoundException;
 import io.seqera.tower.cli.responses.Response;
 import io.seqera.tower.cli.responses.studios.StudioStartSubmitted;
+import io.seqera.tower.cli.utils.DurationConverter;
 import io.seqera.tower.model.DataStudioConfiguration;
 import io.seqera.tower.model.DataStudioDto;
 import io.seqera.tower.model.DataStudioStartRequest;
@@ -52,6 +54,9 @@ public class StartCmd extends AbstractStudiosCmd {
     @CommandLine.Option(names = {"--wait"}, description = "Wait until given status or fail. Valid options: ${COMPLETION-CANDIDATES}.")
     public DataStudioStatus wait;
 
+    @CommandLine.Option(names = {"--wait-timeout"}, description = "Maximum time to wait for the status given with --wait, e.g. 10m or 1h (default: no limit).", converter = DurationConverter.class)
+    public Duration waitTimeout;
+
     @CommandLine.Option(names = {"--labels"}, description = "Comma-separated list of labels", split = ",", converter = Label.StudioResourceLabelsConverter.class)
     public List<Label> labels;
 
@@ -101,7 +106,7 @@ public class StartCmd extends AbstractStudiosCmd {
             return exitCode;
         }
 
-        return onBeforeExit(exitCode, submitted.sessionId, submitted.workspaceId, wait);
+        return onBeforeExit(exitCode, submitted.sessionId, submitted.workspaceId, wait, waitTimeout);
     }
 
     private DataStudioStartRequest getStartRequestWithOverridesApplied(DataStudioDto studioDto) throws ApiException {
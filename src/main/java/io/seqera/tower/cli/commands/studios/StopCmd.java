@@ -16,11 +16,14 @@
 
 package io.seqera.tower.cli.commands.studios;
 
+import java.time.Duration;
+
 import io.seqera.tower.ApiException;
 import io.seqera.tower.cli.commands.global.WorkspaceOptionalOptions;
 import io.seqera.tower.cli.exceptions.StudioNotFoundException;
 import io.seqera.tower.cli.responses.Response;
 import io.seqera.tower.cli.responses.studios.StudioStopSubmitted;
+import io.seqera.tower.cli.utils.DurationConverter;
 import io.seqera.tower.model.DataStudioStatus;
 import io.seqera.tower.model.DataStudioStopResponse;
 import picocli.CommandLine;
@@ -42,6 +45,9 @@ public class StopCmd extends AbstractStudiosCmd {
     @CommandLine.Option(names = {"--wait"}, description = "Wait until given status or fail. Valid options: ${COMPLETION-CANDIDATES}.")
     public DataStudioStatus wait;
 
+    @CommandLine.Option(names = {"--wait-timeout"}, description = "Maximum time to wait for the status given with --wait, e.g. 10m or 1h (default: no limit).", converter = DurationConverter.class)
+    public Duration waitTimeout;
+
     @Override
     protected Response exec() throws ApiException {
         Long wspId = workspaceId(workspace.workspace);
@@ -74,6 +80,6 @@ public class StopCmd extends AbstractStudiosCmd {
             return exitCode;
         }
 
-        return onBeforeExit(exitCode, submitted.sessionId, submitted.workspaceId, wait);
+        return onBeforeExit(exitCode, submitted.sessionId, submitted.workspaceId, wait, waitTimeout);
     }
 }
\ No newline at end of file
@@ -37,6 +37,10 @@ public class DataLinkFileTransferResult extends Response {
         return new DataLinkFileTransferResult(paths, FileTransferDirection.UPLOAD);
     }
 
+    public static DataLinkFileTransferResult copied(List<SimplePathInfo> paths) {
+        return new DataLinkFileTransferResult(paths, FileTransferDirection.COPY);
+    }
+
     public DataLinkFileTransferResult(List<SimplePathInfo> paths, FileTransferDirection transferDirection) {
         this.paths = paths;
         this.transferDirection = transferDirection;
@@ -44,7 +48,17 @@ public class DataLinkFileTransferResult extends Response {
 
     @Override
     public void toString(PrintWriter out) {
-        String transferDirectionLabel = transferDirection == FileTransferDirection.DOWNLOAD ? "downloaded" : "uploaded";
+        String transferDirectionLabel;
+        switch (transferDirection) {
+            case DOWNLOAD:
+                transferDirectionLabel = "downloaded";
+                break;
+            case COPY:
+                transferDirectionLabel = "copied";
+                break;
+            default:
+                transferDirectionLabel = "uploaded";
+        }
         out.println(ansi(String.format("%n  @|bold Successfully %s files |@%n", transferDirectionLabel)));
         out.println("");
 
@@ -80,7 +94,7 @@ public class DataLinkFileTransferResult extends Response {
         }
     }
     public static enum FileTransferDirection  {
-        DOWNLOAD, UPLOAD
+        DOWNLOAD, UPLOAD, COPY
     }
 
 
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.responses.data;
+
+import java.io.PrintWriter;
+import java.util.List;
+
+import io.seqera.tower.cli.responses.Response;
+import io.seqera.tower.cli.utils.TableList;
+
+public class DataLinkFindResult extends Response {
+
+    public final String dataLink;
+    public final String pattern;
+    public final List<FoundFile> files;
+
+    public DataLinkFindResult(String dataLink, String pattern, List<FoundFile> files) {
+        this.dataLink = dataLink;
+        this.pattern = pattern;
+        this.files = files;
+    }
+
+    @Override
+    public void toString(PrintWriter out) {
+        out.println(ansi(String.format("%n  @|bold Files of '%s' matching '%s':|@%n", dataLink, pattern)));
+
+        if (files.isEmpty()) {
+            out.println("    No files found.");
+            out.println("");
+            return;
+        }
+
+        TableList table = new TableList(out, 2, "Path", "Size");
+        table.setPrefix("    ");
+        files.forEach(file -> table.addRow(file.path, String.valueOf(file.size)));
+        table.print();
+        out.println("");
+    }
+
+    public static class FoundFile {
+
+        public String path;
+        public long size;
+
+        public FoundFile() {
+        }
+
+        public FoundFile(String path, long size) {
+            this.path = path;
+            this.size = size;
+        }
+    }
+}
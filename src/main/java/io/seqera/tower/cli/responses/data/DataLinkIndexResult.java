@@ -0,0 +1,48 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.responses.data;
+
+import java.io.PrintWriter;
+
+import io.seqera.tower.cli.responses.Response;
+
+import static io.seqera.tower.cli.utils.FormatHelper.formatBits;
+
+public class DataLinkIndexResult extends Response {
+
+    public final String dataLink;
+    public final String indexPath;
+    public final int listedFolders;
+    public final int folders;
+    public final int files;
+    public final long totalSize;
+
+    public DataLinkIndexResult(String dataLink, String indexPath, int listedFolders, int folders, int files, long totalSize) {
+        this.dataLink = dataLink;
+        this.indexPath = indexPath;
+        this.listedFolders = listedFolders;
+        this.folders = folders;
+        this.files = files;
+        this.totalSize = totalSize;
+    }
+
+    @Override
+    public void toString(PrintWriter out) {
+        out.println(ansi(String.format("%n  @|bold Indexed '%s' at '%s'|@%n", dataLink, indexPath)));
+        out.println(String.format("    %d folders listed, %d folders and %d files indexed (%s).%n", listedFolders, folders, files, formatBits(totalSize)));
+    }
+}
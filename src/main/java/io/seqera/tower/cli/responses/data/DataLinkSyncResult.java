@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.responses.data;
+
+import java.io.PrintWriter;
+import java.util.List;
+
+import io.seqera.tower.cli.responses.Response;
+import io.seqera.tower.cli.utils.TableList;
+
+public class DataLinkSyncResult extends Response {
+
+    public final String source;
+    public final String target;
+    public final List<SyncItem> items;
+    public final int unchanged;
+    public final boolean dryRun;
+
+    public DataLinkSyncResult(String source, String target, List<SyncItem> items, int unchanged, boolean dryRun) {
+        this.source = source;
+        this.target = target;
+        this.items = items;
+        this.unchanged = unchanged;
+        this.dryRun = dryRun;
+    }
+
+    @Override
+    public void toString(PrintWriter out) {
+        String title = dryRun
+                ? String.format("Dry run of synchronizing '%s' to '%s'", source, target)
+                : String.format("Synchronized '%s' to '%s'", source, target);
+        out.println(ansi(String.format("%n  @|bold %s|@%n", title)));
+
+        if (!items.isEmpty()) {
+            TableList table = new TableList(out, 3, "Action", "Path", "Size").sortBy(1);
+            table.setPrefix("    ");
+            items.forEach(item -> table.addRow(item.action.toString(), item.path, String.valueOf(item.size)));
+            table.print();
+        }
+
+        out.println(String.format("%n    %d files transferred, %d deleted, %d unchanged.%n",
+                items.stream().filter(item -> item.action != SyncAction.DELETE).count(),
+                items.stream().filter(item -> item.action == SyncAction.DELETE).count(),
+                unchanged));
+    }
+
+    public static class SyncItem {
+
+        public SyncAction action;
+        public String path;
+        public long size;
+
+        public SyncItem() {
+        }
+
+        public SyncItem(SyncAction action, String path, long size) {
+            this.action = action;
+            this.path = path;
+            this.size = size;
+        }
+    }
+
+    public enum SyncAction {
+        UPLOAD, UPDATE, DELETE
+    }
+}
@@ -26,6 +26,7 @@ import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -101,7 +102,8 @@ public class RunViewMetrics extends Response {
             out.println(ansi(String.format("%n%n    @|bold  Memory Metrics|@%n    ----------------%n")));
 
             if (groupType == MetricPreviewFormat.condensed) {
-                out.println(ansi(String.format("   @|italic   Legend:  physical RAM / virtual RAM+swap / %%RAM allocated |@%n")));
+                String legend = hasMetric(metricsMem, "memOverRequest") ? " / RAM allocated:peak ratio" : "";
+                out.println(ansi(String.format("   @|italic   Legend:  physical RAM / virtual RAM+swap / %%RAM allocated%s |@%n", legend)));
                 processDataReducedTable(metricsMem, out, cols);
             } else {
                 processExpandedDataTable(metricsMem, out, cols);
@@ -125,7 +127,8 @@ public class RunViewMetrics extends Response {
             out.println(ansi(String.format("%n%n    @|bold  Time Metrics|@%n    ----------------%n")));
 
             if (groupType == MetricPreviewFormat.condensed) {
-                out.println(ansi(String.format("   @|italic   Legend: execution real-time / %% requested time used|@%n")));
+                String legend = hasMetric(metricsTime, "queueWait") ? " / queue wait" : "";
+                out.println(ansi(String.format("   @|italic   Legend: execution real-time / %% requested time used%s|@%n", legend)));
                 processDataReducedTable(metricsTime, out, cols);
             } else {
                 processExpandedDataTable(metricsTime, out, cols);
@@ -231,7 +234,7 @@ public class RunViewMetrics extends Response {
      * @return
      */
     private Map<String, List<String>> summarizeDataBlocks(Map<String, Map<String, Number>> data) {
-        Map<String, List<String>> result = new HashMap<>();
+        Map<String, List<String>> result = new LinkedHashMap<>();
 
         data.entrySet().stream().forEach(it -> {
             if (it.getValue() != null) {
@@ -250,4 +253,14 @@ public class RunViewMetrics extends Response {
 
         return result;
     }
+
+    /**
+     * Whether any process of the section has the given metric, only the metrics computed from
+     * the tasks include some of them.
+     */
+    private static boolean hasMetric(List<Map<String, Object>> metricData, String metric) {
+        return metricData.stream()
+                .flatMap(it -> it.values().stream())
+                .anyMatch(it -> ((Map<String, Object>) it).get(metric) != null);
+    }
 }
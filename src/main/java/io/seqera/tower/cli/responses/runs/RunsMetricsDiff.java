@@ -0,0 +1,164 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.responses.runs;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.seqera.tower.cli.commands.runs.metrics.enums.MetricChange;
+import io.seqera.tower.cli.responses.Response;
+import io.seqera.tower.cli.responses.runs.utils.MetricFormatMapper;
+import io.seqera.tower.cli.utils.TableList;
+import picocli.CommandLine;
+
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.function.Function;
+
+public class RunsMetricsDiff extends Response {
+
+    public final String workspaceRef;
+    public final String baselineId;
+    public final String candidateId;
+    public final double threshold;
+    public final List<ProcessDelta> processes;
+    public final List<String> removedProcesses;
+    public final List<String> addedProcesses;
+    public final long regressions;
+
+    @JsonIgnore
+    public final boolean failOnRegression;
+
+    public RunsMetricsDiff(String workspaceRef, String baselineId, String candidateId, double threshold, List<ProcessDelta> processes, List<String> removedProcesses, List<String> addedProcesses, boolean failOnRegression) {
+        this.workspaceRef = workspaceRef;
+        this.baselineId = baselineId;
+        this.candidateId = candidateId;
+        this.threshold = threshold;
+        this.processes = processes;
+        this.removedProcesses = removedProcesses;
+        this.addedProcesses = addedProcesses;
+        this.regressions = processes.stream().filter(it -> it.change == MetricChange.regression).count();
+        this.failOnRegression = failOnRegression;
+    }
+
+    @Override
+    public void toString(PrintWriter out) {
+        out.println(ansi(String.format("%n  @|bold Metrics of pipeline run %s compared to %s at %s workspace:|@%n", candidateId, baselineId, workspaceRef)));
+
+        if (processes.isEmpty()) {
+            out.println(ansi("    @|yellow No common processes found|@"));
+        } else {
+            TableList table = new TableList(out, 8, "Process", "Metric", "Baseline median", "Candidate median", "Δ q1", "Δ median", "Δ q3", "Change");
+            table.setPrefix("    ");
+            processes.forEach(it -> table.addRow(
+                    it.process,
+                    it.metric,
+                    format(it.metric, it.baselineQ2),
+                    format(it.metric, it.candidateQ2),
+                    formatChange(it.deltaQ1),
+                    formatChange(it.deltaQ2),
+                    formatChange(it.deltaQ3),
+                    formatMetricChange(it.change, it.significant)
+            ));
+            table.print();
+        }
+
+        if (!removedProcesses.isEmpty()) {
+            out.println(String.format("%n    Only in baseline: %s", String.join(", ", removedProcesses)));
+        }
+        if (!addedProcesses.isEmpty()) {
+            out.println(String.format("%n    Only in candidate: %s", String.join(", ", addedProcesses)));
+        }
+
+        String summary = regressions == 0 ? "@|green No regressions|@" : String.format("@|red %d regressions|@", regressions);
+        out.println(ansi(String.format("%n    %s over %s%% of the median%n", summary, formatNumber(threshold))));
+    }
+
+    /**
+     * Failed if asked to fail on regressions and any process regressed.
+     */
+    @Override
+    public int getExitCode() {
+        return failOnRegression && regressions > 0 ? CommandLine.ExitCode.SOFTWARE : CommandLine.ExitCode.OK;
+    }
+
+    private String format(String metric, Double value) {
+        if (value == null) {
+            return "";
+        }
+        Function<Number, Object> formatter = MetricFormatMapper.getFormatTransformer(metric);
+        return formatter == null ? formatNumber(value) : String.valueOf(formatter.apply(value));
+    }
+
+    private static String formatChange(Double value) {
+        return value == null ? "" : String.format("%+.1f%%", value);
+    }
+
+    private String formatMetricChange(MetricChange change, boolean significant) {
+        switch (change) {
+            case regression:
+                return ansi("@|red regression|@");
+            case improvement:
+                return ansi("@|green improvement|@");
+            case changed:
+                return ansi("@|yellow changed|@");
+            default:
+                return significant ? "within threshold" : "";
+        }
+    }
+
+    private static String formatNumber(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+
+    public static class ProcessDelta {
+
+        public final String process;
+        public final String metric;
+
+        public final Double baselineQ1;
+        public final Double baselineQ2;
+        public final Double baselineQ3;
+
+        public final Double candidateQ1;
+        public final Double candidateQ2;
+        public final Double candidateQ3;
+
+        /** Relative changes in percent, null when the baseline value is zero */
+        public final Double deltaQ1;
+        public final Double deltaQ2;
+        public final Double deltaQ3;
+
+        /** Whether the candidate median is outside the baseline interquartile range */
+        public final boolean significant;
+        public final MetricChange change;
+
+        public ProcessDelta(String process, String metric, Double baselineQ1, Double baselineQ2, Double baselineQ3, Double candidateQ1, Double candidateQ2, Double candidateQ3, Double deltaQ1, Double deltaQ2, Double deltaQ3, boolean significant, MetricChange change) {
+            this.process = process;
+            this.metric = metric;
+            this.baselineQ1 = baselineQ1;
+            this.baselineQ2 = baselineQ2;
+            this.baselineQ3 = baselineQ3;
+            this.candidateQ1 = candidateQ1;
+            this.candidateQ2 = candidateQ2;
+            this.candidateQ3 = candidateQ3;
+            this.deltaQ1 = deltaQ1;
+            this.deltaQ2 = deltaQ2;
+            this.deltaQ3 = deltaQ3;
+            this.significant = significant;
+            this.change = change;
+        }
+    }
+}
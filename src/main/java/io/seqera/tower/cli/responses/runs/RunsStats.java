@@ -0,0 +1,114 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.responses.runs;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.seqera.tower.cli.commands.runs.stats.enums.RunStatsFormat;
+import io.seqera.tower.cli.exceptions.TowerRuntimeException;
+import io.seqera.tower.cli.responses.Response;
+import io.seqera.tower.cli.utils.FormatHelper;
+import io.seqera.tower.cli.utils.TableList;
+
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static io.seqera.tower.cli.utils.JsonHelper.compactJson;
+
+public class RunsStats extends Response {
+
+    public final String workspaceRef;
+    public final String since;
+    public final List<String> columns;
+    public final List<Map<String, Object>> rows;
+
+    @JsonIgnore
+    private final RunStatsFormat format;
+
+    public RunsStats(String workspaceRef, String since, List<String> columns, List<Map<String, Object>> rows, RunStatsFormat format) {
+        this.workspaceRef = workspaceRef;
+        this.since = since;
+        this.columns = columns;
+        this.rows = rows;
+        this.format = format;
+    }
+
+    @Override
+    public void toString(PrintWriter out) {
+        if (format == RunStatsFormat.csv) {
+            out.println(columns.stream().map(RunsStats::csv).collect(Collectors.joining(",")));
+            rows.forEach(row -> out.println(columns.stream().map(col -> csv(row.get(col))).collect(Collectors.joining(","))));
+            return;
+        }
+
+        if (format == RunStatsFormat.ndjson) {
+            try {
+                for (Map<String, Object> row : rows) {
+                    out.println(compactJson(row));
+                }
+            } catch (JsonProcessingException e) {
+                throw new TowerRuntimeException("Unable to write the run statistics: " + e.getMessage());
+            }
+            return;
+        }
+
+        out.println(ansi(String.format("%n  @|bold Pipeline run statistics at %s workspace since %s:|@%n", workspaceRef, since)));
+
+        if (rows.isEmpty()) {
+            out.println(ansi("    @|yellow No pipeline runs found|@"));
+            return;
+        }
+
+        TableList table = new TableList(out, columns.size(), columns.toArray(new String[0]));
+        table.setPrefix("    ");
+        rows.forEach(row -> table.addRow(columns.stream().map(col -> format(col, row.get(col))).toArray(String[]::new)));
+        table.print();
+
+        out.println("");
+    }
+
+    private static String format(String column, Object value) {
+        if (value == null) {
+            return "";
+        }
+        switch (column) {
+            case "failureRate":
+                return FormatHelper.formatPercentage((Number) value);
+            case "cost":
+                return String.format("$%.2f", ((Number) value).doubleValue());
+            case "cpuHours":
+                return FormatHelper.formatDecimal(((Number) value).doubleValue());
+            case "medianDuration":
+                return FormatHelper.formatDurationMillis((Number) value);
+            default:
+                return value.toString();
+        }
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
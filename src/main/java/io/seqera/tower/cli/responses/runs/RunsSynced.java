@@ -0,0 +1,49 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.responses.runs;
+
+import io.seqera.tower.cli.responses.Response;
+
+public class RunsSynced extends Response {
+
+    public final String workspaceRef;
+
+    /** Date of the incremental sync, {@code null} for a full sync */
+    public final String since;
+
+    public final int fetched;
+    public final int changed;
+    public final int total;
+    public final String path;
+
+    public RunsSynced(String workspaceRef, String since, int fetched, int changed, int total, String path) {
+        this.workspaceRef = workspaceRef;
+        this.since = since;
+        this.fetched = fetched;
+        this.changed = changed;
+        this.total = total;
+        this.path = path;
+    }
+
+    @Override
+    public String toString() {
+        String from = since == null ? "all the runs" : String.format("runs submitted since %s", since);
+        return ansi(String.format("%n  @|yellow Pipeline runs at %s workspace synced: %d new or changed of %d requested (%s), %d runs stored at '%s'|@%n",
+                workspaceRef, changed, fetched, from, total, path));
+    }
+
+}
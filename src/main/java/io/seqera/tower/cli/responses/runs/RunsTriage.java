@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.responses.runs;
+
+import io.seqera.tower.cli.responses.Response;
+import io.seqera.tower.cli.utils.TableList;
+
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class RunsTriage extends Response {
+
+    static final int MAX_SIGNATURE = 100;
+
+    public final String workflowId;
+    public final String workspaceRef;
+    public final long failedTasks;
+    public final List<FailureMode> failureModes;
+
+    public RunsTriage(String workflowId, String workspaceRef, long failedTasks, List<FailureMode> failureModes) {
+        this.workflowId = workflowId;
+        this.workspaceRef = workspaceRef;
+        this.failedTasks = failedTasks;
+        this.failureModes = failureModes;
+    }
+
+    @Override
+    public void toString(PrintWriter out) {
+        out.println(ansi(String.format("%n  @|bold Failed tasks of pipeline run %s at %s workspace:|@%n", workflowId, workspaceRef)));
+
+        if (failureModes.isEmpty()) {
+            out.println(ansi("    @|yellow No failed tasks found|@"));
+            return;
+        }
+
+        TableList table = new TableList(out, 6, "#", "Tasks", "Exit", "Processes", "Error", "Example tasks");
+        table.setPrefix("    ");
+        for (int i = 0; i < failureModes.size(); i++) {
+            FailureMode mode = failureModes.get(i);
+            table.addRow(
+                    String.valueOf(i + 1),
+                    String.valueOf(mode.tasks),
+                    mode.exit,
+                    processes(mode.processes),
+                    error(mode),
+                    mode.taskIds.stream().map(String::valueOf).collect(Collectors.joining(", "))
+            );
+        }
+        table.print();
+
+        out.println(String.format("%n    %d failed tasks in %d failure modes%n", failedTasks, failureModes.size()));
+    }
+
+    private static String processes(List<String> processes) {
+        if (processes.size() <= 2) {
+            return String.join(", ", processes);
+        }
+        return String.format("%s, %s (+%d)", processes.get(0), processes.get(1), processes.size() - 2);
+    }
+
+    private static String error(FailureMode mode) {
+        String error = mode.example.isEmpty() ? "(no error output)" : mode.example;
+        return error.length() > MAX_SIGNATURE ? error.substring(0, MAX_SIGNATURE - 3) + "..." : error;
+    }
+
+    public static class FailureMode {
+
+        public final String exit;
+        public final long tasks;
+
+        /** Number of distinct signatures merged as near-duplicates */
+        public final int signatures;
+
+        public final String signature;
+        public final String example;
+        public final List<String> processes;
+        public final List<Long> taskIds;
+
+        public FailureMode(String exit, long tasks, int signatures, String signature, String example, List<String> processes, List<Long> taskIds) {
+            this.exit = exit;
+            this.tasks = tasks;
+            this.signatures = signatures;
+            this.signature = signature;
+            this.example = example;
+            this.processes = processes;
+            this.taskIds = taskIds;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.responses.runs;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.seqera.tower.cli.responses.Response;
+import io.seqera.tower.cli.utils.TableList;
+import io.seqera.tower.model.WorkflowStatus;
+import picocli.CommandLine;
+
+import java.io.PrintWriter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static io.seqera.tower.cli.utils.FormatHelper.formatWorkflowId;
+import static io.seqera.tower.cli.utils.FormatHelper.formatWorkflowStatus;
+
+public class RunsWatched extends Response {
+
+    public final String workspaceRef;
+    public final List<WatchedRun> runs;
+    public final boolean timedOut;
+
+    @JsonIgnore
+    public final String baseWorkspaceUrl;
+
+    public RunsWatched(String workspaceRef, List<WatchedRun> runs, boolean timedOut, String baseWorkspaceUrl) {
+        this.workspaceRef = workspaceRef;
+        this.runs = runs;
+        this.timedOut = timedOut;
+        this.baseWorkspaceUrl = baseWorkspaceUrl;
+    }
+
+    @Override
+    public void toString(PrintWriter out) {
+        out.println(ansi(String.format("%n  @|bold Pipeline runs watched at %s workspace:|@%n", workspaceRef)));
+
+        if (runs.isEmpty()) {
+            out.println(ansi("    @|yellow No pipeline runs found|@"));
+            return;
+        }
+
+        TableList table = new TableList(out, 3, "ID", "Status", "Run Name");
+        table.setPrefix("    ");
+        runs.forEach(run -> table.addRow(
+                formatWorkflowId(run.workflowId, baseWorkspaceUrl),
+                run.status == null ? "NOT_FOUND" : formatWorkflowStatus(run.status),
+                run.runName == null ? "" : run.runName
+        ));
+        table.print();
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        runs.forEach(run -> counts.merge(run.status == null ? "not found" : run.status.toString().toLowerCase(Locale.ROOT), 1L, Long::sum));
+        String summary = counts.entrySet().stream()
+                .map(entry -> String.format("%d %s", entry.getValue(), entry.getKey()))
+                .collect(Collectors.joining(", "));
+        out.println(String.format("%n    %s%s%n", summary, timedOut ? ansi(" @|yellow (timed out)|@") : ""));
+    }
+
+    /**
+     * Successful only if all the runs succeeded.
+     */
+    @Override
+    public int getExitCode() {
+        boolean succeeded = !timedOut && runs.stream().allMatch(run -> run.status == WorkflowStatus.SUCCEEDED);
+        return succeeded ? CommandLine.ExitCode.OK : CommandLine.ExitCode.SOFTWARE;
+    }
+
+    public static class WatchedRun {
+
+        public final String workflowId;
+        public final String runName;
+        public final WorkflowStatus status;
+
+        public WatchedRun(String workflowId, String runName, WorkflowStatus status) {
+            this.workflowId = workflowId;
+            this.runName = runName;
+            this.status = status;
+        }
+    }
+}
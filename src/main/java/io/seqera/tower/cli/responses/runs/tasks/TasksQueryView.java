@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.responses.runs.tasks;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.seqera.tower.cli.commands.runs.tasks.store.TaskQuery;
+import io.seqera.tower.cli.responses.Response;
+import io.seqera.tower.cli.utils.FormatHelper;
+import io.seqera.tower.cli.utils.TableList;
+
+import java.io.PrintWriter;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class TasksQueryView extends Response {
+
+    public final String runId;
+    public final int scanned;
+    public final int matched;
+    public final List<Map<String, Object>> rows;
+
+    @JsonIgnore
+    private final List<TaskQuery.Column> columns;
+
+    public TasksQueryView(String runId, TaskQuery.Result result) {
+        this.runId = runId;
+        this.scanned = result.scanned;
+        this.matched = result.matched;
+        this.columns = result.columns;
+        this.rows = new ArrayList<>();
+        for (List<Object> values : result.rows) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                row.put(columns.get(i).name, values.get(i));
+            }
+            rows.add(row);
+        }
+    }
+
+    @Override
+    public void toString(PrintWriter out) {
+        out.println(ansi(String.format("%n  @|bold Pipeline's run %s tasks (%d of %d matching):|@%n", runId, matched, scanned)));
+
+        List<String> names = columns.stream().map(it -> it.name).collect(Collectors.toList());
+        TableList table = new TableList(out, names.size(), names.toArray(new String[0]));
+        table.setPrefix("    ");
+        for (Map<String, Object> row : rows) {
+            table.addRow(columns.stream().map(it -> format(it, row.get(it.name))).toArray(String[]::new));
+        }
+        table.print();
+
+        out.println("");
+    }
+
+    private static String format(TaskQuery.Column column, Object value) {
+        if (value == null) {
+            return "";
+        }
+        switch (column.kind) {
+            case DURATION:
+                return FormatHelper.formatDurationMillis((Number) value);
+            case BYTES:
+                return FormatHelper.formatBits((Number) value);
+            case PERCENT:
+                return FormatHelper.formatPercentage((Number) value);
+            case COST:
+                return FormatHelper.formatCost(((Number) value).doubleValue());
+            case TIMESTAMP:
+                return FormatHelper.formatDate(OffsetDateTime.ofInstant(Instant.ofEpochMilli(((Number) value).longValue()), ZoneOffset.UTC));
+            case NUMBER:
+                return column.integral ? value.toString() : FormatHelper.formatDecimal(((Number) value).doubleValue());
+            default:
+                return value.toString();
+        }
+    }
+}
@@ -29,10 +29,12 @@ public class MetricFormatMapper {
         FORMATTER.put("memVirtual", FormatHelper::formatBits);
         FORMATTER.put("memRaw", FormatHelper::formatBits);
         FORMATTER.put("memUsage", FormatHelper::formatPercentage);
+        FORMATTER.put("memOverRequest", value -> FormatHelper.formatDecimal(value.doubleValue()));
         FORMATTER.put("cpuUsage", FormatHelper::formatPercentage);
         FORMATTER.put("cpuRaw", FormatHelper::formatPercentage);
         FORMATTER.put("timeRaw", FormatHelper::formatDurationMillis);
         FORMATTER.put("timeUsage", FormatHelper::formatPercentage);
+        FORMATTER.put("queueWait", FormatHelper::formatDurationMillis);
         FORMATTER.put("reads", FormatHelper::formatBits);
         FORMATTER.put("writes", FormatHelper::formatBits);
         FORMATTER.put("gpuUsage", FormatHelper::formatPercentage);
@@ -45,10 +47,12 @@ public class MetricFormatMapper {
         PADDING.put("memVirtual", 6);
         PADDING.put("memRaw", 6);
         PADDING.put("memUsage", 4);
+        PADDING.put("memOverRequest", 5);
         PADDING.put("cpuUsage", 5);
         PADDING.put("cpuRaw", 5);
         PADDING.put("timeRaw", 8);
         PADDING.put("timeUsage", 4);
+        PADDING.put("queueWait", 8);
         PADDING.put("reads", 6);
         PADDING.put("writes", 6);
         PADDING.put("gpuUsage", 5);
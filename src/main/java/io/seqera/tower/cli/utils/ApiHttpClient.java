@@ -0,0 +1,139 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import io.seqera.tower.ApiException;
+
+/**
+ * Sends the API requests the SDK client cannot send, e.g. reading a byte range of a log file.
+ * It is created from the SDK client, so the requests go to the same base path with the same
+ * access token and user agent, and failed responses become {@link ApiException} with the body
+ * of the response as message, like the SDK ones. With a logger, the requests and responses are
+ * logged like the SDK client does with {@code --verbose}, without their bodies as they are streamed.
+ */
+public class ApiHttpClient {
+
+    /** Bytes of a failed response body kept as the error message */
+    static final int MAX_ERROR_BODY = 64 * 1024;
+
+    private final HttpClient client;
+    private final String basePath;
+    private final String token;
+    private final String userAgent;
+    private final Logger logger;
+    private final AtomicLong requests = new AtomicLong();
+
+    public ApiHttpClient(String basePath, String token, String userAgent) {
+        this(basePath, token, userAgent, null);
+    }
+
+    public ApiHttpClient(String basePath, String token, String userAgent, Logger logger) {
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.basePath = basePath.replaceAll("/+$", "");
+        this.token = token;
+        this.userAgent = userAgent;
+        this.logger = logger;
+    }
+
+    /**
+     * URI of an API path, with the query parameters that are not {@code null}.
+     */
+    public URI uri(String path, Map<String, ?> query) {
+        StringBuilder uri = new StringBuilder(basePath).append(path);
+        char separator = '?';
+        for (Map.Entry<String, ?> param : query.entrySet()) {
+            if (param.getValue() != null) {
+                uri.append(separator).append(encode(param.getKey())).append('=').append(encode(param.getValue().toString()));
+                separator = '&';
+            }
+        }
+        return URI.create(uri.toString());
+    }
+
+    /**
+     * GET request of the given URI with the credentials of the API.
+     */
+    public HttpRequest.Builder get(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofMinutes(5))
+                .header("Authorization", "Bearer " + token)
+                .header("User-Agent", userAgent)
+                .GET();
+    }
+
+    public HttpResponse<InputStream> send(HttpRequest request) throws IOException, InterruptedException {
+        if (logger == null) {
+            return client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        }
+
+        long id = requests.incrementAndGet();
+        StringBuilder log = new StringBuilder()
+                .append(String.format("%d * Sending client request on thread %s%n", id, Thread.currentThread().getName()))
+                .append(String.format("%d > %s %s%n", id, request.method(), request.uri()));
+        logHeaders(log, id, '>', request.headers().map());
+        logger.info(log.toString());
+
+        HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+
+        log = new StringBuilder()
+                .append(String.format("%d * Client response received on thread %s%n", id, Thread.currentThread().getName()))
+                .append(String.format("%d < %d%n", id, response.statusCode()));
+        logHeaders(log, id, '<', response.headers().map());
+        logger.info(log.toString());
+        return response;
+    }
+
+    private static void logHeaders(StringBuilder log, long id, char direction, Map<String, List<String>> headers) {
+        headers.forEach((name, values) -> {
+            String value = "Authorization".equalsIgnoreCase(name) ? "Bearer ****" : String.join(",", values);
+            log.append(String.format("%d %s %s: %s%n", id, direction, name, value));
+        });
+    }
+
+    /**
+     * Error of a failed response, its body is read and closed.
+     */
+    public static ApiException error(HttpResponse<InputStream> response) throws IOException {
+        String body;
+        try (InputStream in = response.body()) {
+            body = new String(in.readNBytes(MAX_ERROR_BODY), StandardCharsets.UTF_8);
+        }
+        return new ApiException(response.statusCode(), String.format("HTTP %d requesting %s", response.statusCode(), response.uri().getPath()),
+                response.headers().map(), body.isEmpty() ? null : body);
+    }
+
+    public static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.utils;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import picocli.CommandLine;
+
+/**
+ * Converts durations like {@code 90s}, {@code 30m}, {@code 1h30m} or {@code 2d}, as well as
+ * ISO-8601 durations like {@code PT30M}.
+ */
+public class DurationConverter implements CommandLine.ITypeConverter<Duration> {
+
+    private static final Pattern PART = Pattern.compile("(\\d+)(ms|[smhd])");
+
+    @Override
+    public Duration convert(String value) {
+        return parse(value);
+    }
+
+    public static Duration parse(String value) {
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        if (text.startsWith("p")) {
+            try {
+                return Duration.parse(text.toUpperCase(Locale.ROOT));
+            } catch (DateTimeParseException e) {
+                throw new CommandLine.TypeConversionException("Invalid duration: " + value);
+            }
+        }
+
+        Matcher matcher = PART.matcher(text);
+        Duration result = Duration.ZERO;
+        int end = 0;
+        while (matcher.find() && matcher.start() == end) {
+            long amount = Long.parseLong(matcher.group(1));
+            switch (matcher.group(2)) {
+                case "ms":
+                    result = result.plusMillis(amount);
+                    break;
+                case "s":
+                    result = result.plusSeconds(amount);
+                    break;
+                case "m":
+                    result = result.plusMinutes(amount);
+                    break;
+                case "h":
+                    result = result.plusHours(amount);
+                    break;
+                default:
+                    result = result.plusDays(amount);
+                    break;
+            }
+            end = matcher.end();
+        }
+        if (end == 0 || end != text.length()) {
+            throw new CommandLine.TypeConversionException("Invalid duration: " + value);
+        }
+        return result;
+    }
+}
@@ -28,6 +28,13 @@ public class JsonHelper {
         return new JSON().getContext(obj.getClass()).writerWithDefaultPrettyPrinter().writeValueAsString(obj);
     }
 
+    /**
+     * Single line JSON, e.g. for newline delimited JSON streams.
+     */
+    public static String compactJson(Object obj) throws JsonProcessingException {
+        return new JSON().getContext(obj.getClass()).writeValueAsString(obj);
+    }
+
     public static <T> T parseJson(String json, Class<T> clazz) throws JsonProcessingException {
         return new JSON().getContext(clazz).readValue(json, clazz);
     }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Estimates the Jaccard similarity of sets of strings, e.g. the word shingles of two texts,
+ * from fixed-size signatures. Each position of a signature keeps the minimum of a different
+ * hash function over the set, and the fraction of equal positions of two signatures estimates
+ * the similarity of the sets. Signatures can be split in bands to find similar pairs without
+ * comparing all of them.
+ */
+public class MinHash {
+
+    public static final int DEFAULT_SIZE = 64;
+
+    private final long[] seeds;
+
+    public MinHash() {
+        this(DEFAULT_SIZE);
+    }
+
+    public MinHash(int size) {
+        this.seeds = new long[size];
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < size; i++) {
+            seed = mix(seed + i);
+            seeds[i] = seed;
+        }
+    }
+
+    public int size() {
+        return seeds.length;
+    }
+
+    public long[] signature(Collection<String> values) {
+        long[] result = new long[seeds.length];
+        Arrays.fill(result, Long.MAX_VALUE);
+        for (String value : values) {
+            long hash = hash(value);
+            for (int i = 0; i < seeds.length; i++) {
+                result[i] = Math.min(result[i], mix(hash ^ seeds[i]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Estimated Jaccard similarity of the sets of two signatures.
+     */
+    public static double similarity(long[] a, long[] b) {
+        int equal = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / a.length;
+    }
+
+    /**
+     * Sequences of {@code size} consecutive words of a text, or the whole text if it is shorter.
+     */
+    public static Set<String> shingles(String text, int size) {
+        List<String> words = new ArrayList<>();
+        for (String word : text.split("[^\\p{Alnum}<>_]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+
+        Set<String> result = new LinkedHashSet<>();
+        if (words.size() <= size) {
+            result.add(String.join(" ", words));
+            return result;
+        }
+        for (int i = 0; i + size <= words.size(); i++) {
+            result.add(String.join(" ", words.subList(i, i + size)));
+        }
+        return result;
+    }
+
+    private static long hash(String value) {
+        // FNV-1a, then mixed to spread the bits
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
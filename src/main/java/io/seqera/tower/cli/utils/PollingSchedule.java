@@ -0,0 +1,136 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.utils;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Delays between the status requests of a wait. The delay grows exponentially with some
+ * jitter up to a cap, and starts again from the initial delay every time the status changes,
+ * so fast transitions are noticed quickly while long waits poll less often. Each status can
+ * have its own initial delay and cap, and the whole wait can be limited by a timeout.
+ */
+public class PollingSchedule {
+
+    public static final Duration DEFAULT_INITIAL = Duration.ofSeconds(1);
+    public static final Duration DEFAULT_MAX = Duration.ofSeconds(60);
+
+    static final double FACTOR = 1.5;
+    static final double JITTER = 0.2;
+
+    private final Random random;
+    private final LongSupplier clock;
+
+    private Interval defaultInterval = new Interval(DEFAULT_INITIAL.toMillis(), DEFAULT_MAX.toMillis());
+    private final Map<Object, Interval> intervals = new HashMap<>();
+    private Duration timeout;
+
+    private long startMillis = -1;
+    private Object lastStatus;
+    private int attempt;
+
+    public PollingSchedule() {
+        this(new Random(), System::currentTimeMillis);
+    }
+
+    PollingSchedule(Random random, LongSupplier clock) {
+        this.random = random;
+        this.clock = clock;
+    }
+
+    /**
+     * Initial delay and cap of the statuses without their own interval.
+     */
+    public PollingSchedule interval(Duration initial, Duration max) {
+        this.defaultInterval = new Interval(initial.toMillis(), max.toMillis());
+        return this;
+    }
+
+    /**
+     * Initial delay and cap while the status is {@code status}.
+     */
+    public PollingSchedule interval(Object status, Duration initial, Duration max) {
+        this.intervals.put(status, new Interval(initial.toMillis(), max.toMillis()));
+        return this;
+    }
+
+    /**
+     * Maximum time to wait since the first delay, {@code null} to wait without limit.
+     */
+    public PollingSchedule timeout(Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Milliseconds to wait before the next request, given the last status received
+     * ({@code null} if unknown). It never goes past the timeout.
+     */
+    public long nextDelayMillis(Object status) {
+        long now = clock.getAsLong();
+        if (startMillis < 0) {
+            startMillis = now;
+        }
+
+        if (attempt > 0 && !Objects.equals(status, lastStatus)) {
+            attempt = 0;
+        }
+        lastStatus = status;
+
+        Interval interval = intervals.getOrDefault(status, defaultInterval);
+        double delay = Math.min(interval.maxMillis, interval.initialMillis * Math.pow(FACTOR, attempt));
+        delay *= 1 + JITTER * (2 * random.nextDouble() - 1);
+        attempt++;
+
+        long result = Math.min(Math.round(delay), interval.maxMillis);
+        if (timeout != null) {
+            result = Math.min(result, Math.max(0, startMillis + timeout.toMillis() - now));
+        }
+        return result;
+    }
+
+    /**
+     * Sleep until the next request is due.
+     */
+    public void sleep(Object status) throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(nextDelayMillis(status));
+    }
+
+    /**
+     * Whether the timeout has been reached.
+     */
+    public boolean isExpired() {
+        return timeout != null && startMillis >= 0 && clock.getAsLong() - startMillis >= timeout.toMillis();
+    }
+
+    private static class Interval {
+
+        final long initialMillis;
+        final long maxMillis;
+
+        Interval(long initialMillis, long maxMillis) {
+            this.initialMillis = initialMillis;
+            this.maxMillis = maxMillis;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.utils;
+
+import java.util.Arrays;
+
+/**
+ * Estimates quantiles of a stream of values in a single pass and bounded memory, using a
+ * merging t-digest. Values are buffered and periodically merged into weighted centroids,
+ * which are kept small near the tails, so extreme quantiles like p99 stay accurate. Two
+ * sketches can be merged, e.g. to combine the distributions of several runs.
+ * <p>
+ * Count, sum, minimum and maximum are tracked exactly.
+ */
+public class QuantileSketch {
+
+    public static final double DEFAULT_COMPRESSION = 100;
+
+    private final double compression;
+
+    private double[] means;
+    private double[] weights;
+    private int centroids;
+
+    private final double[] bufferValues;
+    private final double[] bufferWeights;
+    private int buffered;
+
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public QuantileSketch() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    public QuantileSketch(double compression) {
+        this.compression = compression;
+        int capacity = (int) Math.ceil(compression) * 2 + 10;
+        this.means = new double[capacity];
+        this.weights = new double[capacity];
+        this.bufferValues = new double[capacity * 5];
+        this.bufferWeights = new double[capacity * 5];
+    }
+
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        buffer(value, 1);
+    }
+
+    /**
+     * Add the values of another sketch to this one.
+     */
+    public void merge(QuantileSketch other) {
+        if (other.count == 0) {
+            return;
+        }
+        other.compress();
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        for (int i = 0; i < other.centroids; i++) {
+            buffer(other.means[i], other.weights[i]);
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMin() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    public double getMax() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    public double getMean() {
+        return count == 0 ? Double.NaN : sum / count;
+    }
+
+    /**
+     * Estimated value below which a fraction {@code q} of the values fall, {@code NaN} if empty.
+     */
+    public double quantile(double q) {
+        compress();
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (centroids == 1 || q <= 0) {
+            return q <= 0 ? min : means[0];
+        }
+        if (q >= 1) {
+            return max;
+        }
+
+        double total = count;
+        double index = q * total;
+
+        // Before the center of the first centroid
+        if (index < weights[0] / 2) {
+            return interpolate(min, means[0], index / (weights[0] / 2));
+        }
+
+        double center = weights[0] / 2;
+        for (int i = 0; i < centroids - 1; i++) {
+            double nextCenter = center + weights[i] / 2 + weights[i + 1] / 2;
+            if (index <= nextCenter) {
+                return interpolate(means[i], means[i + 1], (index - center) / (nextCenter - center));
+            }
+            center = nextCenter;
+        }
+
+        // After the center of the last centroid
+        double tail = weights[centroids - 1] / 2;
+        return interpolate(means[centroids - 1], max, Math.min(1, (index - center) / tail));
+    }
+
+    private static double interpolate(double from, double to, double fraction) {
+        return from + (to - from) * fraction;
+    }
+
+    private void buffer(double value, double weight) {
+        if (buffered == bufferValues.length) {
+            compress();
+        }
+        bufferValues[buffered] = value;
+        bufferWeights[buffered] = weight;
+        buffered++;
+    }
+
+    /**
+     * Merge the buffered values into the centroids. Neighbouring centroids are combined while
+     * the result stays under a size limit that is proportional to {@code q * (1 - q)}, so
+     * centroids are large in the middle of the distribution and small near the tails.
+     */
+    private void compress() {
+        if (buffered == 0) {
+            return;
+        }
+
+        int n = centroids + buffered;
+        double[] allMeans = Arrays.copyOf(means, n);
+        double[] allWeights = Arrays.copyOf(weights, n);
+        System.arraycopy(bufferValues, 0, allMeans, centroids, buffered);
+        System.arraycopy(bufferWeights, 0, allWeights, centroids, buffered);
+        buffered = 0;
+
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(allMeans[a], allMeans[b]));
+
+        double total = 0;
+        for (double w : allWeights) {
+            total += w;
+        }
+
+        double[] newMeans = new double[Math.max(means.length, 16)];
+        double[] newWeights = new double[newMeans.length];
+        int size = 0;
+
+        double soFar = 0;
+        double mean = allMeans[order[0]];
+        double weight = allWeights[order[0]];
+        for (int k = 1; k < n; k++) {
+            int i = order[k];
+            double proposed = weight + allWeights[i];
+            double q0 = soFar / total;
+            double q2 = (soFar + proposed) / total;
+            double limit = 4 * total * Math.min(q0 * (1 - q0), q2 * (1 - q2)) / compression;
+            if (proposed <= limit) {
+                mean += (allMeans[i] - mean) * allWeights[i] / proposed;
+                weight = proposed;
+            } else {
+                if (size == newMeans.length) {
+                    newMeans = Arrays.copyOf(newMeans, size * 2);
+                    newWeights = Arrays.copyOf(newWeights, size * 2);
+                }
+                newMeans[size] = mean;
+                newWeights[size] = weight;
+                size++;
+                soFar += weight;
+                mean = allMeans[i];
+                weight = allWeights[i];
+            }
+        }
+        if (size == newMeans.length) {
+            newMeans = Arrays.copyOf(newMeans, size + 1);
+            newWeights = Arrays.copyOf(newWeights, size + 1);
+        }
+        newMeans[size] = mean;
+        newWeights[size] = weight;
+
+        means = newMeans;
+        weights = newWeights;
+        centroids = size + 1;
+    }
+}
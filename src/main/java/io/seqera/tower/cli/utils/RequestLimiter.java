@@ -0,0 +1,55 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.seqera.tower.cli.utils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces out the requests of all the threads of a command so together they do not exceed
+ * a number of requests per second. Unlike {@link io.seqera.tower.cli.utils.progress.BandwidthLimiter},
+ * which limits bytes, it does not allow bursts, every request waits for its own slot.
+ */
+public class RequestLimiter {
+
+    private final long intervalNanos;
+    /** Start of the next free slot, in {@link System#nanoTime()} units */
+    private long next = Long.MIN_VALUE;
+
+    public RequestLimiter(int requestsPerSecond) {
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(requestsPerSecond, 1);
+    }
+
+    /**
+     * Wait for the slot of the next request.
+     */
+    public void acquire() throws InterruptedException {
+        long wait = reserve(System.nanoTime());
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /**
+     * Reserve the next free slot and return the nanoseconds until it starts.
+     */
+    synchronized long reserve(long now) {
+        long slot = Math.max(next, now);
+        next = slot + intervalNanos;
+        return slot - now;
+    }
+}
@@ -35,7 +35,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import static io.seqera.tower.cli.utils.JsonHelper.parseJson;
@@ -139,6 +138,10 @@ public class ResponseHelper {
     }
 
     public static <S extends Enum<?>> Integer waitStatus(PrintWriter out, boolean showProgress, Supplier<String> additionalProgressSteps, S targetStatus, S[] allStates, Supplier<S> checkStatus, S... endStates ) throws InterruptedException {
+        return waitStatus(out, showProgress, additionalProgressSteps, new PollingSchedule(), targetStatus, allStates, checkStatus, endStates);
+    }
+
+    public static <S extends Enum<?>> Integer waitStatus(PrintWriter out, boolean showProgress, Supplier<String> additionalProgressSteps, PollingSchedule schedule, S targetStatus, S[] allStates, Supplier<S> checkStatus, S... endStates ) throws InterruptedException {
 
         Map<S, Integer> positions = new HashMap<>();
         for (int i=0; i < allStates.length; i++) {
@@ -147,8 +150,6 @@ public class ResponseHelper {
 
         Set<S> immutableStates = new HashSet<S>(Arrays.asList(endStates));
 
-        int secondsToSleep = 2;
-        int maxSecondsToSleep = 120;
         int targetPos = positions.get(targetStatus);
         int currentPos;
         S lastReported = null;
@@ -158,9 +159,9 @@ public class ResponseHelper {
             out.flush();
         }
 
-        S status;
+        S status = null;
         do {
-            TimeUnit.SECONDS.sleep(secondsToSleep);
+            schedule.sleep(status);
             status = checkStatus.get();
             currentPos = status == null ? positions.size() : positions.get(status);
             if (showProgress) {
@@ -177,16 +178,14 @@ public class ResponseHelper {
                 }
                 out.flush();
             }
-            if (secondsToSleep < maxSecondsToSleep) {
-                secondsToSleep += 1;
-            }
-        } while (currentPos < targetPos && !immutableStates.contains(status));
+        } while (currentPos < targetPos && !immutableStates.contains(status) && !schedule.isExpired());
 
+        boolean timedOut = currentPos < targetPos && !immutableStates.contains(status);
         if (showProgress) {
             if (additionalProgressSteps != null) {
                 out.print(additionalProgressSteps.get());
             }
-            out.print(currentPos == targetPos ? "  [DONE]\n\n" : "  [ERROR]\n\n");
+            out.print(currentPos == targetPos ? "  [DONE]\n\n" : timedOut ? "  [TIMEOUT]\n\n" : "  [ERROR]\n\n");
             out.flush();
         }
 
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.utils;
+
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes UTF-8 bytes to a character writer. Multi-byte characters split between two writes
+ * are kept until their last byte arrives.
+ */
+public class WriterOutputStream extends OutputStream {
+
+    private final PrintWriter writer;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final ByteBuffer pending = ByteBuffer.allocate(8 * 1024);
+    private final CharBuffer chars = CharBuffer.allocate(8 * 1024);
+
+    public WriterOutputStream(PrintWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void write(int b) {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) {
+        while (len > 0) {
+            int chunk = Math.min(len, pending.remaining());
+            pending.put(b, off, chunk);
+            off += chunk;
+            len -= chunk;
+
+            pending.flip();
+            decoder.decode(pending, chars, false);
+            drain();
+            // Keep the bytes of an incomplete character for the next write
+            pending.compact();
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        writer.flush();
+    }
+
+    @Override
+    public synchronized void close() {
+        pending.flip();
+        decoder.decode(pending, chars, true);
+        decoder.flush(chars);
+        drain();
+        pending.clear();
+        writer.flush();
+    }
+
+    /**
+     * Whether the underlying writer failed, e.g. the reader went away.
+     */
+    public boolean checkError() {
+        return writer.checkError();
+    }
+
+    private void drain() {
+        chars.flip();
+        writer.append(chars);
+        chars.clear();
+    }
+}
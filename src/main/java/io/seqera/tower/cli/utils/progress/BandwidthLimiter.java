@@ -0,0 +1,189 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.utils.progress;
+
+import java.io.InterruptedIOException;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import picocli.CommandLine;
+
+/**
+ * Token bucket shared by all the concurrent transfers of a command, so together they do not
+ * exceed a maximum number of bytes per second. The rate can change with the time of day, e.g.
+ * {@code 50M,20:00-06:00=500M} limits transfers to 50 MB/s but during the night.
+ */
+public class BandwidthLimiter {
+
+    /** Bytes that can be sent at once after being idle, as a number of seconds at the current rate */
+    private static final double BURST_SECONDS = 1.0;
+
+    private final long defaultRate;
+    private final List<Window> windows;
+
+    private double tokens = 0;
+    private long updatedNanos;
+    private boolean started = false;
+
+    public BandwidthLimiter(long defaultRate, List<Window> windows) {
+        this.defaultRate = defaultRate;
+        this.windows = windows;
+    }
+
+    /**
+     * Parse a limit like {@code 200M}, optionally followed by comma separated time windows with
+     * their own limit like {@code 08:00-18:00=20M}. Sizes are bytes per second with an optional
+     * K, M or G suffix, and zero means unlimited.
+     */
+    public static BandwidthLimiter parse(String spec) {
+        long defaultRate = 0;
+        List<Window> windows = new ArrayList<>();
+        for (String token : spec.split(",")) {
+            String value = token.trim();
+            int eq = value.indexOf('=');
+            if (eq < 0) {
+                defaultRate = parseRate(value);
+                continue;
+            }
+
+            String[] range = value.substring(0, eq).trim().split("-");
+            if (range.length != 2) {
+                throw new IllegalArgumentException("Invalid bandwidth time window: " + value);
+            }
+            try {
+                windows.add(new Window(LocalTime.parse(range[0].trim()), LocalTime.parse(range[1].trim()), parseRate(value.substring(eq + 1).trim())));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid bandwidth time window: " + value);
+            }
+        }
+        return new BandwidthLimiter(defaultRate, windows);
+    }
+
+    static long parseRate(String value) {
+        String number = value.toUpperCase(Locale.ROOT);
+        long unit = 1;
+        if (number.endsWith("K")) {
+            unit = 1024L;
+        } else if (number.endsWith("M")) {
+            unit = 1024L * 1024;
+        } else if (number.endsWith("G")) {
+            unit = 1024L * 1024 * 1024;
+        }
+        if (unit > 1) {
+            number = number.substring(0, number.length() - 1);
+        }
+        double rate;
+        try {
+            rate = Double.parseDouble(number) * unit;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid bandwidth: " + value);
+        }
+        if (!(rate >= 0) || Double.isInfinite(rate)) {
+            throw new IllegalArgumentException("Invalid bandwidth: " + value + ", it must be a positive value or zero for unlimited");
+        }
+        return (long) rate;
+    }
+
+    /**
+     * Maximum bytes per second at the given time of day, zero if unlimited.
+     */
+    public long rate(LocalTime time) {
+        for (Window window : windows) {
+            if (window.contains(time)) {
+                return window.rate;
+            }
+        }
+        return defaultRate;
+    }
+
+    /**
+     * Wait until {@code bytes} can be transferred without exceeding the current rate.
+     */
+    public void acquire(long bytes) throws InterruptedIOException {
+        long wait = reserve(bytes, System.nanoTime(), rate(LocalTime.now()));
+        if (wait <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while throttling transfer");
+        }
+    }
+
+    /**
+     * Take {@code bytes} tokens, going into debt if there are not enough of them, and return
+     * the nanoseconds to wait until the debt is paid. Later callers wait behind the debt, so
+     * the rate holds across threads.
+     */
+    synchronized long reserve(long bytes, long nowNanos, long rate) {
+        if (!started) {
+            started = true;
+            updatedNanos = nowNanos;
+        }
+        if (rate <= 0) {
+            updatedNanos = nowNanos;
+            return 0;
+        }
+
+        if (nowNanos > updatedNanos) {
+            tokens = Math.min(rate * BURST_SECONDS, tokens + (nowNanos - updatedNanos) * rate / 1_000_000_000D);
+            updatedNanos = nowNanos;
+        }
+
+        tokens -= bytes;
+        return tokens >= 0 ? 0 : (long) (-tokens * 1_000_000_000D / rate);
+    }
+
+    public static class Window {
+
+        final LocalTime from;
+        final LocalTime to;
+        final long rate;
+
+        public Window(LocalTime from, LocalTime to, long rate) {
+            this.from = from;
+            this.to = to;
+            this.rate = rate;
+        }
+
+        boolean contains(LocalTime time) {
+            if (from.isBefore(to)) {
+                return !time.isBefore(from) && time.isBefore(to);
+            }
+            // Window across midnight, e.g. 20:00-06:00
+            return !time.isBefore(from) || time.isBefore(to);
+        }
+    }
+
+    public static class Converter implements CommandLine.ITypeConverter<BandwidthLimiter> {
+
+        @Override
+        public BandwidthLimiter convert(String value) {
+            try {
+                return parse(value);
+            } catch (IllegalArgumentException e) {
+                throw new CommandLine.TypeConversionException(e.getMessage());
+            }
+        }
+    }
+}
@@ -31,14 +31,18 @@ public class ProgressInputStream extends InputStream {
         @Override
         public int read() throws IOException {
             int b = source.read();
-            if (b != -1) tracker.update(1);
+            if (b != -1) {
+                tracker.update(1);
+            }
             return b;
         }
 
         @Override
         public int read(byte[] b, int off, int len) throws IOException {
             int count = source.read(b, off, len);
-            if (count > 0) tracker.update(count);
+            if (count > 0) {
+                tracker.update(count);
+            }
             return count;
         }
 
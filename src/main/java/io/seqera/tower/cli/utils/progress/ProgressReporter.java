@@ -0,0 +1,246 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.utils.progress;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.seqera.tower.cli.utils.FormatHelper.formatBits;
+import static io.seqera.tower.cli.utils.FormatHelper.formatDurationMillis;
+
+/**
+ * Reports the progress of all the transfers of a command. Trackers only add to lock-free
+ * counters, and a single renderer thread samples them at a fixed rate. On a terminal it redraws
+ * an aggregate bar followed by a line per active transfer; otherwise it logs a plain line
+ * periodically, so redirected output stays readable.
+ */
+public class ProgressReporter {
+
+    static final long TERMINAL_INTERVAL_MILLIS = 250;
+    static final long LOG_INTERVAL_MILLIS = 10_000;
+
+    /** Active transfers listed below the aggregate bar */
+    static final int MAX_FILE_LINES = 8;
+
+    /** Weight of the last sample in the smoothed throughput */
+    private static final double SMOOTHING = 0.3;
+
+    private static final int BAR_WIDTH = 30;
+
+    private final PrintWriter out;
+    private final boolean enabled;
+    private final boolean terminal;
+
+    private final LongAdder transferredBytes = new LongAdder();
+    private final LongAdder resumedBytes = new LongAdder();
+    private final LongAdder totalBytes = new LongAdder();
+    private final LongAdder completedFiles = new LongAdder();
+    private final Queue<ProgressTracker> active = new ConcurrentLinkedQueue<>();
+
+    private ScheduledExecutorService renderer;
+
+    // Guarded by this, only used to render
+    private long sampledBytes = 0;
+    private long sampledNanos = System.nanoTime();
+    private double throughput = 0;
+    private int renderedLines = 0;
+
+    /**
+     * @param out Output to render the progress
+     * @param enabled Whether to render anything, trackers still count bytes when disabled
+     * @param terminal Whether the output is a terminal, to redraw the progress in place
+     */
+    public ProgressReporter(PrintWriter out, boolean enabled, boolean terminal) {
+        this.out = out;
+        this.enabled = enabled;
+        this.terminal = terminal;
+    }
+
+    /**
+     * Start tracking a transfer of {@code totalBytes} bytes (negative if unknown), of which
+     * {@code resumedBytes} were stored by a previous attempt.
+     */
+    public ProgressTracker track(String name, long totalBytes, long resumedBytes, BandwidthLimiter limiter) {
+        ProgressTracker tracker = new ProgressTracker(this, name, totalBytes, resumedBytes, limiter);
+        if (totalBytes > 0) {
+            this.totalBytes.add(totalBytes);
+        }
+        this.resumedBytes.add(resumedBytes);
+        active.add(tracker);
+        start();
+        return tracker;
+    }
+
+    void update(long count) {
+        transferredBytes.add(count);
+    }
+
+    void done(ProgressTracker tracker) {
+        if (!active.remove(tracker)) {
+            return;
+        }
+        completedFiles.increment();
+        if (active.isEmpty()) {
+            finish();
+        }
+    }
+
+    /**
+     * Print a line above the progress, which is redrawn below it.
+     */
+    public synchronized void log(String line) {
+        if (terminal && renderedLines > 0) {
+            clear();
+            out.println(line);
+            render();
+        } else {
+            out.println(line);
+            out.flush();
+        }
+    }
+
+    private synchronized void start() {
+        if (!enabled || renderer != null) {
+            return;
+        }
+        renderer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "progress-renderer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = terminal ? TERMINAL_INTERVAL_MILLIS : LOG_INTERVAL_MILLIS;
+        renderer.scheduleAtFixedRate(this::tick, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    synchronized void tick() {
+        if (!active.isEmpty()) {
+            render();
+        }
+    }
+
+    /**
+     * Leave the final aggregate line on the terminal, the next transfers are drawn below it,
+     * and stop the renderer thread until a new transfer starts.
+     */
+    private synchronized void finish() {
+        if (!active.isEmpty()) {
+            // A new transfer started meanwhile
+            return;
+        }
+        if (renderer != null) {
+            renderer.shutdownNow();
+            renderer = null;
+        }
+        if (terminal && renderedLines > 0) {
+            clear();
+            out.println(summary(System.nanoTime()));
+            out.flush();
+            renderedLines = 0;
+        }
+    }
+
+    synchronized boolean isRendering() {
+        return renderer != null;
+    }
+
+    private void render() {
+        long now = System.nanoTime();
+        List<String> lines = new ArrayList<>();
+        lines.add(summary(now));
+
+        if (!terminal) {
+            out.println(lines.get(0));
+            out.flush();
+            return;
+        }
+
+        int count = 0;
+        for (ProgressTracker tracker : active) {
+            if (count++ == MAX_FILE_LINES) {
+                lines.add(String.format("   ... and %d more", active.size() - MAX_FILE_LINES));
+                break;
+            }
+            lines.add(fileLine(tracker, now));
+        }
+
+        clear();
+        lines.forEach(out::println);
+        out.flush();
+        renderedLines = lines.size();
+    }
+
+    private String summary(long now) {
+        long transferred = transferredBytes.sum();
+        long elapsed = now - sampledNanos;
+        if (elapsed > 0) {
+            throughput = smooth(throughput, (transferred - sampledBytes) * 1_000_000_000D / elapsed, sampledBytes == 0);
+            sampledBytes = transferred;
+            sampledNanos = now;
+        }
+
+        long total = totalBytes.sum();
+        long stored = resumedBytes.sum() + transferred;
+        int percent = total > 0 ? (int) Math.min(100, stored * 100 / total) : 0;
+        int filled = percent * BAR_WIDTH / 100;
+        String bar = "[" + "=".repeat(filled) + " ".repeat(BAR_WIDTH - filled) + "]";
+
+        return String.format(" Progress: %s %3d%% (%s of %s, %s/s, ETA: %s, %d active, %d done)",
+                bar, percent, formatBits(stored), formatBits(total), formatBits((long) throughput),
+                eta(total - stored, throughput), active.size(), completedFiles.sum());
+    }
+
+    private String fileLine(ProgressTracker tracker, long now) {
+        long transferred = tracker.getSessionBytes();
+        long elapsed = now - tracker.sampledNanos;
+        if (elapsed > 0) {
+            tracker.throughput = smooth(tracker.throughput, (transferred - tracker.sampledBytes) * 1_000_000_000D / elapsed, tracker.sampledBytes == 0);
+            tracker.sampledBytes = transferred;
+            tracker.sampledNanos = now;
+        }
+
+        String percent = tracker.totalBytes > 0
+                ? String.format("%3d%%", Math.min(100, tracker.getTransferredBytes() * 100 / tracker.totalBytes))
+                : "   ?";
+        return String.format("   %s %8s/s  %s", percent, formatBits((long) tracker.throughput), tracker.name);
+    }
+
+    private void clear() {
+        if (renderedLines > 0) {
+            // Move to the first rendered line and clear everything below
+            out.print("\033[" + renderedLines + "A\r\033[J");
+        }
+    }
+
+    private static double smooth(double previous, double sample, boolean first) {
+        return first ? sample : SMOOTHING * sample + (1 - SMOOTHING) * previous;
+    }
+
+    private static String eta(long remainingBytes, double throughput) {
+        if (throughput <= 0 || remainingBytes < 0) {
+            return "-";
+        }
+        String eta = formatDurationMillis((long) (remainingBytes * 1000 / throughput));
+        return eta.isEmpty() ? "0s" : eta;
+    }
+}
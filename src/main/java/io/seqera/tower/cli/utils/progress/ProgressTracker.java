@@ -16,50 +16,80 @@
 
 package io.seqera.tower.cli.utils.progress;
 
-import java.io.PrintWriter;
-import java.time.Instant;
+import java.io.InterruptedIOException;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Progress of a single transfer. Updates only add to a lock-free counter, so concurrent parts
+ * of the same file do not contend; the counters are sampled and rendered by the
+ * {@link ProgressReporter} thread.
+ */
 public class ProgressTracker {
-    private final PrintWriter out;
-    private final boolean showProgress;
+
+    public final String name;
     public final long totalBytes;
-    private volatile long uploadedBytes = 0;
-    private volatile int lastPercent = -1;
-    private final int barWidth = 40;
-    private final Instant startTime = Instant.now();
 
-    public ProgressTracker(PrintWriter out, boolean showProgress, long totalBytes) {
-        this.out = out;
-        this.showProgress = showProgress;
-        this.totalBytes = totalBytes;
+    private final ProgressReporter reporter;
+    private final BandwidthLimiter limiter;
+    private final LongAdder transferredBytes = new LongAdder();
+    private final long resumedBytes;
+
+    // Sampled by the renderer thread only
+    long sampledBytes = 0;
+    long sampledNanos = System.nanoTime();
+    double throughput = 0;
+
+    /**
+     * Tracker not reported anywhere, only counting the transferred bytes.
+     */
+    public ProgressTracker(long totalBytes) {
+        this(null, null, totalBytes, 0, null);
     }
 
-    public synchronized void update(long count) {
-        uploadedBytes += count;
-        int percent = (int) ((uploadedBytes * 100) / totalBytes);
-        if (percent != lastPercent) {
-            lastPercent = percent;
+    ProgressTracker(ProgressReporter reporter, String name, long totalBytes, long resumedBytes, BandwidthLimiter limiter) {
+        this.reporter = reporter;
+        this.name = name;
+        this.totalBytes = totalBytes;
+        this.resumedBytes = resumedBytes;
+        this.limiter = limiter;
+    }
 
-            long elapsedMillis = java.time.Duration.between(startTime, Instant.now()).toMillis();
-            double speed = uploadedBytes / (elapsedMillis / 1000.0);
-            double eta = (totalBytes - uploadedBytes) / speed;
-            if (showProgress) {
-                if (totalBytes > 1024) {
-                    renderBar(percent, uploadedBytes / 1024, totalBytes / 1024, "KBs", eta);
-                }
-                else {
-                    renderBar(percent, uploadedBytes, totalBytes, "bytes", eta);
-                }
-            }
+    /**
+     * Wait if transferring {@code count} more bytes exceeds the bandwidth limit.
+     */
+    public void throttle(long count) throws InterruptedIOException {
+        if (limiter != null) {
+            limiter.acquire(count);
         }
-        if (showProgress && percent == 100 ) {
-            out.println("");
+    }
+
+    public void update(long count) {
+        transferredBytes.add(count);
+        if (reporter != null) {
+            reporter.update(count);
         }
     }
 
-    private void renderBar(int percent, long current, long total, String sizeUnitLabel,double eta) {
-        int filled = (int) ((percent / 100.0) * barWidth);
-        String bar = "[" + "=".repeat(filled) + " ".repeat(barWidth - filled) + "]";
-        out.printf("\r Progress: %s %3d%% (%d/%d %s, ETA: %.1fs)", bar, percent, current, total, sizeUnitLabel, eta);
+    /**
+     * Bytes transferred by this tracker, without the ones stored by a previous attempt.
+     */
+    public long getSessionBytes() {
+        return transferredBytes.sum();
+    }
+
+    /**
+     * Bytes of the file already stored, including the ones stored by a previous attempt.
+     */
+    public long getTransferredBytes() {
+        return resumedBytes + transferredBytes.sum();
+    }
+
+    /**
+     * Stop reporting the transfer, either completed or failed.
+     */
+    public void done() {
+        if (reporter != null) {
+            reporter.done(this);
+        }
     }
-}
\ No newline at end of file
+}
@@ -17,6 +17,7 @@
 package io.seqera.tower.cli.utils.progress;
 
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.http.HttpRequest;
@@ -25,25 +26,83 @@ import java.util.concurrent.Flow;
 
 public class ProgressTrackingBodyPublisher implements HttpRequest.BodyPublisher {
     private final byte[] data;
+    private final InputStream stream;
+    private final long length;
     private final ProgressTracker tracker;
 
     public ProgressTrackingBodyPublisher(byte[] data, ProgressTracker tracker) {
         this.data = data;
+        this.stream = null;
+        this.length = data.length;
+        this.tracker = tracker;
+    }
+
+    /**
+     * Publish the next {@code length} bytes of the stream, which is left open for the following
+     * parts. The bytes are read as they are sent, so the body can only be subscribed once.
+     */
+    public ProgressTrackingBodyPublisher(InputStream stream, long length, ProgressTracker tracker) {
+        this.data = null;
+        this.stream = stream;
+        this.length = length;
         this.tracker = tracker;
     }
 
     @Override
     public long contentLength() {
-        return data.length;
+        return length;
     }
 
     @Override
     public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
         // Wrap byte array in InputStream and monitor progress
-        InputStream input = new ProgressInputStream(new ByteArrayInputStream(data), tracker);
+        InputStream source = data != null ? new ByteArrayInputStream(data) : new BoundedInputStream(stream, length);
+        InputStream input = new ProgressInputStream(source, tracker);
         subscriber.onSubscribe(new InputStreamSubscription(input, subscriber));
     }
 
+    /**
+     * Reads up to a number of bytes of a stream shared with other parts, so closing it
+     * does not close the underlying stream.
+     */
+    private static class BoundedInputStream extends FilterInputStream {
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int value = in.read();
+            if (value != -1) {
+                remaining--;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = in.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() {
+            // the underlying stream is closed by its owner
+        }
+    }
+
     private static class InputStreamSubscription implements Flow.Subscription {
         private final InputStream input;
         private final Flow.Subscriber<? super ByteBuffer> subscriber;
@@ -94,10 +94,21 @@ public abstract class BaseCmdTest {
     }
 
     protected ExecOut exec(OutputType format, MockServerClient mock, String... args) {
+        return execArgs(buildArgs(format, mock, "--no-cache", args));
+    }
+
+    /**
+     * Execute with the local cache of finished runs enabled, kept in a temporary folder.
+     */
+    protected ExecOut execWithCache(MockServerClient mock, String... args) {
+        return execArgs(buildArgs(OutputType.console, mock, String.format("--local-dir=%s", tempDir.resolve("local")), args));
+    }
+
+    private ExecOut execArgs(String[] args) {
 
         // Run binary command line
         if (System.getenv().containsKey("TOWER_CLI")) {
-            return execBinary(format, mock, System.getenv("TOWER_CLI"), args);
+            return execBinary(System.getenv("TOWER_CLI"), args);
         }
 
         // Run java version
@@ -107,7 +118,7 @@ public abstract class BaseCmdTest {
         cmd.setOut(new PrintWriter(stdOut));
         cmd.setErr(new PrintWriter(stdErr));
 
-        int exitCode = cmd.execute(buildArgs(format, mock, args));
+        int exitCode = cmd.execute(args);
 
         return new ExecOut()
                 .app(cmd.getCommand())
@@ -116,15 +127,15 @@ public abstract class BaseCmdTest {
                 .exitCode(exitCode);
     }
 
-    private String[] buildArgs(OutputType format, MockServerClient mock, String... args) {
-        String[] result = ArrayUtils.insert(0, args, "--insecure", String.format("--url=%s", url(mock)), String.format("--access-token=%s", token()));
+    private String[] buildArgs(OutputType format, MockServerClient mock, String cacheArg, String... args) {
+        String[] result = ArrayUtils.insert(0, args, "--insecure", cacheArg, String.format("--url=%s", url(mock)), String.format("--access-token=%s", token()));
         if (format != OutputType.console)  {
             return ArrayUtils.insert(0, result, String.format("--output=%s", format));
         }
         return result;
     }
 
-    private ExecOut execBinary(OutputType format, MockServerClient mock, String command, String... args) {
+    private ExecOut execBinary(String command, String[] args) {
 
         try {
             StringWriter stdOut = new StringWriter();
@@ -134,7 +145,7 @@ public abstract class BaseCmdTest {
             PrintWriter errWriter = new PrintWriter(stdErr);
 
             ProcessBuilder builder = new ProcessBuilder();
-            builder.command(ArrayUtils.insert(0, buildArgs(format, mock, args), command));
+            builder.command(ArrayUtils.insert(0, args, command));
             Process process = builder.start();
 
             StreamGobbler consumeOut = new StreamGobbler(process.getInputStream(), outWriter::println);
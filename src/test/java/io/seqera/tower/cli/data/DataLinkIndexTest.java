@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.data;
+
+import io.seqera.tower.cli.commands.data.links.index.DataLinkIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DataLinkIndexTest {
+
+    private static DataLinkIndex sampleIndex() {
+        DataLinkIndex index = new DataLinkIndex("v1-datalinkid");
+        index.update("", Map.of("top.txt", 1L), List.of("a", "b"), 100);
+        index.update("a", Map.of("a/x.bam", 10L, "a/y.txt", 2L), List.of("a/c"), 100);
+        index.update("a/c", Map.of("a/c/z.bam", 5L), List.of(), 50);
+        index.update("b", Map.of("b/q.bam", 7L), List.of(), 100);
+        return index;
+    }
+
+    private static List<String> paths(List<DataLinkIndex.Entry> entries) {
+        return entries.stream().map(entry -> entry.path).collect(Collectors.toList());
+    }
+
+    @Test
+    void browseAndFind() {
+        DataLinkIndex index = sampleIndex();
+
+        assertEquals(List.of("a", "b", "top.txt"), paths(index.children("")));
+        assertEquals(List.of("a/c", "a/x.bam", "a/y.txt"), paths(index.children("a")));
+        assertEquals(List.of("a/c/z.bam", "a/x.bam", "b/q.bam"), paths(index.find("", "*.bam")));
+        assertEquals(List.of("a/c/z.bam"), paths(index.find("a", "a/*/*.bam")));
+        assertEquals(List.of("a/c"), index.staleFolders(80));
+    }
+
+    @Test
+    void refreshRemovesDeletedEntries() {
+        DataLinkIndex index = sampleIndex();
+        index.update("a", Map.of("a/x.bam", 10L), List.of(), 200);
+
+        assertEquals(List.of("a/x.bam"), paths(index.children("a")));
+        assertEquals(3, index.getFileCount());
+        assertEquals(3, index.getFolderCount());
+        assertEquals(18, index.getTotalSize());
+    }
+
+    @Test
+    void saveAndLoad(@TempDir Path tmp) throws IOException {
+        DataLinkIndex index = sampleIndex();
+        index.name = "my-bucket";
+        index.resourceRef = "s3://my-bucket";
+        index.save(tmp.resolve("index.idx.gz"));
+
+        DataLinkIndex loaded = DataLinkIndex.load(tmp.resolve("index.idx.gz"), "v1-datalinkid");
+        assertEquals("s3://my-bucket", loaded.resourceRef);
+        assertEquals(paths(index.files("")), paths(loaded.files("")));
+        assertEquals(List.of("a/c"), loaded.staleFolders(80));
+    }
+}
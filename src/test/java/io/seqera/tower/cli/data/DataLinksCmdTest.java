@@ -22,14 +22,20 @@ package io.seqera.tower.cli.data;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.seqera.tower.cli.BaseCmdTest;
 import io.seqera.tower.cli.commands.data.links.ListCmd;
+import io.seqera.tower.cli.commands.data.links.SyncCmd;
 import io.seqera.tower.cli.commands.enums.OutputType;
+import io.seqera.tower.cli.exceptions.TowerException;
 import io.seqera.tower.cli.exceptions.TowerRuntimeException;
 import io.seqera.tower.cli.responses.data.DataLinkDeleted;
 import io.seqera.tower.cli.responses.data.DataLinkFileTransferResult;
+import io.seqera.tower.cli.responses.data.DataLinkFindResult;
+import io.seqera.tower.cli.responses.data.DataLinkIndexResult;
+import io.seqera.tower.cli.responses.data.DataLinkSyncResult;
 import io.seqera.tower.cli.responses.data.DataLinksList;
 import io.seqera.tower.cli.utils.PaginationInfo;
 import io.seqera.tower.model.DataLinkDto;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -84,17 +90,6 @@ public class DataLinksCmdTest extends BaseCmdTest {
         ).respond(
                 response().withStatusCode(200).withBody("{\"credentials\":[{\"id\":\"57Ic6reczFn78H1DTaaXkp\",\"name\":\"aws\",\"description\":null,\"discriminator\":\"aws\",\"baseUrl\":null,\"category\":null,\"deleted\":null,\"lastUsed\":\"2021-09-09T07:20:53Z\",\"dateCreated\":\"2021-09-08T05:48:51Z\",\"lastUpdated\":\"2021-09-08T05:48:51Z\"}]}").withContentType(MediaType.APPLICATION_JSON)
         );
-        // status check
-        mock.when(
-                request()
-                        .withMethod("GET").withPath("/data-links")
-                        .withQueryStringParameter("workspaceId", "75887156211589")
-                        .withQueryStringParameter("offset", "0")
-                        .withQueryStringParameter("max", "1"),
-                exactly(1)
-        ).respond(
-                response().withStatusCode(200).withBody(loadResource("data/links/datalinks_list")).withContentType(MediaType.APPLICATION_JSON)
-        );
         // mock fetch data links
         mock.when(
                 request()
@@ -188,6 +183,9 @@ public class DataLinksCmdTest extends BaseCmdTest {
                                 "      \"message\": null\n" +
                                 "    }", DataLinkDto.class)
                 ), false, PaginationInfo.from(0, 100)));
+
+        // The fetch status comes with the listing, a single request is sent
+        mock.verify(request().withMethod("GET").withPath("/data-links"), VerificationTimes.exactly(1));
     }
 
     @ParameterizedTest
@@ -220,17 +218,6 @@ public class DataLinksCmdTest extends BaseCmdTest {
         ).respond(
                 response().withStatusCode(200).withBody("{\"credentials\":[{\"id\":\"57Ic6reczFn78H1DTaaXkp\",\"name\":\"aws\",\"description\":null,\"discriminator\":\"aws\",\"baseUrl\":null,\"category\":null,\"deleted\":null,\"lastUsed\":\"2021-09-09T07:20:53Z\",\"dateCreated\":\"2021-09-08T05:48:51Z\",\"lastUpdated\":\"2021-09-08T05:48:51Z\"}]}").withContentType(MediaType.APPLICATION_JSON)
         );
-        // status check
-        mock.when(
-                request()
-                        .withMethod("GET").withPath("/data-links")
-                        .withQueryStringParameter("workspaceId", "75887156211589")
-                        .withQueryStringParameter("offset", "0")
-                        .withQueryStringParameter("max", "1"),
-                exactly(1)
-        ).respond(
-                response().withStatusCode(200).withBody(loadResource("data/links/datalinks_list")).withContentType(MediaType.APPLICATION_JSON)
-        );
         // mock fetch data links
         mock.when(
                 request()
@@ -465,6 +452,74 @@ public class DataLinksCmdTest extends BaseCmdTest {
         assertEquals(0, out.exitCode);
     }
 
+    @Test
+    void testBrowseWhileStillFetching(MockServerClient mock) {
+        // The search is still incomplete after waiting for the fetch to finish
+        mock.when(
+                request().withMethod("GET").withPath("/data-links")
+                        .withQueryStringParameter("workspaceId", "75887156211589")
+                        .withQueryStringParameter("search", "still-fetching.*"),
+                exactly(2)
+        ).respond(
+                response().withStatusCode(202).withBody("{\"dataLinks\": []}").withContentType(MediaType.APPLICATION_JSON)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/data-links")
+                        .withQueryStringParameter("workspaceId", "75887156211589")
+                        .withQueryStringParameter("max", "1"),
+                exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody("{\"dataLinks\": []}").withContentType(MediaType.APPLICATION_JSON)
+        );
+
+        ExecOut out = exec(OutputType.json, mock, "data-links", "browse", "-w", "75887156211589", "-n", "still-fetching");
+
+        assertEquals(1, out.exitCode);
+        assertTrue(out.stdErr.contains("Data links are still being fetched"), out.stdErr);
+        assertTrue(out.stdErr.contains("please retry"), out.stdErr);
+    }
+
+    @ParameterizedTest
+    @EnumSource(OutputType.class)
+    void testIndexAndFind(OutputType format, MockServerClient mock) {
+        mock.when(
+                request().withMethod("GET").withPath("/data-links/v1-somedatalinkid").withQueryStringParameter("workspaceId", "75887156211589"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody("{\"dataLink\":{\"id\":\"v1-somedatalinkid\",\"name\":\"my-bucket\",\"resourceRef\":\"s3://my-bucket\",\"type\":\"bucket\",\"provider\":\"aws\"}}").withContentType(MediaType.APPLICATION_JSON)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/data-links/v1-somedatalinkid/browse").withQueryStringParameter("workspaceId", "75887156211589"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody("{\"objects\":[{\"type\":\"FILE\",\"name\":\"top.txt\",\"size\":1},{\"type\":\"FOLDER\",\"name\":\"a/\"}],\"nextPageToken\":null}").withContentType(MediaType.APPLICATION_JSON)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/data-links/v1-somedatalinkid/browse/a").withQueryStringParameter("workspaceId", "75887156211589"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody("{\"objects\":[{\"type\":\"FILE\",\"name\":\"x.bam\",\"size\":10},{\"type\":\"FILE\",\"name\":\"y.txt\",\"size\":2}],\"nextPageToken\":null}").withContentType(MediaType.APPLICATION_JSON)
+        );
+
+        Path localDir = tempDir().resolve("index-" + format);
+        ExecOut out = exec(format, mock, "--local-dir=" + localDir, "data-links", "index", "-w", "75887156211589", "-i", "v1-somedatalinkid", "--parallel", "2");
+
+        Path indexPath = localDir.resolve("data-links").resolve("75887156211589").resolve("v1-somedatalinkid.idx.gz");
+        assertOutput(format, out, new DataLinkIndexResult("s3://my-bucket", indexPath.toString(), 2, 2, 3, 13));
+        assertTrue(Files.exists(indexPath));
+
+        // The files are found in the index without listing the data link again
+        out = exec(format, mock, "--local-dir=" + localDir, "data-links", "find", "-w", "75887156211589", "-i", "v1-somedatalinkid", "*.bam");
+
+        assertOutput(format, out, new DataLinkFindResult("s3://my-bucket", "*.bam", List.of(new DataLinkFindResult.FoundFile("a/x.bam", 10))));
+        mock.verify(request().withPath("/data-links/v1-somedatalinkid/browse.*"), VerificationTimes.exactly(2));
+    }
+
+    @Test
+    void testFindWithoutIndex(MockServerClient mock) {
+        ExecOut out = exec(mock, "--local-dir=" + tempDir().resolve("no-index"), "data-links", "find", "-w", "75887156211589", "-i", "v1-somedatalinkid", "*.bam");
+
+        assertEquals(errorMessage(out.app, new TowerRuntimeException("No local index of data link 'v1-somedatalinkid', run 'data-links index' first")), out.stdErr);
+        assertEquals(1, out.exitCode);
+    }
+
     // Only run this test in json output format, since extra stdout output is printed out to console for download progress bar
     @ParameterizedTest
     @EnumSource(value = OutputType.class, names = {"json"})
@@ -476,17 +531,6 @@ public class DataLinksCmdTest extends BaseCmdTest {
                 response().withStatusCode(200).withBody("{\"credentials\":[{\"id\":\"57Ic6reczFn78H1DTaaXkp\",\"name\":\"aws\",\"description\":null,\"discriminator\":\"aws\",\"baseUrl\":null,\"category\":null,\"deleted\":null,\"lastUsed\":\"2021-09-09T07:20:53Z\",\"dateCreated\":\"2021-09-08T05:48:51Z\",\"lastUpdated\":\"2021-09-08T05:48:51Z\"}]}").withContentType(MediaType.APPLICATION_JSON)
         );
 
-        // status check
-        mock.when(
-                request()
-                        .withMethod("GET").withPath("/data-links")
-                        .withQueryStringParameter("workspaceId", "75887156211589")
-                        .withQueryStringParameter("offset", "0")
-                        .withQueryStringParameter("max", "1"),
-                exactly(1)
-        ).respond(
-                response().withStatusCode(200).withBody(loadResource("data/links/datalinks_list")).withContentType(MediaType.APPLICATION_JSON)
-        );
         // mock fetch data links list
         mock.when(
                 request().withMethod("GET").withPath("/data-links")
@@ -496,16 +540,16 @@ public class DataLinksCmdTest extends BaseCmdTest {
                 response().withStatusCode(200).withBody(loadResource("data/links/datalinks_list")).withContentType(MediaType.APPLICATION_JSON)
         );
 
-        // mock fetching the path tree
+        // mock browsing the path, a file does not list any entry
         mock.when(
-                request().withMethod("GET").withPath("/data-links/v1-cloud-c2875f38a7b5c8fe34a5b382b5f9e0c4/browse-tree")
+                request().withMethod("GET").withPath("/data-links/v1-cloud-c2875f38a7b5c8fe34a5b382b5f9e0c4/browse/directory/filename.txt")
                         .withQueryStringParameter("workspaceId", "75887156211589")
-                        .withQueryStringParameter("credentialsId", "57Ic6reczFn78H1DTaaXkp")
-                        .withQueryStringParameter("paths", "directory/filename.txt"), exactly(1)
+                        .withQueryStringParameter("credentialsId", "57Ic6reczFn78H1DTaaXkp"), exactly(1)
         ).respond(
                 response().withStatusCode(200).withBody(json("""
                             {
-                                 "items": []
+                                 "objects": [],
+                                 "nextPageToken": null
                              }"""
                 )).withContentType(MediaType.APPLICATION_JSON)
         );
@@ -563,25 +607,103 @@ public class DataLinksCmdTest extends BaseCmdTest {
     // Only run this test in json output format, since extra stdout output is printed out to console for download progress bar
     @ParameterizedTest
     @EnumSource(value = OutputType.class, names = {"json"})
-    void testDownloadDirectory(OutputType format, MockServerClient mock) throws IOException {
-        // credentials fetch
+    void testDownloadSingleFileWithUnknownSize(OutputType format, MockServerClient mock) throws IOException {
         mock.when(
                 request().withMethod("GET").withPath("/credentials").withQueryStringParameter("workspaceId", "75887156211589"), exactly(1)
         ).respond(
                 response().withStatusCode(200).withBody("{\"credentials\":[{\"id\":\"57Ic6reczFn78H1DTaaXkp\",\"name\":\"aws\",\"description\":null,\"discriminator\":\"aws\",\"baseUrl\":null,\"category\":null,\"deleted\":null,\"lastUsed\":\"2021-09-09T07:20:53Z\",\"dateCreated\":\"2021-09-08T05:48:51Z\",\"lastUpdated\":\"2021-09-08T05:48:51Z\"}]}").withContentType(MediaType.APPLICATION_JSON)
         );
 
-        // status check
         mock.when(
-                request()
-                        .withMethod("GET").withPath("/data-links")
+                request().withMethod("GET").withPath("/data-links")
                         .withQueryStringParameter("workspaceId", "75887156211589")
-                        .withQueryStringParameter("offset", "0")
-                        .withQueryStringParameter("max", "1"),
-                exactly(1)
+                        .withQueryStringParameter("search", "a-test-bucket-eend-us-east-1"), exactly(1)
         ).respond(
                 response().withStatusCode(200).withBody(loadResource("data/links/datalinks_list")).withContentType(MediaType.APPLICATION_JSON)
         );
+
+        mock.when(
+                request().withMethod("GET").withPath("/data-links/v1-cloud-c2875f38a7b5c8fe34a5b382b5f9e0c4/browse/directory/unknown.txt"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody("{\"objects\": [], \"nextPageToken\": null}").withContentType(MediaType.APPLICATION_JSON)
+        );
+
+        mock.when(
+                request().withMethod("GET").withPath("/data-links/v1-cloud-c2875f38a7b5c8fe34a5b382b5f9e0c4/generate-download-url")
+                        .withQueryStringParameter("filePath", "directory/unknown.txt"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody("{\"url\": \"http://localhost:" + mock.getPort() + "/download/directory/unknown.txt\"}").withContentType(MediaType.APPLICATION_JSON)
+        );
+
+        // The storage honours the range but does not report the total size of the object
+        byte[] fileContent = "Mock file content".getBytes();
+        mock.when(
+                request().withMethod("GET").withPath("/download/directory/unknown.txt").withHeader("Range"), exactly(1)
+        ).respond(
+                response().withStatusCode(206)
+                        .withHeader(new Header("Content-Range", "bytes 0-7/*"))
+                        .withBody(Arrays.copyOf(fileContent, 8))
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/download/directory/unknown.txt"), exactly(1)
+        ).respond(
+                response().withStatusCode(200)
+                        .withHeader(new Header("Content-Length", String.valueOf(fileContent.length)))
+                        .withBody(fileContent)
+        );
+
+        ExecOut out = exec(format, mock, "data-links", "download", "-w", "75887156211589", "-n", "a-test-bucket-eend-us-east-1", "-c", "57Ic6reczFn78H1DTaaXkp",
+                "--output-dir", tempDir().toString(), "directory/unknown.txt");
+
+        assertEquals("", out.stdErr);
+        assertEquals(0, out.exitCode);
+
+        // The whole object was fetched again instead of keeping the first range only
+        Path outputPath = tempDir().resolve("unknown.txt");
+        assertArrayEquals(fileContent, Files.readAllBytes(outputPath));
+        Files.deleteIfExists(outputPath);
+    }
+
+    @Test
+    void testHead(MockServerClient mock) {
+        mock.when(
+                request().withMethod("GET").withPath("/data-links/v1-somedatalinkid/generate-download-url")
+                        .withQueryStringParameter("filePath", "reads/sample.txt"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody("{\"url\": \"http://localhost:" + mock.getPort() + "/download/reads/sample.txt\"}").withContentType(MediaType.APPLICATION_JSON)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/download/reads/sample.txt"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody("first\nsecond\nthird\n")
+        );
+
+        ExecOut out = exec(mock, "data-links", "head", "-w", "75887156211589", "-i", "v1-somedatalinkid", "--lines", "2", "reads/sample.txt");
+
+        assertEquals("", out.stdErr);
+        assertEquals("first\nsecond", out.stdOut);
+        assertEquals(0, out.exitCode);
+    }
+
+    @Test
+    void testHeadNegativeLines(MockServerClient mock) {
+        ExecOut out = exec(mock, "data-links", "head", "-w", "75887156211589", "-i", "v1-somedatalinkid", "--lines", "-1", "reads/sample.txt");
+
+        assertEquals(errorMessage(out.app, new TowerException("Number of lines must be a positive value.")), out.stdErr);
+        assertEquals(1, out.exitCode);
+    }
+
+    // Only run this test in json output format, since extra stdout output is printed out to console for download progress bar
+    @ParameterizedTest
+    @EnumSource(value = OutputType.class, names = {"json"})
+    void testDownloadDirectory(OutputType format, MockServerClient mock) throws IOException {
+        // credentials fetch
+        mock.when(
+                request().withMethod("GET").withPath("/credentials").withQueryStringParameter("workspaceId", "75887156211589"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody("{\"credentials\":[{\"id\":\"57Ic6reczFn78H1DTaaXkp\",\"name\":\"aws\",\"description\":null,\"discriminator\":\"aws\",\"baseUrl\":null,\"category\":null,\"deleted\":null,\"lastUsed\":\"2021-09-09T07:20:53Z\",\"dateCreated\":\"2021-09-08T05:48:51Z\",\"lastUpdated\":\"2021-09-08T05:48:51Z\"}]}").withContentType(MediaType.APPLICATION_JSON)
+        );
+
         // mock fetch data links list
         mock.when(
                 request().withMethod("GET").withPath("/data-links")
@@ -596,28 +718,62 @@ public class DataLinksCmdTest extends BaseCmdTest {
         String filename1 = "filename1.txt";
         String filename2 = "filename2.txt";
 
+        // mock browsing the folder page by page
         mock.when(
-                request().withMethod("GET").withPath("/data-links/v1-cloud-c2875f38a7b5c8fe34a5b382b5f9e0c4/browse-tree")
+                request().withMethod("GET").withPath("/data-links/v1-cloud-c2875f38a7b5c8fe34a5b382b5f9e0c4/browse/directory")
                         .withQueryStringParameter("workspaceId", "75887156211589")
-                        .withQueryStringParameter("credentialsId", "57Ic6reczFn78H1DTaaXkp")
-                        .withQueryStringParameter("paths", "directory/"), exactly(1)
+                        .withQueryStringParameter("credentialsId", "57Ic6reczFn78H1DTaaXkp"), exactly(1)
         ).respond(
                 response().withStatusCode(200).withBody(json("""
                             {
-                                 "items": [
+                                 "objects": [
                                          {
-                                             "path": "directory/filename1.txt",
+                                             "type": "FILE",
+                                             "name": "filename1.txt",
                                              "size": 106421
                                          },
                                          {
-                                             "path": "directory/subdirectory/filename2.txt",
-                                             "size": 106421
+                                             "type": "FOLDER",
+                                             "name": "subdirectory",
+                                             "size": 0
                                          },
                                          {
-                                             "path": "directory/empty-dir/",
+                                             "type": "FOLDER",
+                                             "name": "empty-dir",
                                              "size": 0
                                          }
-                                 ]
+                                 ],
+                                 "nextPageToken": null
+                             }"""
+                )).withContentType(MediaType.APPLICATION_JSON)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/data-links/v1-cloud-c2875f38a7b5c8fe34a5b382b5f9e0c4/browse/directory/subdirectory")
+                        .withQueryStringParameter("workspaceId", "75887156211589")
+                        .withQueryStringParameter("credentialsId", "57Ic6reczFn78H1DTaaXkp"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody(json("""
+                            {
+                                 "objects": [
+                                         {
+                                             "type": "FILE",
+                                             "name": "filename2.txt",
+                                             "size": 106421
+                                         }
+                                 ],
+                                 "nextPageToken": null
+                             }"""
+                )).withContentType(MediaType.APPLICATION_JSON)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/data-links/v1-cloud-c2875f38a7b5c8fe34a5b382b5f9e0c4/browse/directory/empty-dir")
+                        .withQueryStringParameter("workspaceId", "75887156211589")
+                        .withQueryStringParameter("credentialsId", "57Ic6reczFn78H1DTaaXkp"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody(json("""
+                            {
+                                 "objects": [],
+                                 "nextPageToken": null
                              }"""
                 )).withContentType(MediaType.APPLICATION_JSON)
         );
@@ -713,25 +869,84 @@ public class DataLinksCmdTest extends BaseCmdTest {
 
     @ParameterizedTest
     @EnumSource(value = OutputType.class, names = {"json"})
-    void testUploadSingleFile(OutputType format, MockServerClient mock) throws IOException {
-        // credentials fetch
+    void testCopyDataLinkRoot(OutputType format, MockServerClient mock) throws IOException {
         mock.when(
                 request().withMethod("GET").withPath("/credentials").withQueryStringParameter("workspaceId", "75887156211589"), exactly(1)
         ).respond(
                 response().withStatusCode(200).withBody("{\"credentials\":[{\"id\":\"57Ic6reczFn78H1DTaaXkp\",\"name\":\"aws\",\"description\":null,\"discriminator\":\"aws\",\"baseUrl\":null,\"category\":null,\"deleted\":null,\"lastUsed\":\"2021-09-09T07:20:53Z\",\"dateCreated\":\"2021-09-08T05:48:51Z\",\"lastUpdated\":\"2021-09-08T05:48:51Z\"}]}").withContentType(MediaType.APPLICATION_JSON)
         );
 
-        // status check
+        // source and target data links
+        for (String name : List.of("a-test-bucket-eend-us-east-1", "adrian-navarro-test")) {
+            mock.when(
+                    request().withMethod("GET").withPath("/data-links")
+                            .withQueryStringParameter("workspaceId", "75887156211589")
+                            .withQueryStringParameter("search", name), exactly(1)
+            ).respond(
+                    response().withStatusCode(200).withBody(loadResource("data/links/datalinks_list")).withContentType(MediaType.APPLICATION_JSON)
+            );
+        }
+
+        // the root of the source data link lists a single file
         mock.when(
-                request()
-                        .withMethod("GET").withPath("/data-links")
-                        .withQueryStringParameter("workspaceId", "75887156211589")
-                        .withQueryStringParameter("offset", "0")
-                        .withQueryStringParameter("max", "1"),
-                exactly(1)
+                request().withMethod("GET").withPath("/data-links/v1-cloud-c2875f38a7b5c8fe34a5b382b5f9e0c4/browse"), exactly(1)
         ).respond(
-                response().withStatusCode(200).withBody(loadResource("data/links/datalinks_list")).withContentType(MediaType.APPLICATION_JSON)
+                response().withStatusCode(200).withBody("{\"objects\": [{\"type\": \"FILE\", \"name\": \"sample.txt\", \"size\": 12}], \"nextPageToken\": null}").withContentType(MediaType.APPLICATION_JSON)
+        );
+
+        mock.when(
+                request().withMethod("GET").withPath("/data-links/v1-cloud-c2875f38a7b5c8fe34a5b382b5f9e0c4/generate-download-url")
+                        .withQueryStringParameter("filePath", "sample.txt"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody("{\"url\": \"http://localhost:" + mock.getPort() + "/download/sample.txt\"}").withContentType(MediaType.APPLICATION_JSON)
+        );
+
+        byte[] fileContent = "test content".getBytes();
+        mock.when(
+                request().withMethod("GET").withPath("/download/sample.txt"), exactly(1)
+        ).respond(
+                response().withStatusCode(200)
+                        .withHeader(new Header("Content-Length", String.valueOf(fileContent.length)))
+                        .withBody(fileContent)
+        );
+
+        mock.when(
+                request().withMethod("POST").withPath("/data-links/v1-cloud-b89b60014c225c11f59048294354d174/upload"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody("{\"uploadId\": \"upload-123\", \"uploadUrls\": [\"http://localhost:" + mock.getPort() + "/upload\"]}").withContentType(MediaType.APPLICATION_JSON)
+        );
+
+        mock.when(
+                request().withMethod("PUT").withPath("/upload").withBody(fileContent), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withHeader(new Header("Etag", "etag-123"))
+        );
+
+        // the object keeps its key at the root of the target data link
+        mock.when(
+                request().withMethod("POST").withPath("/data-links/v1-cloud-b89b60014c225c11f59048294354d174/upload/finish")
+                        .withBody(json("{\"uploadId\":\"upload-123\", \"fileName\":\"sample.txt\", \"tags\":[{\"partNumber\":1,\"eTag\":\"etag-123\"}], \"withError\":false}")), exactly(1)
+        ).respond(
+                response().withStatusCode(200)
+        );
+
+        ExecOut out = exec(format, mock, "data-links", "copy", "-w", "75887156211589", "-n", "a-test-bucket-eend-us-east-1", "-c", "57Ic6reczFn78H1DTaaXkp",
+                "--target-name", "adrian-navarro-test", "/");
+
+        assertOutput(format, out, DataLinkFileTransferResult.copied(List.of(new DataLinkFileTransferResult.SimplePathInfo(DataLinkItemType.FOLDER, "/", 1))));
+        mock.verify(request().withMethod("POST").withPath("/data-links/v1-cloud-b89b60014c225c11f59048294354d174/upload/finish"), VerificationTimes.exactly(1));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = OutputType.class, names = {"json"})
+    void testUploadSingleFile(OutputType format, MockServerClient mock) throws IOException {
+        // credentials fetch
+        mock.when(
+                request().withMethod("GET").withPath("/credentials").withQueryStringParameter("workspaceId", "75887156211589"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody("{\"credentials\":[{\"id\":\"57Ic6reczFn78H1DTaaXkp\",\"name\":\"aws\",\"description\":null,\"discriminator\":\"aws\",\"baseUrl\":null,\"category\":null,\"deleted\":null,\"lastUsed\":\"2021-09-09T07:20:53Z\",\"dateCreated\":\"2021-09-08T05:48:51Z\",\"lastUpdated\":\"2021-09-08T05:48:51Z\"}]}").withContentType(MediaType.APPLICATION_JSON)
         );
+
         // mock fetch data links list
         mock.when(
                 request().withMethod("GET").withPath("/data-links")
@@ -811,17 +1026,6 @@ public class DataLinksCmdTest extends BaseCmdTest {
                 response().withStatusCode(200).withBody("{\"credentials\":[{\"id\":\"57Ic6reczFn78H1DTaaXkp\",\"name\":\"aws\",\"description\":null,\"discriminator\":\"aws\",\"baseUrl\":null,\"category\":null,\"deleted\":null,\"lastUsed\":\"2021-09-09T07:20:53Z\",\"dateCreated\":\"2021-09-08T05:48:51Z\",\"lastUpdated\":\"2021-09-08T05:48:51Z\"}]}").withContentType(MediaType.APPLICATION_JSON)
         );
 
-        // status check
-        mock.when(
-                request()
-                        .withMethod("GET").withPath("/data-links")
-                        .withQueryStringParameter("workspaceId", "75887156211589")
-                        .withQueryStringParameter("offset", "0")
-                        .withQueryStringParameter("max", "1"),
-                exactly(1)
-        ).respond(
-                response().withStatusCode(200).withBody(loadResource("data/links/datalinks_list")).withContentType(MediaType.APPLICATION_JSON)
-        );
         // mock fetch data links list
         mock.when(
                 request().withMethod("GET").withPath("/data-links")
@@ -908,17 +1112,6 @@ public class DataLinksCmdTest extends BaseCmdTest {
                 response().withStatusCode(200).withBody("{\"credentials\":[{\"id\":\"57Ic6reczFn78H1DTaaXkp\",\"name\":\"aws\",\"description\":null,\"discriminator\":\"aws\",\"baseUrl\":null,\"category\":null,\"deleted\":null,\"lastUsed\":\"2021-09-09T07:20:53Z\",\"dateCreated\":\"2021-09-08T05:48:51Z\",\"lastUpdated\":\"2021-09-08T05:48:51Z\"}]}").withContentType(MediaType.APPLICATION_JSON)
         );
 
-        // status check
-        mock.when(
-                request()
-                        .withMethod("GET").withPath("/data-links")
-                        .withQueryStringParameter("workspaceId", "75887156211589")
-                        .withQueryStringParameter("offset", "0")
-                        .withQueryStringParameter("max", "1"),
-                exactly(1)
-        ).respond(
-                response().withStatusCode(200).withBody(loadResource("data/links/datalinks_list")).withContentType(MediaType.APPLICATION_JSON)
-        );
         // mock fetch data links list
         mock.when(
                 request().withMethod("GET").withPath("/data-links")
@@ -998,17 +1191,6 @@ public class DataLinksCmdTest extends BaseCmdTest {
                 response().withStatusCode(200).withBody("{\"credentials\":[{\"id\":\"google-creds-id\",\"name\":\"google\",\"description\":null,\"discriminator\":\"google\",\"baseUrl\":null,\"category\":null,\"deleted\":null,\"lastUsed\":\"2021-09-09T07:20:53Z\",\"dateCreated\":\"2021-09-08T05:48:51Z\",\"lastUpdated\":\"2021-09-08T05:48:51Z\"}]}").withContentType(MediaType.APPLICATION_JSON)
         );
 
-        // status check
-        mock.when(
-                request()
-                        .withMethod("GET").withPath("/data-links")
-                        .withQueryStringParameter("workspaceId", "75887156211589")
-                        .withQueryStringParameter("offset", "0")
-                        .withQueryStringParameter("max", "1"),
-                exactly(1)
-        ).respond(
-                response().withStatusCode(200).withBody(loadResource("data/links/datalinks_list")).withContentType(MediaType.APPLICATION_JSON)
-        );
 
         // mock fetch data links list
         mock.when(
@@ -1099,17 +1281,6 @@ public class DataLinksCmdTest extends BaseCmdTest {
                 response().withStatusCode(200).withBody("{\"credentials\":[{\"id\":\"azure-creds-id\",\"name\":\"azure\",\"description\":null,\"discriminator\":\"azure\",\"baseUrl\":null,\"category\":null,\"deleted\":null,\"lastUsed\":\"2021-09-09T07:20:53Z\",\"dateCreated\":\"2021-09-08T05:48:51Z\",\"lastUpdated\":\"2021-09-08T05:48:51Z\"}]}").withContentType(MediaType.APPLICATION_JSON)
         );
 
-        // status check
-        mock.when(
-                request()
-                        .withMethod("GET").withPath("/data-links")
-                        .withQueryStringParameter("workspaceId", "75887156211589")
-                        .withQueryStringParameter("offset", "0")
-                        .withQueryStringParameter("max", "1"),
-                exactly(1)
-        ).respond(
-                response().withStatusCode(200).withBody(loadResource("data/links/datalinks_list")).withContentType(MediaType.APPLICATION_JSON)
-        );
 
         // mock fetch data links list
         mock.when(
@@ -1236,6 +1407,88 @@ public class DataLinksCmdTest extends BaseCmdTest {
         deleteDirectory(tempDirectory);
     }
 
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', value = {
+            "results;results/",
+            "/results/run-1/;results/run-1/",
+            "' results ';results/",
+            ";''"
+    })
+    void testSyncPrefixNormalization(String prefix, String expected) {
+        assertEquals(expected, SyncCmd.normalizePrefix(prefix));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = OutputType.class, names = {"json"})
+    void testSyncDryRun(OutputType format, MockServerClient mock) throws IOException {
+        Path localDirectory = tempDir().resolve("sync-source");
+        Files.createDirectories(localDirectory.resolve("sub"));
+        Files.write(localDirectory.resolve("unchanged.txt"), "hello".getBytes());
+        Files.write(localDirectory.resolve("changed.txt"), "new content".getBytes());
+        Files.write(localDirectory.resolve("sub/new.txt"), "new".getBytes());
+
+        // credentials fetch
+        mock.when(
+                request().withMethod("GET").withPath("/credentials").withQueryStringParameter("workspaceId", "75887156211589"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody("{\"credentials\":[{\"id\":\"57Ic6reczFn78H1DTaaXkp\",\"name\":\"aws\",\"description\":null,\"discriminator\":\"aws\",\"baseUrl\":null,\"category\":null,\"deleted\":null,\"lastUsed\":\"2021-09-09T07:20:53Z\",\"dateCreated\":\"2021-09-08T05:48:51Z\",\"lastUpdated\":\"2021-09-08T05:48:51Z\"}]}").withContentType(MediaType.APPLICATION_JSON)
+        );
+
+        // mock fetch data links list
+        mock.when(
+                request().withMethod("GET").withPath("/data-links")
+                        .withQueryStringParameter("workspaceId", "75887156211589")
+                        .withQueryStringParameter("search", "a-test-bucket-eend-us-east-1"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody(loadResource("data/links/datalinks_list")).withContentType(MediaType.APPLICATION_JSON)
+        );
+
+        mock.when(
+                request().withMethod("GET").withPath("/data-links/v1-cloud-c2875f38a7b5c8fe34a5b382b5f9e0c4/browse-tree")
+                        .withQueryStringParameter("workspaceId", "75887156211589")
+                        .withQueryStringParameter("credentialsId", "57Ic6reczFn78H1DTaaXkp")
+                        .withQueryStringParameter("paths", "results/"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody(json("""
+                            {
+                                 "items": [
+                                         {
+                                             "path": "results/unchanged.txt",
+                                             "size": 5
+                                         },
+                                         {
+                                             "path": "results/changed.txt",
+                                             "size": 3
+                                         },
+                                         {
+                                             "path": "results/stale.txt",
+                                             "size": 7
+                                         },
+                                         {
+                                             "path": "results/empty-dir/",
+                                             "size": 0
+                                         }
+                                 ]
+                             }"""
+                )).withContentType(MediaType.APPLICATION_JSON)
+        );
+
+        ExecOut out = exec(format, mock, "data-links", "sync", "-w", "75887156211589", "-n", "a-test-bucket-eend-us-east-1", "-c", "57Ic6reczFn78H1DTaaXkp",
+                "--dry-run", "--delete", localDirectory.toString(), "results");
+
+        assertOutput(format, out, new DataLinkSyncResult(localDirectory.toString(), "s3://a-test-bucket-eend-us-east-1/results/", List.of(
+                new DataLinkSyncResult.SyncItem(DataLinkSyncResult.SyncAction.UPDATE, "results/changed.txt", 11),
+                new DataLinkSyncResult.SyncItem(DataLinkSyncResult.SyncAction.UPLOAD, "results/sub/new.txt", 3),
+                new DataLinkSyncResult.SyncItem(DataLinkSyncResult.SyncAction.DELETE, "results/stale.txt", 7)
+        ), 1, true));
+
+        // nothing is transferred in dry-run mode
+        mock.verify(request().withMethod("POST").withPath("/data-links/v1-cloud-c2875f38a7b5c8fe34a5b382b5f9e0c4/upload/results"), VerificationTimes.exactly(0));
+        mock.verify(request().withMethod("DELETE"), VerificationTimes.exactly(0));
+
+        deleteDirectory(localDirectory);
+    }
+
     private void deleteDirectory(Path directory) throws IOException {
         if (Files.exists(directory)) {
             Files.walk(directory)
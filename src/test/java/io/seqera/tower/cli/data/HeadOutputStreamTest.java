@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.data;
+
+import io.seqera.tower.cli.commands.data.links.download.HeadOutputStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HeadOutputStreamTest {
+
+    @Test
+    void stopsAfterLines() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        HeadOutputStream head = new HeadOutputStream(out, -1, 2);
+
+        head.write("a,b\n1,2\n".getBytes(StandardCharsets.UTF_8));
+        assertTrue(head.isFull());
+        head.write("3,4\n".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("a,b\n1,2\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void stopsInTheMiddleOfAChunk() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        HeadOutputStream head = new HeadOutputStream(out, -1, 1);
+
+        head.write("first\nsecond\n".getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(head.isFull());
+        assertEquals("first\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void stopsAfterBytes() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        HeadOutputStream head = new HeadOutputStream(out, 4, -1);
+
+        head.write("ab".getBytes(StandardCharsets.UTF_8));
+        assertFalse(head.isFull());
+        head.write("cdef".getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(head.isFull());
+        assertEquals("abcd", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void unlimited() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        HeadOutputStream head = new HeadOutputStream(out, -1, -1);
+
+        head.write("a\nb\nc\n".getBytes(StandardCharsets.UTF_8));
+
+        assertFalse(head.isFull());
+        assertEquals("a\nb\nc\n", out.toString(StandardCharsets.UTF_8));
+    }
+}
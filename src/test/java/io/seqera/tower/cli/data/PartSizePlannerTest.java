@@ -0,0 +1,66 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.data;
+
+import io.seqera.tower.cli.commands.data.links.upload.PartSizePlanner;
+import io.seqera.tower.cli.commands.data.links.upload.UploadPlan;
+import io.seqera.tower.model.DataLinkProvider;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PartSizePlannerTest {
+
+    private static final long MB = 1024L * 1024;
+    private static final long GB = 1024L * MB;
+
+    @Test
+    void smallFilesUseMinimumPartSize() {
+        UploadPlan plan = new PartSizePlanner().plan(20 * MB, DataLinkProvider.AWS);
+
+        assertEquals(8 * MB, plan.partSize);
+        assertEquals(3, plan.partCount);
+        assertEquals(4 * MB, plan.partLength(2));
+    }
+
+    @Test
+    void largeFilesRespectProviderPartLimit() {
+        UploadPlan plan = new PartSizePlanner().plan(4000 * GB, DataLinkProvider.AWS);
+
+        assertTrue(plan.partCount <= 10_000);
+        assertEquals(0, plan.partSize % (256 * 1024));
+    }
+
+    @Test
+    void partSizeFollowsMeasuredThroughput() {
+        PartSizePlanner planner = new PartSizePlanner();
+        // 1 MB/s, a part every 30 seconds
+        planner.record(10 * MB, 10_000_000_000L);
+
+        UploadPlan plan = planner.plan(10 * GB, DataLinkProvider.AZURE);
+        assertEquals(30 * MB, plan.partSize);
+    }
+
+    @Test
+    void splitInRequestedPartCount() {
+        UploadPlan plan = UploadPlan.byDefault(100 * MB).withPartCount(4);
+
+        assertEquals(4, plan.partCount);
+        assertEquals(25 * MB, plan.partSize);
+    }
+}
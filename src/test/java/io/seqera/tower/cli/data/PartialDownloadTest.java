@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.data;
+
+import io.seqera.tower.cli.commands.data.links.download.PartialDownload;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PartialDownloadTest {
+
+    @Test
+    void missingRangesOfNewDownload(@TempDir Path tmp) throws IOException {
+        PartialDownload partial = PartialDownload.open(tmp.resolve("file.bin"), "id:file.bin");
+
+        List<PartialDownload.Range> missing = partial.missing(10);
+        assertEquals(1, missing.size());
+        assertEquals(0, missing.get(0).start);
+        assertEquals(9, missing.get(0).end);
+    }
+
+    @Test
+    void resumeFromStoredRanges(@TempDir Path tmp) throws IOException {
+        Path target = tmp.resolve("file.bin");
+        PartialDownload partial = PartialDownload.open(target, "id:file.bin");
+        Files.write(partial.getPartPath(), new byte[25]);
+        partial.reset("\"etag\"", 25);
+        partial.complete(0, 9);
+        partial.complete(20, 24);
+
+        // A new attempt loads the ranges stored by the previous one
+        PartialDownload resumed = PartialDownload.open(target, "id:file.bin");
+        assertTrue(resumed.matches("\"etag\"", 25));
+        assertEquals(15, resumed.getCompletedBytes());
+
+        List<PartialDownload.Range> missing = resumed.missing(4);
+        assertEquals(3, missing.size());
+        assertEquals(10, missing.get(0).start);
+        assertEquals(13, missing.get(0).end);
+        assertEquals(18, missing.get(2).start);
+        assertEquals(19, missing.get(2).end);
+
+        resumed.complete(10, 19);
+        assertTrue(resumed.isComplete());
+        assertEquals(1, resumed.completed.size());
+
+        resumed.finish();
+        assertTrue(Files.exists(target));
+        assertFalse(Files.exists(PartialDownload.partPath(target)));
+        assertFalse(Files.exists(PartialDownload.statePath(target)));
+    }
+
+    @Test
+    void completeDownloadNotMovedYet(@TempDir Path tmp) throws IOException {
+        Path target = tmp.resolve("file.bin");
+        PartialDownload partial = PartialDownload.open(target, "id:file.bin");
+        Files.write(partial.getPartPath(), new byte[10]);
+        partial.reset("\"etag\"", 10);
+        partial.complete(0, 9);
+
+        // The previous attempt stored every byte but stopped before finishing
+        PartialDownload resumed = PartialDownload.open(target, "id:file.bin");
+        assertTrue(resumed.missing(4).isEmpty());
+        assertTrue(resumed.isComplete());
+
+        resumed.finish();
+        assertEquals(10, Files.size(target));
+    }
+
+    @Test
+    void ignoreStateOfAnotherObject(@TempDir Path tmp) throws IOException {
+        Path target = tmp.resolve("file.bin");
+        PartialDownload partial = PartialDownload.open(target, "id:file.bin");
+        Files.write(partial.getPartPath(), new byte[10]);
+        partial.reset("\"etag\"", 10);
+        partial.complete(0, 4);
+
+        PartialDownload other = PartialDownload.open(target, "id:other/file.bin");
+        assertEquals(-1, other.size);
+        assertEquals(0, other.getCompletedBytes());
+    }
+}
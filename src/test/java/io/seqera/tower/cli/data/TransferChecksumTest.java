@@ -0,0 +1,128 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.data;
+
+import io.seqera.tower.cli.commands.data.links.checksum.ChecksumAlgorithm;
+import io.seqera.tower.cli.commands.data.links.checksum.ChecksumManifest;
+import io.seqera.tower.cli.commands.data.links.checksum.TransferChecksum;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransferChecksumTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "MD5, 25f9e794323b453885f5181f1b624d0b",
+            "CRC32C, e3069283",
+            "SHA256, 15e2b0d3c33891ebb0f1ef609ec419420c20e320ce94c65fbc8c3312448eb225",
+    })
+    void computeInParts(ChecksumAlgorithm algorithm, String expected) {
+        byte[] data = "123456789".getBytes(StandardCharsets.UTF_8);
+        TransferChecksum checksum = new TransferChecksum(algorithm);
+
+        assertTrue(checksum.update(0, data, 0, 4));
+        // Bytes sent again, e.g. a retried part, are only hashed once
+        assertTrue(checksum.update(2, data, 2, 7));
+
+        assertEquals(expected, checksum.toHex());
+    }
+
+    @Test
+    void catchUpBytesReceivedOutOfOrder(@TempDir Path tmp) throws IOException {
+        byte[] data = "123456789".getBytes(StandardCharsets.UTF_8);
+        Path file = tmp.resolve("file.bin");
+        Files.write(file, data);
+
+        TransferChecksum checksum = new TransferChecksum(ChecksumAlgorithm.MD5);
+        assertTrue(checksum.update(0, data, 0, 3));
+        assertFalse(checksum.update(6, data, 6, 3));
+        assertEquals(3, checksum.getPosition());
+
+        checksum.catchUp(file, data.length);
+
+        assertEquals("25f9e794323b453885f5181f1b624d0b", checksum.toHex());
+    }
+
+    @Test
+    void combineCrc32cOfPartsReceivedOutOfOrder(@TempDir Path tmp) throws IOException {
+        byte[] data = new byte[10_000];
+        new Random(42).nextBytes(data);
+        CRC32C expected = new CRC32C();
+        expected.update(data);
+
+        TransferChecksum checksum = new TransferChecksum(ChecksumAlgorithm.CRC32C);
+        int[][] ranges = {{7_000, 10_000}, {3_000, 7_000}, {0, 3_000}};
+        for (int[] range : ranges) {
+            int middle = (range[0] + range[1]) / 2;
+            TransferChecksum.Part part = checksum.part(range[0]);
+            part.update(data, range[0], middle - range[0]);
+            part.update(data, middle, range[1] - middle);
+            part.complete();
+        }
+        assertEquals(data.length, checksum.getPosition());
+
+        // Every part was hashed while received, the file is not read back
+        checksum.catchUp(tmp.resolve("missing.bin"), data.length);
+        assertEquals(String.format("%08x", expected.getValue()), checksum.toHex());
+    }
+
+    @Test
+    void catchUpGapBeforeCrc32cPart(@TempDir Path tmp) throws IOException {
+        byte[] data = "123456789".getBytes(StandardCharsets.UTF_8);
+        Path file = tmp.resolve("file.bin");
+        Files.write(file, data);
+
+        // The first bytes were stored by a previous attempt
+        TransferChecksum checksum = new TransferChecksum(ChecksumAlgorithm.CRC32C);
+        TransferChecksum.Part part = checksum.part(4);
+        part.update(data, 4, 5);
+        part.complete();
+        assertEquals(0, checksum.getPosition());
+
+        checksum.catchUp(file, data.length);
+
+        assertEquals("e3069283", checksum.toHex());
+    }
+
+    @Test
+    void manifestPathsRelativeToItsFolder(@TempDir Path tmp) throws IOException {
+        Path manifestPath = tmp.resolve("checksums.md5");
+        try (ChecksumManifest manifest = new ChecksumManifest(manifestPath)) {
+            manifest.record("25f9e794323b453885f5181f1b624d0b", tmp.resolve("results/./sample.txt"));
+            manifest.record("25f9e794323b453885f5181f1b624d0b", "data/sample.txt");
+        }
+
+        assertEquals(List.of(
+                "25f9e794323b453885f5181f1b624d0b  results/sample.txt",
+                "25f9e794323b453885f5181f1b624d0b  data/sample.txt"
+        ), Files.readAllLines(manifestPath));
+    }
+}
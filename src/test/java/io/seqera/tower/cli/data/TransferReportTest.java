@@ -0,0 +1,108 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.data;
+
+import io.seqera.tower.cli.commands.data.links.report.ObjectStats;
+import io.seqera.tower.cli.commands.data.links.report.Percentiles;
+import io.seqera.tower.cli.commands.data.links.report.TransferReport;
+import io.seqera.tower.cli.responses.data.DataLinkFileTransferResult.FileTransferDirection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static io.seqera.tower.cli.utils.JsonHelper.parseJson;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TransferReportTest {
+
+    @Test
+    void nearestRankPercentiles() {
+        Percentiles percentiles = Percentiles.of(List.of(5D, 1D, 4D, 2D, 3D, 10D, 9D, 8D, 7D, 6D));
+
+        assertEquals(10, percentiles.count);
+        assertEquals(1, percentiles.min);
+        assertEquals(5, percentiles.p50);
+        assertEquals(9, percentiles.p90);
+        assertEquals(10, percentiles.p99);
+        assertEquals(10, percentiles.max);
+        assertEquals(5.5, percentiles.mean);
+
+        assertNull(Percentiles.of(List.of()));
+    }
+
+    @Test
+    void partsNumberedByOffset() {
+        ObjectStats stats = new ObjectStats("file.bin");
+        // Concurrent parts finish in any order
+        stats.part(200, 50, 1_000_000_000L);
+        stats.part(0, 100, 2_000_000_000L);
+        stats.part(100, 100, 1_000_000_000L);
+        stats.finish(new IOException("Failed to download bytes 250-299: HTTP 500"));
+
+        assertEquals(3, stats.partCount);
+        assertEquals(250, stats.bytes);
+        assertEquals(0, stats.parts.get(0).offset);
+        assertEquals(1, stats.parts.get(0).number);
+        assertEquals(50, stats.parts.get(0).throughput);
+        assertEquals(3, stats.parts.get(2).number);
+        assertEquals(2000, stats.parts.get(0).latencyMillis);
+        assertEquals("Failed to download bytes 250-299: HTTP 500", stats.error);
+    }
+
+    @Test
+    void writeSummary(@TempDir Path folder) throws IOException {
+        TransferReport report = new TransferReport(FileTransferDirection.UPLOAD);
+
+        ObjectStats done = report.start("done.bin");
+        done.part(0, 100, 1_000_000_000L);
+        done.part(100, 300, 3_000_000_000L);
+        done.retry();
+        done.finish(null);
+
+        // Failed before any part was sent, e.g. while requesting the upload URLs
+        ObjectStats failed = report.start("failed.bin");
+        failed.finish(new IOException("File not found: failed.bin"));
+
+        Path file = folder.resolve("report.json");
+        report.write(file);
+
+        assertEquals(2, report.objectCount);
+        assertEquals(1, report.failedCount);
+        assertEquals(400, report.totalBytes);
+        assertEquals(1, report.retries);
+        assertEquals(1, report.objectThroughput.count);
+        assertEquals(2, report.partLatencyMillis.count);
+        assertEquals(1000, report.partLatencyMillis.min);
+        assertEquals(3000, report.partLatencyMillis.p99);
+        assertEquals(100, report.partThroughput.p50);
+
+        Map<?, ?> json = parseJson(Files.readString(file), Map.class);
+        assertEquals("UPLOAD", json.get("direction"));
+        assertEquals(2, json.get("objectCount"));
+        assertEquals(1, json.get("failedCount"));
+        assertEquals(400, json.get("totalBytes"));
+        List<?> objects = (List<?>) json.get("objects");
+        assertEquals("File not found: failed.bin", ((Map<?, ?>) objects.get(1)).get("error"));
+        assertEquals(2, ((Map<?, ?>) objects.get(0)).get("partCount"));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.runs;
+
+import io.seqera.tower.cli.commands.runs.triage.ErrorSignature;
+import io.seqera.tower.cli.commands.runs.triage.FailureClusters;
+import io.seqera.tower.cli.responses.runs.RunsTriage.FailureMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FailureClustersTest {
+
+    @Test
+    void normalizeVariableParts() {
+        String output = "\n  Processing sample_12 in /work/ab/12cdef3456/reads.fq  \n"
+                + "Exception in thread \"main\" java.lang.OutOfMemoryError: Java heap space (requested 2048 MB, job 3f9a2c81e)\n";
+
+        assertEquals("Processing sample_<n> in <path>\nException in thread \"main\" java.lang.OutOfMemoryError: Java heap space (requested <n> MB, job <hash>)", ErrorSignature.of(output));
+        assertEquals("Exception in thread \"main\" java.lang.OutOfMemoryError: Java heap space (requested 2048 MB, job 3f9a2c81e)", ErrorSignature.example(output));
+        assertEquals("", ErrorSignature.of(" \n"));
+    }
+
+    @Test
+    void clusterNearDuplicateSignatures() {
+        String oom = "Loading index for chromosome chr1 from the reference genome cache\nERROR: Out of memory while sorting reads of sample, increase the task memory and retry the alignment";
+        String oomVariant = "Loading index for chromosome chrX from the reference genome cache\nERROR: Out of memory while sorting reads of sample, increase the task memory and retry the alignment";
+        String missing = "ERROR: Input file <path> does not exist";
+
+        FailureClusters clusters = new FailureClusters();
+        clusters.add(1L, "ALIGN", "137", ErrorSignature.of(oom), "oom");
+        clusters.add(2L, "ALIGN", "137", ErrorSignature.of(oom), "oom");
+        clusters.add(3L, "SORT", "137", ErrorSignature.of(oomVariant), "oom");
+        clusters.add(4L, "FASTQC", "1", ErrorSignature.of(missing), "missing");
+        // Same error with another exit status is another failure mode
+        clusters.add(5L, "ALIGN", "1", ErrorSignature.of(oom), "oom");
+
+        List<FailureMode> modes = clusters.modes(0.7, 2);
+        assertEquals(5, clusters.getTasks());
+        assertEquals(3, modes.size());
+
+        FailureMode first = modes.get(0);
+        assertEquals("137", first.exit);
+        assertEquals(3, first.tasks);
+        assertEquals(2, first.signatures);
+        assertEquals(List.of("ALIGN", "SORT"), first.processes);
+        assertEquals(List.of(1L, 2L), first.taskIds);
+    }
+}
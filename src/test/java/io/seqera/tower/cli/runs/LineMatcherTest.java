@@ -0,0 +1,45 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.runs;
+
+import io.seqera.tower.cli.commands.runs.logs.LineMatcher;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LineMatcherTest {
+
+    @Test
+    void matchLinesSplitAcrossWrites() {
+        List<String> matches = new ArrayList<>();
+        LineMatcher matcher = new LineMatcher(Pattern.compile("OutOfMemory"), (lineNumber, line) -> matches.add(lineNumber + ": " + line));
+
+        byte[] log = "start\r\njava.lang.OutOfMemoryError: Java heap space\nretry\nOutOfMemory again".getBytes(StandardCharsets.UTF_8);
+        matcher.write(log, 0, 20);
+        matcher.write(log, 20, 10);
+        matcher.write(log, 30, log.length - 30);
+        matcher.close();
+
+        assertEquals(List.of("2: java.lang.OutOfMemoryError: Java heap space", "4: OutOfMemory again"), matches);
+        assertEquals(2, matcher.getMatches());
+    }
+}
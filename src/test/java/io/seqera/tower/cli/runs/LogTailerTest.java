@@ -0,0 +1,163 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.runs;
+
+import io.seqera.tower.cli.BaseCmdTest;
+import io.seqera.tower.cli.commands.runs.logs.LogTailer;
+import io.seqera.tower.cli.utils.ApiHttpClient;
+import org.junit.jupiter.api.Test;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.model.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockserver.matchers.Times.exactly;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+class LogTailerTest extends BaseCmdTest {
+
+    @Test
+    void fetchOnlyNewBytes(MockServerClient mock) throws Exception {
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/5dAZoXrcmZXRO4/download")
+                        .withQueryStringParameter("fileName", "nf-5dAZoXrcmZXRO4.log"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody("line 1\n").withContentType(MediaType.TEXT_PLAIN)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/5dAZoXrcmZXRO4/download")
+                        .withHeader("Range", "bytes=7-"), exactly(1)
+        ).respond(
+                response().withStatusCode(206).withBody("line 2\n").withContentType(MediaType.TEXT_PLAIN)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/5dAZoXrcmZXRO4/download")
+                        .withHeader("Range", "bytes=14-"), exactly(1)
+        ).respond(
+                response().withStatusCode(416)
+        );
+
+        LogTailer tailer = tailer(mock);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(7, tailer.fetch(out));
+        assertEquals(7, tailer.fetch(out));
+        assertEquals(0, tailer.fetch(out));
+
+        assertEquals(14, tailer.getOffset());
+        assertEquals("line 1\nline 2\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void skipWrittenBytesWhenRangeIsIgnored(MockServerClient mock) throws Exception {
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/5dAZoXrcmZXRO4/download"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody("line 1\n").withContentType(MediaType.TEXT_PLAIN)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/5dAZoXrcmZXRO4/download"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody("line 1\nline 2\n").withContentType(MediaType.TEXT_PLAIN)
+        );
+
+        LogTailer tailer = tailer(mock);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        tailer.fetch(out);
+        assertEquals(7, tailer.fetch(out));
+        assertEquals("line 1\nline 2\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void fetchTailFromFirstCompleteLine(MockServerClient mock) throws Exception {
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/5dAZoXrcmZXRO4/download")
+                        .withHeader("Range", "bytes=-10"), exactly(1)
+        ).respond(
+                response().withStatusCode(206).withHeader("Content-Range", "bytes 4-13/14")
+                        .withBody("e 1\nline 2\n").withContentType(MediaType.TEXT_PLAIN)
+        );
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(7, tailer(mock).fetchTail(out, 10));
+        assertEquals("line 2\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void fetchTailOfShortLog(MockServerClient mock) throws Exception {
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/5dAZoXrcmZXRO4/download")
+                        .withHeader("Range", "bytes=-100"), exactly(1)
+        ).respond(
+                response().withStatusCode(206).withHeader("Content-Range", "bytes 0-13/14")
+                        .withBody("line 1\nline 2\n").withContentType(MediaType.TEXT_PLAIN)
+        );
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(14, tailer(mock).fetchTail(out, 100));
+        assertEquals("line 1\nline 2\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void logRequestsWhenVerbose(MockServerClient mock) throws Exception {
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/5dAZoXrcmZXRO5/download"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody("line 1\n").withContentType(MediaType.TEXT_PLAIN)
+        );
+
+        List<String> logs = new ArrayList<>();
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                logs.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+
+        ApiHttpClient client = new ApiHttpClient(url(mock), token(), "tw-test", logger);
+        LogTailer.of(client, "5dAZoXrcmZXRO5", null, "nf-5dAZoXrcmZXRO5.log", null).fetch(new ByteArrayOutputStream());
+
+        assertEquals(2, logs.size());
+        assertTrue(logs.get(0).contains("1 > GET " + url(mock) + "/workflow/5dAZoXrcmZXRO5/download?fileName=nf-5dAZoXrcmZXRO5.log"), logs.get(0));
+        assertTrue(logs.get(0).contains("1 > Authorization: Bearer ****"), logs.get(0));
+        assertFalse(logs.get(0).contains(token()), logs.get(0));
+        assertTrue(logs.get(1).contains("1 < 200"), logs.get(1));
+    }
+
+    private LogTailer tailer(MockServerClient mock) {
+        return LogTailer.of(new ApiHttpClient(url(mock), token(), "tw-test"), "5dAZoXrcmZXRO4", null, "nf-5dAZoXrcmZXRO4.log", null);
+    }
+}
@@ -20,17 +20,26 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import io.seqera.tower.cli.BaseCmdTest;
 import io.seqera.tower.cli.commands.runs.metrics.enums.MetricColumn;
 import io.seqera.tower.cli.commands.runs.metrics.enums.MetricPreviewFormat;
+import io.seqera.tower.cli.exceptions.TowerException;
 import io.seqera.tower.cli.responses.runs.RunViewMetrics;
+import io.seqera.tower.cli.utils.JsonHelper;
+import io.seqera.tower.model.DescribeTaskResponse;
+import io.seqera.tower.model.ListTasksResponse;
+import io.seqera.tower.model.Task;
+import io.seqera.tower.model.TaskStatus;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 import org.mockserver.client.MockServerClient;
 import org.mockserver.model.MediaType;
 
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import static io.seqera.tower.cli.utils.JsonHelper.parseJson;
+import static io.seqera.tower.cli.utils.ResponseHelper.errorMessage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockserver.matchers.Times.exactly;
 import static org.mockserver.model.HttpRequest.request;
@@ -91,4 +100,77 @@ class MetricsCmdTest extends BaseCmdTest {
         assertEquals(StringUtils.chop(new RunViewMetrics(cols, metricsMem, metricsCpu, metricsTime, metricsIo, new ArrayList<>(), MetricPreviewFormat.condensed).toString()), out.stdOut);
         assertEquals(0, out.exitCode);
     }
+
+    @Test
+    void testRunMetricsFromTasks(MockServerClient mock) throws JsonProcessingException {
+        OffsetDateTime submit = OffsetDateTime.parse("2024-05-01T10:00:00Z");
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/5dAZoXrcmZXRO4/tasks"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody(tasks(
+                        new Task().taskId(1L).process("NF:ALIGN").status(TaskStatus.COMPLETED).memory(4 * GB).peakRss(GB)
+                                .realtime(60_000L).submit(submit).start(submit.plusSeconds(90)),
+                        new Task().taskId(2L).process("NF:ALIGN").status(TaskStatus.FAILED).memory(4 * GB).peakRss(4 * GB)
+                )).withContentType(MediaType.APPLICATION_JSON)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/2zGxKoqlnVmGL/tasks"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody(tasks(
+                        new Task().taskId(1L).process("NF:QC").status(TaskStatus.COMPLETED).memory(2 * GB).peakRss(GB)
+                                .realtime(30_000L).submit(submit).start(submit.plusSeconds(30))
+                )).withContentType(MediaType.APPLICATION_JSON)
+        );
+
+        List<MetricColumn> cols = List.of(MetricColumn.p90, MetricColumn.p99);
+        List<Map<String, Object>> metricsMem = List.of(
+                Map.of("NF:ALIGN", metrics("memRaw", (double) GB, "memVirtual", null, "memUsage", 25.0, "memOverRequest", 4.0)),
+                Map.of("NF:QC", metrics("memRaw", (double) GB, "memVirtual", null, "memUsage", 50.0, "memOverRequest", 2.0))
+        );
+        List<Map<String, Object>> metricsTime = List.of(
+                Map.of("NF:ALIGN", metrics("timeRaw", 60_000.0, "timeUsage", null, "queueWait", 90_000.0)),
+                Map.of("NF:QC", metrics("timeRaw", 30_000.0, "timeUsage", null, "queueWait", 30_000.0))
+        );
+
+        ExecOut out = exec(mock, "runs", "view", "-i", "5dAZoXrcmZXRO4", "metrics", "--from-tasks", "--merge-runs", "2zGxKoqlnVmGL", "-t", "mem,time", "-c", "p90,p99");
+        assertEquals("", out.stdErr);
+        assertEquals(StringUtils.chop(new RunViewMetrics(cols, metricsMem, new ArrayList<>(), metricsTime, new ArrayList<>(), new ArrayList<>(), MetricPreviewFormat.condensed).toString()), out.stdOut);
+        assertEquals(0, out.exitCode);
+    }
+
+    @Test
+    void testPercentilesRequireFromTasks(MockServerClient mock) {
+        ExecOut out = exec(mock, "runs", "view", "-i", "5dAZoXrcmZXRO4", "metrics", "-c", "p99");
+        assertEquals(errorMessage(out.app, new TowerException("Columns p90, p95 and p99 are only available with --from-tasks")), out.stdErr);
+        assertEquals(1, out.exitCode);
+    }
+
+    private static final long GB = 1024L * 1024 * 1024;
+
+    private static String tasks(Task... tasks) throws JsonProcessingException {
+        List<DescribeTaskResponse> list = new ArrayList<>();
+        for (Task task : tasks) {
+            list.add(new DescribeTaskResponse().task(task));
+        }
+        return JsonHelper.prettyJson(new ListTasksResponse().tasks(list).total((long) list.size()));
+    }
+
+    /**
+     * Metrics of a process with the same value for every column, as the distributions
+     * only have one task.
+     */
+    private static Map<String, Object> metrics(Object... values) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        for (int i = 0; i < values.length; i += 2) {
+            Object value = values[i + 1];
+            Map<String, Object> columns = null;
+            if (value != null) {
+                columns = new LinkedHashMap<>();
+                columns.put("p90", value);
+                columns.put("p99", value);
+            }
+            data.put((String) values[i], columns);
+        }
+        return data;
+    }
 }
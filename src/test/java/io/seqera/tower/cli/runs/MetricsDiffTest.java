@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.runs;
+
+import io.seqera.tower.cli.commands.runs.metrics.MetricsDiff;
+import io.seqera.tower.cli.commands.runs.metrics.enums.MetricChange;
+import io.seqera.tower.cli.commands.runs.metrics.enums.MetricType;
+import io.seqera.tower.cli.responses.runs.RunsMetricsDiff.ProcessDelta;
+import io.seqera.tower.model.ResourceData;
+import io.seqera.tower.model.WorkflowMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsDiffTest {
+
+    @Test
+    void flagSignificantChangesOverThreshold() {
+        List<WorkflowMetrics> baseline = List.of(
+                new WorkflowMetrics().process("ALIGN").time(quartiles(90, 100, 110)).cpu(quartiles(80, 90, 100)),
+                new WorkflowMetrics().process("MULTIQC").time(quartiles(10, 20, 30))
+        );
+        List<WorkflowMetrics> candidate = List.of(
+                new WorkflowMetrics().process("ALIGN").time(quartiles(130, 150, 170)).cpu(quartiles(40, 60, 80)),
+                new WorkflowMetrics().process("MULTIQC").time(quartiles(10, 25, 30)),
+                new WorkflowMetrics().process("FASTQC").time(quartiles(1, 2, 3))
+        );
+
+        List<ProcessDelta> deltas = new MetricsDiff(10).compare(baseline, candidate, List.of(MetricType.time, MetricType.cpu), null);
+        assertEquals(3, deltas.size());
+
+        ProcessDelta alignTime = deltas.get(0);
+        assertEquals("ALIGN", alignTime.process);
+        assertEquals("timeRaw", alignTime.metric);
+        assertEquals(50.0, alignTime.deltaQ2, 0.001);
+        assertTrue(alignTime.significant);
+        assertEquals(MetricChange.regression, alignTime.change);
+
+        ProcessDelta alignCpu = deltas.get(1);
+        assertEquals("cpuRaw", alignCpu.metric);
+        // A lower CPU usage is not better by itself
+        assertTrue(alignCpu.significant);
+        assertEquals(MetricChange.changed, alignCpu.change);
+
+        // A 25% slower median that is still within the baseline spread is not a regression
+        ProcessDelta multiqc = deltas.get(2);
+        assertEquals(25.0, multiqc.deltaQ2, 0.001);
+        assertFalse(multiqc.significant);
+        assertEquals(MetricChange.unchanged, multiqc.change);
+
+        assertEquals(List.of("FASTQC"), MetricsDiff.missing(candidate, baseline, null));
+        assertEquals(List.of(), MetricsDiff.missing(baseline, candidate, null));
+    }
+
+    private static ResourceData quartiles(float q1, float q2, float q3) {
+        return new ResourceData().q1(q1).q2(q2).q3(q3);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.runs;
+
+import io.seqera.tower.cli.commands.runs.follow.ProgressDashboard;
+import io.seqera.tower.cli.commands.runs.follow.ProgressDashboard.ProcessRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProgressDashboardTest {
+
+    @Test
+    void rewriteOnlyChangedLines() throws Exception {
+        StringWriter buffer = new StringWriter();
+        ProgressDashboard dashboard = new ProgressDashboard(new PrintWriter(buffer), ProgressDashboard.Mode.TERMINAL);
+
+        ProcessRow align = new ProcessRow("ALIGN", 10, 0, 2, 0, 0, 0);
+        ProcessRow qc = new ProcessRow("QC", 0, 0, 1, 3, 0, 0);
+
+        // Header, column names and one line per process
+        assertEquals(4, dashboard.update("RUNNING", 1000L, List.of(align, qc)));
+        assertEquals(1, dashboard.getVersion());
+
+        // Same progress, nothing written
+        buffer.getBuffer().setLength(0);
+        assertEquals(0, dashboard.update("RUNNING", 1000L, List.of(align, qc)));
+        assertEquals("", buffer.toString());
+        assertEquals(1, dashboard.getVersion());
+
+        // The QC line is 2 lines above the cursor, the header 4 lines
+        assertEquals(2, dashboard.update("RUNNING", 1000L, List.of(align, new ProcessRow("QC", 0, 0, 0, 4, 0, 0))));
+        assertTrue(buffer.toString().contains("\033[4A"));
+        assertTrue(buffer.toString().contains("\033[1A"));
+        assertFalse(buffer.toString().contains("ALIGN"));
+    }
+
+    @Test
+    void logChangedProcesses() throws Exception {
+        StringWriter buffer = new StringWriter();
+        ProgressDashboard dashboard = new ProgressDashboard(new PrintWriter(buffer), ProgressDashboard.Mode.LOG);
+
+        dashboard.update("RUNNING", null, List.of(new ProcessRow("ALIGN", 1, 0, 0, 0, 0, 0)));
+        buffer.getBuffer().setLength(0);
+
+        // Header and both processes changed
+        assertEquals(3, dashboard.update("RUNNING", null, List.of(new ProcessRow("ALIGN", 0, 0, 1, 0, 0, 0), new ProcessRow("QC", 1, 0, 0, 0, 0, 0))));
+        assertEquals(0, dashboard.update("RUNNING", null, List.of(new ProcessRow("ALIGN", 0, 0, 1, 0, 0, 0), new ProcessRow("QC", 1, 0, 0, 0, 0, 0))));
+        assertEquals(3, dashboard.update("SUCCEEDED", null, List.of(new ProcessRow("ALIGN", 0, 0, 0, 1, 0, 0), new ProcessRow("QC", 0, 0, 0, 1, 0, 0))));
+        assertTrue(buffer.toString().contains("SUCCEEDED: 2/2 tasks completed"));
+    }
+}
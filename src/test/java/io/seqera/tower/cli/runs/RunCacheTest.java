@@ -0,0 +1,106 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.runs;
+
+import io.seqera.tower.cli.commands.runs.cache.RunCache;
+import io.seqera.tower.model.WorkflowStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RunCacheTest {
+
+    @Test
+    void readStoredResponse(@TempDir Path tmp) {
+        RunCache cache = new RunCache(tmp, "https://api.example.com", "token", RunCache.DEFAULT_MAX_BYTES);
+        assertNull(cache.get(1L, "5dAZoXrcmZXRO4", "launch", String.class));
+
+        cache.put(1L, "5dAZoXrcmZXRO4", "launch", "value");
+        assertEquals("value", cache.get(1L, "5dAZoXrcmZXRO4", "launch", String.class));
+
+        // Another server, account, workspace or resource is another entry
+        assertNull(new RunCache(tmp, "https://other.example.com", "token", RunCache.DEFAULT_MAX_BYTES).get(1L, "5dAZoXrcmZXRO4", "launch", String.class));
+        assertNull(new RunCache(tmp, "https://api.example.com", "other-token", RunCache.DEFAULT_MAX_BYTES).get(1L, "5dAZoXrcmZXRO4", "launch", String.class));
+        assertNull(cache.get(null, "5dAZoXrcmZXRO4", "launch", String.class));
+        assertNull(cache.get(1L, "5dAZoXrcmZXRO4", "progress", String.class));
+    }
+
+    @Test
+    void writeWithoutLeavingTemporaryFiles(@TempDir Path tmp) throws IOException {
+        RunCache cache = new RunCache(RunCache.dir(tmp), "https://api.example.com", "token", RunCache.DEFAULT_MAX_BYTES);
+        cache.put(1L, "5dAZoXrcmZXRO4", "launch", "value");
+        cache.put(1L, "5dAZoXrcmZXRO4", "launch", "value");
+
+        try (Stream<Path> files = Files.walk(tmp)) {
+            List<String> names = files.filter(Files::isRegularFile).map(it -> it.getFileName().toString()).collect(Collectors.toList());
+            assertEquals(1, names.size());
+            assertTrue(names.get(0).endsWith(".json.gz"));
+        }
+
+        // Only readable by its owner
+        if (tmp.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            try (Stream<Path> files = Files.walk(RunCache.dir(tmp))) {
+                for (Path path : files.collect(Collectors.toList())) {
+                    String expected = Files.isDirectory(path) ? "rwx------" : "rw-------";
+                    if (!path.equals(RunCache.dir(tmp))) {
+                        assertEquals(expected, PosixFilePermissions.toString(Files.getPosixFilePermissions(path)), path.toString());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void onlyFinishedStatusIsRecorded(@TempDir Path tmp) {
+        RunCache cache = new RunCache(tmp, "https://api.example.com", "token", RunCache.DEFAULT_MAX_BYTES);
+
+        cache.status(1L, "5dAZoXrcmZXRO4", WorkflowStatus.RUNNING);
+        assertFalse(cache.isFinished(1L, "5dAZoXrcmZXRO4"));
+
+        cache.status(1L, "5dAZoXrcmZXRO4", WorkflowStatus.SUCCEEDED);
+        assertTrue(cache.isFinished(1L, "5dAZoXrcmZXRO4"));
+    }
+
+    @Test
+    void evictLeastRecentlyUsed(@TempDir Path tmp) throws InterruptedException {
+        // Random digits do not compress, so each entry takes several hundred bytes
+        Random random = new Random(42);
+        String value = random.ints(1000, 0, 10).mapToObj(Integer::toString).collect(Collectors.joining());
+        RunCache cache = new RunCache(tmp, "https://api.example.com", "token", 800);
+
+        cache.put(1L, "run1", "launch", value);
+        Thread.sleep(50);
+        cache.put(1L, "run2", "launch", value);
+
+        // Both entries do not fit, the oldest one is removed
+        assertNull(cache.get(1L, "run1", "launch", String.class));
+        assertEquals(value, cache.get(1L, "run2", "launch", String.class));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.runs;
+
+import io.seqera.tower.cli.commands.runs.history.RunHistory;
+import io.seqera.tower.cli.exceptions.TowerException;
+import io.seqera.tower.model.ListWorkflowsResponseListWorkflowsElement;
+import io.seqera.tower.model.WorkflowMaxDbDto;
+import io.seqera.tower.model.WorkflowStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RunHistoryTest {
+
+    @Test
+    void queryIndexedRuns(@TempDir Path tmp) throws IOException, TowerException {
+        RunHistory history = RunHistory.open(tmp, 75887156211589L);
+        assertFalse(history.exists());
+
+        history.update(List.of(
+                run("run1", WorkflowStatus.SUCCEEDED, "nf-core/rnaseq", "alice", "2024-03-01T10:00:00Z"),
+                run("run2", WorkflowStatus.FAILED, "nf-core/rnaseq", "bob", "2024-03-05T10:00:00Z"),
+                run("run3", WorkflowStatus.SUCCEEDED, "nf-core/sarek", "alice", "2024-03-10T10:00:00Z")
+        ), false, "[org / wsp]", "https://cloud.seqera.io/orgs/org/workspaces/wsp");
+
+        assertEquals(List.of("run3", "run2", "run1"), ids(history.query(null)));
+        assertEquals(List.of("run3", "run1"), ids(history.query("status:succeeded")));
+        assertEquals(List.of("run1"), ids(history.query("status:SUCCEEDED pipeline:nf-core/rnaseq")));
+        assertEquals(List.of("run3", "run1"), ids(history.query("user:alice")));
+        assertEquals(List.of("run3", "run2"), ids(history.query("after:2024-03-05")));
+        assertEquals(List.of("run2", "run1"), ids(history.query("before:2024-03-10")));
+        assertEquals(List.of("run2"), ids(history.query("name-run2")));
+        assertThrows(TowerException.class, () -> history.query("datasetId:123"));
+    }
+
+    @Test
+    void appendChangedRuns(@TempDir Path tmp) throws IOException, TowerException {
+        RunHistory history = RunHistory.open(tmp, null);
+        history.update(List.of(
+                run("run1", WorkflowStatus.SUCCEEDED, "nf-core/rnaseq", "alice", "2024-03-01T10:00:00Z"),
+                run("run2", WorkflowStatus.RUNNING, "nf-core/rnaseq", "bob", "2024-03-05T10:00:00Z")
+        ), false, "user", null);
+
+        // The next sync starts from the oldest run that is still running
+        assertEquals("2024-03-04", history.getState().since);
+
+        int changed = history.update(List.of(
+                run("run2", WorkflowStatus.SUCCEEDED, "nf-core/rnaseq", "bob", "2024-03-05T10:00:00Z"),
+                run("run3", WorkflowStatus.SUCCEEDED, "nf-core/sarek", "alice", "2024-03-10T10:00:00Z")
+        ), false, "user", null);
+        assertEquals(2, changed);
+        assertEquals("2024-03-09", history.getState().since);
+
+        // The latest version of each run is loaded back
+        RunHistory reloaded = RunHistory.open(tmp, null);
+        assertTrue(reloaded.exists());
+        assertEquals(3, reloaded.size());
+        assertEquals(List.of("run3", "run2", "run1"), ids(reloaded.query("status:succeeded")));
+        assertEquals(null, RunHistory.findWorkspace(tmp, null));
+    }
+
+    @Test
+    void onlyOneSyncAtATime(@TempDir Path tmp) throws IOException, TowerException {
+        try (FileChannel ignored = RunHistory.lock(tmp, 75887156211589L)) {
+            assertThrows(TowerException.class, () -> RunHistory.lock(tmp, 75887156211589L));
+
+            // Other workspaces are not locked
+            RunHistory.lock(tmp, null).close();
+        }
+        RunHistory.lock(tmp, 75887156211589L).close();
+    }
+
+    private static ListWorkflowsResponseListWorkflowsElement run(String id, WorkflowStatus status, String pipeline, String user, String submit) {
+        return new ListWorkflowsResponseListWorkflowsElement().workflow(new WorkflowMaxDbDto()
+                .id(id)
+                .status(status)
+                .projectName(pipeline)
+                .userName(user)
+                .runName("name-" + id)
+                .submit(OffsetDateTime.parse(submit)));
+    }
+
+    private static List<String> ids(List<ListWorkflowsResponseListWorkflowsElement> runs) {
+        return runs.stream().map(it -> it.getWorkflow().getId()).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.runs;
+
+import io.seqera.tower.cli.commands.runs.stats.RunStatsTable;
+import io.seqera.tower.model.WorkflowStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RunStatsTableTest {
+
+    @Test
+    void aggregateByPipelineAndUser() {
+        RunStatsTable table = new RunStatsTable(List.of("pipeline", "user"));
+        table.add(List.of("rnaseq", "alice"), WorkflowStatus.SUCCEEDED, 60_000L, 3_600_000L, 1.5);
+        table.add(List.of("rnaseq", "alice"), WorkflowStatus.FAILED, 120_000L, 1_800_000L, 0.5);
+        table.add(List.of("rnaseq", "alice"), WorkflowStatus.SUCCEEDED, 180_000L, 1_800_000L, 1.0);
+        table.add(List.of("rnaseq", "alice"), WorkflowStatus.RUNNING, null, null, null);
+        table.add(List.of("atacseq", "bob"), WorkflowStatus.RUNNING, null, null, null);
+
+        assertEquals(List.of("pipeline", "user", "runs", "succeeded", "failed", "failureRate", "cost", "cpuHours", "medianDuration"), table.columns());
+
+        List<Map<String, Object>> rows = table.rows();
+        assertEquals(2, rows.size());
+
+        Map<String, Object> atacseq = rows.get(0);
+        assertEquals("atacseq", atacseq.get("pipeline"));
+        assertEquals(1L, atacseq.get("runs"));
+        assertNull(atacseq.get("failureRate"));
+        assertNull(atacseq.get("medianDuration"));
+
+        Map<String, Object> rnaseq = rows.get(1);
+        assertEquals("alice", rnaseq.get("user"));
+        assertEquals(4L, rnaseq.get("runs"));
+        assertEquals(2L, rnaseq.get("succeeded"));
+        assertEquals(1L, rnaseq.get("failed"));
+        assertEquals(100 / 3D, (double) rnaseq.get("failureRate"), 0.001);
+        assertEquals(3.0, rnaseq.get("cost"));
+        assertEquals(2.0, rnaseq.get("cpuHours"));
+        assertEquals(120_000L, rnaseq.get("medianDuration"));
+    }
+}
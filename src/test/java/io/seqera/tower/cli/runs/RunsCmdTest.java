@@ -22,7 +22,9 @@ import io.seqera.tower.ApiException;
 import io.seqera.tower.JSON;
 import io.seqera.tower.cli.BaseCmdTest;
 import io.seqera.tower.cli.commands.enums.OutputType;
+import io.seqera.tower.cli.commands.global.PaginationOptions;
 import io.seqera.tower.cli.commands.runs.download.enums.RunDownloadFileType;
+import io.seqera.tower.cli.commands.runs.history.RunHistory;
 import io.seqera.tower.cli.exceptions.RunNotFoundException;
 import io.seqera.tower.cli.exceptions.ShowUsageException;
 import io.seqera.tower.cli.exceptions.TowerException;
@@ -32,10 +34,13 @@ import io.seqera.tower.cli.responses.runs.RunDump;
 import io.seqera.tower.cli.responses.runs.RunFileDownloaded;
 import io.seqera.tower.cli.responses.runs.RunList;
 import io.seqera.tower.cli.responses.runs.RunSubmited;
+import io.seqera.tower.cli.responses.runs.RunsSynced;
 import io.seqera.tower.cli.responses.runs.RunView;
+import io.seqera.tower.cli.responses.runs.RunsWatched;
 import io.seqera.tower.cli.shared.WorkflowMetadata;
 import io.seqera.tower.cli.utils.JsonHelper;
 import io.seqera.tower.cli.utils.PaginationInfo;
+import io.seqera.tower.cli.utils.ResponseHelper;
 import io.seqera.tower.cli.utils.TarFileHelper;
 import io.seqera.tower.model.DescribeLaunchResponse;
 import io.seqera.tower.model.DescribeTaskResponse;
@@ -45,6 +50,7 @@ import io.seqera.tower.model.GetProgressResponse;
 import io.seqera.tower.model.GetWorkflowMetricsResponse;
 import io.seqera.tower.model.LaunchDbDto;
 import io.seqera.tower.model.ListTasksResponse;
+import io.seqera.tower.model.ListWorkflowsResponse;
 import io.seqera.tower.model.ListWorkflowsResponseListWorkflowsElement;
 import io.seqera.tower.model.ServiceInfo;
 import io.seqera.tower.model.ServiceInfoResponse;
@@ -52,15 +58,21 @@ import io.seqera.tower.model.Task;
 import io.seqera.tower.model.WorkflowLoad;
 import io.seqera.tower.model.WorkflowMaxDbDto;
 import io.seqera.tower.model.WorkflowMetrics;
+import io.seqera.tower.model.WorkflowStatus;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.mockserver.client.MockServerClient;
 import org.mockserver.model.MediaType;
+import org.mockserver.verify.VerificationTimes;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -184,6 +196,31 @@ class RunsCmdTest extends BaseCmdTest {
         ), baseUserUrl(mock, USER_WORKSPACE_NAME), false, null));
     }
 
+    @Test
+    void testSyncAndListOffline(MockServerClient mock) throws JsonProcessingException {
+        mock.when(
+                request().withMethod("GET").withPath("/workflow"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody(loadResource("workflow_list")).withContentType(MediaType.APPLICATION_JSON)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/user-info")
+        ).respond(
+                response().withStatusCode(200).withBody(loadResource("user")).withContentType(MediaType.APPLICATION_JSON)
+        );
+
+        Path localDir = tempDir().resolve("local");
+        ExecOut out = exec(mock, "--local-dir=" + localDir, "runs", "sync");
+        Path runsPath = RunHistory.dir(localDir, url(mock)).resolve("user.ndjson.gz");
+        assertOutput(OutputType.console, out, new RunsSynced(USER_WORKSPACE_NAME, null, 2, 2, 2, runsPath.toString()));
+
+        // Listed from the local history without requesting the runs again
+        out = exec(mock, "--local-dir=" + localDir, "runs", "list", "--offline");
+        ListWorkflowsResponse listed = parseJson(new String(loadResource("workflow_list")), ListWorkflowsResponse.class);
+        assertOutput(OutputType.console, out, new RunList(USER_WORKSPACE_NAME, listed.getWorkflows(), baseUserUrl(mock, USER_WORKSPACE_NAME), false, PaginationInfo.from(new PaginationOptions(), 2L)));
+        mock.verify(request().withMethod("GET").withPath("/workflow"), VerificationTimes.exactly(1));
+    }
+
     @Test
     void testListWithOffset(MockServerClient mock) throws JsonProcessingException {
 
@@ -481,6 +518,83 @@ class RunsCmdTest extends BaseCmdTest {
         ));
     }
 
+    @Test
+    void testViewFollowJson(MockServerClient mock) throws JsonProcessingException {
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/5mDfiUtqyptDib"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody(loadResource("workflow_view")).withContentType(MediaType.APPLICATION_JSON)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/5mDfiUtqyptDib/progress"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody(loadResource("workflow_progress")).withContentType(MediaType.APPLICATION_JSON)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/5mDfiUtqyptDib/launch"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody(loadResource("launch_view")).withContentType(MediaType.APPLICATION_JSON)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/compute-envs/3xkkzYH2nbD3nZjrzKm0oR"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody(loadResource("compute_env_view")).withContentType(MediaType.APPLICATION_JSON)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/user-info"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody(loadResource("user")).withContentType(MediaType.APPLICATION_JSON)
+        );
+
+        // Followed progress, no task is active so the run status is requested
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/5mDfiUtqyptDib/progress"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody("{\"progress\":{\"processesProgress\":[{\"process\":\"hello\",\"pending\":0,\"submitted\":0,\"running\":0,\"succeeded\":4,\"cached\":0,\"failed\":0}]}}").withContentType(MediaType.APPLICATION_JSON)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/5mDfiUtqyptDib"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody("{\"workflow\":{\"id\":\"5mDfiUtqyptDib\",\"runName\":\"spontaneous_easley\",\"status\":\"SUCCEEDED\"}}").withContentType(MediaType.APPLICATION_JSON)
+        );
+
+        ExecOut out = exec(OutputType.json, mock, "runs", "view", "-i", "5mDfiUtqyptDib", "--follow");
+
+        // The standard output is a single JSON document, the progress rows go to the standard error
+        Map<?, ?> view = parseJson(out.stdOut, Map.class);
+        assertEquals("5mDfiUtqyptDib", ((Map<?, ?>) view.get("general")).get("id"));
+        Map<?, ?> row = parseJson(out.stdErr, Map.class);
+        assertEquals("hello", row.get("process"));
+        assertEquals(4, row.get("succeeded"));
+        assertEquals(0, out.exitCode);
+    }
+
+    @Test
+    void testCachedFinishedRun(MockServerClient mock) {
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/6cAcHeDrUn01"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody(new String(loadResource("workflow_view")).replace("\"SUBMITTED\"", "\"SUCCEEDED\"")).withContentType(MediaType.APPLICATION_JSON)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/6cAcHeDrUn01/metrics"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody(loadResource("runs/runs_metrics")).withContentType(MediaType.APPLICATION_JSON)
+        );
+
+        ExecOut first = execWithCache(mock, "runs", "view", "-i", "6cAcHeDrUn01", "metrics");
+        assertEquals("", first.stdErr);
+        assertEquals(0, first.exitCode);
+        mock.verify(request().withPath("/workflow/6cAcHeDrUn01.*"), VerificationTimes.exactly(2));
+
+        // The run is finished, the second time everything is read from the cache
+        ExecOut second = execWithCache(mock, "runs", "view", "-i", "6cAcHeDrUn01", "metrics");
+        assertEquals("", second.stdErr);
+        assertEquals(first.stdOut, second.stdOut);
+        assertEquals(0, second.exitCode);
+        mock.verify(request().withPath("/workflow/6cAcHeDrUn01.*"), VerificationTimes.exactly(2));
+    }
+
     @Test
     void testViewForbidden(MockServerClient mock) {
         mock.when(
@@ -496,6 +610,112 @@ class RunsCmdTest extends BaseCmdTest {
         assertEquals(1, out.exitCode);
     }
 
+    @ParameterizedTest
+    @EnumSource(OutputType.class)
+    void testWatch(OutputType format, MockServerClient mock) throws JsonProcessingException {
+        // The run is not active anymore, so it is described
+        mock.when(
+                request().withMethod("GET").withPath("/workflow").withQueryStringParameter("search", "status:.*")
+        ).respond(
+                response().withStatusCode(200).withBody("{\"workflows\":[],\"totalSize\":0}").withContentType(MediaType.APPLICATION_JSON)
+        );
+        // The server is unavailable for a moment, the poll is sent again
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/5mDfiUtqyptDib"), exactly(1)
+        ).respond(
+                response().withStatusCode(503).withBody("{\"message\":\"Service Unavailable\"}").withContentType(MediaType.APPLICATION_JSON)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/5mDfiUtqyptDib"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody("{\"workflow\":{\"id\":\"5mDfiUtqyptDib\",\"runName\":\"spontaneous_easley\",\"status\":\"SUCCEEDED\"}}").withContentType(MediaType.APPLICATION_JSON)
+        );
+
+        ExecOut out = exec(format, mock, "runs", "watch", "-i", "5mDfiUtqyptDib");
+
+        // The status changes go to the standard output, one line each
+        Map<?, ?> event = parseJson(out.stdOut, Map.class);
+        assertEquals("5mDfiUtqyptDib", event.get("workflowId"));
+        assertEquals("SUCCEEDED", event.get("status"));
+
+        // The final status of the runs goes to the standard error
+        StringWriter expected = new StringWriter();
+        int exitCode = ResponseHelper.outputFormat(new PrintWriter(expected), new RunsWatched(USER_WORKSPACE_NAME,
+                List.of(new RunsWatched.WatchedRun("5mDfiUtqyptDib", "spontaneous_easley", WorkflowStatus.SUCCEEDED)),
+                false, baseUserUrl(mock, USER_WORKSPACE_NAME)), format);
+        assertEquals(chop(expected.toString()), out.stdErr);
+        assertEquals(exitCode, out.exitCode);
+
+        // One search per active status on each of the two polls
+        mock.verify(request().withMethod("GET").withPath("/workflow").withQueryStringParameter("search", "status:.*"), VerificationTimes.exactly(4));
+    }
+
+    @Test
+    void testStats(MockServerClient mock) throws JsonProcessingException {
+        // Two pages of runs, only the three finished ones on the first page and the one on the second have progress
+        List<ListWorkflowsResponseListWorkflowsElement> first = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            WorkflowStatus status = i < 2 ? WorkflowStatus.SUCCEEDED : i == 2 ? WorkflowStatus.FAILED : WorkflowStatus.RUNNING;
+            first.add(statsRun("run" + i, i < 60 ? "nf-a" : "nf-b", status, 60_000L));
+        }
+        mock.when(
+                request().withMethod("GET").withPath("/workflow").withQueryStringParameter("offset", "0"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody(JsonHelper.prettyJson(new ListWorkflowsResponse().workflows(first).totalSize(101L))).withContentType(MediaType.APPLICATION_JSON)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/workflow").withQueryStringParameter("offset", "100"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody(JsonHelper.prettyJson(new ListWorkflowsResponse().workflows(List.of(statsRun("run100", "nf-b", WorkflowStatus.SUCCEEDED, 120_000L))).totalSize(101L))).withContentType(MediaType.APPLICATION_JSON)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/run[0-9]+/progress")
+        ).respond(
+                response().withStatusCode(200).withBody("{\"progress\":{\"workflowProgress\":{\"cpuTime\":3600000,\"cost\":1.5}}}").withContentType(MediaType.APPLICATION_JSON)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/user-info"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody(loadResource("user")).withContentType(MediaType.APPLICATION_JSON)
+        );
+
+        ExecOut out = exec(mock, "runs", "stats", "--group-by", "pipeline", "--format", "ndjson", "--parallel", "2", "--rate", "1000");
+
+        Map<String, Object> a = new LinkedHashMap<>();
+        a.put("pipeline", "nf-a");
+        a.put("runs", 60);
+        a.put("succeeded", 2);
+        a.put("failed", 1);
+        a.put("failureRate", 100D / 3);
+        a.put("cost", 4.5);
+        a.put("cpuHours", 3.0);
+        a.put("medianDuration", 60_000);
+        Map<String, Object> b = new LinkedHashMap<>();
+        b.put("pipeline", "nf-b");
+        b.put("runs", 41);
+        b.put("succeeded", 1);
+        b.put("failed", 0);
+        b.put("failureRate", 0.0);
+        b.put("cost", 1.5);
+        b.put("cpuHours", 1.0);
+        b.put("medianDuration", 120_000);
+
+        assertEquals("", out.stdErr);
+        assertEquals(JsonHelper.compactJson(a) + "\n" + JsonHelper.compactJson(b), out.stdOut);
+        assertEquals(0, out.exitCode);
+        mock.verify(request().withMethod("GET").withPath("/workflow/run[0-9]+/progress"), VerificationTimes.exactly(4));
+        mock.verify(request().withMethod("GET").withPath("/workflow/run[0-9]+/launch"), VerificationTimes.never());
+    }
+
+    private static ListWorkflowsResponseListWorkflowsElement statsRun(String id, String pipeline, WorkflowStatus status, Long duration) {
+        return new ListWorkflowsResponseListWorkflowsElement().workflow(new WorkflowMaxDbDto()
+                .id(id)
+                .projectName(pipeline)
+                .status(status)
+                .duration(status == WorkflowStatus.RUNNING ? null : duration)
+                .submit(OffsetDateTime.now()));
+    }
+
     @ParameterizedTest
     @EnumSource(OutputType.class)
     void testRelaunch(OutputType format, MockServerClient mock) {
@@ -588,6 +808,136 @@ class RunsCmdTest extends BaseCmdTest {
         assertEquals(0, out.exitCode);
     }
 
+    @ParameterizedTest
+    @EnumSource(OutputType.class)
+    void testLogs(OutputType format, MockServerClient mock) {
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/5dAZoXrcmZXRO4/download")
+                        .withQueryStringParameter("fileName", "nf-5dAZoXrcmZXRO4.log")
+                        .withHeader("Authorization", "Bearer " + token())
+                        .withHeader("User-Agent", "tw/.*"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody("line 1\nline \"2\"\n").withContentType(MediaType.TEXT_PLAIN)
+        );
+
+        ExecOut out = exec(format, mock, "runs", "logs", "-i", "5dAZoXrcmZXRO4");
+
+        assertEquals("", out.stdErr);
+        assertEquals(format == OutputType.json
+                ? "{\"line\":\"line 1\"}\n{\"line\":\"line \\\"2\\\"\"}"
+                : "line 1\nline \"2\"", out.stdOut);
+        assertEquals(0, out.exitCode);
+    }
+
+    @Test
+    void testLogsForbidden(MockServerClient mock) {
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/5dAZoXrcmZXRO4/download/5"), exactly(1)
+        ).respond(
+                response().withStatusCode(403).withBody("{\"message\":\"Forbidden\"}").withContentType(MediaType.APPLICATION_JSON)
+        );
+
+        ExecOut out = exec(mock, "runs", "logs", "-i", "5dAZoXrcmZXRO4", "-t", "5");
+
+        assertEquals(errorMessage(out.app, new ApiException(403, "", null, "{\"message\":\"Forbidden\"}")), out.stdErr);
+        assertEquals("", out.stdOut);
+        assertEquals(1, out.exitCode);
+    }
+
+    @Test
+    void testGrep(MockServerClient mock) {
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/6gRePrUn01/tasks")
+        ).respond(
+                response().withStatusCode(200).withBody("{\"tasks\":[" +
+                        "{\"task\":{\"taskId\":1,\"name\":\"ALIGN (1)\",\"status\":\"FAILED\"}}," +
+                        "{\"task\":{\"taskId\":2,\"name\":\"ALIGN (2)\",\"status\":\"COMPLETED\"}}" +
+                        "],\"total\":2}").withContentType(MediaType.APPLICATION_JSON)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/6gRePrUn01/download/1")
+                        .withQueryStringParameter("fileName", ".command.err")
+                        .withHeader("Authorization", "Bearer " + token())
+        ).respond(
+                response().withStatusCode(200).withBody("start\nERROR: disk full\n").withContentType(MediaType.TEXT_PLAIN)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/6gRePrUn01/download/2")
+                        .withQueryStringParameter("fileName", ".command.err")
+                        .withHeader("Authorization", "Bearer " + token())
+        ).respond(
+                response().withStatusCode(200).withBody("done\n").withContentType(MediaType.TEXT_PLAIN)
+        );
+
+        ExecOut out = exec(mock, "runs", "grep", "error", "-i", "6gRePrUn01", "--type", "stderr", "--ignore-case", "--parallel", "1");
+        assertEquals("", out.stdErr);
+        assertEquals("1 ALIGN (1) .command.err:2: ERROR: disk full", out.stdOut);
+        assertEquals(0, out.exitCode);
+
+        // No matching line
+        out = exec(mock, "runs", "grep", "warning", "-i", "6gRePrUn01", "--type", "stderr");
+        assertEquals("", out.stdErr);
+        assertEquals("", out.stdOut);
+        assertEquals(1, out.exitCode);
+    }
+
+    @Test
+    void testGrepError(MockServerClient mock) {
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/6gRePrUn02/tasks"), exactly(1)
+        ).respond(
+                response().withStatusCode(403).withBody("{\"message\":\"Forbidden\"}").withContentType(MediaType.APPLICATION_JSON)
+        );
+
+        ExecOut out = exec(mock, "runs", "grep", "error", "-i", "6gRePrUn02");
+
+        assertEquals(errorMessage(out.app, new ApiException(403, "", null, "{\"message\":\"Forbidden\"}")), out.stdErr);
+        assertEquals("", out.stdOut);
+        assertEquals(2, out.exitCode);
+    }
+
+    @Test
+    void testTriage(MockServerClient mock) throws JsonProcessingException {
+        mock.when(
+                request().withMethod("GET").withPath("/user-info")
+        ).respond(
+                response().withStatusCode(200).withBody(loadResource("user")).withContentType(MediaType.APPLICATION_JSON)
+        );
+        mock.when(
+                request().withMethod("GET").withPath("/workflow/6tRiAgEr01/tasks"), exactly(1)
+        ).respond(
+                response().withStatusCode(200).withBody("{\"tasks\":[" +
+                        "{\"task\":{\"taskId\":1,\"process\":\"ALIGN\",\"status\":\"FAILED\",\"exit\":1}}," +
+                        "{\"task\":{\"taskId\":2,\"process\":\"ALIGN\",\"status\":\"COMPLETED\",\"exit\":0}}," +
+                        "{\"task\":{\"taskId\":3,\"process\":\"SORT\",\"status\":\"FAILED\",\"exit\":1}}" +
+                        "],\"total\":3}").withContentType(MediaType.APPLICATION_JSON)
+        );
+        for (int taskId : new int[]{1, 3}) {
+            mock.when(
+                    request().withMethod("GET").withPath("/workflow/6tRiAgEr01/download/" + taskId)
+                            .withQueryStringParameter("fileName", ".command.err")
+                            .withHeader("Range", "bytes=-16384"), exactly(1)
+            ).respond(
+                    response().withStatusCode(200).withBody("ERROR ~ No space left on device\n").withContentType(MediaType.TEXT_PLAIN)
+            );
+        }
+
+        ExecOut out = exec(OutputType.json, mock, "runs", "triage", "-i", "6tRiAgEr01");
+
+        assertEquals("", out.stdErr);
+        assertEquals(0, out.exitCode);
+        Map<String, Object> triage = parseJson(out.stdOut, Map.class);
+        assertEquals(2, triage.get("failedTasks"));
+        List<Map<String, Object>> modes = (List<Map<String, Object>>) triage.get("failureModes");
+        assertEquals(1, modes.size());
+        assertEquals("1", modes.get(0).get("exit"));
+        assertEquals(List.of("ALIGN", "SORT"), modes.get(0).get("processes"));
+        assertEquals(List.of(1, 3), modes.get(0).get("taskIds"));
+
+        // Only the logs of the failed tasks are requested
+        mock.verify(request().withMethod("GET").withPath("/workflow/6tRiAgEr01/download/2"), VerificationTimes.never());
+    }
+
     @Test
     void testDumpRuns(MockServerClient mock) throws IOException {
 
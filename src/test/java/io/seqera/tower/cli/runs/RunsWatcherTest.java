@@ -0,0 +1,176 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.runs;
+
+import io.seqera.tower.ApiException;
+import io.seqera.tower.cli.commands.runs.watch.RunsWatcher;
+import io.seqera.tower.cli.commands.runs.watch.WatchEvent;
+import io.seqera.tower.model.WorkflowStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RunsWatcherTest {
+
+    /** Workspace runs by id, counting the requests sent */
+    private static class FakeSource implements RunsWatcher.RunSource {
+
+        final Map<String, WorkflowStatus> runs = new HashMap<>();
+        final List<String> searches = new ArrayList<>();
+        final List<String> described = new ArrayList<>();
+        String failing;
+
+        @Override
+        public List<RunsWatcher.RunState> list(String search) {
+            searches.add(search);
+            return runs.entrySet().stream()
+                    .filter(run -> search.endsWith("status:" + run.getValue().toString().toLowerCase()))
+                    .map(run -> new RunsWatcher.RunState(run.getKey(), "run-" + run.getKey(), run.getValue()))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public RunsWatcher.RunState describe(String workflowId) throws ApiException {
+            if (workflowId.equals(failing)) {
+                failing = null;
+                throw new ApiException(503, "Service Unavailable");
+            }
+            described.add(workflowId);
+            WorkflowStatus status = runs.get(workflowId);
+            return status == null ? null : new RunsWatcher.RunState(workflowId, "run-" + workflowId, status);
+        }
+    }
+
+    @Test
+    void watchRunsById() throws Exception {
+        FakeSource source = new FakeSource();
+        source.runs.put("a", WorkflowStatus.SUBMITTED);
+        source.runs.put("b", WorkflowStatus.RUNNING);
+        source.runs.put("c", WorkflowStatus.SUCCEEDED);
+        source.runs.put("other", WorkflowStatus.RUNNING);
+
+        RunsWatcher watcher = new RunsWatcher(source, List.of("a", "b", "c", "missing"), null);
+
+        List<WatchEvent> events = watcher.poll();
+        assertEquals(4, events.size());
+        assertEquals("SUBMITTED", events.get(0).status);
+        assertNull(events.get(0).previousStatus);
+        assertEquals(WatchEvent.NOT_FOUND, events.get(3).status);
+        // The active runs are listed, only the runs not listed as active are described
+        assertEquals(List.of("status:submitted", "status:running"), source.searches);
+        assertEquals(List.of("c", "missing"), source.described);
+        assertFalse(watcher.isDone());
+
+        // Nothing changed, nothing is described
+        source.described.clear();
+        assertTrue(watcher.poll().isEmpty());
+        assertTrue(source.described.isEmpty());
+
+        source.runs.put("a", WorkflowStatus.RUNNING);
+        source.runs.put("b", WorkflowStatus.FAILED);
+        events = watcher.poll();
+        assertEquals(2, events.size());
+        assertEquals("SUBMITTED", events.get(0).previousStatus);
+        assertEquals("RUNNING", events.get(0).status);
+        assertEquals("FAILED", events.get(1).status);
+        assertEquals(List.of("b"), source.described);
+
+        source.runs.put("a", WorkflowStatus.SUCCEEDED);
+        assertEquals(1, watcher.poll().size());
+        assertTrue(watcher.isDone());
+    }
+
+    @Test
+    void listCallsDoNotGrowWithTheRunsWatched() throws Exception {
+        FakeSource source = new FakeSource();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add("run" + i);
+            source.runs.put("run" + i, WorkflowStatus.RUNNING);
+        }
+
+        RunsWatcher watcher = new RunsWatcher(source, ids, null);
+        for (int poll = 1; poll <= 3; poll++) {
+            watcher.poll();
+            assertEquals(poll * RunsWatcher.ACTIVE.size(), source.searches.size());
+            assertTrue(source.described.isEmpty());
+        }
+
+        // Each run is described once, when it leaves the active statuses
+        ids.forEach(id -> source.runs.put(id, WorkflowStatus.SUCCEEDED));
+        assertEquals(100, watcher.poll().size());
+        assertEquals(100, source.described.size());
+        assertTrue(watcher.isDone());
+    }
+
+    @Test
+    void watchActiveRunsMatchingSearch() throws Exception {
+        FakeSource source = new FakeSource();
+        source.runs.put("a", WorkflowStatus.RUNNING);
+        source.runs.put("b", WorkflowStatus.SUCCEEDED);
+
+        RunsWatcher watcher = new RunsWatcher(source, List.of(), "label:batch");
+
+        assertEquals(1, watcher.poll().size());
+        assertEquals(List.of("label:batch status:submitted", "label:batch status:running"), source.searches);
+
+        // Runs started later are watched too
+        source.runs.put("c", WorkflowStatus.SUBMITTED);
+        source.runs.put("a", WorkflowStatus.CANCELLED);
+        List<WatchEvent> events = watcher.poll();
+        assertEquals(2, events.size());
+        assertEquals("CANCELLED", events.get(0).status);
+        assertEquals("c", events.get(1).workflowId);
+        assertNull(events.get(1).previousStatus);
+        assertEquals("SUBMITTED", events.get(1).status);
+        assertFalse(watcher.isDone());
+
+        source.runs.put("c", WorkflowStatus.SUCCEEDED);
+        assertEquals(1, watcher.poll().size());
+        assertTrue(watcher.isDone());
+        assertEquals(2, watcher.getRuns().size());
+    }
+
+    @Test
+    void failedPollChangesNothing() throws Exception {
+        FakeSource source = new FakeSource();
+        source.runs.put("a", WorkflowStatus.RUNNING);
+        source.runs.put("b", WorkflowStatus.RUNNING);
+
+        RunsWatcher watcher = new RunsWatcher(source, List.of("a", "b"), null);
+        watcher.poll();
+
+        source.runs.put("a", WorkflowStatus.SUCCEEDED);
+        source.runs.put("b", WorkflowStatus.SUCCEEDED);
+        source.failing = "b";
+        assertThrows(ApiException.class, watcher::poll);
+
+        // The change of the first run is not lost
+        assertEquals(2, watcher.poll().size());
+        assertTrue(watcher.isDone());
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.runs;
+
+import io.seqera.tower.cli.commands.runs.tasks.enums.TaskColumn;
+import io.seqera.tower.cli.commands.runs.tasks.store.TaskFilter;
+import io.seqera.tower.cli.commands.runs.tasks.store.TaskQuery;
+import io.seqera.tower.cli.commands.runs.tasks.store.TaskStore;
+import io.seqera.tower.cli.exceptions.TowerException;
+import io.seqera.tower.model.Task;
+import io.seqera.tower.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TaskQueryTest {
+
+    @Test
+    void filterSortAndLimit() throws TowerException {
+        TaskStore store = store();
+
+        TaskQuery.Result result = new TaskQuery()
+                .where(TaskFilter.compile("status=failed && realtime>1h", store))
+                .sort(List.of("-peakRss"))
+                .limit(2)
+                .run(store, List.of(TaskStore.field("taskId")));
+
+        assertEquals(5, result.scanned);
+        assertEquals(3, result.matched);
+        assertEquals(2, result.rows.size());
+        assertEquals(List.of(5L, 5L * GB), result.rows.get(0));
+        assertEquals(List.of(4L, 4L * GB), result.rows.get(1));
+    }
+
+    @Test
+    void filterWithGlobAndSize() throws TowerException {
+        TaskStore store = store();
+
+        TaskQuery.Result result = new TaskQuery()
+                .where(TaskFilter.compile("(process~'*ALIGN' || tag=b) && !peakRss>=3GB", store))
+                .sort(List.of("taskId"))
+                .run(store, List.of(TaskStore.field("taskId")));
+
+        assertEquals(List.of(List.of(1L), List.of(2L)), result.rows);
+    }
+
+    @Test
+    void groupByProcess() throws TowerException {
+        TaskStore store = store();
+
+        TaskQuery.Result result = new TaskQuery()
+                .groupBy(List.of("process"))
+                .aggregate(List.of("max:realtime", "mean:peakRss"))
+                .run(store, List.of());
+
+        assertEquals(2, result.rows.size());
+        assertEquals(List.of("NF:ALIGN", 3L, 3 * HOUR, 8 * GB / 3D), result.rows.get(0));
+        assertEquals(List.of("NF:QC", 2L, 2 * HOUR, 3.5 * GB), result.rows.get(1));
+    }
+
+    @Test
+    void filterBySubmitDate() throws TowerException {
+        TaskStore store = store();
+
+        TaskQuery.Result result = new TaskQuery()
+                .where(TaskFilter.compile("submit>=2024-05-04 || submit<2024-05-01T12:00:00Z", store))
+                .sort(List.of("taskId"))
+                .run(store, List.of(TaskStore.field("taskId")));
+
+        assertEquals(List.of(List.of(1L), List.of(4L), List.of(5L)), result.rows);
+    }
+
+    @Test
+    void everyTaskColumnIsAField() throws TowerException {
+        for (TaskColumn column : TaskColumn.values()) {
+            assertEquals(column.name(), TaskStore.field(column.name()).getName());
+        }
+    }
+
+    @Test
+    void invalidExpression() {
+        TaskStore store = store();
+
+        assertThrows(TowerException.class, () -> TaskFilter.compile("status=", store));
+        assertThrows(TowerException.class, () -> TaskFilter.compile("unknown=1", store));
+        assertThrows(TowerException.class, () -> TaskFilter.compile("realtime~1h", store));
+    }
+
+    private static final long GB = 1024L * 1024 * 1024;
+    private static final long HOUR = 3600 * 1000L;
+
+    private static TaskStore store() {
+        TaskStore store = new TaskStore();
+        store.add(task(1, "NF:ALIGN", "a", TaskStatus.COMPLETED, HOUR, GB));
+        store.add(task(2, "NF:ALIGN", "b", TaskStatus.FAILED, 2 * HOUR, 2 * GB));
+        store.add(task(3, "NF:QC", "c", TaskStatus.FAILED, HOUR / 2, 3 * GB));
+        store.add(task(4, "NF:QC", "d", TaskStatus.FAILED, 2 * HOUR, 4 * GB));
+        store.add(task(5, "NF:ALIGN", "e", TaskStatus.FAILED, 3 * HOUR, 5 * GB));
+        return store;
+    }
+
+    private static Task task(long id, String process, String tag, TaskStatus status, long realtime, long peakRss) {
+        return new Task().taskId(id).process(process).tag(tag).status(status).realtime(realtime).peakRss(peakRss)
+                .submit(OffsetDateTime.of(2024, 5, (int) id, 0, 0, 0, 0, ZoneOffset.UTC));
+    }
+}
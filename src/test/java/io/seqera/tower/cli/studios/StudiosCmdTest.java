@@ -1063,17 +1063,6 @@ public class StudiosCmdTest extends BaseCmdTest {
                 response().withStatusCode(200).withBody(loadResource("studios/studios_view_response_studio_stopped")).withContentType(MediaType.APPLICATION_JSON)
         );
 
-        // status check
-        mock.when(
-                request()
-                        .withMethod("GET").withPath("/data-links")
-                        .withQueryStringParameter("workspaceId", "75887156211589")
-                        .withQueryStringParameter("offset", "0")
-                        .withQueryStringParameter("max", "1"),
-                exactly(1)
-        ).respond(
-                response().withStatusCode(200).withBody(loadResource("data/links/datalinks_list")).withContentType(MediaType.APPLICATION_JSON)
-        );
         // mock fetch data links
         mock.when(
                 request().withMethod("GET").withPath("/data-links")
@@ -1166,17 +1155,6 @@ public class StudiosCmdTest extends BaseCmdTest {
                 response().withStatusCode(200).withBody(loadResource("studios/studios_view_response_studio_stopped")).withContentType(MediaType.APPLICATION_JSON)
         );
 
-        // status check
-        mock.when(
-                request()
-                        .withMethod("GET").withPath("/data-links")
-                        .withQueryStringParameter("workspaceId", "75887156211589")
-                        .withQueryStringParameter("offset", "0")
-                        .withQueryStringParameter("max", "1"),
-                exactly(1)
-        ).respond(
-                response().withStatusCode(200).withBody(loadResource("data/links/datalinks_list")).withContentType(MediaType.APPLICATION_JSON)
-        );
         // mock fetch data links
         mock.when(
                 request().withMethod("GET").withPath("/data-links")
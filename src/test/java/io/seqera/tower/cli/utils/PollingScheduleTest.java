@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PollingScheduleTest {
+
+    /** Random without jitter, always in the middle of the jitter range */
+    private static final Random NO_JITTER = new Random() {
+        @Override
+        public double nextDouble() {
+            return 0.5;
+        }
+    };
+
+    @Test
+    void backoffUpToTheCap() {
+        PollingSchedule schedule = new PollingSchedule(NO_JITTER, () -> 0L)
+                .interval(Duration.ofSeconds(2), Duration.ofSeconds(5));
+
+        assertEquals(2000, schedule.nextDelayMillis("A"));
+        assertEquals(3000, schedule.nextDelayMillis("A"));
+        assertEquals(4500, schedule.nextDelayMillis("A"));
+        assertEquals(5000, schedule.nextDelayMillis("A"));
+    }
+
+    @Test
+    void restartOnStatusChange() {
+        PollingSchedule schedule = new PollingSchedule(NO_JITTER, () -> 0L)
+                .interval("RUNNING", Duration.ofSeconds(10), Duration.ofSeconds(60));
+
+        assertEquals(1000, schedule.nextDelayMillis("SUBMITTED"));
+        assertEquals(1500, schedule.nextDelayMillis("SUBMITTED"));
+        assertEquals(10000, schedule.nextDelayMillis("RUNNING"));
+        assertEquals(15000, schedule.nextDelayMillis("RUNNING"));
+    }
+
+    @Test
+    void jitterWithinRange() {
+        PollingSchedule schedule = new PollingSchedule(new Random(42), () -> 0L);
+        for (int i = 0; i < 100; i++) {
+            long delay = schedule.nextDelayMillis(null);
+            long expected = Math.min(60000, Math.round(1000 * Math.pow(1.5, i)));
+            assertTrue(delay >= expected * 0.8 - 1 && delay <= Math.min(60000, expected * 1.2 + 1), "Delay " + delay);
+        }
+    }
+
+    @Test
+    void stopAtTimeout() {
+        AtomicLong now = new AtomicLong();
+        PollingSchedule schedule = new PollingSchedule(NO_JITTER, now::get)
+                .interval(Duration.ofSeconds(4), Duration.ofSeconds(4))
+                .timeout(Duration.ofSeconds(10));
+
+        assertEquals(4000, schedule.nextDelayMillis(null));
+        now.set(8000);
+        assertFalse(schedule.isExpired());
+        assertEquals(2000, schedule.nextDelayMillis(null));
+        now.set(10000);
+        assertTrue(schedule.isExpired());
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QuantileSketchTest {
+
+    @Test
+    void estimateQuantiles() {
+        Random random = new Random(42);
+        double[] values = new double[100_000];
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextGaussian());
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        assertEquals(values.length, sketch.getCount());
+        assertEquals(values[0], sketch.getMin(), 0);
+        assertEquals(values[values.length - 1], sketch.getMax(), 0);
+        for (double q : new double[]{0.25, 0.5, 0.75, 0.9, 0.99}) {
+            double expected = values[(int) (q * values.length)];
+            assertEquals(expected, sketch.quantile(q), expected * 0.01);
+        }
+    }
+
+    @Test
+    void mergeSketches() {
+        QuantileSketch low = new QuantileSketch();
+        QuantileSketch high = new QuantileSketch();
+        for (int i = 0; i < 1000; i++) {
+            low.add(i);
+            high.add(1000 + i);
+        }
+
+        low.merge(high);
+
+        assertEquals(2000, low.getCount());
+        assertEquals(999.5, low.getMean(), 0);
+        assertEquals(1000, low.quantile(0.5), 10);
+        assertEquals(1980, low.quantile(0.99), 10);
+    }
+
+    @Test
+    void emptyAndSingleValue() {
+        QuantileSketch sketch = new QuantileSketch();
+        assertTrue(Double.isNaN(sketch.quantile(0.5)));
+
+        sketch.add(7);
+        assertEquals(7, sketch.quantile(0.99), 0);
+        assertEquals(7, sketch.getMean(), 0);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.seqera.tower.cli.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RequestLimiterTest {
+
+    @Test
+    void requestsWaitForTheirOwnSlot() {
+        RequestLimiter limiter = new RequestLimiter(10);
+
+        assertEquals(0, limiter.reserve(0));
+        assertEquals(100_000_000L, limiter.reserve(0));
+        assertEquals(150_000_000L, limiter.reserve(50_000_000L));
+
+        // Idle time is not saved for later bursts
+        assertEquals(0, limiter.reserve(5_000_000_000L));
+        assertEquals(100_000_000L, limiter.reserve(5_000_000_000L));
+    }
+}
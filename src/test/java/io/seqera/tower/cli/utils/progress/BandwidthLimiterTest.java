@@ -0,0 +1,64 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.utils.progress;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BandwidthLimiterTest {
+
+    private static final long MB = 1024L * 1024;
+
+    @Test
+    void parseScheduledLimits() {
+        BandwidthLimiter limiter = BandwidthLimiter.parse("50M,20:00-06:00=500M,12:00-13:00=0");
+
+        assertEquals(50 * MB, limiter.rate(LocalTime.of(9, 30)));
+        assertEquals(500 * MB, limiter.rate(LocalTime.of(23, 0)));
+        assertEquals(500 * MB, limiter.rate(LocalTime.of(5, 59)));
+        assertEquals(0, limiter.rate(LocalTime.of(12, 15)));
+        assertEquals(50 * MB, limiter.rate(LocalTime.of(6, 0)));
+    }
+
+    @Test
+    void rejectInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> BandwidthLimiter.parse("fast"));
+        assertThrows(IllegalArgumentException.class, () -> BandwidthLimiter.parse("10M,8-18=1M"));
+        assertThrows(IllegalArgumentException.class, () -> BandwidthLimiter.parse("-10M"));
+        assertThrows(IllegalArgumentException.class, () -> BandwidthLimiter.parse("10M,20:00-06:00=-1"));
+    }
+
+    @Test
+    void concurrentTransfersShareTheRate() {
+        BandwidthLimiter limiter = new BandwidthLimiter(0, List.of());
+        long rate = 1000;
+
+        // Each caller waits behind the bytes reserved by the previous ones
+        assertEquals(1_000_000_000L, limiter.reserve(1000, 0, rate));
+        assertEquals(2_000_000_000L, limiter.reserve(1000, 0, rate));
+
+        // Tokens refill at the rate once the debt is paid, up to one second of burst
+        assertEquals(0, limiter.reserve(1000, 5_000_000_000L, rate));
+        assertEquals(0, limiter.reserve(0, 10_000_000_000L, rate));
+        assertEquals(500_000_000L, limiter.reserve(1500, 10_000_000_000L, rate));
+    }
+}
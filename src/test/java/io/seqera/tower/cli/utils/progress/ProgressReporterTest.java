@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021-2026, Seqera.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.seqera.tower.cli.utils.progress;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProgressReporterTest {
+
+    @Test
+    void renderActiveTransfersAndStopWhenIdle() {
+        StringWriter buffer = new StringWriter();
+        ProgressReporter reporter = new ProgressReporter(new PrintWriter(buffer), true, true);
+
+        ProgressTracker first = reporter.track("first.txt", 100, 0, null);
+        ProgressTracker second = reporter.track("second.txt", 100, 50, null);
+        assertTrue(reporter.isRendering());
+
+        first.update(100);
+        second.update(25);
+        reporter.tick();
+
+        String rendered = buffer.toString();
+        assertTrue(rendered.contains(" 87%"), rendered);
+        assertTrue(rendered.contains("first.txt"), rendered);
+        assertTrue(rendered.contains("second.txt"), rendered);
+
+        first.done();
+        assertTrue(reporter.isRendering());
+
+        second.update(25);
+        second.done();
+        assertFalse(reporter.isRendering());
+
+        // The final aggregate line is left on the terminal
+        String last = buffer.toString().substring(rendered.length());
+        assertTrue(last.contains("100%"), last);
+        assertTrue(last.contains("2 done"), last);
+
+        // A new transfer starts the renderer again
+        ProgressTracker third = reporter.track("third.txt", 10, 0, null);
+        assertTrue(reporter.isRendering());
+        third.done();
+        assertFalse(reporter.isRendering());
+    }
+
+    @Test
+    void countBytesWhenDisabled() {
+        StringWriter buffer = new StringWriter();
+        ProgressReporter reporter = new ProgressReporter(new PrintWriter(buffer), false, false);
+
+        ProgressTracker tracker = reporter.track("file.txt", 100, 40, null);
+        tracker.update(60);
+        tracker.done();
+
+        assertFalse(reporter.isRendering());
+        assertEquals(100, tracker.getTransferredBytes());
+        assertEquals("", buffer.toString());
+    }
+}